@@ -73,6 +73,14 @@ public class BaseSessionEventListener implements SessionEventListener {
 	public void cacheGetEnd(boolean hit) {
 	}
 
+	@Override
+	public void queryExecutionStart(String queryKind, String queryString) {
+	}
+
+	@Override
+	public void queryExecutionEnd(String queryString, boolean success) {
+	}
+
 	@Override
 	public void flushStart() {
 	}
@@ -97,6 +105,18 @@ public class BaseSessionEventListener implements SessionEventListener {
 	public void dirtyCalculationEnd(boolean dirty) {
 	}
 
+	@Override
+	public void entityLoadedById(String entityName) {
+	}
+
+	@Override
+	public void collectionInitialized(String role) {
+	}
+
+	@Override
+	public void repeatedLoadsDetected(String role, int count, String queryString) {
+	}
+
 	@Override
 	public void end() {
 	}
@@ -50,6 +50,18 @@ public interface SessionEventListener extends Serializable {
 	default void cacheGetStart() {}
 	default void cacheGetEnd(boolean hit) {}
 
+	/**
+	 * Called before a {@link org.hibernate.query.Query} is executed, either
+	 * to obtain a result list, to open a {@link ScrollableResults} or a
+	 * {@link java.util.stream.Stream}, or to execute an update.
+	 *
+	 * @param queryKind the kind of query, one of {@code "hql"},
+	 * {@code "criteria"} or {@code "native"}
+	 * @param queryString the HQL or native SQL query string
+	 */
+	default void queryExecutionStart(String queryKind, String queryString) {}
+	default void queryExecutionEnd(String queryString, boolean success) {}
+
 	default void flushStart() {}
 	default void flushEnd(int numberOfEntities, int numberOfCollections) {}
 
@@ -59,5 +71,45 @@ public interface SessionEventListener extends Serializable {
 	default void dirtyCalculationStart() {}
 	default void dirtyCalculationEnd(boolean dirty) {}
 
+	/**
+	 * Called after an entity instance was loaded from the database by its
+	 * identifier, for example, when a proxy or a to-one association was
+	 * initialized.
+	 *
+	 * @param entityName the name of the loaded entity
+	 *
+	 * @since 6.3
+	 */
+	default void entityLoadedById(String entityName) {}
+
+	/**
+	 * Called after a collection was initialized from the database.
+	 *
+	 * @param role the role of the initialized collection
+	 *
+	 * @since 6.3
+	 */
+	default void collectionInitialized(String role) {}
+
+	/**
+	 * Called when the instances of an entity or the collections of a role were
+	 * loaded one by one at least as many times as the threshold specified by
+	 * {@value org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_THRESHOLD}, which
+	 * usually indicates an "N+1 selects" problem.
+	 *
+	 * @param role the collection role, which is the path of the collection
+	 *             attribute from its owning entity, such as
+	 *             {@code org.acme.Order.lines}, or the entity name for entity
+	 *             instances. The association through which an entity instance
+	 *             was loaded is not reported, since the proxy of an instance
+	 *             is shared by every association referring to it.
+	 * @param count how many times instances of the role were loaded individually
+	 * @param queryString the query executed before these loads happened, or
+	 *                    {@code null} if they did not follow any query
+	 *
+	 * @since 6.3
+	 */
+	default void repeatedLoadsDetected(String role, int count, String queryString) {}
+
 	default void end() {}
 }
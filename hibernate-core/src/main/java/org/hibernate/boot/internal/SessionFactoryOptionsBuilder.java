@@ -71,6 +71,11 @@ import org.hibernate.type.format.jackson.JacksonIntegration;
 import org.hibernate.type.format.jakartajson.JakartaJsonIntegration;
 import org.hibernate.type.format.jaxb.JaxbXmlFormatMapper;
 
+import static org.hibernate.cfg.AvailableSettings.ADAPTIVE_BATCH_FETCH;
+import static org.hibernate.cfg.AvailableSettings.ADAPTIVE_BATCH_FETCH_MIN_SIZE;
+import static org.hibernate.cfg.AvailableSettings.ADAPTIVE_FETCH_SIZE;
+import static org.hibernate.cfg.AvailableSettings.ADAPTIVE_FETCH_SIZE_MAX;
+import static org.hibernate.cfg.AvailableSettings.ADAPTIVE_FETCH_SIZE_MIN;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_JTA_TRANSACTION_ACCESS;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_REFRESH_DETACHED_ENTITY;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_UPDATE_OUTSIDE_TRANSACTION;
@@ -82,6 +87,7 @@ import static org.hibernate.cfg.AvailableSettings.BATCH_VERSIONED_DATA;
 import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_PREFIX;
 import static org.hibernate.cfg.AvailableSettings.CALLABLE_NAMED_PARAMS_ENABLED;
 import static org.hibernate.cfg.AvailableSettings.CHECK_NULLABILITY;
+import static org.hibernate.cfg.AvailableSettings.COMPACT_READ_ONLY_ENTITY_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.CONNECTION_HANDLING;
 import static org.hibernate.cfg.AvailableSettings.CRITERIA_VALUE_HANDLING_MODE;
 import static org.hibernate.cfg.AvailableSettings.CUSTOM_ENTITY_DIRTINESS_STRATEGY;
@@ -103,8 +109,10 @@ import static org.hibernate.cfg.AvailableSettings.JTA_TRACK_BY_THREAD;
 import static org.hibernate.cfg.AvailableSettings.LOG_SESSION_METRICS;
 import static org.hibernate.cfg.AvailableSettings.MAX_FETCH_DEPTH;
 import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
+import static org.hibernate.cfg.AvailableSettings.N_PLUS_ONE_THRESHOLD;
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
+import static org.hibernate.cfg.AvailableSettings.PARALLEL_SUBSELECT_FETCH_CONNECTIONS;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
@@ -113,8 +121,10 @@ import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME_IS_JNDI;
 import static org.hibernate.cfg.AvailableSettings.SESSION_SCOPED_INTERCEPTOR;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_CACHE_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_INSPECTOR;
+import static org.hibernate.cfg.AvailableSettings.USE_ARRAY_PARAMETER_FOR_BATCH_LOADING;
 import static org.hibernate.cfg.AvailableSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_GET_GENERATED_KEYS;
 import static org.hibernate.cfg.AvailableSettings.USE_IDENTIFIER_ROLLBACK;
@@ -181,6 +191,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private StatementInspector statementInspector;
 	private final List<SessionFactoryObserver> sessionFactoryObserverList = new ArrayList<>();
 	private final BaselineSessionEventsListenerBuilder baselineSessionEventsListenerBuilder;	// not exposed on builder atm
+	private final int nPlusOneThreshold;
 
 	// persistence behavior
 	private CustomEntityDirtinessStrategy customEntityDirtinessStrategy;
@@ -193,6 +204,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private BatchFetchStyle batchFetchStyle;
 	private boolean delayBatchFetchLoaderCreations;
 	private int defaultBatchFetchSize;
+	private final boolean adaptiveBatchFetchEnabled;
+	private final int adaptiveBatchFetchMinSize;
+	private final boolean arrayParameterForBatchLoadingEnabled;
+	private final int parallelSubselectFetchConnections;
+	private final boolean compactReadOnlyEntityEntriesEnabled;
 	private Integer maximumFetchDepth;
 	private NullPrecedence defaultNullPrecedence;
 	private boolean orderUpdatesEnabled;
@@ -239,6 +255,10 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private int jdbcBatchSize;
 	private boolean jdbcBatchVersionedData;
 	private Integer jdbcFetchSize;
+	private final boolean adaptiveFetchSizeEnabled;
+	private final int adaptiveFetchSizeMin;
+	private final int adaptiveFetchSizeMax;
+	private final int jdbcStatementCacheSize;
 	private boolean scrollableResultSetsEnabled;
 	private boolean commentsEnabled;
 	private PhysicalConnectionHandlingMode connectionHandlingMode;
@@ -340,6 +360,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 		final boolean logSessionMetrics = configurationService.getSetting( LOG_SESSION_METRICS, BOOLEAN, statisticsEnabled );
 		this.baselineSessionEventsListenerBuilder = new BaselineSessionEventsListenerBuilder( logSessionMetrics, autoSessionEventsListener );
+		this.nPlusOneThreshold = getInt( N_PLUS_ONE_THRESHOLD, configurationSettings, 0 );
 
 		this.customEntityDirtinessStrategy = strategySelector.resolveDefaultableStrategy(
 				CustomEntityDirtinessStrategy.class,
@@ -361,6 +382,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		this.batchFetchStyle = BatchFetchStyle.interpret( configurationSettings.get( BATCH_FETCH_STYLE ) );
 		this.delayBatchFetchLoaderCreations = configurationService.getSetting( DELAY_ENTITY_LOADER_CREATIONS, BOOLEAN, true );
 		this.defaultBatchFetchSize = getInt( DEFAULT_BATCH_FETCH_SIZE, configurationSettings, -1 );
+		this.adaptiveBatchFetchEnabled = getBoolean( ADAPTIVE_BATCH_FETCH, configurationSettings, false );
+		this.adaptiveBatchFetchMinSize = getInt( ADAPTIVE_BATCH_FETCH_MIN_SIZE, configurationSettings, 2 );
+		this.arrayParameterForBatchLoadingEnabled = getBoolean( USE_ARRAY_PARAMETER_FOR_BATCH_LOADING, configurationSettings, false );
+		this.parallelSubselectFetchConnections = getInt( PARALLEL_SUBSELECT_FETCH_CONNECTIONS, configurationSettings, 0 );
+		this.compactReadOnlyEntityEntriesEnabled = getBoolean( COMPACT_READ_ONLY_ENTITY_ENTRIES, configurationSettings, false );
 		this.maximumFetchDepth = getInteger( MAX_FETCH_DEPTH, configurationSettings );
 		final String defaultNullPrecedence = getString(
 				AvailableSettings.DEFAULT_NULL_ORDERING, configurationSettings, "none", "first", "last"
@@ -500,6 +526,10 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				meta.supportsGetGeneratedKeys()
 		);
 		this.jdbcFetchSize = getInteger( STATEMENT_FETCH_SIZE, configurationSettings );
+		this.adaptiveFetchSizeEnabled = getBoolean( ADAPTIVE_FETCH_SIZE, configurationSettings, false );
+		this.adaptiveFetchSizeMin = getInt( ADAPTIVE_FETCH_SIZE_MIN, configurationSettings, 10 );
+		this.adaptiveFetchSizeMax = getInt( ADAPTIVE_FETCH_SIZE_MAX, configurationSettings, 1000 );
+		this.jdbcStatementCacheSize = getInt( STATEMENT_CACHE_SIZE, configurationSettings, 0 );
 
 		this.connectionHandlingMode = interpretConnectionHandlingMode( configurationSettings, serviceRegistry );
 		this.connectionProviderDisablesAutoCommit = getBoolean(
@@ -936,6 +966,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return baselineSessionEventsListenerBuilder;
 	}
 
+	@Override
+	public int getNPlusOneThreshold() {
+		return nPlusOneThreshold;
+	}
+
 	@Override
 	public boolean isIdentifierRollbackEnabled() {
 		return identifierRollbackEnabled;
@@ -971,6 +1006,31 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return defaultBatchFetchSize;
 	}
 
+	@Override
+	public boolean isAdaptiveBatchFetchEnabled() {
+		return adaptiveBatchFetchEnabled;
+	}
+
+	@Override
+	public int getAdaptiveBatchFetchMinSize() {
+		return adaptiveBatchFetchMinSize;
+	}
+
+	@Override
+	public boolean isArrayParameterForBatchLoadingEnabled() {
+		return arrayParameterForBatchLoadingEnabled;
+	}
+
+	@Override
+	public int getParallelSubselectFetchConnections() {
+		return parallelSubselectFetchConnections;
+	}
+
+	@Override
+	public boolean isCompactReadOnlyEntityEntriesEnabled() {
+		return compactReadOnlyEntityEntriesEnabled;
+	}
+
 	@Override
 	public Integer getMaximumFetchDepth() {
 		return maximumFetchDepth;
@@ -1081,6 +1141,27 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return jdbcFetchSize;
 	}
 
+	@Override
+	public boolean isAdaptiveFetchSizeEnabled() {
+		// a configured fetch size always takes precedence
+		return adaptiveFetchSizeEnabled && jdbcFetchSize == null;
+	}
+
+	@Override
+	public int getAdaptiveFetchSizeMin() {
+		return adaptiveFetchSizeMin;
+	}
+
+	@Override
+	public int getAdaptiveFetchSizeMax() {
+		return adaptiveFetchSizeMax;
+	}
+
+	@Override
+	public int getJdbcStatementCacheSize() {
+		return jdbcStatementCacheSize;
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return connectionHandlingMode;
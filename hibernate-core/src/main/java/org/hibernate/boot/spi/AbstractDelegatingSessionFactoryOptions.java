@@ -147,6 +147,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getBaselineSessionEventsListenerBuilder();
 	}
 
+	@Override
+	public int getNPlusOneThreshold() {
+		return delegate.getNPlusOneThreshold();
+	}
+
 	@Override
 	public boolean isIdentifierRollbackEnabled() {
 		return delegate.isIdentifierRollbackEnabled();
@@ -182,6 +187,31 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getDefaultBatchFetchSize();
 	}
 
+	@Override
+	public boolean isAdaptiveBatchFetchEnabled() {
+		return delegate.isAdaptiveBatchFetchEnabled();
+	}
+
+	@Override
+	public int getAdaptiveBatchFetchMinSize() {
+		return delegate.getAdaptiveBatchFetchMinSize();
+	}
+
+	@Override
+	public boolean isArrayParameterForBatchLoadingEnabled() {
+		return delegate.isArrayParameterForBatchLoadingEnabled();
+	}
+
+	@Override
+	public int getParallelSubselectFetchConnections() {
+		return delegate.getParallelSubselectFetchConnections();
+	}
+
+	@Override
+	public boolean isCompactReadOnlyEntityEntriesEnabled() {
+		return delegate.isCompactReadOnlyEntityEntriesEnabled();
+	}
+
 	@Override
 	public Integer getMaximumFetchDepth() {
 		return delegate.getMaximumFetchDepth();
@@ -302,6 +332,26 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getJdbcFetchSize();
 	}
 
+	@Override
+	public boolean isAdaptiveFetchSizeEnabled() {
+		return delegate.isAdaptiveFetchSizeEnabled();
+	}
+
+	@Override
+	public int getAdaptiveFetchSizeMin() {
+		return delegate.getAdaptiveFetchSizeMin();
+	}
+
+	@Override
+	public int getAdaptiveFetchSizeMax() {
+		return delegate.getAdaptiveFetchSizeMax();
+	}
+
+	@Override
+	public int getJdbcStatementCacheSize() {
+		return delegate.getJdbcStatementCacheSize();
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return delegate.getPhysicalConnectionHandlingMode();
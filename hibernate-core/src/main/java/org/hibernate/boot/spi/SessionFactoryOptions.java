@@ -124,6 +124,13 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	BaselineSessionEventsListenerBuilder getBaselineSessionEventsListenerBuilder();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_THRESHOLD
+	 */
+	default int getNPlusOneThreshold() {
+		return 0;
+	}
+
 	boolean isIdentifierRollbackEnabled();
 
 	boolean isCheckNullability();
@@ -142,6 +149,41 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	int getDefaultBatchFetchSize();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_BATCH_FETCH
+	 */
+	default boolean isAdaptiveBatchFetchEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_BATCH_FETCH_MIN_SIZE
+	 */
+	default int getAdaptiveBatchFetchMinSize() {
+		return 2;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#USE_ARRAY_PARAMETER_FOR_BATCH_LOADING
+	 */
+	default boolean isArrayParameterForBatchLoadingEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#PARALLEL_SUBSELECT_FETCH_CONNECTIONS
+	 */
+	default int getParallelSubselectFetchConnections() {
+		return 0;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#COMPACT_READ_ONLY_ENTITY_ENTRIES
+	 */
+	default boolean isCompactReadOnlyEntityEntriesEnabled() {
+		return false;
+	}
+
 	Integer getMaximumFetchDepth();
 
 	NullPrecedence getDefaultNullPrecedence();
@@ -186,6 +228,37 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	Integer getJdbcFetchSize();
 
+	/**
+	 * Whether the adaptive fetch size is enabled, which is never the case
+	 * when a {@linkplain #getJdbcFetchSize() fetch size} is configured.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_FETCH_SIZE
+	 */
+	default boolean isAdaptiveFetchSizeEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_FETCH_SIZE_MIN
+	 */
+	default int getAdaptiveFetchSizeMin() {
+		return 10;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_FETCH_SIZE_MAX
+	 */
+	default int getAdaptiveFetchSizeMax() {
+		return 1000;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	default int getJdbcStatementCacheSize() {
+		return 0;
+	}
+
 	PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode();
 
 	default boolean doesConnectionProviderDisableAutoCommit() {
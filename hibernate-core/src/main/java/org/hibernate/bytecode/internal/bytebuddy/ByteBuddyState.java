@@ -20,11 +20,13 @@ import static org.hibernate.internal.CoreLogging.messageLogger;
 import java.io.File;
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Array;
 import java.lang.reflect.Method;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 
 import org.hibernate.HibernateException;
@@ -42,7 +44,9 @@ import net.bytebuddy.TypeCache;
 import net.bytebuddy.asm.AsmVisitorWrapper.ForDeclaredMethods;
 import net.bytebuddy.asm.MemberSubstitution;
 import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.LoadedTypeInitializer;
 import net.bytebuddy.dynamic.DynamicType.Unloaded;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import net.bytebuddy.dynamic.scaffold.TypeValidation;
@@ -66,6 +70,36 @@ public final class ByteBuddyState {
 
 	private static final boolean DEBUG = false;
 
+	/**
+	 * {@code Lookup.defineHiddenClass()}, and the {@code NESTMATE} option to pass
+	 * it, or {@code null} on JVMs which predate hidden classes (Java 15)
+	 */
+	private static final Method DEFINE_HIDDEN_CLASS;
+	private static final Object NESTMATE_CLASS_OPTIONS;
+
+	static {
+		Method defineHiddenClass = null;
+		Object nestmateClassOptions = null;
+		try {
+			final Class<?> classOption = Class.forName( "java.lang.invoke.MethodHandles$Lookup$ClassOption" );
+			nestmateClassOptions = Array.newInstance( classOption, 1 );
+			Array.set( nestmateClassOptions, 0, classOption.getField( "NESTMATE" ).get( null ) );
+			defineHiddenClass = MethodHandles.Lookup.class.getMethod(
+					"defineHiddenClass",
+					byte[].class,
+					boolean.class,
+					nestmateClassOptions.getClass()
+			);
+		}
+		catch (ReflectiveOperationException e) {
+			// hidden classes are not supported by this JVM
+			defineHiddenClass = null;
+			nestmateClassOptions = null;
+		}
+		DEFINE_HIDDEN_CLASS = defineHiddenClass;
+		NESTMATE_CLASS_OPTIONS = nestmateClassOptions;
+	}
+
 	private final ByteBuddy byteBuddy;
 
 	private static final ProxyDefinitionHelpers proxyDefinitionHelpers = new ProxyDefinitionHelpers();
@@ -147,6 +181,51 @@ public final class ByteBuddyState {
 		.getLoaded();
 	}
 
+	/**
+	 * Whether {@link #loadHiddenNestmate} is supported by the running JVM.
+	 */
+	public boolean isHiddenNestmateSupported() {
+		return DEFINE_HIDDEN_CLASS != null;
+	}
+
+	/**
+	 * Load a class generated by ByteBuddy as a hidden class which is a nestmate of
+	 * the given host class, and may therefore access its private members directly.
+	 * <p>
+	 * The generated class must be in the same package as the host class, and can not
+	 * be referenced by name from other classes.
+	 *
+	 * @param hostClass The class whose private members the generated class accesses.
+	 * @param makeClassFunction A function building the class.
+	 * @return The loaded generated class.
+	 */
+	public Class<?> loadHiddenNestmate(Class<?> hostClass, Function<ByteBuddy, DynamicType.Builder<?>> makeClassFunction) {
+		if ( DEFINE_HIDDEN_CLASS == null ) {
+			throw new HibernateException( "Hidden classes are not supported by this JVM" );
+		}
+		final Unloaded<?> unloaded = make( makeClassFunction.apply( byteBuddy ) );
+		final Class<?> hiddenClass;
+		try {
+			final MethodHandles.Lookup hostLookup = MethodHandles.privateLookupIn( hostClass, LOOKUP );
+			hiddenClass = ( (MethodHandles.Lookup) DEFINE_HIDDEN_CLASS.invoke(
+					hostLookup,
+					unloaded.getBytes(),
+					true,
+					NESTMATE_CLASS_OPTIONS
+			) ).lookupClass();
+		}
+		catch (Throwable e) {
+			throw new HibernateException( "Unable to define hidden nestmate of " + hostClass.getName(), e );
+		}
+		// ByteBuddy normally does this as part of loading the class
+		for ( Map.Entry<TypeDescription, LoadedTypeInitializer> entry : unloaded.getLoadedTypeInitializers().entrySet() ) {
+			if ( entry.getKey().equals( unloaded.getTypeDescription() ) ) {
+				entry.getValue().onLoad( hiddenClass );
+			}
+		}
+		return hiddenClass;
+	}
+
 	/**
 	 * Rewrite a class, used by the enhancer.
 	 * <p>
@@ -19,6 +19,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.function.Function;
 
 import org.hibernate.HibernateException;
 import org.hibernate.bytecode.enhance.internal.bytebuddy.EnhancerImpl;
@@ -48,6 +49,7 @@ import org.hibernate.property.access.spi.SetterFieldImpl;
 import org.hibernate.property.access.spi.SetterMethodImpl;
 import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
 
+import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.NamingStrategy;
 import net.bytebuddy.description.NamedElement;
@@ -204,21 +206,34 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 			// we only provide a fast class instantiator if the class can be instantiated
 			final Constructor<?> constructor = findConstructor( clazz );
 
-			if ( constructor == null || Modifier.isPrivate( constructor.getModifiers() ) ) {
-				// In the current implementation of the ReflectionOptimizer contract, we can't call private constructors
-				// To support that, we have to inject a static factory method into the class during enhancement
+			if ( constructor == null
+					|| Modifier.isPrivate( constructor.getModifiers() ) && !byteBuddyState.isHiddenNestmateSupported() ) {
+				// Without hidden classes we can't call private constructors: to support that,
+				// we would have to inject a static factory method into the class during enhancement
 				fastClass = null;
 			}
 			else {
-				fastClass = byteBuddyState.load( clazz, byteBuddy -> byteBuddy
+				final Function<ByteBuddy, DynamicType.Builder<?>> instantiator = byteBuddy -> byteBuddy
 						.with( new NamingStrategy.SuffixingRandom(
 								INSTANTIATOR_PROXY_NAMING_SUFFIX,
 								new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() )
 						) )
 						.subclass( ReflectionOptimizer.InstantiationOptimizer.class )
 						.method( newInstanceMethodName )
-						.intercept( MethodCall.construct( constructor ) )
-				);
+						.intercept( MethodCall.construct( constructor ) );
+				if ( Modifier.isPrivate( constructor.getModifiers() ) ) {
+					try {
+						fastClass = byteBuddyState.loadHiddenNestmate( clazz, instantiator );
+					}
+					catch (HibernateException ex) {
+						// e.g. the package of the class is not open to Hibernate
+						LOG.unableToGenerateReflectionOptimizer( clazz.getName(), ex );
+						return null;
+					}
+				}
+				else {
+					fastClass = byteBuddyState.load( clazz, instantiator );
+				}
 			}
 		}
 		else {
@@ -227,8 +242,15 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 
 		final Member[] getters = new Member[propertyAccessMap.size()];
 		final Member[] setters = new Member[propertyAccessMap.size()];
+		final boolean requiresNestmateAccess;
 		try {
-			findAccessors( clazz, propertyAccessMap, getters, setters );
+			requiresNestmateAccess = findAccessors(
+					clazz,
+					propertyAccessMap,
+					getters,
+					setters,
+					byteBuddyState.isHiddenNestmateSupported()
+			);
 		}
 		catch (InvalidPropertyAccessorException ex) {
 			LOG.unableToGenerateReflectionOptimizer( clazz.getName(), ex );
@@ -238,7 +260,7 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		Class<?> superClass = determineAccessOptimizerSuperClass( clazz, getters, setters );
 
 		final String[] propertyNames = propertyAccessMap.keySet().toArray( new String[0] );
-		final Class<?> bulkAccessor = byteBuddyState.load( clazz, byteBuddy -> byteBuddy
+		final Function<ByteBuddy, DynamicType.Builder<?>> accessor = byteBuddy -> byteBuddy
 				.with( new NamingStrategy.SuffixingRandom(
 						OPTIMIZER_PROXY_NAMING_SUFFIX,
 						new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() )
@@ -250,8 +272,21 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 				.method( setPropertyValuesMethodName )
 				.intercept( new Implementation.Simple( new SetPropertyValues( clazz, propertyNames, setters ) ) )
 				.method( getPropertyNamesMethodName )
-				.intercept( MethodCall.call( new CloningPropertyCall( propertyNames ) ) )
-		);
+				.intercept( MethodCall.call( new CloningPropertyCall( propertyNames ) ) );
+		final Class<?> bulkAccessor;
+		if ( requiresNestmateAccess ) {
+			// private members of the class itself are accessed directly from a hidden nestmate
+			try {
+				bulkAccessor = byteBuddyState.loadHiddenNestmate( clazz, accessor );
+			}
+			catch (HibernateException ex) {
+				LOG.unableToGenerateReflectionOptimizer( clazz.getName(), ex );
+				return null;
+			}
+		}
+		else {
+			bulkAccessor = byteBuddyState.load( clazz, accessor );
+		}
 
 		try {
 			return new ReflectionOptimizerImpl(
@@ -1183,11 +1218,17 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		}
 	}
 
-	private static void findAccessors(
+	/**
+	 * @return whether any of the accessors is a private member of {@code clazz}, which
+	 * can only be accessed from a hidden nestmate
+	 */
+	private static boolean findAccessors(
 			Class<?> clazz,
 			Map<String, PropertyAccess> propertyAccessMap,
 			Member[] getters,
-			Member[] setters) {
+			Member[] setters,
+			boolean hiddenNestmateSupported) {
+		boolean requiresNestmateAccess = false;
 		int i = 0;
 		for ( Map.Entry<String, PropertyAccess> entry : propertyAccessMap.entrySet() ) {
 			final PropertyAccess propertyAccess = entry.getValue();
@@ -1246,16 +1287,24 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 						)
 				);
 			}
-			if ( Modifier.isPrivate( getterMember.getModifiers() ) ) {
-				throw new PrivateAccessorException( "private accessor [" + getterMember.getName() + "]" );
-			}
-			if ( Modifier.isPrivate( setterMember.getModifiers() ) ) {
-				throw new PrivateAccessorException( "private accessor [" + setterMember.getName() + "]" );
-			}
+			requiresNestmateAccess |= requiresNestmateAccess( clazz, getterMember, hiddenNestmateSupported );
+			requiresNestmateAccess |= requiresNestmateAccess( clazz, setterMember, hiddenNestmateSupported );
 			getters[i] = getterMember;
 			setters[i] = setterMember;
 			i++;
 		}
+		return requiresNestmateAccess;
+	}
+
+	private static boolean requiresNestmateAccess(Class<?> clazz, Member member, boolean hiddenNestmateSupported) {
+		if ( !Modifier.isPrivate( member.getModifiers() ) ) {
+			return false;
+		}
+		// a nestmate of clazz can't access the private members of its superclasses
+		if ( hiddenNestmateSupported && member.getDeclaringClass() == clazz ) {
+			return true;
+		}
+		throw new PrivateAccessorException( "private accessor [" + member.getName() + "]" );
 	}
 
 	private static Method findAccessor(Class<?> containerClazz, String name, Class<?>[] params)
@@ -0,0 +1,68 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * {@link StorageAccess} keeping cached values in a map on the Java heap,
+ * which never evicts an entry on its own.
+ * <p>
+ * Used by the {@link OffHeapRegionFactory} for the regions whose entries
+ * must not disappear while they are still relevant, such as the update
+ * timestamps of the table spaces.
+ */
+public class MapStorageAccess implements StorageAccess {
+	private final String regionName;
+	private final ConcurrentHashMap<Object, Object> data = new ConcurrentHashMap<>();
+
+	public MapStorageAccess(String regionName) {
+		this.regionName = regionName;
+	}
+
+	public String getRegionName() {
+		return regionName;
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		return data.get( key );
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		data.put( key, value );
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return data.containsKey( key );
+	}
+
+	@Override
+	public void evictData() {
+		data.clear();
+	}
+
+	@Override
+	public void evictData(Object key) {
+		data.remove( key );
+	}
+
+	@Override
+	public void release() {
+		data.clear();
+	}
+
+	@Override
+	public String toString() {
+		return "MapStorageAccess(" + regionName + ")";
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Map;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import static org.hibernate.cfg.AvailableSettings.CACHE_OFF_HEAP_BLOCK_SIZE;
+import static org.hibernate.cfg.AvailableSettings.CACHE_OFF_HEAP_MAX_SIZE;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+
+/**
+ * A {@link org.hibernate.cache.spi.RegionFactory} for local, single-JVM
+ * deployments which stores cached state outside the Java heap, avoiding the
+ * garbage collection overhead of large on-heap caches.
+ * <p>
+ * Each domain data region is backed by its own {@link OffHeapStorageAccess},
+ * bounded by {@value org.hibernate.cfg.AvailableSettings#CACHE_OFF_HEAP_MAX_SIZE},
+ * and evicts its least-recently-used entries when full.
+ * <p>
+ * The update timestamps region must never lose an entry, since a missing
+ * timestamp is taken to mean that the table space was not updated, which
+ * would let stale query results through. It is therefore kept on the heap
+ * by a {@link MapStorageAccess}, which does not evict, along with the query
+ * results regions whose entries are validated against those timestamps.
+ * <p>
+ * This region factory is not registered as a short name, and so must be
+ * selected explicitly using
+ * {@value org.hibernate.cfg.AvailableSettings#CACHE_REGION_FACTORY}.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#CACHE_OFF_HEAP_MAX_SIZE
+ * @see org.hibernate.cfg.AvailableSettings#CACHE_OFF_HEAP_BLOCK_SIZE
+ */
+public class OffHeapRegionFactory extends RegionFactoryTemplate {
+	public static final long DEFAULT_MAX_SIZE = 64 * 1024 * 1024;
+	public static final int DEFAULT_BLOCK_SIZE = 128;
+
+	private volatile Map<String, Object> configValues;
+	private volatile long defaultMaxSize;
+	private volatile int blockSize;
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+		this.configValues = configValues;
+		this.defaultMaxSize = getSize( CACHE_OFF_HEAP_MAX_SIZE, configValues, DEFAULT_MAX_SIZE );
+		this.blockSize = getInt( CACHE_OFF_HEAP_BLOCK_SIZE, configValues, DEFAULT_BLOCK_SIZE );
+	}
+
+	@Override
+	protected DomainDataStorageAccess createDomainDataStorageAccess(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		return createStorageAccess( regionConfig.getRegionName() );
+	}
+
+	@Override
+	protected StorageAccess createQueryResultsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		verifyStarted();
+		return new MapStorageAccess( qualify( regionName ) );
+	}
+
+	@Override
+	protected StorageAccess createTimestampsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		verifyStarted();
+		return new MapStorageAccess( qualify( regionName ) );
+	}
+
+	protected OffHeapStorageAccess createStorageAccess(String unqualifiedRegionName) {
+		verifyStarted();
+		final long maxSize = getSize(
+				CACHE_OFF_HEAP_MAX_SIZE + '.' + unqualifiedRegionName,
+				configValues,
+				defaultMaxSize
+		);
+		return new OffHeapStorageAccess( qualify( unqualifiedRegionName ), maxSize, blockSize );
+	}
+
+	private static long getSize(String name, Map<String, Object> configValues, long defaultValue) {
+		final Object value = configValues.get( name );
+		if ( value == null ) {
+			return defaultValue;
+		}
+		if ( value instanceof Number ) {
+			return ( (Number) value ).longValue();
+		}
+		return Long.parseLong( value.toString().trim() );
+	}
+
+	@Override
+	protected void releaseFromUse() {
+		configValues = null;
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A fixed-capacity slab of off-heap memory, divided into equally sized blocks.
+ * <p>
+ * A value is stored as a chain of blocks, each block starting with the index of
+ * the next block in the chain (or {@code -1} for the last block) followed by up
+ * to {@code blockSize - 4} bytes of payload. Free blocks are tracked as a stack
+ * of block indexes.
+ * <p>
+ * Not thread-safe; callers are expected to guard access.
+ */
+class OffHeapSlab {
+	private static final int HEADER_SIZE = Integer.BYTES;
+	private static final int END_OF_CHAIN = -1;
+
+	private final ByteBuffer buffer;
+	private final int blockSize;
+	private final int payloadSize;
+	private final int[] freeBlocks;
+	private int freeCount;
+
+	OffHeapSlab(int capacity, int blockSize) {
+		if ( blockSize <= HEADER_SIZE ) {
+			throw new IllegalArgumentException( "Block size must be larger than " + HEADER_SIZE + " bytes: " + blockSize );
+		}
+		final int blockCount = capacity / blockSize;
+		if ( blockCount < 1 ) {
+			throw new IllegalArgumentException( "Capacity must allow for at least one block: " + capacity );
+		}
+		this.buffer = ByteBuffer.allocateDirect( blockCount * blockSize );
+		this.blockSize = blockSize;
+		this.payloadSize = blockSize - HEADER_SIZE;
+		this.freeBlocks = new int[blockCount];
+		// hand out the lowest blocks first
+		for ( int i = 0; i < blockCount; i++ ) {
+			freeBlocks[i] = blockCount - 1 - i;
+		}
+		this.freeCount = blockCount;
+	}
+
+	int getBlockCount() {
+		return freeBlocks.length;
+	}
+
+	int getFreeBlockCount() {
+		return freeCount;
+	}
+
+	int blocksNeeded(int length) {
+		return length == 0 ? 1 : ( length + payloadSize - 1 ) / payloadSize;
+	}
+
+	/**
+	 * Copy the given bytes into the slab.
+	 *
+	 * @return the index of the first block of the chain, or {@code -1}
+	 * if there are not enough free blocks
+	 */
+	int write(byte[] data) {
+		final int needed = blocksNeeded( data.length );
+		if ( needed > freeCount ) {
+			return END_OF_CHAIN;
+		}
+		final int first = freeBlocks[--freeCount];
+		int current = first;
+		int offset = 0;
+		for ( int i = 1; i <= needed; i++ ) {
+			final int next = i == needed ? END_OF_CHAIN : freeBlocks[--freeCount];
+			final int position = current * blockSize;
+			buffer.putInt( position, next );
+			final int chunk = Math.min( payloadSize, data.length - offset );
+			buffer.position( position + HEADER_SIZE );
+			buffer.put( data, offset, chunk );
+			offset += chunk;
+			current = next;
+		}
+		return first;
+	}
+
+	/**
+	 * Copy the chain of blocks starting at the given block out of the slab.
+	 */
+	byte[] read(int firstBlock, int length) {
+		final byte[] data = new byte[length];
+		int current = firstBlock;
+		int offset = 0;
+		while ( offset < length ) {
+			final int position = current * blockSize;
+			final int chunk = Math.min( payloadSize, length - offset );
+			buffer.position( position + HEADER_SIZE );
+			buffer.get( data, offset, chunk );
+			offset += chunk;
+			current = buffer.getInt( position );
+		}
+		return data;
+	}
+
+	/**
+	 * Return the chain of blocks starting at the given block to the free list.
+	 */
+	void free(int firstBlock) {
+		int current = firstBlock;
+		while ( current != END_OF_CHAIN ) {
+			freeBlocks[freeCount++] = current;
+			current = buffer.getInt( current * blockSize );
+		}
+	}
+
+	void clear() {
+		final int blockCount = freeBlocks.length;
+		for ( int i = 0; i < blockCount; i++ ) {
+			freeBlocks[i] = blockCount - 1 - i;
+		}
+		freeCount = blockCount;
+	}
+}
@@ -0,0 +1,224 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+
+import org.jboss.logging.Logger;
+
+/**
+ * {@link DomainDataStorageAccess} which keeps cached values in serialized
+ * form in {@link OffHeapSlab}s, so that the cached state itself does not
+ * live on the Java heap. Only the keys and a small allocation record per
+ * entry are kept on-heap.
+ * <p>
+ * The region is bounded by the total capacity of its slabs. A slab is a
+ * single direct buffer, and so holds at most 2 GB; larger regions are
+ * split over several slabs, each value being stored within one of them.
+ * When no slab has enough free space for a new value, the
+ * least-recently-used entries are evicted until the value fits.
+ */
+public class OffHeapStorageAccess implements DomainDataStorageAccess {
+	private static final Logger log = Logger.getLogger( OffHeapStorageAccess.class );
+
+	private final String regionName;
+	private final OffHeapSlab[] slabs;
+	private final LinkedHashMap<Object, Allocation> entries = new LinkedHashMap<>( 16, 0.75f, true );
+	private final ReentrantLock lock = new ReentrantLock();
+
+	public OffHeapStorageAccess(String regionName, long capacity, int blockSize) {
+		this( regionName, capacity, blockSize, Integer.MAX_VALUE );
+	}
+
+	/**
+	 * @param capacity The total number of bytes of off-heap memory of the region
+	 * @param blockSize The size of the blocks from which entries are allocated
+	 * @param slabCapacity The maximum number of bytes of each of the direct
+	 * buffers over which the region is split
+	 */
+	public OffHeapStorageAccess(String regionName, long capacity, int blockSize, int slabCapacity) {
+		this.regionName = regionName;
+		this.slabs = createSlabs( capacity, blockSize, slabCapacity );
+	}
+
+	private static OffHeapSlab[] createSlabs(long capacity, int blockSize, int slabCapacity) {
+		final long blockCount = capacity / blockSize;
+		final int blocksPerSlab = slabCapacity / blockSize;
+		if ( blockCount <= blocksPerSlab || blocksPerSlab < 1 ) {
+			// a single slab, which validates the sizes
+			return new OffHeapSlab[] { new OffHeapSlab( (int) Math.min( capacity, slabCapacity ), blockSize ) };
+		}
+		final OffHeapSlab[] slabs = new OffHeapSlab[(int) ( ( blockCount + blocksPerSlab - 1 ) / blocksPerSlab )];
+		long remainingBlocks = blockCount;
+		for ( int i = 0; i < slabs.length; i++ ) {
+			final int slabBlocks = (int) Math.min( remainingBlocks, blocksPerSlab );
+			slabs[i] = new OffHeapSlab( slabBlocks * blockSize, blockSize );
+			remainingBlocks -= slabBlocks;
+		}
+		return slabs;
+	}
+
+	/**
+	 * The number of direct buffers over which this region is split
+	 */
+	public int getSlabCount() {
+		return slabs.length;
+	}
+
+	public String getRegionName() {
+		return regionName;
+	}
+
+	/**
+	 * The number of entries currently held by this region
+	 */
+	public int getEntryCount() {
+		lock.lock();
+		try {
+			return entries.size();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		lock.lock();
+		try {
+			return entries.containsKey( key );
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final byte[] data;
+		lock.lock();
+		try {
+			final Allocation allocation = entries.get( key );
+			if ( allocation == null ) {
+				return null;
+			}
+			data = allocation.slab.read( allocation.firstBlock, allocation.length );
+		}
+		finally {
+			lock.unlock();
+		}
+		return SerializationHelper.deserialize( data );
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		if ( !( value instanceof Serializable ) ) {
+			throw new CacheException( "Value put into off-heap region [" + regionName + "] is not Serializable: " + value );
+		}
+		// serialize outside the lock
+		final byte[] data = SerializationHelper.serialize( (Serializable) value );
+		// all slabs have the same block size, and the first one is the largest
+		final int needed = slabs[0].blocksNeeded( data.length );
+
+		lock.lock();
+		try {
+			final Allocation previous = entries.remove( key );
+			if ( previous != null ) {
+				previous.slab.free( previous.firstBlock );
+			}
+			if ( needed > slabs[0].getBlockCount() ) {
+				log.debugf(
+						"Value of %s bytes is too large for off-heap region [%s]; not caching",
+						data.length,
+						regionName
+				);
+				return;
+			}
+			OffHeapSlab slab = findSlab( needed );
+			final Iterator<Allocation> lru = entries.values().iterator();
+			while ( slab == null && lru.hasNext() ) {
+				final Allocation eldest = lru.next();
+				eldest.slab.free( eldest.firstBlock );
+				lru.remove();
+				if ( eldest.slab.getFreeBlockCount() >= needed ) {
+					slab = eldest.slab;
+				}
+			}
+			entries.put( key, new Allocation( slab, slab.write( data ), data.length ) );
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void evictData(Object key) {
+		lock.lock();
+		try {
+			final Allocation allocation = entries.remove( key );
+			if ( allocation != null ) {
+				allocation.slab.free( allocation.firstBlock );
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void evictData() {
+		lock.lock();
+		try {
+			entries.clear();
+			for ( OffHeapSlab slab : slabs ) {
+				slab.clear();
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void release() {
+		evictData();
+	}
+
+	private OffHeapSlab findSlab(int needed) {
+		for ( OffHeapSlab slab : slabs ) {
+			if ( slab.getFreeBlockCount() >= needed ) {
+				return slab;
+			}
+		}
+		return null;
+	}
+
+	private static final class Allocation {
+		private final OffHeapSlab slab;
+		private final int firstBlock;
+		private final int length;
+
+		private Allocation(OffHeapSlab slab, int firstBlock, int length) {
+			this.slab = slab;
+			this.firstBlock = firstBlock;
+			this.length = length;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "OffHeapStorageAccess(" + regionName + ")";
+	}
+}
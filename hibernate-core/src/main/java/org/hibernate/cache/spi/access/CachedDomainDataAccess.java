@@ -57,6 +57,32 @@ public interface CachedDomainDataAccess {
 	 */
 	Object get(SharedSessionContractImplementor session, Object key);
 
+	/**
+	 * Attempt to retrieve several objects from the cache at once. Used when
+	 * resolving many entities/collections from the second level cache, for
+	 * example during multi-load and batch-fetching, so that remote caches
+	 * can be queried in a single round trip.
+	 *
+	 * @param session Current session.
+	 * @param keys The keys of the items to be retrieved. {@code null} keys are ignored.
+	 *
+	 * @return the cached data, positionally aligned with {@code keys}, with
+	 * {@code null} for each item not found in the cache
+	 *
+	 * @throws CacheException Propagated from underlying cache provider
+	 *
+	 * @implNote the method default is to call {@link #get} for each key
+	 */
+	default Object[] getAll(SharedSessionContractImplementor session, Object[] keys) {
+		final Object[] values = new Object[keys.length];
+		for ( int i = 0; i < keys.length; i++ ) {
+			if ( keys[i] != null ) {
+				values[i] = get( session, keys[i] );
+			}
+		}
+		return values;
+	}
+
 	/**
 	 * Attempt to cache an object, afterQuery loading from the database.
 	 *
@@ -99,6 +99,29 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		}
 	}
 
+	/**
+	 * Returns <code>null</code> for each item which is not readable, as per {@link #get}.
+	 */
+	@Override
+	public Object[] getAll(SharedSessionContractImplementor session, Object[] keys) {
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "Getting %s cached data items from region [`%s` (%s)]", keys.length, getRegion().getName(), getAccessType() );
+		}
+		try {
+			readLock.lock();
+			final Object[] items = getStorageAccess().getAllFromCache( keys, session );
+			final long timestamp = session.getCacheTransactionSynchronization().getCachingTimestamp();
+			for ( int i = 0; i < items.length; i++ ) {
+				final Lockable item = (Lockable) items[i];
+				items[i] = item != null && item.isReadable( timestamp ) ? item.getValue() : null;
+			}
+			return items;
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
 	@Override
 	public boolean putFromLoad(
 			SharedSessionContractImplementor session,
@@ -23,6 +23,25 @@ public interface StorageAccess {
 	 */
 	Object getFromCache(Object key, SharedSessionContractImplementor session);
 
+	/**
+	 * Get several items from the cache at once.  The returned array is
+	 * positionally aligned with the given keys, with {@code null} for any
+	 * key not found in the cache and for any {@code null} key.
+	 *
+	 * @implNote the method default is to call {@link #getFromCache} for each key;
+	 *           providers able to fetch several entries in a single operation
+	 *           should override it
+	 */
+	default Object[] getAllFromCache(Object[] keys, SharedSessionContractImplementor session) {
+		final Object[] values = new Object[keys.length];
+		for ( int i = 0; i < keys.length; i++ ) {
+			if ( keys[i] != null ) {
+				values[i] = getFromCache( keys[i], session );
+			}
+		}
+		return values;
+	}
+
 	/**
 	 * Put an item into the cache
 	 */
@@ -341,6 +341,25 @@ public interface AvailableSettings {
 	 */
 	String CONNECTION_PROVIDER = "hibernate.connection.provider_class";
 
+	/**
+	 * Specifies a {@link org.hibernate.engine.offload.spi.BlockingWorkExecutor}
+	 * to which offloading sessions hand their blocking database work, either:
+	 * <ul>
+	 *     <li>an instance of {@code BlockingWorkExecutor},
+	 *     <li>a {@link Class} representing a class that implements
+	 *         {@code BlockingWorkExecutor}, or
+	 *     <li>the name of a class that implements {@code BlockingWorkExecutor}.
+	 * </ul>
+	 * <p>
+	 * By default, the blocking JDBC calls are performed on virtual threads, or on
+	 * a pool of platform threads if the JVM does not support virtual threads.
+	 *
+	 * @see org.hibernate.engine.offload.spi.OffloadingSessionFactory
+	 *
+	 * @since 6.3
+	 */
+	String BLOCKING_WORK_EXECUTOR = "hibernate.connection.blocking_work_executor";
+
 	/**
 	 * Specifies the {@linkplain java.sql.Driver JDBC driver} class.
 	 *
@@ -1024,6 +1043,93 @@ public interface AvailableSettings {
 	 */
 	String DEFAULT_BATCH_FETCH_SIZE = "hibernate.default_batch_fetch_size";
 
+	/**
+	 * When enabled, the batch size used to batch fetch each entity and collection
+	 * role varies according to how many of the batch fetched instances are actually
+	 * accessed by the application. The configured batch size is then the maximum
+	 * size, and {@value #ADAPTIVE_BATCH_FETCH_MIN_SIZE} the minimum size.
+	 * <p>
+	 * By default, adaptive batch fetching is <em>disabled</em>.
+	 *
+	 * @see org.hibernate.engine.spi.AdaptiveBatchFetchSize
+	 * @see org.hibernate.stat.EntityStatistics#getBatchFetchSize()
+	 * @see org.hibernate.stat.CollectionStatistics#getBatchFetchSize()
+	 *
+	 * @since 6.3
+	 */
+	String ADAPTIVE_BATCH_FETCH = "hibernate.adaptive_batch_fetch";
+
+	/**
+	 * Specifies the minimum batch size for {@linkplain #ADAPTIVE_BATCH_FETCH
+	 * adaptive batch fetching}. The default is 2.
+	 *
+	 * @since 6.3
+	 */
+	String ADAPTIVE_BATCH_FETCH_MIN_SIZE = "hibernate.adaptive_batch_fetch_min_size";
+
+	/**
+	 * When enabled, batch fetching and {@linkplain org.hibernate.Session#byMultipleIds
+	 * multi-id loading} restrict on {@code key = any(?)}, binding all the keys as a
+	 * single array parameter, instead of using an in-list with one parameter per key.
+	 * The SQL is then the same whatever the number of keys.
+	 * <p>
+	 * Only applies to keys mapped to a single basic column, and only when the
+	 * {@linkplain org.hibernate.dialect.Dialect#useArrayForMultiValuedParameters
+	 * dialect supports} array parameters. By default, array parameters are <em>not</em>
+	 * used.
+	 *
+	 * @since 6.3
+	 */
+	String USE_ARRAY_PARAMETER_FOR_BATCH_LOADING = "hibernate.use_array_parameter_for_batch_loading";
+
+	/**
+	 * Specifies the maximum number of additional JDBC connections a session may use
+	 * to execute the {@linkplain org.hibernate.annotations.FetchMode#SUBSELECT subselect
+	 * fetches} of eager collections concurrently, once the query which loaded their
+	 * owners completed. The rows read on the additional connections are turned into
+	 * collection elements on the thread of the session. If {@code 0}, the default,
+	 * subselect fetches are executed one after the other on the connection of the
+	 * session.
+	 * <p>
+	 * The additional connections do not see the uncommitted changes of the session,
+	 * so subselect fetches are only executed concurrently by sessions which are
+	 * {@linkplain org.hibernate.Session#setDefaultReadOnly read-only by default},
+	 * and not when JTA transactions are used. Under isolation levels stronger than
+	 * {@code READ_COMMITTED}, the additional connections may observe a more recent
+	 * snapshot than the session.
+	 * <p>
+	 * Collections with LOB values, and sessions with their own
+	 * {@linkplain org.hibernate.SessionBuilder#jdbcTimeZone JDBC time zone}, always
+	 * use the connection of the session.
+	 *
+	 * @since 6.3
+	 */
+	String PARALLEL_SUBSELECT_FETCH_CONNECTIONS = "hibernate.parallel_subselect_fetch_connections";
+
+	/**
+	 * When enabled, entities loaded as read-only, either because they are
+	 * {@linkplain org.hibernate.annotations.Immutable immutable}, or because they
+	 * were loaded by a {@linkplain org.hibernate.Session#setDefaultReadOnly read-only
+	 * session} or {@linkplain org.hibernate.query.SelectionQuery#setReadOnly query},
+	 * are tracked by the persistence context using a compact
+	 * {@link org.hibernate.engine.spi.EntityEntry}, which does not retain the row id,
+	 * and which also serves as the node linking the entity to the other entities of
+	 * the persistence context. This reduces the memory footprint of sessions loading
+	 * many read-only entities.
+	 * <p>
+	 * Entities which are bytecode enhanced, or mapped with a row id, are always
+	 * tracked using a regular entry. An entity which is made
+	 * {@linkplain org.hibernate.Session#setReadOnly modifiable} gets a regular entry
+	 * again, at the cost of reading its state.
+	 * <p>
+	 * By default, compact read-only entries are <em>disabled</em>.
+	 *
+	 * @see org.hibernate.engine.internal.ReadOnlyEntityEntry
+	 *
+	 * @since 6.3
+	 */
+	String COMPACT_READ_ONLY_ENTITY_ENTRIES = "hibernate.compact_read_only_entity_entries";
+
 	/**
 	 * When enabled, specifies that JDBC scrollable {@code ResultSet}s may be used.
 	 * This property is only necessary when there is no {@code ConnectionProvider},
@@ -1056,6 +1162,57 @@ public interface AvailableSettings {
 	 */
 	String STATEMENT_FETCH_SIZE = "hibernate.jdbc.fetch_size";
 
+	/**
+	 * When enabled, the JDBC fetch size of each query plan or loader is chosen
+	 * according to the number of rows its previous executions returned, between
+	 * {@value #ADAPTIVE_FETCH_SIZE_MIN} and {@value #ADAPTIVE_FETCH_SIZE_MAX}. A
+	 * fetch size explicitly specified for an execution of a query always takes
+	 * precedence. The adaptive fetch size is ignored when a fetch size is
+	 * configured using {@value #STATEMENT_FETCH_SIZE}.
+	 * <p>
+	 * By default, the adaptive fetch size is <em>disabled</em>.
+	 *
+	 * @see org.hibernate.sql.exec.spi.AdaptiveFetchSize
+	 * @see org.hibernate.stat.QueryStatistics#getFetchSize()
+	 *
+	 * @since 6.3
+	 */
+	String ADAPTIVE_FETCH_SIZE = "hibernate.jdbc.adaptive_fetch_size";
+
+	/**
+	 * Specifies the minimum {@linkplain #ADAPTIVE_FETCH_SIZE adaptive fetch size}.
+	 * The default is 10.
+	 *
+	 * @since 6.3
+	 */
+	String ADAPTIVE_FETCH_SIZE_MIN = "hibernate.jdbc.adaptive_fetch_size_min";
+
+	/**
+	 * Specifies the maximum {@linkplain #ADAPTIVE_FETCH_SIZE adaptive fetch size}.
+	 * The default is 1000.
+	 *
+	 * @since 6.3
+	 */
+	String ADAPTIVE_FETCH_SIZE_MAX = "hibernate.jdbc.adaptive_fetch_size_max";
+
+	/**
+	 * Specifies the maximum number of idle {@link java.sql.PreparedStatement}s which
+	 * are kept open for reuse, per JDBC connection held by a session. A statement
+	 * is returned to the cache when it is released, instead of being closed, and
+	 * reused when the same SQL is prepared again before the session releases the
+	 * connection. If {@code 0}, the default, statements are always closed, leaving
+	 * any statement caching to the driver or connection pool.
+	 * <p>
+	 * Callable statements, scrollable statements, and statements returning generated
+	 * keys are never cached. Statements are not cached for connections supplied by
+	 * the application.
+	 *
+	 * @see org.hibernate.stat.Statistics#getPreparedStatementCacheHitCount()
+	 *
+	 * @since 6.3
+	 */
+	String STATEMENT_CACHE_SIZE = "hibernate.jdbc.statement_cache_size";
+
 	/**
 	 * Specifies the maximum JDBC batch size. A nonzero value enables batch updates.
 	 *
@@ -1077,6 +1234,40 @@ public interface AvailableSettings {
 	 */
 	String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
 
+	/**
+	 * When enabled, specifies that batched inserts into a single table should be
+	 * executed as one multi-row {@code insert ... values (...), (...), ...}
+	 * statement per batch, instead of using {@link java.sql.PreparedStatement#addBatch()}.
+	 * This helps with drivers which send each batched statement to the server
+	 * separately.
+	 * <p>
+	 * Only applies when the {@linkplain #STATEMENT_BATCH_SIZE batch size} is greater
+	 * than one and the {@linkplain org.hibernate.dialect.Dialect#supportsMultiRowInsert
+	 * dialect supports} multi-row inserts. Statements are split to respect
+	 * the {@linkplain org.hibernate.dialect.Dialect#getParameterCountLimit parameter limit}
+	 * of the database. By default, multi-row inserts are <em>disabled</em>.
+	 *
+	 * @since 6.3
+	 */
+	String STATEMENT_BATCH_MULTI_ROW_INSERTS = "hibernate.jdbc.batch_multi_row_inserts";
+
+	/**
+	 * When enabled, specifies that full JDBC batches should be executed asynchronously,
+	 * so that a flush can prepare the next batched statements while the database is
+	 * still processing the previous batch.
+	 * <p>
+	 * At most one batch execution is pending per session. Statements are still executed
+	 * in order, and row counts are still verified, but a failure of a batch is only
+	 * reported when the session next uses the batch or the connection, usually at the
+	 * end of the flush. Only the JDBC execution of the batch runs on another thread, and
+	 * the number of these threads is bounded by the number of processors. Does not apply
+	 * to {@linkplain #STATEMENT_BATCH_MULTI_ROW_INSERTS multi-row inserts}. By default,
+	 * pipelined batches are <em>disabled</em>.
+	 *
+	 * @since 6.3
+	 */
+	String STATEMENT_BATCH_PIPELINED = "hibernate.jdbc.batch_pipelined";
+
 	/**
 	 * Specifies a {@linkplain java.util.TimeZone time zone} that should be passed to
 	 * {@link java.sql.PreparedStatement#setTimestamp(int, java.sql.Timestamp, java.util.Calendar)}
@@ -1507,6 +1698,33 @@ public interface AvailableSettings {
 	 */
 	String USE_DIRECT_REFERENCE_CACHE_ENTRIES = "hibernate.cache.use_reference_entries";
 
+	/**
+	 * When using the {@link org.hibernate.cache.internal.OffHeapRegionFactory}, the
+	 * maximum number of bytes of off-heap memory which may be used by each entity,
+	 * collection or natural id cache region. A region-specific value may be given by
+	 * appending the unqualified region name to this setting name, for example
+	 * {@code hibernate.cache.offheap.max_size.com.acme.Book}. Regions larger than
+	 * 2 GB are split over several direct buffers.
+	 * <p>
+	 * The query results and update timestamps regions are kept on the heap, and are
+	 * not bounded by this setting.
+	 * <p>
+	 * Defaults to 64 MB.
+	 *
+	 * @since 6.3
+	 */
+	String CACHE_OFF_HEAP_MAX_SIZE = "hibernate.cache.offheap.max_size";
+
+	/**
+	 * When using the {@link org.hibernate.cache.internal.OffHeapRegionFactory}, the size
+	 * of the fixed-size blocks from which off-heap storage for cache entries is allocated.
+	 * <p>
+	 * Defaults to 128 bytes.
+	 *
+	 * @since 6.3
+	 */
+	String CACHE_OFF_HEAP_BLOCK_SIZE = "hibernate.cache.offheap.block_size";
+
 
 
 
@@ -1582,6 +1800,34 @@ public interface AvailableSettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * The number of executions of a query with {@linkplain
+	 * org.hibernate.jpa.HibernateHints#HINT_LEARN_FETCH_GRAPH fetch graph learning}
+	 * enabled which are observed before the learned fetch graph is applied to it.
+	 * <p>
+	 * The default is
+	 * {@value org.hibernate.query.spi.LearnedFetchGraphs#DEFAULT_WARM_UP_EXECUTIONS}.
+	 *
+	 * @see org.hibernate.query.spi.LearnedFetchGraphs
+	 *
+	 * @since 6.3
+	 */
+	String QUERY_LEARNED_FETCH_GRAPH_WARM_UP = "hibernate.query.learned_fetch_graph.warm_up";
+
+	/**
+	 * The maximum number of distinct queries for which a fetch graph is
+	 * {@linkplain org.hibernate.jpa.HibernateHints#HINT_LEARN_FETCH_GRAPH learned}.
+	 * Further queries are executed as they are.
+	 * <p>
+	 * The default maximum is
+	 * {@value org.hibernate.query.spi.LearnedFetchGraphs#DEFAULT_MAX_QUERIES}.
+	 *
+	 * @see org.hibernate.query.spi.LearnedFetchGraphs
+	 *
+	 * @since 6.3
+	 */
+	String QUERY_LEARNED_FETCH_GRAPH_MAX_QUERIES = "hibernate.query.learned_fetch_graph.max_queries";
+
 	/**
 	 * The maximum number of {@link org.hibernate.query.ParameterMetadata} instances
 	 * maintained by the {@link org.hibernate.query.spi.QueryInterpretationCache}.
@@ -2289,6 +2535,21 @@ public interface AvailableSettings {
 	 */
 	String LOG_SLOW_QUERY = "hibernate.session.events.log.LOG_QUERIES_SLOWER_THAN_MS";
 
+	/**
+	 * Specifies a minimum number of times the instances of a single entity, or
+	 * the collections of a single role, may be loaded one by one, between two
+	 * queries executed by a session, before being reported as a likely "N+1
+	 * selects" problem. Such repeated loads are logged as warnings and passed
+	 * to {@link org.hibernate.SessionEventListener#repeatedLoadsDetected}.
+	 * <p>
+	 * A value of {@code 0}, the default, disables detection of repeated loads.
+	 *
+	 * @see org.hibernate.engine.internal.RepeatedLoadDetector
+	 *
+	 * @since 6.3
+	 */
+	String N_PLUS_ONE_THRESHOLD = "hibernate.session.events.n_plus_one_threshold";
+
 	/**
 	 * Defines a default {@link org.hibernate.SessionEventListener} to be applied to
 	 * newly-opened {@link org.hibernate.Session}s.
@@ -55,6 +55,7 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 
 	private boolean initialized;
 	private transient boolean initializing;
+	private transient boolean accessed;
 
 	private transient List<DelayedOperation<E>> operationQueue;
 	private transient boolean directlyAccessible;
@@ -133,6 +134,7 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 	 * Called by any read-only method of the collection interface
 	 */
 	protected final void read() {
+		markAccessed();
 		initialize( false );
 	}
 
@@ -140,6 +142,7 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 	 * Called by the {@link Collection#size} method
 	 */
 	protected boolean readSize() {
+		markAccessed();
 		if ( !initialized ) {
 			if ( cachedSize != -1 && !hasQueuedOperations() ) {
 				return true;
@@ -310,6 +313,7 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 	}
 
 	protected Boolean readIndexExistence(final Object index) {
+		markAccessed();
 		if ( !initialized ) {
 			return withTemporarySessionIfNeeded(
 					() -> {
@@ -332,6 +336,7 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 	}
 
 	protected Boolean readElementExistence(final Object element) {
+		markAccessed();
 		if ( !initialized ) {
 			return withTemporarySessionIfNeeded(
 					() -> {
@@ -372,6 +377,7 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 	protected static final Object UNKNOWN = new MarkerObject( "UNKNOWN" );
 
 	protected Object readElementByIndex(final Object index) {
+		markAccessed();
 		if ( !initialized ) {
 			class ExtraLazyElementByIndexReader implements LazyInitializationWork<Object> {
 				private boolean isExtraLazy;
@@ -439,6 +445,7 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 	 * Called by any writer method of the collection interface
 	 */
 	protected final void write() {
+		markAccessed();
 		initialize( true );
 		dirty();
 	}
@@ -827,6 +834,30 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 		return initialized;
 	}
 
+	/**
+	 * Has the content of this collection been read or written by the
+	 * application since it was created?  Accesses by Hibernate itself,
+	 * while flushing or cascading, and the initialization of the collection
+	 * do not count.
+	 *
+	 * @see org.hibernate.engine.spi.AdaptiveBatchFetchSize
+	 */
+	public final boolean wasAccessed() {
+		return accessed;
+	}
+
+	/**
+	 * Record an access to the content of this collection through the
+	 * collection interface, unless Hibernate itself is flushing or
+	 * cascading an operation.
+	 */
+	private void markAccessed() {
+		if ( !accessed && session != null ) {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			accessed = !persistenceContext.isFlushing() && persistenceContext.getCascadeLevel() == 0;
+		}
+	}
+
 	@Override
 	public boolean isRowUpdatePossible() {
 		return true;
@@ -595,6 +595,11 @@ public class CockroachDialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean useArrayForMultiValuedParameters() {
+		return supportsStandardArrays();
+	}
+
 	@Override
 	public boolean supportsTemporalLiteralOffset() {
 		return true;
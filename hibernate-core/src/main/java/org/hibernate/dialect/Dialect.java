@@ -3784,6 +3784,19 @@ public abstract class Dialect implements ConversionContext, TypeContributor, Fun
 		return 0;
 	}
 
+	/**
+	 * Return the limit that the underlying database places on the number of
+	 * JDBC parameters in a single statement. If the database defines no such
+	 * limit, simply return zero or a number smaller than zero.
+	 *
+	 * @return The limit, or a non-positive integer to indicate no limit.
+	 *
+	 * @since 6.3
+	 */
+	public int getParameterCountLimit() {
+		return 0;
+	}
+
 	/**
 	 * Must LOB values occur last in inserts and updates?
 	 *
@@ -4123,6 +4136,27 @@ public abstract class Dialect implements ConversionContext, TypeContributor, Fun
 		return false;
 	}
 
+	/**
+	 * Can a restriction on multiple key values, as used for batch loading,
+	 * be rendered as {@code key = any(?)} with all the values bound as a
+	 * single array parameter, instead of as an in-list with one parameter
+	 * per value?
+	 * <p>
+	 * The SQL is then the same whatever the number of values, so that only
+	 * one statement has to be prepared and cached per restriction. Array
+	 * parameters are only used when
+	 * {@value org.hibernate.cfg.AvailableSettings#USE_ARRAY_PARAMETER_FOR_BATCH_LOADING}
+	 * is enabled.
+	 *
+	 * @return {@code true} if the database supports comparing a value with
+	 *         the elements of an array parameter using {@code = any}
+	 *
+	 * @since 6.3
+	 */
+	public boolean useArrayForMultiValuedParameters() {
+		return false;
+	}
+
 	/**
 	 * The SQL type name for the array type with elements of the given type name.
 	 * <p>
@@ -4251,6 +4285,21 @@ public abstract class Dialect implements ConversionContext, TypeContributor, Fun
 		return true;
 	}
 
+	/**
+	 * Does this dialect support inserting several rows with a single
+	 * {@code insert ... values (...), (...), ...} statement, so that
+	 * batched inserts may be rewritten to multi-row inserts?
+	 *
+	 * @return {@code true} if multi-row inserts are allowed
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_MULTI_ROW_INSERTS
+	 *
+	 * @since 6.3
+	 */
+	public boolean supportsMultiRowInsert() {
+		return supportsValuesListForInsert();
+	}
+
 	/**
 	 * Does this dialect support {@code SKIP_LOCKED} timeout.
 	 *
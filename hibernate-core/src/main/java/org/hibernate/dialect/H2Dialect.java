@@ -180,6 +180,11 @@ public class H2Dialect extends Dialect {
 		return getVersion().isSameOrAfter( 2 );
 	}
 
+	@Override
+	public boolean useArrayForMultiValuedParameters() {
+		return supportsStandardArrays();
+	}
+
 	@Override
 	protected String columnType(int sqlTypeCode) {
 		switch ( sqlTypeCode ) {
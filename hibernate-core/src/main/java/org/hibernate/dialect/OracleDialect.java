@@ -1008,6 +1008,12 @@ public class OracleDialect extends Dialect {
 		return PARAM_LIST_SIZE_LIMIT;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		// multi-row values lists were only introduced in 23c
+		return getVersion().isSameOrAfter( 23 );
+	}
+
 	@Override
 	public boolean forceLobAsLastValue() {
 		return true;
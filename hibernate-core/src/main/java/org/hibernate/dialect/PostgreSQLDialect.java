@@ -711,6 +711,12 @@ public class PostgreSQLDialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public int getParameterCountLimit() {
+		// the wire protocol uses a 16-bit parameter count
+		return 32767;
+	}
+
 	@Override
 	public boolean supportsPartitionBy() {
 		return true;
@@ -1021,6 +1027,11 @@ public class PostgreSQLDialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean useArrayForMultiValuedParameters() {
+		return supportsStandardArrays();
+	}
+
 	@Override
 	public boolean supportsJdbcConnectionLobCreation(DatabaseMetaData databaseMetaData) {
 		return false;
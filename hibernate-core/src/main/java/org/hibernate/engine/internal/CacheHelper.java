@@ -35,4 +35,29 @@ public final class CacheHelper {
 		return cachedValue;
 	}
 
+	public static Object[] fromSharedCache(
+			SharedSessionContractImplementor session,
+			Object[] cacheKeys,
+			CachedDomainDataAccess cacheAccess) {
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		Object[] cachedValues = null;
+		eventListenerManager.cacheGetStart();
+		try {
+			cachedValues = cacheAccess.getAll( session, cacheKeys );
+		}
+		finally {
+			eventListenerManager.cacheGetEnd( cachedValues != null && anyNonNull( cachedValues ) );
+		}
+		return cachedValues;
+	}
+
+	private static boolean anyNonNull(Object[] values) {
+		for ( Object value : values ) {
+			if ( value != null ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 }
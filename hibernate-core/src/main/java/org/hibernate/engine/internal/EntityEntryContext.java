@@ -83,12 +83,14 @@ public class EntityEntryContext {
 		// any addition (even the double one described above) should invalidate the cross-ref array
 		dirty = true;
 
-		assert entityEntry instanceof AbstractEntityEntry;
+		assert entityEntry instanceof AbstractEntityEntry
+			|| entityEntry instanceof ReadOnlyEntityEntry && !isManagedEntity( entity );
 
 		// We only need to check a mutable EntityEntry is associated with the same PersistenceContext.
 		// Immutable EntityEntry can be associated with multiple PersistenceContexts, so no need to check.
 		// ImmutableEntityEntry#getPersistenceContext() throws an exception (HHH-10251).
 		assert !entityEntry.getPersister().isMutable()
+			|| entityEntry instanceof ReadOnlyEntityEntry
 			|| ( (AbstractEntityEntry) entityEntry ).getPersistenceContext() == persistenceContext;
 
 		// Determine the appropriate ManagedEntity instance to use based on whether the entity is enhanced or not.
@@ -96,7 +98,14 @@ public class EntityEntryContext {
 		// PersistenceContext.
 		ManagedEntity managedEntity = getAssociatedManagedEntity( entity );
 		final boolean alreadyAssociated = managedEntity != null;
-		if ( !alreadyAssociated ) {
+		if ( alreadyAssociated ) {
+			if ( managedEntity != entityEntry
+					&& ( managedEntity instanceof ReadOnlyEntityEntry || entityEntry instanceof ReadOnlyEntityEntry ) ) {
+				// a ReadOnlyEntityEntry is its own node, so the node has to be replaced along with the entry
+				managedEntity = replaceManagedEntity( entity, managedEntity, newManagedEntity( entity, entityEntry ) );
+			}
+		}
+		else {
 			if ( isManagedEntity( entity ) ) {
 				final ManagedEntity managed = asManagedEntity( entity );
 				if ( entityEntry.getPersister().isMutable() ) {
@@ -121,7 +130,7 @@ public class EntityEntryContext {
 				if ( nonEnhancedEntityXref == null ) {
 					nonEnhancedEntityXref = new IdentityHashMap<>();
 				}
-				managedEntity = new ManagedEntityImpl( entity );
+				managedEntity = newManagedEntity( entity, entityEntry );
 				nonEnhancedEntityXref.put( entity, managedEntity );
 			}
 		}
@@ -156,6 +165,39 @@ public class EntityEntryContext {
 		}
 	}
 
+	private static ManagedEntity newManagedEntity(Object entity, EntityEntry entityEntry) {
+		return entityEntry instanceof ReadOnlyEntityEntry
+				? (ReadOnlyEntityEntry) entityEntry
+				: new ManagedEntityImpl( entity );
+	}
+
+	/**
+	 * Substitutes a new node for the node of a non-enhanced entity, at the same position in the list
+	 */
+	private ManagedEntity replaceManagedEntity(Object entity, ManagedEntity managedEntity, ManagedEntity replacement) {
+		final ManagedEntity previous = managedEntity.$$_hibernate_getPreviousManagedEntity();
+		final ManagedEntity next = managedEntity.$$_hibernate_getNextManagedEntity();
+		replacement.$$_hibernate_setPreviousManagedEntity( previous );
+		replacement.$$_hibernate_setNextManagedEntity( next );
+		if ( previous == null ) {
+			assert managedEntity == head;
+			head = replacement;
+		}
+		else {
+			previous.$$_hibernate_setNextManagedEntity( replacement );
+		}
+		if ( next == null ) {
+			assert managedEntity == tail;
+			tail = replacement;
+		}
+		else {
+			next.$$_hibernate_setPreviousManagedEntity( replacement );
+		}
+		clearManagedEntity( managedEntity );
+		nonEnhancedEntityXref.put( entity, replacement );
+		return replacement;
+	}
+
 	private ManagedEntity getAssociatedManagedEntity(Object entity) {
 		if ( isManagedEntity( entity ) ) {
 			final ManagedEntity managedEntity = asManagedEntity( entity );
@@ -492,7 +534,10 @@ public class EntityEntryContext {
 				}
 			}
 			else {
-				managedEntity = new ManagedEntityImpl( entity );
+				if ( entry instanceof ReadOnlyEntityEntry ) {
+					( (ReadOnlyEntityEntry) entry ).setEntityInstance( entity );
+				}
+				managedEntity = newManagedEntity( entity, entry );
 				if ( context.nonEnhancedEntityXref == null ) {
 					context.nonEnhancedEntityXref = new IdentityHashMap<>();
 				}
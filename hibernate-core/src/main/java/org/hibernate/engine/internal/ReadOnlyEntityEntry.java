@@ -0,0 +1,445 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+import org.hibernate.AssertionFailure;
+import org.hibernate.HibernateException;
+import org.hibernate.LockMode;
+import org.hibernate.UnsupportedLockAttemptException;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityEntryExtraState;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.ManagedEntity;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.persister.entity.EntityPersister;
+
+import static org.hibernate.LockMode.PESSIMISTIC_FORCE_INCREMENT;
+import static org.hibernate.engine.internal.AbstractEntityEntry.EnumState.PREVIOUS_STATUS;
+import static org.hibernate.engine.spi.Status.GONE;
+import static org.hibernate.engine.spi.Status.MANAGED;
+import static org.hibernate.engine.spi.Status.READ_ONLY;
+import static org.hibernate.engine.spi.Status.SAVING;
+import static org.hibernate.pretty.MessageHelper.infoString;
+
+/**
+ * A compact {@link EntityEntry} for a non-enhanced entity loaded as read-only,
+ * used when {@value org.hibernate.cfg.AvailableSettings#COMPACT_READ_ONLY_ENTITY_ENTRIES}
+ * is enabled.
+ * <p>
+ * Unlike {@link MutableEntityEntry} and {@link ImmutableEntityEntry}, this entry
+ * never holds a loaded state snapshot, a row id or a cached {@link EntityKey}. It
+ * is also the {@link ManagedEntity} node linking the entity into the
+ * {@link EntityEntryContext}, so that no separate node is allocated per entity.
+ * <p>
+ * An entity tracked by such an entry may still be locked, deleted or evicted.
+ * Making it modifiable requires a regular entry, which
+ * {@link StatefulPersistenceContext#setReadOnly(Object, boolean)} substitutes
+ * for this one.
+ *
+ * @since 6.3
+ */
+public final class ReadOnlyEntityEntry implements EntityEntry, ManagedEntity, Serializable {
+
+	private static final LockMode[] LOCK_MODES = LockMode.values();
+	private static final Status[] STATUSES = Status.values();
+
+	private static final int LOCK_MODE_OFFSET = 0;
+	private static final int STATUS_OFFSET = 4;
+	private static final int PREVIOUS_STATUS_OFFSET = 8;
+	private static final int EXISTS_IN_DATABASE = 1 << 12;
+	private static final int IS_BEING_REPLICATED = 1 << 13;
+
+	private transient Object entityInstance;
+	private final Object id;
+	private Object version;
+	private final EntityPersister persister;
+	private final transient PersistenceContext persistenceContext;
+	private EntityEntryExtraState next;
+	private transient ManagedEntity previousManagedEntity;
+	private transient ManagedEntity nextManagedEntity;
+
+	/**
+	 * Lock mode, status and previous status in 4 bits each, followed by the
+	 * existsInDatabase and isBeingReplicated flags, as in
+	 * {@link AbstractEntityEntry}.
+	 */
+	private transient int compressedState;
+
+	/**
+	 * Creates the compact equivalent of the given entry, which must already be
+	 * {@linkplain Status#READ_ONLY read-only}
+	 */
+	ReadOnlyEntityEntry(Object entityInstance, AbstractEntityEntry entry, PersistenceContext persistenceContext) {
+		assert entry.getStatus() == READ_ONLY;
+		assert entry.getRowId() == null;
+		this.entityInstance = entityInstance;
+		this.id = entry.getId();
+		this.version = entry.getVersion();
+		this.persister = entry.getPersister();
+		this.persistenceContext = persistenceContext;
+		this.next = entry.next;
+		setEnumValue( LOCK_MODE_OFFSET, entry.getLockMode() );
+		setEnumValue( STATUS_OFFSET, READ_ONLY );
+		setEnumValue( PREVIOUS_STATUS_OFFSET, entry.getCompressedValue( PREVIOUS_STATUS ) );
+		setFlag( EXISTS_IN_DATABASE, entry.isExistsInDatabase() );
+		setFlag( IS_BEING_REPLICATED, entry.isBeingReplicated() );
+	}
+
+	/**
+	 * This for is used during custom deserialization handling
+	 */
+	private ReadOnlyEntityEntry(
+			final SessionFactoryImplementor factory,
+			final String entityName,
+			final Object id,
+			final Status status,
+			final Status previousStatus,
+			final Object[] deletedState,
+			final Object version,
+			final LockMode lockMode,
+			final boolean existsInDatabase,
+			final boolean isBeingReplicated,
+			final PersistenceContext persistenceContext) {
+		this.persister = factory.getRuntimeMetamodels().getMappingMetamodel().getEntityDescriptor( entityName );
+		this.id = id;
+		this.version = version;
+		this.persistenceContext = persistenceContext;
+		setEnumValue( LOCK_MODE_OFFSET, lockMode );
+		setEnumValue( STATUS_OFFSET, status );
+		setEnumValue( PREVIOUS_STATUS_OFFSET, previousStatus );
+		setFlag( EXISTS_IN_DATABASE, existsInDatabase );
+		setFlag( IS_BEING_REPLICATED, isBeingReplicated );
+		setDeletedState( deletedState );
+	}
+
+	@Override
+	public LockMode getLockMode() {
+		return getEnumValue( LOCK_MODE_OFFSET, LOCK_MODES );
+	}
+
+	@Override
+	public void setLockMode(LockMode lockMode) {
+		if ( !persister.isMutable() && lockMode != LockMode.NONE && lockMode != LockMode.READ ) {
+			// same restriction as ImmutableEntityEntry
+			throw new UnsupportedLockAttemptException( "Lock mode not supported" );
+		}
+		setEnumValue( LOCK_MODE_OFFSET, lockMode );
+	}
+
+	@Override
+	public Status getStatus() {
+		return getEnumValue( STATUS_OFFSET, STATUSES );
+	}
+
+	@Override
+	public void setStatus(Status status) {
+		final Status currentStatus = getStatus();
+		if ( currentStatus != status ) {
+			setEnumValue( PREVIOUS_STATUS_OFFSET, currentStatus );
+			setEnumValue( STATUS_OFFSET, status );
+		}
+	}
+
+	@Override
+	public Object getId() {
+		return id;
+	}
+
+	@Override
+	public Object[] getLoadedState() {
+		return null;
+	}
+
+	@Override
+	public Object getLoadedValue(String propertyName) {
+		return null;
+	}
+
+	@Override
+	public void overwriteLoadedStateCollectionValue(String propertyName, PersistentCollection<?> collection) {
+		// nothing to do, there is no loaded state
+	}
+
+	@Override
+	public Object[] getDeletedState() {
+		final EntityEntryExtraStateHolder extra = getExtraState( EntityEntryExtraStateHolder.class );
+		return extra == null ? null : extra.getDeletedState();
+	}
+
+	@Override
+	public void setDeletedState(Object[] deletedState) {
+		final EntityEntryExtraStateHolder existingExtra = getExtraState( EntityEntryExtraStateHolder.class );
+		if ( existingExtra != null ) {
+			existingExtra.setDeletedState( deletedState );
+		}
+		else if ( deletedState != null ) {
+			final EntityEntryExtraStateHolder newExtra = new EntityEntryExtraStateHolder();
+			newExtra.setDeletedState( deletedState );
+			addExtraState( newExtra );
+		}
+	}
+
+	@Override
+	public boolean isExistsInDatabase() {
+		return getFlag( EXISTS_IN_DATABASE );
+	}
+
+	@Override
+	public Object getVersion() {
+		return version;
+	}
+
+	@Override
+	public void postInsert(Object version) {
+		this.version = version;
+	}
+
+	@Override
+	public EntityPersister getPersister() {
+		return persister;
+	}
+
+	@Override
+	public EntityKey getEntityKey() {
+		// not cached, this entry is meant to be small
+		return new EntityKey( id, persister );
+	}
+
+	@Override
+	public String getEntityName() {
+		return persister == null ? null : persister.getEntityName();
+	}
+
+	@Override
+	public boolean isBeingReplicated() {
+		return getFlag( IS_BEING_REPLICATED );
+	}
+
+	@Override
+	public Object getRowId() {
+		return null;
+	}
+
+	@Override
+	public void postUpdate(Object entity, Object[] updatedState, Object nextVersion) {
+		throw new AssertionFailure( "Read-only entity was updated: " + this );
+	}
+
+	@Override
+	public void postDelete() {
+		setEnumValue( PREVIOUS_STATUS_OFFSET, getStatus() );
+		setEnumValue( STATUS_OFFSET, GONE );
+		setFlag( EXISTS_IN_DATABASE, false );
+	}
+
+	@Override
+	public void postInsert(Object[] insertedState) {
+		setFlag( EXISTS_IN_DATABASE, true );
+	}
+
+	@Override
+	public boolean isNullifiable(boolean earlyInsert, SharedSessionContractImplementor session) {
+		if ( getStatus() == SAVING ) {
+			return true;
+		}
+		else if ( earlyInsert ) {
+			return !isExistsInDatabase();
+		}
+		else {
+			return session.getPersistenceContextInternal().containsNullifiableEntityKey( this::getEntityKey );
+		}
+	}
+
+	@Override
+	public boolean requiresDirtyCheck(Object entity) {
+		return false;
+	}
+
+	@Override
+	public boolean isModifiableEntity() {
+		// a modifiable entity always has a regular entry
+		return false;
+	}
+
+	@Override
+	public void forceLocked(Object entity, Object nextVersion) {
+		version = nextVersion;
+		setEnumValue( LOCK_MODE_OFFSET, PESSIMISTIC_FORCE_INCREMENT );
+		persister.setValue( entity, persister.getVersionProperty(), nextVersion );
+	}
+
+	@Override
+	public boolean isReadOnly() {
+		final Status status = getStatus();
+		if ( status != MANAGED && status != READ_ONLY ) {
+			throw new HibernateException( "instance was not in a valid state" );
+		}
+		return status == READ_ONLY;
+	}
+
+	@Override
+	public void setReadOnly(boolean readOnly, Object entity) {
+		if ( !readOnly ) {
+			if ( !persister.isMutable() ) {
+				throw new IllegalStateException( "Cannot make an entity of immutable type '"
+						+ persister.getEntityName() + "' modifiable" );
+			}
+			// StatefulPersistenceContext replaces this entry beforehand
+			throw new AssertionFailure( "Compact read-only entry cannot track a modifiable entity: " + this );
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "EntityEntry"
+				+ infoString( persister.getEntityName(), id )
+				+ '(' + getStatus() + ')';
+	}
+
+	@Override
+	public void serialize(ObjectOutputStream oos) throws IOException {
+		final Status previousStatus = getEnumValue( PREVIOUS_STATUS_OFFSET, STATUSES );
+		oos.writeObject( getEntityName() );
+		oos.writeObject( id );
+		oos.writeObject( getStatus().name() );
+		oos.writeObject( previousStatus == null ? "" : previousStatus.name() );
+		oos.writeObject( getDeletedState() );
+		oos.writeObject( version );
+		oos.writeObject( getLockMode().toString() );
+		oos.writeBoolean( isExistsInDatabase() );
+		oos.writeBoolean( isBeingReplicated() );
+	}
+
+	/**
+	 * Custom deserialization routine used during deserialization of a
+	 * Session/PersistenceContext for increased performance. The entity
+	 * instance is associated afterward by the {@link EntityEntryContext}.
+	 *
+	 * @param ois The stream from which to read the entry.
+	 * @param persistenceContext The context being deserialized.
+	 *
+	 * @return The deserialized EntityEntry
+	 *
+	 * @throws IOException If a stream error occurs
+	 * @throws ClassNotFoundException If any of the classes declared in the stream
+	 * cannot be found
+	 */
+	public static EntityEntry deserialize(
+			ObjectInputStream ois,
+			PersistenceContext persistenceContext) throws IOException, ClassNotFoundException {
+		String previousStatusString;
+		return new ReadOnlyEntityEntry(
+				persistenceContext.getSession().getFactory(),
+				(String) ois.readObject(),
+				ois.readObject(),
+				Status.valueOf( (String) ois.readObject() ),
+				( previousStatusString = (String) ois.readObject() ).length() == 0
+						? null
+						: Status.valueOf( previousStatusString ),
+				(Object[]) ois.readObject(),
+				ois.readObject(),
+				LockMode.valueOf( (String) ois.readObject() ),
+				ois.readBoolean(),
+				ois.readBoolean(),
+				persistenceContext
+		);
+	}
+
+	@Override
+	public void addExtraState(EntityEntryExtraState extraState) {
+		if ( next == null ) {
+			next = extraState;
+		}
+		else {
+			next.addExtraState( extraState );
+		}
+	}
+
+	@Override @SuppressWarnings("unchecked")
+	public <T extends EntityEntryExtraState> T getExtraState(Class<T> extraStateType) {
+		if ( next == null ) {
+			return null;
+		}
+		if ( extraStateType.isAssignableFrom( next.getClass() ) ) {
+			return (T) next;
+		}
+		else {
+			return next.getExtraState( extraStateType );
+		}
+	}
+
+	public PersistenceContext getPersistenceContext() {
+		return persistenceContext;
+	}
+
+	void setEntityInstance(Object entityInstance) {
+		this.entityInstance = entityInstance;
+	}
+
+	@Override
+	public Object $$_hibernate_getEntityInstance() {
+		return entityInstance;
+	}
+
+	@Override
+	public EntityEntry $$_hibernate_getEntityEntry() {
+		return this;
+	}
+
+	@Override
+	public void $$_hibernate_setEntityEntry(EntityEntry entityEntry) {
+		// this node is its own entry, and is discarded when the entity leaves the context
+		assert entityEntry == null || entityEntry == this;
+	}
+
+	@Override
+	public ManagedEntity $$_hibernate_getPreviousManagedEntity() {
+		return previousManagedEntity;
+	}
+
+	@Override
+	public void $$_hibernate_setPreviousManagedEntity(ManagedEntity previous) {
+		this.previousManagedEntity = previous;
+	}
+
+	@Override
+	public ManagedEntity $$_hibernate_getNextManagedEntity() {
+		return nextManagedEntity;
+	}
+
+	@Override
+	public void $$_hibernate_setNextManagedEntity(ManagedEntity next) {
+		this.nextManagedEntity = next;
+	}
+
+	private <E extends Enum<E>> E getEnumValue(int offset, E[] values) {
+		final int index = ( ( compressedState >> offset ) & 0xF ) - 1;
+		return index == -1 ? null : values[index];
+	}
+
+	private void setEnumValue(int offset, Enum<?> value) {
+		compressedState &= ~( 0xF << offset );
+		compressedState |= ( value == null ? 0 : value.ordinal() + 1 ) << offset;
+	}
+
+	private boolean getFlag(int flag) {
+		return ( compressedState & flag ) != 0;
+	}
+
+	private void setFlag(int flag, boolean value) {
+		compressedState = value ? compressedState | flag : compressedState & ~flag;
+	}
+}
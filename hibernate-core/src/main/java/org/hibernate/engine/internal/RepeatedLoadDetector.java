@@ -0,0 +1,110 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.SessionEventListener;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Detects "N+1 selects" problems by counting, per entity name and collection
+ * role, how many times instances were loaded individually since the last query
+ * executed by the session.
+ * <p>
+ * The counts are reported when the next query starts executing and when the
+ * session ends: every role loaded at least as many times as the threshold is
+ * logged as a warning, and passed to
+ * {@link SessionEventListener#repeatedLoadsDetected(String, int, String)}.
+ * <p>
+ * A collection role identifies the collection attribute, and so the
+ * association, whose loads are repeated. Entity loads are counted by entity
+ * name only: a proxy is shared by all the associations referring to the same
+ * instance, and its initialization does not know which of them was navigated.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_THRESHOLD
+ */
+public class RepeatedLoadDetector extends BaseSessionEventListener {
+	private static final Logger log = Logger.getLogger( RepeatedLoadDetector.class );
+
+	private final int threshold;
+	private final SessionEventListener reportListener;
+
+	private String queryString;
+	private Map<String, Counter> loadCounts;
+
+	/**
+	 * @param threshold the number of individual loads of a role from which they get reported
+	 * @param reportListener the listener notified of the detected repeated loads
+	 */
+	public RepeatedLoadDetector(int threshold, SessionEventListener reportListener) {
+		this.threshold = threshold;
+		this.reportListener = reportListener;
+	}
+
+	@Override
+	public void queryExecutionStart(String queryKind, String queryString) {
+		report();
+		this.queryString = queryString;
+	}
+
+	@Override
+	public void entityLoadedById(String entityName) {
+		increment( entityName );
+	}
+
+	@Override
+	public void collectionInitialized(String role) {
+		increment( role );
+	}
+
+	@Override
+	public void end() {
+		report();
+		queryString = null;
+	}
+
+	private void increment(String role) {
+		if ( loadCounts == null ) {
+			loadCounts = new HashMap<>();
+		}
+		loadCounts.computeIfAbsent( role, r -> new Counter() ).count++;
+	}
+
+	private void report() {
+		if ( loadCounts == null ) {
+			return;
+		}
+
+		final Map<String, Counter> counts = loadCounts;
+		loadCounts = null;
+		for ( Map.Entry<String, Counter> entry : counts.entrySet() ) {
+			final int count = entry.getValue().count;
+			if ( count >= threshold ) {
+				if ( queryString == null ) {
+					log.warnf( "Potential N+1 selects problem: '%s' was loaded individually %s times", entry.getKey(), count );
+				}
+				else {
+					log.warnf(
+							"Potential N+1 selects problem: '%s' was loaded individually %s times after executing query [%s]",
+							entry.getKey(),
+							count,
+							queryString
+					);
+				}
+				reportListener.repeatedLoadsDetected( entry.getKey(), count, queryString );
+			}
+		}
+	}
+
+	private static class Counter {
+		private int count;
+	}
+}
@@ -207,6 +207,28 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 		}
 	}
 
+	@Override
+	public void queryExecutionStart(String queryKind, String queryString) {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.queryExecutionStart( queryKind, queryString );
+		}
+	}
+
+	@Override
+	public void queryExecutionEnd(String queryString, boolean success) {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.queryExecutionEnd( queryString, success );
+		}
+	}
+
 	@Override
 	public void flushStart() {
 		if ( listeners == null ) {
@@ -273,6 +295,39 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 		}
 	}
 
+	@Override
+	public void entityLoadedById(String entityName) {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.entityLoadedById( entityName );
+		}
+	}
+
+	@Override
+	public void collectionInitialized(String role) {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.collectionInitialized( role );
+		}
+	}
+
+	@Override
+	public void repeatedLoadsDetected(String role, int count, String queryString) {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.repeatedLoadsDetected( role, count, queryString );
+		}
+	}
+
 	@Override
 	public void end() {
 		if ( listeners == null ) {
@@ -55,6 +55,7 @@ import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.internal.util.collections.ConcurrentReferenceHashMap;
 import org.hibernate.internal.util.collections.IdentityMap;
+import org.hibernate.loader.ast.internal.CollectionSubSelectPrefetch;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
@@ -69,6 +70,7 @@ import org.jboss.logging.Logger;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asHibernateProxy;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asManagedEntity;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
+import static org.hibernate.engine.internal.ManagedTypeHelper.isManagedEntity;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
 
 /**
@@ -229,6 +231,10 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public void clear() {
+		if ( batchFetchQueue != null ) {
+			batchFetchQueue.reportBatchFetchUsage();
+		}
+
 		if ( proxiesByKey != null ) {
 			//Strictly avoid lambdas in this case
 			for ( Object value : proxiesByKey.values() ) {
@@ -288,6 +294,23 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		setHasNonReadOnlyEnties( status );
 	}
 
+	@Override
+	public EntityEntry setLoadedEntryReadOnly(Object entity, EntityEntry entry) {
+		setEntryStatus( entry, Status.READ_ONLY );
+		if ( session.getFactory().getSessionFactoryOptions().isCompactReadOnlyEntityEntriesEnabled()
+				&& entry instanceof AbstractEntityEntry
+				&& entry.getRowId() == null
+				&& !isManagedEntity( entity ) ) {
+			final ReadOnlyEntityEntry readOnlyEntry =
+					new ReadOnlyEntityEntry( entity, (AbstractEntityEntry) entry, this );
+			entityEntryContext.addEntityEntry( entity, readOnlyEntry );
+			return readOnlyEntry;
+		}
+		else {
+			return entry;
+		}
+	}
+
 	private void setHasNonReadOnlyEnties(Status status) {
 		if ( status==Status.DELETED || status==Status.MANAGED || status==Status.SAVING ) {
 			hasNonReadOnlyEntities = true;
@@ -979,6 +1002,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			//don't let this method be called recursively
 			loadCounter++;
 			try {
+				if ( nonlazyCollections != null && nonlazyCollections.size() > 1 ) {
+					CollectionSubSelectPrefetch.startPrefetches( nonlazyCollections, session );
+				}
 				int size;
 				while ( nonlazyCollections != null && ( size = nonlazyCollections.size() ) > 0 ) {
 					//note that each iteration of the loop may add new elements
@@ -987,6 +1013,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			}
 			finally {
 				loadCounter--;
+				if ( batchFetchQueue != null ) {
+					batchFetchQueue.releaseSubselectPrefetches( session );
+				}
 				clearNullProperties();
 			}
 		}
@@ -1515,10 +1544,25 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	}
 
 	private void setEntityReadOnly(Object entity, boolean readOnly) {
-		final EntityEntry entry = getEntry( entity );
+		EntityEntry entry = getEntry( entity );
 		if ( entry == null ) {
 			throw new TransientObjectException( "Instance was not associated with this persistence context" );
 		}
+		if ( !readOnly && entry instanceof ReadOnlyEntityEntry && entry.getPersister().isMutable() ) {
+			// a compact entry has no room for the loaded state of a modifiable entity
+			entry = addEntry(
+					entity,
+					entry.getStatus(),
+					null,
+					null,
+					entry.getId(),
+					entry.getVersion(),
+					entry.getLockMode(),
+					entry.isExistsInDatabase(),
+					entry.getPersister(),
+					entry.isBeingReplicated()
+			);
+		}
 		entry.setReadOnly( readOnly, entity );
 		hasNonReadOnlyEntities = hasNonReadOnlyEntities || ! readOnly;
 	}
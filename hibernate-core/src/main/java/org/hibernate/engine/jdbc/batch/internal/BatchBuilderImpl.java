@@ -7,9 +7,14 @@
 package org.hibernate.engine.jdbc.batch.internal;
 
 import java.util.Collections;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import org.hibernate.Internal;
+import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
@@ -17,6 +22,7 @@ import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
 import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupSingleTable;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.service.spi.Stoppable;
 import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
 
@@ -29,8 +35,14 @@ import static org.hibernate.jdbc.Expectations.NONE;
  *
  * @author Steve Ebersole
  */
-public class BatchBuilderImpl implements BatchBuilder {
+public class BatchBuilderImpl implements BatchBuilder, Stoppable {
 	private final int globalBatchSize;
+	private final boolean multiRowInserts;
+	private final boolean pipelined;
+
+	// the threads executing pipelined batches, created on demand, and shut down
+	// with the service registry, which is destroyed when the SessionFactory closes
+	private volatile ExecutorService executor;
 
 	/**
 	 * Constructs a BatchBuilderImpl
@@ -39,14 +51,44 @@ public class BatchBuilderImpl implements BatchBuilder {
 	 * on {@link #buildBatch}
 	 */
 	public BatchBuilderImpl(int globalBatchSize) {
+		this( globalBatchSize, false );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param multiRowInserts Whether batched inserts into a single table
+	 * should be executed as {@linkplain MultiRowInsertBatch multi-row inserts}
+	 */
+	public BatchBuilderImpl(int globalBatchSize, boolean multiRowInserts) {
+		this( globalBatchSize, multiRowInserts, false );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param multiRowInserts Whether batched inserts into a single table
+	 * should be executed as {@linkplain MultiRowInsertBatch multi-row inserts}
+	 * @param pipelined Whether full batches should be {@linkplain PipelinedBatch
+	 * executed asynchronously}
+	 */
+	public BatchBuilderImpl(int globalBatchSize, boolean multiRowInserts, boolean pipelined) {
 		if ( BATCH_TRACE_ENABLED ) {
 			BATCH_LOGGER.tracef(
-					"Using standard BatchBuilder (%s)",
-					globalBatchSize
+					"Using standard BatchBuilder (%s, multi-row inserts %s, pipelined %s)",
+					globalBatchSize,
+					multiRowInserts,
+					pipelined
 			);
 		}
 
 		this.globalBatchSize = globalBatchSize;
+		this.multiRowInserts = multiRowInserts;
+		this.pipelined = pipelined;
 	}
 
 	public int getJdbcBatchSize() {
@@ -64,7 +106,62 @@ public class BatchBuilderImpl implements BatchBuilder {
 				: explicitBatchSize;
 		assert batchSize > 1;
 
-		return new BatchImpl( key, statementGroupSupplier.get(), batchSize, jdbcCoordinator );
+		final PreparedStatementGroup statementGroup = statementGroupSupplier.get();
+		if ( multiRowInserts ) {
+			final Dialect dialect = jdbcCoordinator.getJdbcSessionOwner()
+					.getJdbcSessionContext()
+					.getJdbcServices()
+					.getDialect();
+			if ( MultiRowInsertBatch.isApplicable( statementGroup, dialect ) ) {
+				return new MultiRowInsertBatch( key, statementGroup, batchSize, jdbcCoordinator );
+			}
+		}
+
+		if ( pipelined ) {
+			return new PipelinedBatch( key, statementGroup, batchSize, jdbcCoordinator, getExecutor() );
+		}
+
+		return new BatchImpl( key, statementGroup, batchSize, jdbcCoordinator );
+	}
+
+	private ExecutorService getExecutor() {
+		ExecutorService executor = this.executor;
+		if ( executor == null ) {
+			synchronized ( this ) {
+				executor = this.executor;
+				if ( executor == null ) {
+					// a bounded number of threads and queued executions: when both are exhausted,
+					// the flushing thread executes its batch itself, as if it weren't pipelined
+					final int threads = Runtime.getRuntime().availableProcessors();
+					final ThreadPoolExecutor threadPool = new ThreadPoolExecutor(
+							threads,
+							threads,
+							60,
+							TimeUnit.SECONDS,
+							new ArrayBlockingQueue<>( threads ),
+							runnable -> {
+								final Thread thread = new Thread( runnable, "Hibernate pipelined batch execution" );
+								thread.setDaemon( true );
+								return thread;
+							},
+							new ThreadPoolExecutor.CallerRunsPolicy()
+					);
+					threadPool.allowCoreThreadTimeOut( true );
+					executor = threadPool;
+					this.executor = executor;
+				}
+			}
+		}
+		return executor;
+	}
+
+	@Override
+	public void stop() {
+		final ExecutorService executor = this.executor;
+		if ( executor != null ) {
+			executor.shutdown();
+			this.executor = null;
+		}
 	}
 
 
@@ -259,54 +259,83 @@ public class BatchImpl implements Batch {
 			);
 		}
 
+		try {
+			executeStatements( batchPosition );
+		}
+		finally {
+			batchPosition = 0;
+		}
+	}
+
+	/**
+	 * Execute the statements of the batch
+	 *
+	 * @param batchedCount The number of times {@link #addToBatch} was called
+	 * since the last execution
+	 */
+	protected void executeStatements(int batchedCount) {
 		//noinspection deprecation
 		final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
-		try {
-			getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
-				final String sql = statementDetails.getSqlString();
-				final PreparedStatement statement = statementDetails.getStatement();
+		getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
+			final String sql = statementDetails.getSqlString();
+			final PreparedStatement statement = statementDetails.getStatement();
 
-				if ( statement == null ) {
-					return;
-				}
+			if ( statement == null ) {
+				return;
+			}
 
-				try {
-					if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
-						final int[] rowCounts;
-						try {
-							observer.jdbcExecuteBatchStart();
-							rowCounts = statement.executeBatch();
-						}
-						finally {
-							observer.jdbcExecuteBatchEnd();
-						}
-						checkRowCounts( rowCounts, statementDetails );
+			try {
+				if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+					final int[] rowCounts;
+					try {
+						observer.jdbcExecuteBatchStart();
+						rowCounts = statement.executeBatch();
 					}
-					else {
-						statement.executeBatch();
+					finally {
+						observer.jdbcExecuteBatchEnd();
 					}
+					checkRowCounts( rowCounts, statementDetails, batchedCount );
 				}
-				catch (SQLException e) {
-					abortBatch( e );
-					BATCH_MESSAGE_LOGGER.unableToExecuteBatch( e, sql );
-					throw sqlExceptionHelper.convert( e, "could not execute batch", sql );
-				}
-				catch (RuntimeException re) {
-					abortBatch( re );
-					BATCH_MESSAGE_LOGGER.unableToExecuteBatch( re, sql );
-					throw re;
+				else {
+					statement.executeBatch();
 				}
-			} );
-		}
-		finally {
-			batchPosition = 0;
-		}
+			}
+			catch (SQLException e) {
+				throw executionFailed( e, sql );
+			}
+			catch (RuntimeException re) {
+				throw executionFailed( re, sql );
+			}
+		} );
+	}
+
+	/**
+	 * Abort the batch after the execution of one of its statements failed
+	 *
+	 * @return The exception to throw
+	 */
+	protected final RuntimeException executionFailed(SQLException e, String sql) {
+		abortBatch( e );
+		BATCH_MESSAGE_LOGGER.unableToExecuteBatch( e, sql );
+		return sqlExceptionHelper.convert( e, "could not execute batch", sql );
+	}
+
+	/**
+	 * Abort the batch after the execution of one of its statements failed
+	 *
+	 * @return The exception to throw
+	 */
+	protected final RuntimeException executionFailed(RuntimeException re, String sql) {
+		abortBatch( re );
+		BATCH_MESSAGE_LOGGER.unableToExecuteBatch( re, sql );
+		return re;
 	}
 
-	private void checkRowCounts(int[] rowCounts, PreparedStatementDetails statementDetails) throws SQLException, HibernateException {
+	protected void checkRowCounts(int[] rowCounts, PreparedStatementDetails statementDetails, int batchedCount)
+			throws SQLException, HibernateException {
 		final int numberOfRowCounts = rowCounts.length;
-		if ( batchPosition != 0 ) {
-			final int expectedNumberOfCounts = batchPosition / getStatementGroup().getNumberOfStatements();
+		if ( batchedCount != 0 ) {
+			final int expectedNumberOfCounts = batchedCount / getStatementGroup().getNumberOfStatements();
 			if ( numberOfRowCounts != expectedNumberOfCounts ) {
 				JDBC_MESSAGE_LOGGER.unexpectedRowCounts(
 						statementDetails.getMutatingTableDetails().getTableName(),
@@ -0,0 +1,343 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.hibernate.StaleStateException;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupSingleTable;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.jdbc.Expectations;
+import org.hibernate.jdbc.TooManyRowsAffectedException;
+import org.hibernate.sql.model.MutationType;
+import org.hibernate.sql.model.PreparableMutationOperation;
+import org.hibernate.sql.model.TableMapping;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_DEBUG_ENABLED;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_MESSAGE_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_TRACE_ENABLED;
+import static org.hibernate.sql.model.ModelMutationLogging.MODEL_MUTATION_LOGGER;
+import static org.hibernate.sql.model.ModelMutationLogging.MODEL_MUTATION_LOGGER_TRACE_ENABLED;
+
+/**
+ * Batch of inserts into a single table which, rather than relying on
+ * {@link PreparedStatement#addBatch()}, collects the parameter bindings
+ * of each row and executes them as one multi-row
+ * {@code insert into ... values (...), (...), ...} statement.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_MULTI_ROW_INSERTS
+ */
+public class MultiRowInsertBatch implements Batch {
+	private static final String VALUES = ") values (";
+
+	/**
+	 * Whether the rows of the given group can be inserted using a multi-row insert
+	 */
+	public static boolean isApplicable(PreparedStatementGroup statementGroup, Dialect dialect) {
+		if ( !dialect.supportsMultiRowInsert() || !( statementGroup instanceof PreparedStatementGroupSingleTable ) ) {
+			return false;
+		}
+
+		final PreparableMutationOperation operation =
+				( (PreparedStatementGroupSingleTable) statementGroup ).getMutationOperation();
+		if ( operation.getMutationType() != MutationType.INSERT
+				|| operation.isCallable()
+				|| operation.getParameterBinders().isEmpty()
+				|| ( operation.getExpectation() != Expectations.NONE
+						&& operation.getExpectation() != Expectations.BASIC ) ) {
+			return false;
+		}
+
+		final TableMapping.MutationDetails insertDetails = operation.getTableDetails().getInsertDetails();
+		if ( insertDetails != null && insertDetails.getCustomSql() != null ) {
+			return false;
+		}
+
+		// we only know how to rewrite the standard rendering, with no returning clause
+		final String sql = operation.getSqlString();
+		return sql.endsWith( ")" ) && sql.indexOf( VALUES ) == sql.lastIndexOf( VALUES ) && sql.contains( VALUES );
+	}
+
+	private final BatchKey key;
+	private final int batchSizeToUse;
+	private final PreparedStatementGroupSingleTable statementGroup;
+
+	private final JdbcCoordinator jdbcCoordinator;
+	private final SqlStatementLogger sqlStatementLogger;
+	private final SqlExceptionHelper sqlExceptionHelper;
+
+	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
+
+	private final String valuesTuple;
+	private final int parametersPerRow;
+	private final int rowsPerStatement;
+
+	private final List<Binding[]> rows;
+	private String fullStatementSql;
+	private boolean batchExecuted;
+
+	public MultiRowInsertBatch(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator) {
+		this.key = key;
+		this.statementGroup = (PreparedStatementGroupSingleTable) statementGroup;
+		this.batchSizeToUse = batchSizeToUse;
+		this.jdbcCoordinator = jdbcCoordinator;
+
+		final JdbcServices jdbcServices = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getJdbcServices();
+		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
+		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
+
+		final PreparableMutationOperation operation = this.statementGroup.getMutationOperation();
+		final String sql = operation.getSqlString();
+		this.valuesTuple = sql.substring( sql.lastIndexOf( VALUES ) + VALUES.length() - 1 );
+		this.parametersPerRow = operation.getParameterBinders().size();
+
+		final int parameterCountLimit = jdbcServices.getDialect().getParameterCountLimit();
+		this.rowsPerStatement = parameterCountLimit > 0
+				? Math.max( 1, Math.min( batchSizeToUse, parameterCountLimit / parametersPerRow ) )
+				: batchSizeToUse;
+		this.rows = new ArrayList<>( batchSizeToUse );
+
+		if ( BATCH_TRACE_ENABLED ) {
+			BATCH_LOGGER.tracef(
+					"Created multi-row insert Batch (%s, %s rows per statement) - `%s`",
+					batchSizeToUse,
+					rowsPerStatement,
+					key.toLoggableString()
+			);
+		}
+	}
+
+	@Override
+	public final BatchKey getKey() {
+		return key;
+	}
+
+	@Override
+	public PreparedStatementGroup getStatementGroup() {
+		return statementGroup;
+	}
+
+	@Override
+	public void addObserver(BatchObserver observer) {
+		observers.add( observer );
+	}
+
+	@Override
+	public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+		final PreparedStatementDetails statementDetails = statementGroup.getSingleStatementDetails();
+		final TableMapping tableDetails = statementDetails.getMutatingTableDetails();
+		if ( inclusionChecker != null && !inclusionChecker.include( tableDetails ) ) {
+			if ( MODEL_MUTATION_LOGGER_TRACE_ENABLED ) {
+				MODEL_MUTATION_LOGGER.tracef(
+						"Skipping addBatch for table : %s (batch-position=%s)",
+						tableDetails.getTableName(),
+						rows.size() + 1
+				);
+			}
+			return;
+		}
+
+		if ( BATCH_TRACE_ENABLED ) {
+			BATCH_LOGGER.tracef(
+					"Adding to multi-row insert (%s) - `%s`",
+					rows.size() + 1,
+					getKey().toLoggableString()
+			);
+		}
+
+		// the bindings are cleared by afterStatement(), so keep our own copy
+		final BindingGroup bindingGroup = jdbcValueBindings.getBindingGroup( tableDetails.getTableName() );
+		rows.add( bindingGroup == null ? new Binding[0] : bindingGroup.getBindings().toArray( new Binding[0] ) );
+		jdbcValueBindings.afterStatement( tableDetails );
+
+		if ( rows.size() == batchSizeToUse ) {
+			notifyObserversImplicitExecution();
+			performExecution();
+			batchExecuted = true;
+		}
+	}
+
+	@Override
+	public void execute() {
+		notifyObserversExplicitExecution();
+		try {
+			if ( rows.isEmpty() ) {
+				if ( !batchExecuted && BATCH_DEBUG_ENABLED ) {
+					BATCH_LOGGER.debugf(
+							"No batched statements to execute - %s",
+							getKey().toLoggableString()
+					);
+				}
+			}
+			else {
+				performExecution();
+			}
+		}
+		finally {
+			statementGroup.release();
+			jdbcCoordinator.afterStatementExecution();
+		}
+	}
+
+	protected void performExecution() {
+		if ( BATCH_TRACE_ENABLED ) {
+			BATCH_LOGGER.tracef(
+					"Executing multi-row insert (%s / %s) - `%s`",
+					rows.size(),
+					batchSizeToUse,
+					getKey().toLoggableString()
+			);
+		}
+
+		try {
+			for ( int start = 0; start < rows.size(); start += rowsPerStatement ) {
+				executeRows( start, Math.min( rows.size(), start + rowsPerStatement ) );
+			}
+		}
+		finally {
+			rows.clear();
+		}
+	}
+
+	private void executeRows(int start, int end) {
+		final int numberOfRows = end - start;
+		final String sql = multiRowSql( numberOfRows );
+		final SharedSessionContractImplementor session = (SharedSessionContractImplementor) jdbcCoordinator.getJdbcSessionOwner();
+
+		sqlStatementLogger.logStatement( sql );
+		final PreparedStatement statement = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
+		try {
+			for ( int i = 0; i < numberOfRows; i++ ) {
+				final int offset = i * parametersPerRow;
+				for ( Binding binding : rows.get( start + i ) ) {
+					binding.getValueBinder().bind(
+							statement,
+							binding.getValue(),
+							offset + binding.getPosition(),
+							session
+					);
+				}
+			}
+
+			final int rowCount = jdbcCoordinator.getResultSetReturn().executeUpdate( statement, sql );
+			checkRowCount( rowCount, numberOfRows, sql );
+		}
+		catch (SQLException e) {
+			abortBatch( e );
+			BATCH_MESSAGE_LOGGER.unableToExecuteBatch( e, sql );
+			throw sqlExceptionHelper.convert( e, "could not execute multi-row insert", sql );
+		}
+		catch (RuntimeException re) {
+			abortBatch( re );
+			BATCH_MESSAGE_LOGGER.unableToExecuteBatch( re, sql );
+			throw re;
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+		}
+	}
+
+	private String multiRowSql(int numberOfRows) {
+		if ( numberOfRows == rowsPerStatement && fullStatementSql != null ) {
+			return fullStatementSql;
+		}
+
+		final String singleRowSql = statementGroup.getMutationOperation().getSqlString();
+		final StringBuilder sql = new StringBuilder( singleRowSql.length() + ( valuesTuple.length() + 1 ) * ( numberOfRows - 1 ) );
+		sql.append( singleRowSql );
+		for ( int i = 1; i < numberOfRows; i++ ) {
+			sql.append( ',' ).append( valuesTuple );
+		}
+
+		final String result = sql.toString();
+		if ( numberOfRows == rowsPerStatement ) {
+			fullStatementSql = result;
+		}
+		return result;
+	}
+
+	private void checkRowCount(int rowCount, int numberOfRows, String sql) {
+		final Expectation expectation = statementGroup.getMutationOperation().getExpectation();
+		if ( expectation == Expectations.NONE || rowCount < 0 || rowCount == numberOfRows ) {
+			return;
+		}
+
+		if ( rowCount < numberOfRows ) {
+			throw new StaleStateException(
+					"Multi-row insert returned unexpected row count; actual row count: " + rowCount
+							+ "; expected: " + numberOfRows + "; statement executed: " + sql
+			);
+		}
+		throw new TooManyRowsAffectedException(
+				"Multi-row insert returned unexpected row count; actual row count: " + rowCount
+						+ "; expected: " + numberOfRows,
+				numberOfRows,
+				rowCount
+		);
+	}
+
+	protected final void notifyObserversExplicitExecution() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchExplicitlyExecuted();
+		}
+	}
+
+	protected final void notifyObserversImplicitExecution() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchImplicitlyExecuted();
+		}
+	}
+
+	protected void abortBatch(Exception cause) {
+		try {
+			jdbcCoordinator.abortBatch();
+		}
+		catch (RuntimeException e) {
+			cause.addSuppressed( e );
+		}
+	}
+
+	@Override
+	public void release() {
+		if ( !rows.isEmpty() ) {
+			BATCH_MESSAGE_LOGGER.batchContainedStatementsOnRelease();
+			rows.clear();
+		}
+		statementGroup.release();
+		jdbcCoordinator.afterStatementExecution();
+		observers.clear();
+	}
+
+	@Override
+	public String toString() {
+		return "MultiRowInsertBatch(" + getKey().toLoggableString() + ")";
+	}
+}
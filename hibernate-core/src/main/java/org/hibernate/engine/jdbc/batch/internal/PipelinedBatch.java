@@ -0,0 +1,276 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_TRACE_ENABLED;
+
+/**
+ * A {@link BatchImpl} which executes its full batches asynchronously, so that the
+ * flush can prepare the next batched statements while the database processes the
+ * previous batch.
+ * <p>
+ * Only the calls to {@link PreparedStatement#executeBatch()} are handed to the
+ * executor. Everything else, including the {@link JdbcObserver} notifications, the
+ * verification of the row counts, and the release of the statements, happens on the
+ * thread of the session.
+ * <p>
+ * A JDBC connection must not be used by two threads at once, so while an execution
+ * is pending the value bindings of the following statements are buffered, and only
+ * bound once the execution completed. At most one execution is pending at a time,
+ * and the pending execution is always completed before the connection is used for
+ * anything else, so statements are executed in the same order as with a
+ * {@link BatchImpl}. A failed execution, including unexpected row counts, aborts
+ * the batch and is reported to the session when it next uses the batch or the
+ * connection.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_PIPELINED
+ */
+public class PipelinedBatch extends BatchImpl {
+	private final int batchSize;
+	private final JdbcCoordinator jdbcCoordinator;
+	private final Executor executor;
+
+	private final List<BufferedBindings> bufferedBindings = new ArrayList<>();
+	private PendingExecution pendingExecution;
+	private boolean executingSynchronously;
+
+	public PipelinedBatch(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator,
+			Executor executor) {
+		super( key, statementGroup, batchSizeToUse, jdbcCoordinator );
+		this.batchSize = batchSizeToUse;
+		this.jdbcCoordinator = jdbcCoordinator;
+		this.executor = executor;
+	}
+
+	@Override
+	public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+		if ( pendingExecution != null ) {
+			if ( pendingExecution.isDone() || bufferedBindings.size() == batchSize ) {
+				// binding the buffered statements may start the next execution
+				completePendingExecution();
+			}
+			if ( pendingExecution != null ) {
+				bufferedBindings.add( new BufferedBindings( jdbcValueBindings, inclusionChecker ) );
+				return;
+			}
+		}
+		super.addToBatch( jdbcValueBindings, inclusionChecker );
+	}
+
+	/**
+	 * Wait for the pending execution of this batch, if any, and bind the buffered
+	 * statements, executing the batch on the calling thread if it fills up. Once
+	 * this returns, the connection is free for other statements.
+	 */
+	public void awaitPendingExecution() {
+		final boolean wasExecutingSynchronously = executingSynchronously;
+		executingSynchronously = true;
+		try {
+			completePendingExecution();
+		}
+		finally {
+			executingSynchronously = wasExecutingSynchronously;
+		}
+	}
+
+	private void completePendingExecution() {
+		if ( pendingExecution == null ) {
+			return;
+		}
+
+		final PendingExecution execution = pendingExecution;
+		pendingExecution = null;
+		try {
+			execution.complete();
+		}
+		catch (RuntimeException e) {
+			bufferedBindings.clear();
+			throw e;
+		}
+
+		final List<BufferedBindings> bindings = new ArrayList<>( bufferedBindings );
+		bufferedBindings.clear();
+		for ( BufferedBindings buffered : bindings ) {
+			super.addToBatch( buffered.jdbcValueBindings, buffered.inclusionChecker );
+		}
+	}
+
+	@Override
+	protected void executeStatements(int batchedCount) {
+		if ( executingSynchronously ) {
+			super.executeStatements( batchedCount );
+		}
+		else {
+			if ( BATCH_TRACE_ENABLED ) {
+				BATCH_LOGGER.tracef( "Executing JDBC batch asynchronously - `%s`", getKey().toLoggableString() );
+			}
+			pendingExecution = new PendingExecution( batchedCount );
+		}
+	}
+
+	@Override
+	public void execute() {
+		executingSynchronously = true;
+		try {
+			completePendingExecution();
+			super.execute();
+		}
+		finally {
+			executingSynchronously = false;
+		}
+	}
+
+	@Override
+	public void release() {
+		if ( pendingExecution != null ) {
+			final PendingExecution execution = pendingExecution;
+			pendingExecution = null;
+			execution.await();
+			execution.notifyObserverEnd();
+			if ( execution.failure != null ) {
+				BATCH_LOGGER.debug( "Asynchronous batch execution failed before release", execution.failure );
+			}
+		}
+		bufferedBindings.clear();
+		super.release();
+	}
+
+	@Override
+	public String toString() {
+		return "PipelinedBatch(" + getKey().toLoggableString() + ")";
+	}
+
+	/**
+	 * The asynchronous {@link PreparedStatement#executeBatch()} calls for the
+	 * statements of one full batch
+	 */
+	private class PendingExecution {
+		private final int batchedCount;
+		private final List<PreparedStatementDetails> statements = new ArrayList<>();
+		private final int[][] rowCounts;
+		private final CompletableFuture<Void> future;
+		private final JdbcObserver observer;
+
+		// written by the executor thread, and read once the future is done
+		private int failedStatement = -1;
+		private Exception failure;
+
+		private PendingExecution(int batchedCount) {
+			this.batchedCount = batchedCount;
+			getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
+				if ( statementDetails.getStatement() != null ) {
+					statements.add( statementDetails );
+				}
+			} );
+			this.rowCounts = new int[statements.size()][];
+
+			//noinspection deprecation
+			this.observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+			notifyObserverStart();
+			this.future = CompletableFuture.runAsync( this::executeBatches, executor );
+		}
+
+		private void executeBatches() {
+			for ( int i = 0; i < statements.size(); i++ ) {
+				try {
+					rowCounts[i] = statements.get( i ).getStatement().executeBatch();
+				}
+				catch (SQLException | RuntimeException e) {
+					failedStatement = i;
+					failure = e;
+					return;
+				}
+			}
+		}
+
+		private boolean isDone() {
+			return future.isDone();
+		}
+
+		private void await() {
+			// executeBatches() never completes the future exceptionally
+			future.join();
+		}
+
+		private void notifyObserverStart() {
+			for ( PreparedStatementDetails statementDetails : statements ) {
+				if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+					observer.jdbcExecuteBatchStart();
+				}
+			}
+		}
+
+		private void notifyObserverEnd() {
+			for ( PreparedStatementDetails statementDetails : statements ) {
+				if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+					observer.jdbcExecuteBatchEnd();
+				}
+			}
+		}
+
+		/**
+		 * Wait for the execution, and verify its outcome like {@link BatchImpl#executeStatements}
+		 */
+		private void complete() {
+			await();
+			notifyObserverEnd();
+			for ( int i = 0; i < statements.size(); i++ ) {
+				final PreparedStatementDetails statementDetails = statements.get( i );
+				final String sql = statementDetails.getSqlString();
+				if ( i == failedStatement ) {
+					if ( failure instanceof SQLException ) {
+						throw executionFailed( (SQLException) failure, sql );
+					}
+					else {
+						throw executionFailed( (RuntimeException) failure, sql );
+					}
+				}
+				if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+					try {
+						checkRowCounts( rowCounts[i], statementDetails, batchedCount );
+					}
+					catch (SQLException e) {
+						throw executionFailed( e, sql );
+					}
+					catch (RuntimeException re) {
+						throw executionFailed( re, sql );
+					}
+				}
+			}
+		}
+	}
+
+	private static class BufferedBindings {
+		private final JdbcValueBindings jdbcValueBindings;
+		private final TableInclusionChecker inclusionChecker;
+
+		private BufferedBindings(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+			this.jdbcValueBindings = jdbcValueBindings;
+			this.inclusionChecker = inclusionChecker;
+		}
+	}
+}
@@ -12,17 +12,26 @@ import java.sql.Connection;
 import java.sql.Driver;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.ArrayDeque;
 import java.util.Enumeration;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
 import org.hibernate.Internal;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
@@ -61,6 +70,8 @@ public class DriverManagerConnectionProviderImpl
 	public static final String INITIAL_SIZE = "hibernate.connection.initial_pool_size";
 	// in TimeUnit.SECONDS
 	public static final String VALIDATION_INTERVAL = "hibernate.connection.pool_validation_interval";
+	// in TimeUnit.MILLISECONDS, 0 to fail immediately when the pool is exhausted
+	public static final String ACQUISITION_TIMEOUT = "hibernate.connection.pool_acquisition_timeout";
 	public static final String INIT_SQL ="hibernate.connection.init_sql";
 	public static final String CONNECTION_CREATOR_FACTORY ="hibernate.connection.creator_factory_class";
 
@@ -92,6 +103,7 @@ public class DriverManagerConnectionProviderImpl
 		final int minSize = ConfigurationHelper.getInt( MIN_SIZE, configurationValues, 1 );
 		final int maxSize = ConfigurationHelper.getInt( AvailableSettings.POOL_SIZE, configurationValues, 20 );
 		final int initialSize = ConfigurationHelper.getInt( INITIAL_SIZE, configurationValues, minSize );
+		final long acquisitionTimeout = ConfigurationHelper.getLong( ACQUISITION_TIMEOUT, configurationValues, 0 );
 
 		ConnectionCreator connectionCreator = buildCreator( configurationValues, serviceRegistry );
 		PooledConnections.Builder pooledConnectionBuilder = new PooledConnections.Builder(
@@ -101,6 +113,7 @@ public class DriverManagerConnectionProviderImpl
 		pooledConnectionBuilder.initialSize( initialSize );
 		pooledConnectionBuilder.minSize( minSize );
 		pooledConnectionBuilder.maxSize( maxSize );
+		pooledConnectionBuilder.acquisitionTimeout( acquisitionTimeout );
 		pooledConnectionBuilder.validator( this );
 		return pooledConnectionBuilder.build();
 	}
@@ -335,21 +348,69 @@ public class DriverManagerConnectionProviderImpl
 		return true;
 	}
 
+	/**
+	 * The number of connections currently opened by the pool, in use or idle.
+	 */
+	public int getOpenConnectionCount() {
+		return state.pool.allConnections.size();
+	}
+
+	/**
+	 * The number of connections currently idle in the pool.
+	 */
+	public int getIdleConnectionCount() {
+		return state.pool.size();
+	}
+
+	/**
+	 * The number of times a connection was requested while the pool was exhausted,
+	 * and the request had to wait for a connection to be returned.
+	 * <p>
+	 * This count covers every session factory sharing this provider, which is why
+	 * it is kept here rather than in the {@link org.hibernate.stat.Statistics}.
+	 *
+	 * @see #ACQUISITION_TIMEOUT
+	 */
+	public long getAcquisitionWaitCount() {
+		return state.pool.acquisitionWaitCount.sum();
+	}
+
+	/**
+	 * The number of times a connection could not be obtained from the exhausted pool,
+	 * for every session factory sharing this provider.
+	 */
+	public long getAcquisitionFailureCount() {
+		return state.pool.acquisitionFailureCount.sum();
+	}
+
 	@Internal
 	public void releasePooledConnections() {
 		state.pool.releasePooledConnections();
 	}
 
 	public static class PooledConnections {
-
 		private final ConcurrentLinkedQueue<Connection> allConnections = new ConcurrentLinkedQueue<>();
-		private final ConcurrentLinkedQueue<Connection> availableConnections = new ConcurrentLinkedQueue<>();
+		// the most recently returned connection comes first, so that the connections which are reused
+		// stay warm, and the idle ones end up last, where they are removed from when shrinking the pool
+		private final ConcurrentLinkedDeque<Connection> availableConnections = new ConcurrentLinkedDeque<>();
+		// the requests waiting for a connection, in arrival order: a returned connection is handed off to
+		// the first of them, and a waiter completed with null may open a connection itself instead
+		private final ArrayDeque<CompletableFuture<Connection>> waiters = new ArrayDeque<>();
+		// the number of connections being opened, which already count towards the maximum size
+		private int pendingConnections;
+		// guards the waiters, the pending connections, and the decision to make a connection available
+		// or to hand it off; a lock rather than a monitor, since requests block while waiting
+		private final Lock lock = new ReentrantLock();
 
 		private final ConnectionCreator connectionCreator;
 		private final ConnectionValidator connectionValidator;
 		private final boolean autoCommit;
 		private final int minSize;
 		private final int maxSize;
+		private final long acquisitionTimeout;
+
+		private final LongAdder acquisitionWaitCount = new LongAdder();
+		private final LongAdder acquisitionFailureCount = new LongAdder();
 
 		private volatile boolean primed;
 
@@ -363,6 +424,7 @@ public class DriverManagerConnectionProviderImpl
 			autoCommit = builder.autoCommit;
 			maxSize = builder.maxSize;
 			minSize = builder.minSize;
+			acquisitionTimeout = builder.acquisitionTimeout;
 			CONNECTIONS_MESSAGE_LOGGER.hibernateConnectionPoolSize( maxSize, minSize );
 			addConnections( builder.initialSize );
 		}
@@ -392,7 +454,53 @@ public class DriverManagerConnectionProviderImpl
 		public void add(Connection conn) throws SQLException {
 			final Connection connection = releaseConnection( conn );
 			if ( connection != null ) {
-				availableConnections.offer( connection );
+				makeAvailable( connection );
+			}
+		}
+
+		private void makeAvailable(Connection connection) {
+			while ( true ) {
+				final CompletableFuture<Connection> waiter;
+				lock.lock();
+				try {
+					waiter = waiters.pollFirst();
+					if ( waiter == null ) {
+						availableConnections.offerFirst( connection );
+						return;
+					}
+				}
+				finally {
+					lock.unlock();
+				}
+				// the waiter may have timed out in the meantime
+				if ( waiter.complete( connection ) ) {
+					return;
+				}
+			}
+		}
+
+		private void connectionRemoved() {
+			// a waiting request may open a connection instead
+			while ( true ) {
+				final CompletableFuture<Connection> waiter;
+				lock.lock();
+				try {
+					if ( allConnections.size() + pendingConnections >= maxSize ) {
+						return;
+					}
+					waiter = waiters.pollFirst();
+					if ( waiter == null ) {
+						return;
+					}
+					pendingConnections++;
+				}
+				finally {
+					lock.unlock();
+				}
+				if ( waiter.complete( null ) ) {
+					return;
+				}
+				connectionNotOpened();
 			}
 		}
 
@@ -416,22 +524,109 @@ public class DriverManagerConnectionProviderImpl
 		public Connection poll() throws SQLException {
 			Connection conn;
 			do {
-				conn = availableConnections.poll();
-				if ( conn == null ) {
-					synchronized (allConnections) {
-						if ( allConnections.size() < maxSize ) {
-							addConnections( 1 );
-							return poll();
-						}
-					}
-					throw new HibernateException(
-							"The internal connection pool has reached its maximum size and no connection is currently available" );
-				}
+				conn = acquireConnection();
 				conn = prepareConnection( conn );
 			} while ( conn == null );
 			return conn;
 		}
 
+		private Connection acquireConnection() {
+			final CompletableFuture<Connection> waiter;
+			lock.lock();
+			try {
+				final Connection conn = availableConnections.pollFirst();
+				if ( conn != null ) {
+					return conn;
+				}
+				if ( allConnections.size() + pendingConnections < maxSize ) {
+					pendingConnections++;
+					waiter = null;
+				}
+				else if ( acquisitionTimeout > 0 ) {
+					waiter = new CompletableFuture<>();
+					waiters.addLast( waiter );
+				}
+				else {
+					acquisitionFailureCount.increment();
+					throw new HibernateException(
+							"The internal connection pool has reached its maximum size and no connection is currently available" );
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+			if ( waiter == null ) {
+				return openConnection();
+			}
+			acquisitionWaitCount.increment();
+			final Connection conn = awaitConnection( waiter );
+			// a null connection means that the pool has room for another connection
+			return conn == null ? openConnection() : conn;
+		}
+
+		private Connection openConnection() {
+			// the connection is opened outside the lock, the pending count reserves its place in the pool
+			final Connection connection;
+			try {
+				connection = connectionCreator.createConnection();
+			}
+			catch (RuntimeException e) {
+				connectionNotOpened();
+				connectionRemoved();
+				throw e;
+			}
+			lock.lock();
+			try {
+				allConnections.add( connection );
+				pendingConnections--;
+			}
+			finally {
+				lock.unlock();
+			}
+			return connection;
+		}
+
+		private void connectionNotOpened() {
+			lock.lock();
+			try {
+				pendingConnections--;
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private Connection awaitConnection(CompletableFuture<Connection> waiter) {
+			try {
+				return waiter.get( acquisitionTimeout, TimeUnit.MILLISECONDS );
+			}
+			catch (TimeoutException | InterruptedException e) {
+				if ( !waiter.cancel( false ) ) {
+					// a connection was handed off just as the wait ended
+					return waiter.join();
+				}
+				lock.lock();
+				try {
+					waiters.remove( waiter );
+				}
+				finally {
+					lock.unlock();
+				}
+				acquisitionFailureCount.increment();
+				if ( e instanceof InterruptedException ) {
+					Thread.currentThread().interrupt();
+					throw new HibernateException( "Interrupted while waiting for a connection from the internal connection pool", e );
+				}
+				throw new HibernateException(
+						"The internal connection pool has reached its maximum size and no connection became available within "
+								+ acquisitionTimeout + "ms" );
+			}
+			catch (ExecutionException e) {
+				// waiters are never completed exceptionally
+				throw new AssertionFailure( "Unexpected failure while waiting for a connection", e.getCause() );
+			}
+		}
+
 		protected Connection prepareConnection(Connection conn) {
 			Exception t = null;
 			try {
@@ -460,6 +655,7 @@ public class DriverManagerConnectionProviderImpl
 			}
 			finally {
 				allConnections.remove( conn );
+				connectionRemoved();
 			}
 		}
 
@@ -483,7 +679,7 @@ public class DriverManagerConnectionProviderImpl
 
 		protected void removeConnections(int numberToBeRemoved) {
 			for ( int i = 0; i < numberToBeRemoved; i++ ) {
-				Connection connection = availableConnections.poll();
+				Connection connection = availableConnections.pollLast();
 				try {
 					if ( connection != null ) {
 						connection.close();
@@ -500,7 +696,7 @@ public class DriverManagerConnectionProviderImpl
 			for ( int i = 0; i < numberOfConnections; i++ ) {
 				Connection connection = connectionCreator.createConnection();
 				allConnections.add( connection );
-				availableConnections.add( connection );
+				makeAvailable( connection );
 			}
 		}
 
@@ -522,6 +718,7 @@ public class DriverManagerConnectionProviderImpl
 			private int initialSize = 1;
 			private int minSize = 1;
 			private int maxSize = 20;
+			private long acquisitionTimeout;
 
 			public Builder(ConnectionCreator connectionCreator, boolean autoCommit) {
 				this.connectionCreator = connectionCreator;
@@ -543,6 +740,11 @@ public class DriverManagerConnectionProviderImpl
 				return this;
 			}
 
+			public Builder acquisitionTimeout(long acquisitionTimeout) {
+				this.acquisitionTimeout = acquisitionTimeout;
+				return this;
+			}
+
 			public Builder validator(ConnectionValidator connectionValidator) {
 				this.connectionValidator = connectionValidator;
 				return this;
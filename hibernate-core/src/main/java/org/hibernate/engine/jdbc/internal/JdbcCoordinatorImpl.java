@@ -10,6 +10,7 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -18,6 +19,7 @@ import java.util.function.Supplier;
 import org.hibernate.ConnectionReleaseMode;
 import org.hibernate.HibernateException;
 import org.hibernate.TransactionException;
+import org.hibernate.engine.jdbc.batch.internal.PipelinedBatch;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
@@ -40,6 +42,7 @@ import org.hibernate.resource.jdbc.internal.ResourceRegistryStandardImpl;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.resource.transaction.backend.jdbc.spi.JdbcResourceTransaction;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import static org.hibernate.ConnectionReleaseMode.AFTER_STATEMENT;
 
@@ -62,6 +65,8 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	private transient long transactionTimeOutInstant = -1;
 
+	private transient StatisticsImplementor statistics;
+
 	private Statement lastQuery;
 	private final boolean isUserSuppliedConnection;
 
@@ -82,7 +87,9 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		this.isUserSuppliedConnection = userSuppliedConnection != null;
 
 		final ResourceRegistry resourceRegistry = new ResourceRegistryStandardImpl(
-				owner.getJdbcSessionContext().getObserver()
+				owner.getJdbcSessionContext().getObserver(),
+				// statements must not outlive the connection, which is handed back to the application
+				isUserSuppliedConnection ? 0 : owner.getJdbcSessionContext().getStatementCacheSize()
 		);
 		if ( isUserSuppliedConnection ) {
 			this.logicalConnection = new LogicalConnectionProvidedImpl( userSuppliedConnection, resourceRegistry );
@@ -285,6 +292,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public <T> T coordinateWork(WorkExecutorVisitable<T> work) {
+		awaitPendingBatchExecution();
 		final Connection connection = getLogicalConnection().getPhysicalConnection();
 		try {
 			final T result = work.accept( new WorkExecutor<>(), connection );
@@ -303,6 +311,44 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 				: ! hasRegisteredResources();
 	}
 
+	/**
+	 * Wait for the asynchronous execution of the current batch, if it is
+	 * {@linkplain PipelinedBatch pipelined}, before the connection is used
+	 * for another statement.
+	 */
+	void awaitPendingBatchExecution() {
+		if ( currentBatch instanceof PipelinedBatch ) {
+			( (PipelinedBatch) currentBatch ).awaitPendingExecution();
+		}
+	}
+
+	/**
+	 * Take an idle prepared statement for the given SQL out of the statement
+	 * cache, if statements are cached.
+	 *
+	 * @return The idle statement, or {@code null} if it must be prepared
+	 */
+	PreparedStatement takeCachedStatement(String sql) {
+		final ResourceRegistry resourceRegistry = logicalConnection.getResourceRegistry();
+		if ( !resourceRegistry.isStatementCacheEnabled() ) {
+			return null;
+		}
+
+		final PreparedStatement statement = resourceRegistry.takeCachedStatement( sql );
+		if ( statistics == null ) {
+			statistics = owner.getJdbcSessionContext().getServiceRegistry().getService( StatisticsImplementor.class );
+		}
+		if ( statistics.isStatisticsEnabled() ) {
+			if ( statement == null ) {
+				statistics.preparedStatementCacheMiss();
+			}
+			else {
+				statistics.preparedStatementCacheHit();
+			}
+		}
+		return statement;
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public void registerLastQuery(Statement statement) {
@@ -14,6 +14,7 @@ import org.hibernate.AssertionFailure;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.MutationStatementPreparer;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.resource.jdbc.ResourceRegistry;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
@@ -44,6 +45,11 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 						? connection().prepareCall( sql )
 						: connection().prepareStatement( sql );
 			}
+
+			@Override
+			protected boolean isCacheable() {
+				return !isCallable;
+			}
 		};
 	}
 
@@ -89,19 +95,27 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 		}
 
 		public PreparedStatement prepareStatement() {
+			jdbcCoordinator.awaitPendingBatchExecution();
 			try {
+				final PreparedStatement cachedStatement = isCacheable() ? jdbcCoordinator.takeCachedStatement( sql ) : null;
 				final PreparedStatement preparedStatement;
-				//noinspection deprecation
-				final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner()
-						.getJdbcSessionContext()
-						.getObserver();
-				try {
-					observer.jdbcPrepareStatementStart();
-					preparedStatement = doPrepare();
+				if ( cachedStatement != null ) {
+					preparedStatement = cachedStatement;
 					setStatementTimeout( preparedStatement );
 				}
-				finally {
-					observer.jdbcPrepareStatementEnd();
+				else {
+					//noinspection deprecation
+					final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner()
+							.getJdbcSessionContext()
+							.getObserver();
+					try {
+						observer.jdbcPrepareStatementStart();
+						preparedStatement = doPrepare();
+						setStatementTimeout( preparedStatement );
+					}
+					finally {
+						observer.jdbcPrepareStatementEnd();
+					}
 				}
 				postProcess( preparedStatement );
 				return preparedStatement;
@@ -113,8 +127,18 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 
 		protected abstract PreparedStatement doPrepare() throws SQLException;
 
+		protected boolean isCacheable() {
+			return false;
+		}
+
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
-			jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( preparedStatement, true );
+			final ResourceRegistry resourceRegistry = jdbcCoordinator.getLogicalConnection().getResourceRegistry();
+			if ( isCacheable() ) {
+				resourceRegistry.registerCacheable( preparedStatement, sql, true );
+			}
+			else {
+				resourceRegistry.register( preparedStatement, true );
+			}
 //			logicalConnection().notifyObserversStatementPrepared();
 		}
 
@@ -17,6 +17,7 @@ import org.hibernate.ScrollMode;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.StatementPreparer;
+import org.hibernate.resource.jdbc.ResourceRegistry;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
@@ -61,6 +62,7 @@ class StatementPreparerImpl implements StatementPreparer {
 	
 	@Override
 	public Statement createStatement() {
+		jdbcCoordinator.awaitPendingBatchExecution();
 		try {
 			final Statement statement = connection().createStatement();
 			jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( statement, true );
@@ -90,6 +92,11 @@ class StatementPreparerImpl implements StatementPreparer {
 						? connection().prepareCall( sql )
 						: connection().prepareStatement( sql );
 			}
+
+			@Override
+			protected boolean isCacheable() {
+				return !isCallable;
+			}
 		};
 	}
 
@@ -149,6 +156,11 @@ class StatementPreparerImpl implements StatementPreparer {
 								? connection().prepareCall( sql )
 								: connection().prepareStatement( sql );
 				}
+
+				@Override
+				protected boolean isCacheable() {
+					return !isCallable;
+				}
 			}.prepareStatement();
 			jdbcCoordinator.registerLastQuery( ps );
 			return ps;
@@ -167,18 +179,26 @@ class StatementPreparerImpl implements StatementPreparer {
 		}
 
 		public PreparedStatement prepareStatement() {
+			jdbcCoordinator.awaitPendingBatchExecution();
 			try {
 				jdbcServices.getSqlStatementLogger().logStatement( sql );
 
+				final PreparedStatement cachedStatement = isCacheable() ? jdbcCoordinator.takeCachedStatement( sql ) : null;
 				final PreparedStatement preparedStatement;
-				final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
-				try {
-					observer.jdbcPrepareStatementStart();
-					preparedStatement = doPrepare();
+				if ( cachedStatement != null ) {
+					preparedStatement = cachedStatement;
 					setStatementTimeout( preparedStatement );
 				}
-				finally {
-					observer.jdbcPrepareStatementEnd();
+				else {
+					final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+					try {
+						observer.jdbcPrepareStatementStart();
+						preparedStatement = doPrepare();
+						setStatementTimeout( preparedStatement );
+					}
+					finally {
+						observer.jdbcPrepareStatementEnd();
+					}
 				}
 				postProcess( preparedStatement );
 				return preparedStatement;
@@ -190,8 +210,22 @@ class StatementPreparerImpl implements StatementPreparer {
 
 		protected abstract PreparedStatement doPrepare() throws SQLException;
 
+		/**
+		 * Whether the statement may be kept open for reuse once released,
+		 * that is, whether it is a plain statement which only depends on its SQL
+		 */
+		protected boolean isCacheable() {
+			return false;
+		}
+
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
-			jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( preparedStatement, true );
+			final ResourceRegistry resourceRegistry = jdbcCoordinator.getLogicalConnection().getResourceRegistry();
+			if ( isCacheable() ) {
+				resourceRegistry.registerCacheable( preparedStatement, sql, true );
+			}
+			else {
+				resourceRegistry.register( preparedStatement, true );
+			}
 //			logicalConnection().notifyObserversStatementPrepared();
 		}
 
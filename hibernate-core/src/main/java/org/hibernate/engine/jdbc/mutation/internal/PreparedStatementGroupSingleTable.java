@@ -35,6 +35,13 @@ public class PreparedStatementGroupSingleTable implements PreparedStatementGroup
 		this.session = session;
 	}
 
+	/**
+	 * The operation for which statements are prepared
+	 */
+	public PreparableMutationOperation getMutationOperation() {
+		return jdbcMutation;
+	}
+
 	protected TableMapping getMutatingTableDetails() {
 		return jdbcMutation.getTableDetails();
 	}
@@ -0,0 +1,123 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.offload.internal;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.hibernate.SharedSessionContract;
+import org.hibernate.engine.offload.spi.BlockingWorkExecutor;
+
+/**
+ * Base support for offloading sessions, which hand the operations on the underlying
+ * session to the {@link BlockingWorkExecutor} one at a time, in call order.
+ *
+ * @param <S> The type of the underlying session
+ */
+abstract class AbstractOffloadingSession<S extends SharedSessionContract> {
+	private final S delegate;
+	private final BlockingWorkExecutor executor;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	// completes once the last operation called completed
+	private CompletionStage<?> tail = CompletableFuture.completedFuture( null );
+
+	AbstractOffloadingSession(S delegate, BlockingWorkExecutor executor) {
+		this.delegate = delegate;
+		this.executor = executor;
+	}
+
+	/**
+	 * Offload an operation on the underlying session to the executor, once
+	 * the previous operation completed, whether it failed or not.
+	 */
+	<T> CompletionStage<T> offload(Function<S, T> operation) {
+		lock.lock();
+		try {
+			final CompletionStage<T> stage = tail.handle( (result, failure) -> null )
+					.thenCompose( ignored -> executor.execute( () -> operation.apply( delegate ) ) );
+			tail = stage;
+			return stage;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	CompletionStage<Void> offloadVoid(Consumer<S> operation) {
+		return offload( session -> {
+			operation.accept( session );
+			return null;
+		} );
+	}
+
+	<T> CompletionStage<T> transactionally(Supplier<CompletionStage<T>> work) {
+		final CompletableFuture<T> result = new CompletableFuture<>();
+		offloadVoid( session -> session.getTransaction().begin() )
+				.thenCompose( ignored -> work.get() )
+				.whenComplete( (value, failure) -> {
+					if ( failure == null ) {
+						offloadVoid( session -> session.getTransaction().commit() )
+								.whenComplete( (ignored, commitFailure) -> {
+									if ( commitFailure == null ) {
+										result.complete( value );
+									}
+									else {
+										result.completeExceptionally( commitFailure );
+									}
+								} );
+					}
+					else {
+						offloadVoid( AbstractOffloadingSession::rollbackIfActive )
+								.whenComplete( (ignored, rollbackFailure) -> {
+									if ( rollbackFailure != null ) {
+										failure.addSuppressed( rollbackFailure );
+									}
+									result.completeExceptionally( failure );
+								} );
+					}
+				} );
+		return result;
+	}
+
+	private static void rollbackIfActive(SharedSessionContract session) {
+		if ( session.getTransaction().isActive() ) {
+			session.getTransaction().rollback();
+		}
+	}
+
+	public CompletionStage<Void> close() {
+		return offloadVoid( SharedSessionContract::close );
+	}
+
+	/**
+	 * Close the given session once the given stage completed, completing the
+	 * returned stage with the outcome of the given stage.
+	 */
+	static <T> CompletionStage<T> closing(AbstractOffloadingSession<?> session, CompletionStage<T> stage) {
+		final CompletableFuture<T> result = new CompletableFuture<>();
+		stage.whenComplete( (value, failure) -> session.close().whenComplete( (ignored, closeFailure) -> {
+			if ( failure != null ) {
+				if ( closeFailure != null ) {
+					failure.addSuppressed( closeFailure );
+				}
+				result.completeExceptionally( failure );
+			}
+			else if ( closeFailure != null ) {
+				result.completeExceptionally( closeFailure );
+			}
+			else {
+				result.complete( value );
+			}
+		} ) );
+		return result;
+	}
+}
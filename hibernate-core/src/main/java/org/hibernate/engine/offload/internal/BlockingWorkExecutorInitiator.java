@@ -0,0 +1,66 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.offload.internal;
+
+import java.util.Map;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.offload.spi.BlockingWorkExecutor;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * Initiator for the {@link BlockingWorkExecutor} service
+ *
+ * @see AvailableSettings#BLOCKING_WORK_EXECUTOR
+ */
+public class BlockingWorkExecutorInitiator implements StandardServiceInitiator<BlockingWorkExecutor> {
+	/**
+	 * Singleton access
+	 */
+	public static final BlockingWorkExecutorInitiator INSTANCE = new BlockingWorkExecutorInitiator();
+
+	@Override
+	public Class<BlockingWorkExecutor> getServiceInitiated() {
+		return BlockingWorkExecutor.class;
+	}
+
+	@Override
+	public BlockingWorkExecutor initiateService(Map<String, Object> configurationValues, ServiceRegistryImplementor registry) {
+		final Object custom = configurationValues.get( AvailableSettings.BLOCKING_WORK_EXECUTOR );
+
+		if ( custom == null ) {
+			return new VirtualThreadBlockingWorkExecutor();
+		}
+
+		if ( custom instanceof BlockingWorkExecutor ) {
+			return (BlockingWorkExecutor) custom;
+		}
+
+		final Class<? extends BlockingWorkExecutor> customImplClass;
+		if ( custom instanceof Class ) {
+			//noinspection unchecked
+			customImplClass = (Class<? extends BlockingWorkExecutor>) custom;
+		}
+		else {
+			final ClassLoaderService classLoaderService = registry.getService( ClassLoaderService.class );
+			customImplClass = classLoaderService.classForName( custom.toString() );
+		}
+
+		try {
+			return customImplClass.getConstructor().newInstance();
+		}
+		catch (NoSuchMethodException e) {
+			throw new HibernateException( "Could not locate appropriate BlockingWorkExecutor constructor : " + customImplClass.getName(), e );
+		}
+		catch (Exception e) {
+			throw new HibernateException( "Unable to instantiate custom BlockingWorkExecutor : " + customImplClass.getName(), e );
+		}
+	}
+}
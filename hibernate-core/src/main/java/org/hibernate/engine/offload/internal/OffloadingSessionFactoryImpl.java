@@ -0,0 +1,54 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.offload.internal;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import org.hibernate.engine.offload.spi.BlockingWorkExecutor;
+import org.hibernate.engine.offload.spi.OffloadingSession;
+import org.hibernate.engine.offload.spi.OffloadingSessionFactory;
+import org.hibernate.engine.offload.spi.OffloadingStatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import static org.hibernate.engine.offload.internal.AbstractOffloadingSession.closing;
+
+/**
+ * Standard implementation of {@link OffloadingSessionFactory}
+ */
+public class OffloadingSessionFactoryImpl implements OffloadingSessionFactory {
+	private final SessionFactoryImplementor sessionFactory;
+	private final BlockingWorkExecutor executor;
+
+	public OffloadingSessionFactoryImpl(SessionFactoryImplementor sessionFactory) {
+		this.sessionFactory = sessionFactory;
+		this.executor = sessionFactory.getServiceRegistry().getService( BlockingWorkExecutor.class );
+	}
+
+	@Override
+	public OffloadingSessionImpl openSession() {
+		// opening a session does not acquire a connection
+		return new OffloadingSessionImpl( sessionFactory.openSession(), executor );
+	}
+
+	@Override
+	public OffloadingStatelessSessionImpl openStatelessSession() {
+		return new OffloadingStatelessSessionImpl( sessionFactory.openStatelessSession(), executor );
+	}
+
+	@Override
+	public <T> CompletionStage<T> withTransaction(Function<OffloadingSession, CompletionStage<T>> work) {
+		final OffloadingSessionImpl session = openSession();
+		return closing( session, session.withTransaction( work ) );
+	}
+
+	@Override
+	public <T> CompletionStage<T> withStatelessTransaction(Function<OffloadingStatelessSession, CompletionStage<T>> work) {
+		final OffloadingStatelessSessionImpl session = openStatelessSession();
+		return closing( session, session.withTransaction( work ) );
+	}
+}
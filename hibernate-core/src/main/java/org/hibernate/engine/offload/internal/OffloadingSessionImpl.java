@@ -0,0 +1,63 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.offload.internal;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import org.hibernate.Session;
+import org.hibernate.engine.offload.spi.BlockingWorkExecutor;
+import org.hibernate.engine.offload.spi.OffloadingSession;
+
+/**
+ * Standard implementation of {@link OffloadingSession}, on top of a {@link Session}
+ */
+public class OffloadingSessionImpl extends AbstractOffloadingSession<Session> implements OffloadingSession {
+	public OffloadingSessionImpl(Session delegate, BlockingWorkExecutor executor) {
+		super( delegate, executor );
+	}
+
+	@Override
+	public <T> CompletionStage<T> find(Class<T> entityClass, Object id) {
+		return offload( session -> session.find( entityClass, id ) );
+	}
+
+	@Override
+	public CompletionStage<Void> persist(Object entity) {
+		return offloadVoid( session -> session.persist( entity ) );
+	}
+
+	@Override
+	public <T> CompletionStage<T> merge(T entity) {
+		return offload( session -> session.merge( entity ) );
+	}
+
+	@Override
+	public CompletionStage<Void> remove(Object entity) {
+		return offloadVoid( session -> session.remove( entity ) );
+	}
+
+	@Override
+	public CompletionStage<Void> refresh(Object entity) {
+		return offloadVoid( session -> session.refresh( entity ) );
+	}
+
+	@Override
+	public CompletionStage<Void> flush() {
+		return offloadVoid( Session::flush );
+	}
+
+	@Override
+	public <T> CompletionStage<T> execute(Function<Session, T> work) {
+		return offload( work );
+	}
+
+	@Override
+	public <T> CompletionStage<T> withTransaction(Function<OffloadingSession, CompletionStage<T>> work) {
+		return transactionally( () -> work.apply( this ) );
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.offload.internal;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.offload.spi.BlockingWorkExecutor;
+import org.hibernate.engine.offload.spi.OffloadingStatelessSession;
+
+/**
+ * Standard implementation of {@link OffloadingStatelessSession}, on top of a
+ * {@link StatelessSession}
+ */
+public class OffloadingStatelessSessionImpl extends AbstractOffloadingSession<StatelessSession>
+		implements OffloadingStatelessSession {
+	public OffloadingStatelessSessionImpl(StatelessSession delegate, BlockingWorkExecutor executor) {
+		super( delegate, executor );
+	}
+
+	@Override
+	public <T> CompletionStage<T> get(Class<T> entityClass, Object id) {
+		return offload( session -> session.get( entityClass, id ) );
+	}
+
+	@Override
+	public CompletionStage<Void> insert(Object entity) {
+		return offloadVoid( session -> session.insert( entity ) );
+	}
+
+	@Override
+	public CompletionStage<Void> update(Object entity) {
+		return offloadVoid( session -> session.update( entity ) );
+	}
+
+	@Override
+	public CompletionStage<Void> delete(Object entity) {
+		return offloadVoid( session -> session.delete( entity ) );
+	}
+
+	@Override
+	public CompletionStage<Void> refresh(Object entity) {
+		return offloadVoid( session -> session.refresh( entity ) );
+	}
+
+	@Override
+	public <T> CompletionStage<T> execute(Function<StatelessSession, T> work) {
+		return offload( work );
+	}
+
+	@Override
+	public <T> CompletionStage<T> withTransaction(Function<OffloadingStatelessSession, CompletionStage<T>> work) {
+		return transactionally( () -> work.apply( this ) );
+	}
+}
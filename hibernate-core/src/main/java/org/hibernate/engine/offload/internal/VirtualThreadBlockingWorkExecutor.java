@@ -0,0 +1,60 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.offload.internal;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import org.hibernate.engine.offload.spi.BlockingWorkExecutor;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.service.spi.Stoppable;
+
+import org.jboss.logging.Logger;
+
+/**
+ * The reference {@link BlockingWorkExecutor}, which performs the blocking JDBC
+ * work of offloading sessions on a virtual thread per operation, so that waiting for
+ * the database does not hold a platform thread. On JVMs without virtual threads,
+ * the work is performed on a pool of platform threads instead.
+ */
+public class VirtualThreadBlockingWorkExecutor implements BlockingWorkExecutor, Stoppable {
+	private static final Logger log = CoreLogging.logger( VirtualThreadBlockingWorkExecutor.class );
+
+	private final ExecutorService executor;
+
+	public VirtualThreadBlockingWorkExecutor() {
+		this.executor = createExecutor();
+	}
+
+	private static ExecutorService createExecutor() {
+		try {
+			// Java 21 and later
+			return (ExecutorService) Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" ).invoke( null );
+		}
+		catch (ReflectiveOperationException e) {
+			log.debug( "Virtual threads are not available, offloading sessions will use platform threads" );
+			return Executors.newCachedThreadPool( runnable -> {
+				final Thread thread = new Thread( runnable, "Hibernate offloaded work" );
+				thread.setDaemon( true );
+				return thread;
+			} );
+		}
+	}
+
+	@Override
+	public <T> CompletionStage<T> execute(Supplier<T> work) {
+		return CompletableFuture.supplyAsync( work, executor );
+	}
+
+	@Override
+	public void stop() {
+		executor.shutdown();
+	}
+}
@@ -0,0 +1,42 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.offload.spi;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import org.hibernate.Incubating;
+import org.hibernate.service.Service;
+
+/**
+ * Executes the blocking database work of {@linkplain OffloadingSession offloading
+ * sessions} on threads other than the calling one.
+ * <p>
+ * The work itself is unchanged: it uses the same SQL AST, result mappings and
+ * mutation operations as any other session, over a blocking JDBC connection. The
+ * executor only decides which thread blocks. The
+ * {@linkplain org.hibernate.engine.offload.internal.VirtualThreadBlockingWorkExecutor
+ * reference implementation} uses virtual threads, when the JVM supports them.
+ * <p>
+ * The work of one session is handed to the executor one unit at a time, never
+ * concurrently. The executor also reads the rows of
+ * {@linkplain org.hibernate.cfg.AvailableSettings#PARALLEL_SUBSELECT_FETCH_CONNECTIONS
+ * parallel subselect fetches}, on connections other than the one of the session.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#BLOCKING_WORK_EXECUTOR
+ */
+@Incubating
+public interface BlockingWorkExecutor extends Service {
+	/**
+	 * Execute a unit of blocking work.
+	 *
+	 * @param work The work, which may block on JDBC calls
+	 *
+	 * @return A stage completed with the result of the work, or with its failure
+	 */
+	<T> CompletionStage<T> execute(Supplier<T> work);
+}
@@ -0,0 +1,73 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.offload.spi;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import org.hibernate.Incubating;
+import org.hibernate.Session;
+
+/**
+ * A {@link CompletionStage}-based counterpart of {@link Session}. Each operation
+ * is offloaded to the {@link BlockingWorkExecutor}, in the order the operations
+ * were called, and the returned stage completes once the operation did.
+ * <p>
+ * Like a {@code Session}, an offloading session is a unit of work: it must not be
+ * shared between concurrent flows.
+ *
+ * @see OffloadingSessionFactory#openSession()
+ */
+@Incubating
+public interface OffloadingSession {
+	/**
+	 * @see Session#find(Class, Object)
+	 */
+	<T> CompletionStage<T> find(Class<T> entityClass, Object id);
+
+	/**
+	 * @see Session#persist(Object)
+	 */
+	CompletionStage<Void> persist(Object entity);
+
+	/**
+	 * @see Session#merge(Object)
+	 */
+	<T> CompletionStage<T> merge(T entity);
+
+	/**
+	 * @see Session#remove(Object)
+	 */
+	CompletionStage<Void> remove(Object entity);
+
+	/**
+	 * @see Session#refresh(Object)
+	 */
+	CompletionStage<Void> refresh(Object entity);
+
+	/**
+	 * @see Session#flush()
+	 */
+	CompletionStage<Void> flush();
+
+	/**
+	 * Perform work, such as the execution of queries, with the underlying
+	 * {@link Session}. The work must not keep a reference to the session.
+	 */
+	<T> CompletionStage<T> execute(Function<Session, T> work);
+
+	/**
+	 * Perform work in a transaction, which is committed when the stage returned
+	 * by the work completes normally, and rolled back otherwise.
+	 */
+	<T> CompletionStage<T> withTransaction(Function<OffloadingSession, CompletionStage<T>> work);
+
+	/**
+	 * Close the session, once the pending operations completed.
+	 */
+	CompletionStage<Void> close();
+}
@@ -0,0 +1,45 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.offload.spi;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import org.hibernate.Incubating;
+
+/**
+ * Opens {@linkplain OffloadingSession offloading sessions}. Obtained by
+ * {@linkplain org.hibernate.SessionFactory#unwrap unwrapping} a
+ * {@link org.hibernate.SessionFactory}.
+ */
+@Incubating
+public interface OffloadingSessionFactory {
+	/**
+	 * Open a new offloading session, which must be {@linkplain OffloadingSession#close closed}.
+	 */
+	OffloadingSession openSession();
+
+	/**
+	 * Open a new offloading stateless session, which must be
+	 * {@linkplain OffloadingStatelessSession#close closed}.
+	 */
+	OffloadingStatelessSession openStatelessSession();
+
+	/**
+	 * Perform work in a new offloading session and transaction. The transaction is
+	 * committed when the stage returned by the work completes normally, and rolled
+	 * back otherwise. The session is closed in both cases.
+	 */
+	<T> CompletionStage<T> withTransaction(Function<OffloadingSession, CompletionStage<T>> work);
+
+	/**
+	 * Perform work in a new offloading stateless session and transaction. The
+	 * transaction is committed when the stage returned by the work completes
+	 * normally, and rolled back otherwise. The session is closed in both cases.
+	 */
+	<T> CompletionStage<T> withStatelessTransaction(Function<OffloadingStatelessSession, CompletionStage<T>> work);
+}
@@ -0,0 +1,65 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.offload.spi;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import org.hibernate.Incubating;
+import org.hibernate.StatelessSession;
+
+/**
+ * A {@link CompletionStage}-based counterpart of {@link StatelessSession}. Each
+ * operation is offloaded to the {@link BlockingWorkExecutor}, in the order the
+ * operations were called, and the returned stage completes once the operation did.
+ *
+ * @see OffloadingSessionFactory#openStatelessSession()
+ */
+@Incubating
+public interface OffloadingStatelessSession {
+	/**
+	 * @see StatelessSession#get(Class, Object)
+	 */
+	<T> CompletionStage<T> get(Class<T> entityClass, Object id);
+
+	/**
+	 * @see StatelessSession#insert(Object)
+	 */
+	CompletionStage<Void> insert(Object entity);
+
+	/**
+	 * @see StatelessSession#update(Object)
+	 */
+	CompletionStage<Void> update(Object entity);
+
+	/**
+	 * @see StatelessSession#delete(Object)
+	 */
+	CompletionStage<Void> delete(Object entity);
+
+	/**
+	 * @see StatelessSession#refresh(Object)
+	 */
+	CompletionStage<Void> refresh(Object entity);
+
+	/**
+	 * Perform work, such as the execution of queries, with the underlying
+	 * {@link StatelessSession}. The work must not keep a reference to the session.
+	 */
+	<T> CompletionStage<T> execute(Function<StatelessSession, T> work);
+
+	/**
+	 * Perform work in a transaction, which is committed when the stage returned
+	 * by the work completes normally, and rolled back otherwise.
+	 */
+	<T> CompletionStage<T> withTransaction(Function<OffloadingStatelessSession, CompletionStage<T>> work);
+
+	/**
+	 * Close the session, once the pending operations completed.
+	 */
+	CompletionStage<Void> close();
+}
@@ -0,0 +1,20 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+
+/**
+ * Defines {@link java.util.concurrent.CompletionStage}-based sessions, which offload
+ * their blocking database work to a pluggable
+ * {@link org.hibernate.engine.offload.spi.BlockingWorkExecutor}, so that it does not
+ * block the calling thread.
+ * <p>
+ * This is not reactive database access: the work still uses JDBC, and still blocks
+ * the thread of the executor.
+ */
+@Incubating
+package org.hibernate.engine.offload.spi;
+
+import org.hibernate.Incubating;
@@ -0,0 +1,79 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.engine.spi;
+
+/**
+ * The batch size used to batch fetch a particular entity or collection role
+ * when {@linkplain org.hibernate.cfg.AvailableSettings#ADAPTIVE_BATCH_FETCH
+ * adaptive batch fetching} is enabled.
+ * <p>
+ * The size starts at the configured batch size, which is also its upper bound,
+ * and is adjusted whenever a persistence context is cleared, according to how
+ * the instances it batch fetched for the role were used:
+ * <ul>
+ *     <li>it is halved if fewer than half of the instances loaded along with
+ *     the one actually requested were accessed afterwards, and</li>
+ *     <li>it is doubled if at least three quarters of them were accessed and
+ *     the persistence context still had to execute more than one full batch.</li>
+ * </ul>
+ * <p>
+ * Concurrent adjustments may overwrite each other, which only delays the
+ * convergence of the size.
+ *
+ * @see BatchFetchQueue
+ *
+ * @since 6.3
+ */
+public class AdaptiveBatchFetchSize {
+	private final int minSize;
+	private final int maxSize;
+
+	private volatile int size;
+
+	public AdaptiveBatchFetchSize(int minSize, int maxSize) {
+		// a batch of one never prefetches anything, and so could never grow again
+		this.minSize = Math.max( 2, Math.min( minSize, maxSize ) );
+		this.maxSize = maxSize;
+		this.size = maxSize;
+	}
+
+	/**
+	 * The number of keys to batch fetch at once
+	 */
+	public int getBatchSize() {
+		return size;
+	}
+
+	public int getMinSize() {
+		return minSize;
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Adjust the batch size given the usage observed by a persistence context.
+	 *
+	 * @param prefetched The number of instances loaded along with the requested ones
+	 * @param accessed How many of the prefetched instances were accessed afterwards
+	 * @param fullBatches The number of batches which were filled to the batch size
+	 */
+	public void adjust(int prefetched, int accessed, int fullBatches) {
+		if ( prefetched == 0 ) {
+			return;
+		}
+
+		final int current = size;
+		if ( accessed * 2 < prefetched ) {
+			size = Math.max( minSize, current / 2 );
+		}
+		else if ( accessed * 4 >= prefetched * 3 && fullBatches > 1 ) {
+			size = Math.min( maxSize, current * 2 );
+		}
+	}
+}
@@ -6,13 +6,18 @@
  */
 package org.hibernate.engine.spi;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.collection.spi.AbstractPersistentCollection;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.internal.CacheHelper;
 import org.hibernate.internal.CoreLogging;
@@ -20,6 +25,9 @@ import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.AbstractLazyInitializer;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
 
 import org.jboss.logging.Logger;
 
@@ -44,6 +52,12 @@ public class BatchFetchQueue {
 	 */
 	private Map<EntityKey, SubselectFetch> subselectsByEntityKey;
 
+	/**
+	 * The subselect fetches whose rows are being read on additional connections,
+	 * concurrently, while non-lazy collections are initialized.
+	 */
+	private List<SubselectPrefetch> subselectPrefetches;
+
 	/**
 	 * Used to hold information about the entities that are currently eligible for batch-fetching.  Ultimately
 	 * used by {@link #getBatchLoadableEntityIds} to build entity load batches.
@@ -59,6 +73,12 @@ public class BatchFetchQueue {
 	 */
 	private Map<String, LinkedHashMap<CollectionEntry, PersistentCollection<?>>> batchLoadableCollections;
 
+	/**
+	 * The instances batch fetched for roles with an {@link AdaptiveBatchFetchSize}, kept
+	 * until the persistence context is cleared to find out how many of them were accessed.
+	 */
+	private Map<AdaptiveBatchFetchSize, BatchFetchUsage> batchFetchUsages;
+
 	/**
 	 * Constructs a queue for the given context.
 	 *
@@ -129,6 +149,64 @@ public class BatchFetchQueue {
 		}
 	}
 
+	/**
+	 * Adds a subselect fetch whose rows are being read on an additional connection.
+	 */
+	public void addSubselectPrefetch(SubselectPrefetch prefetch) {
+		if ( subselectPrefetches == null ) {
+			subselectPrefetches = new ArrayList<>();
+		}
+		subselectPrefetches.add( prefetch );
+	}
+
+	/**
+	 * Whether the given subselect fetch of the given collection role is being
+	 * read on an additional connection.
+	 */
+	public boolean hasSubselectPrefetch(SubselectFetch subselect, String role) {
+		if ( subselectPrefetches != null ) {
+			for ( SubselectPrefetch prefetch : subselectPrefetches ) {
+				if ( prefetch.matches( subselect, role ) ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Remove the given subselect fetch of the given collection role from the
+	 * subselect fetches being read on an additional connection.
+	 *
+	 * @return The prefetch, which must be awaited, or {@code null}
+	 */
+	public SubselectPrefetch removeSubselectPrefetch(SubselectFetch subselect, String role) {
+		if ( subselectPrefetches != null ) {
+			final Iterator<SubselectPrefetch> iterator = subselectPrefetches.iterator();
+			while ( iterator.hasNext() ) {
+				final SubselectPrefetch prefetch = iterator.next();
+				if ( prefetch.matches( subselect, role ) ) {
+					iterator.remove();
+					return prefetch;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Wait for the subselect fetches still being read on additional connections,
+	 * discarding their rows, and release the connections.
+	 */
+	public void releaseSubselectPrefetches(SharedSessionContractImplementor session) {
+		if ( subselectPrefetches != null ) {
+			for ( SubselectPrefetch prefetch : subselectPrefetches ) {
+				prefetch.awaitJdbcValues( session );
+			}
+			subselectPrefetches = null;
+		}
+	}
+
 	// entity batch support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	/**
@@ -187,6 +265,10 @@ public class BatchFetchQueue {
 	 * Get a batch of unloaded identifiers for this class, using a slightly
 	 * complex algorithm that tries to grab keys registered immediately after
 	 * the given key.
+	 * <p>
+	 * Candidates are checked against the second-level cache in chunks no larger
+	 * than the number of ids still missing from the batch, so only the keys
+	 * near the given key are ever looked up.
 	 */
 	public Object[] getBatchLoadableEntityIds(
 			final EntityMappingType entityDescriptor,
@@ -197,60 +279,202 @@ public class BatchFetchQueue {
 		// make sure we load the id being loaded in the batch!
 		ids[0] = loadingId;
 
-		if ( batchLoadableEntityKeys == null ) {
+		if ( batchLoadableEntityKeys == null || maxBatchSize < 2 ) {
 			return ids;
 		}
 
-		int i = 1;
-		int end = -1;
-		boolean checkForEnd = false;
-
 		// TODO: this needn't exclude subclasses...
 
-		LinkedHashSet<EntityKey> set =  batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
+		final LinkedHashSet<EntityKey> set =  batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
 		if ( set != null ) {
+			final EntityPersister persister = entityDescriptor.getEntityPersister();
+			// the candidates registered right before the given id, used if there are not enough after it
+			final EntityKey[] preceding = new EntityKey[maxBatchSize - 1];
+			int precedingCount = 0;
+			final EntityKey[] chunk = new EntityKey[maxBatchSize - 1];
+			int chunkSize = 0;
+			int i = 1;
+			boolean found = false;
 			for ( EntityKey key : set ) {
-				if ( checkForEnd && i == end ) {
-					// the first id found after the given id
-					return ids;
+				if ( found ) {
+					chunk[chunkSize++] = key;
+					if ( chunkSize == maxBatchSize - i ) {
+						i = addUncachedIds( ids, i, chunk, chunkSize, persister );
+						chunkSize = 0;
+						if ( i == maxBatchSize ) {
+							// the batch is full of ids found after the given id
+							return ids;
+						}
+					}
 				}
-
-				if ( entityDescriptor.getEntityPersister().getIdentifierType()
-						.isEqual( loadingId, key.getIdentifier() ) ) {
-					end = i;
+				else if ( persister.getIdentifierType().isEqual( loadingId, key.getIdentifier() ) ) {
+					found = true;
 				}
 				else {
-					if ( !isCached( key, entityDescriptor.getEntityPersister() ) ) {
-						ids[i++] = key.getIdentifier();
-					}
+					preceding[precedingCount++ % preceding.length] = key;
 				}
-
-				if ( i == maxBatchSize ) {
-					i = 1; // end of array, start filling again from start
-					if ( end != -1 ) {
-						checkForEnd = true;
-					}
+			}
+			i = addUncachedIds( ids, i, chunk, chunkSize, persister );
+
+			// we ran out of ids after the given id, so fill the batch with the nearest ones before it
+			int next = precedingCount - 1;
+			final int first = Math.max( 0, precedingCount - preceding.length );
+			while ( i < maxBatchSize && next >= first ) {
+				chunkSize = 0;
+				while ( chunkSize < maxBatchSize - i && next >= first ) {
+					chunk[chunkSize++] = preceding[next-- % preceding.length];
 				}
+				i = addUncachedIds( ids, i, chunk, chunkSize, persister );
 			}
 		}
 
-		//we ran out of ids to try
 		return ids;
 	}
 
-	private boolean isCached(EntityKey entityKey, EntityPersister persister) {
+	/**
+	 * Add the ids of those of the given entities which are not present in the
+	 * second-level cache to the batch, checking the cache in a single operation.
+	 *
+	 * @return the position following the last id added to the batch
+	 */
+	private int addUncachedIds(Object[] ids, int position, EntityKey[] entityKeys, int count, EntityPersister persister) {
+		if ( count == 0 ) {
+			return position;
+		}
 		final SharedSessionContractImplementor session = context.getSession();
-		if ( context.getSession().getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
+		final Object[] cachedValues;
+		if ( session.getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
 			final EntityDataAccess cache = persister.getCacheAccessStrategy();
-			final Object key = cache.generateCacheKey(
-					entityKey.getIdentifier(),
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
-			);
-			return CacheHelper.fromSharedCache( session, key, cache ) != null;
+			final Object[] cacheKeys = new Object[count];
+			for ( int i = 0; i < count; i++ ) {
+				cacheKeys[i] = cache.generateCacheKey(
+						entityKeys[i].getIdentifier(),
+						persister,
+						session.getFactory(),
+						session.getTenantIdentifier()
+				);
+			}
+			cachedValues = CacheHelper.fromSharedCache( session, cacheKeys, cache );
+		}
+		else {
+			cachedValues = null;
+		}
+		int next = position;
+		for ( int i = 0; i < count; i++ ) {
+			if ( cachedValues == null || cachedValues[i] == null ) {
+				ids[next++] = entityKeys[i].getIdentifier();
+			}
+		}
+		return next;
+	}
+
+
+	// adaptive batch size support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	/**
+	 * Record a batch fetch of entities for a role with an adaptive batch size.
+	 *
+	 * @param batchSize The adaptive batch size of the role
+	 * @param persister The persister of the fetched entities
+	 * @param ids The fetched ids, starting with the requested one
+	 * @param numberOfIds The number of fetched ids
+	 * @param requestedSize The batch size in effect for the fetch
+	 */
+	public void registerEntityBatchFetch(
+			AdaptiveBatchFetchSize batchSize,
+			EntityPersister persister,
+			Object[] ids,
+			int numberOfIds,
+			int requestedSize) {
+		final BatchFetchUsage usage = getBatchFetchUsage( batchSize, numberOfIds, requestedSize );
+		final SharedSessionContractImplementor session = context.getSession();
+		for ( int i = 1; i < numberOfIds && usage.hasRoom(); i++ ) {
+			// only entities referenced through a proxy can tell whether they were accessed
+			final Object proxy = context.getProxy( session.generateEntityKey( ids[i], persister ) );
+			final LazyInitializer lazyInitializer = HibernateProxy.extractLazyInitializer( proxy );
+			if ( lazyInitializer instanceof AbstractLazyInitializer ) {
+				usage.prefetched.add( lazyInitializer );
+			}
+		}
+	}
+
+	/**
+	 * Record a batch fetch of collections for a role with an adaptive batch size.
+	 *
+	 * @param batchSize The adaptive batch size of the role
+	 * @param persister The persister of the fetched collections
+	 * @param keys The fetched keys, starting with the requested one
+	 * @param numberOfKeys The number of fetched keys
+	 * @param requestedSize The batch size in effect for the fetch
+	 */
+	public void registerCollectionBatchFetch(
+			AdaptiveBatchFetchSize batchSize,
+			CollectionPersister persister,
+			Object[] keys,
+			int numberOfKeys,
+			int requestedSize) {
+		final BatchFetchUsage usage = getBatchFetchUsage( batchSize, numberOfKeys, requestedSize );
+		for ( int i = 1; i < numberOfKeys && usage.hasRoom(); i++ ) {
+			final PersistentCollection<?> collection = context.getCollection( new CollectionKey( persister, keys[i] ) );
+			if ( collection instanceof AbstractPersistentCollection ) {
+				usage.prefetched.add( collection );
+			}
+		}
+	}
+
+	private BatchFetchUsage getBatchFetchUsage(AdaptiveBatchFetchSize batchSize, int numberOfKeys, int requestedSize) {
+		if ( batchFetchUsages == null ) {
+			batchFetchUsages = new IdentityHashMap<>();
+		}
+		final BatchFetchUsage usage = batchFetchUsages.computeIfAbsent( batchSize, k -> new BatchFetchUsage() );
+		if ( numberOfKeys >= requestedSize ) {
+			usage.fullBatches++;
+		}
+		return usage;
+	}
+
+	/**
+	 * Report to each {@link AdaptiveBatchFetchSize} how many of the instances batch
+	 * fetched for its role were accessed, and forget about them.
+	 * <p>
+	 * Called when clearing the session.  Unlike {@link #clear()}, not called after
+	 * flushing, since the instances may still be accessed later.
+	 */
+	public void reportBatchFetchUsage() {
+		if ( batchFetchUsages != null ) {
+			for ( Entry<AdaptiveBatchFetchSize, BatchFetchUsage> entry : batchFetchUsages.entrySet() ) {
+				final BatchFetchUsage usage = entry.getValue();
+				entry.getKey().adjust( usage.prefetched.size(), usage.countAccessed(), usage.fullBatches );
+			}
+			batchFetchUsages = null;
+		}
+	}
+
+	private static class BatchFetchUsage {
+		/**
+		 * Bounds the memory used to track the instances of a role
+		 */
+		private static final int MAX_TRACKED_INSTANCES = 1024;
+
+		private final List<Object> prefetched = new ArrayList<>();
+		private int fullBatches;
+
+		private boolean hasRoom() {
+			return prefetched.size() < MAX_TRACKED_INSTANCES;
+		}
+
+		private int countAccessed() {
+			int accessed = 0;
+			for ( Object instance : prefetched ) {
+				final boolean wasAccessed = instance instanceof AbstractLazyInitializer
+						? ( (AbstractLazyInitializer) instance ).wasAccessed()
+						: ( (AbstractPersistentCollection<?>) instance ).wasAccessed();
+				if ( wasAccessed ) {
+					accessed++;
+				}
+			}
+			return accessed;
 		}
-		return false;
 	}
 
 
@@ -294,6 +518,10 @@ public class BatchFetchQueue {
 
 	/**
 	 * Get a batch of uninitialized collection keys for a given role
+	 * <p>
+	 * Candidates are checked against the second-level cache in chunks no larger
+	 * than the number of keys still missing from the batch, so only the keys
+	 * near the given key are ever looked up.
 	 *
 	 * @param collectionPersister The persister for the collection role.
 	 * @param id A key that must be included in the batch fetch
@@ -308,17 +536,20 @@ public class BatchFetchQueue {
 		final Object[] keys = new Object[batchSize];
 		keys[0] = id;
 
-		if ( batchLoadableCollections == null ) {
+		if ( batchLoadableCollections == null || batchSize < 2 ) {
 			return keys;
 		}
 
-		int i = 1;
-		int end = -1;
-		boolean checkForEnd = false;
-
 		final LinkedHashMap<CollectionEntry, PersistentCollection<?>> map =
 				batchLoadableCollections.get( collectionPersister.getRole() );
 		if ( map != null ) {
+			// the candidates registered right before the given key, used if there are not enough after it
+			final Object[] preceding = new Object[batchSize - 1];
+			int precedingCount = 0;
+			final Object[] chunk = new Object[batchSize - 1];
+			int chunkSize = 0;
+			int i = 1;
+			boolean found = false;
 			for ( Entry<CollectionEntry, PersistentCollection<?>> me : map.entrySet() ) {
 				final CollectionEntry ce = me.getKey();
 				final PersistentCollection<?> collection = me.getValue();
@@ -338,49 +569,83 @@ public class BatchFetchQueue {
 					continue;
 				}
 
-				if ( checkForEnd && i == end ) {
-					return keys; //the first key found after the given key
+				if ( found ) {
+					chunk[chunkSize++] = ce.getLoadedKey();
+					if ( chunkSize == batchSize - i ) {
+						i = addUncachedKeys( keys, i, chunk, chunkSize, collectionPersister );
+						chunkSize = 0;
+						if ( i == batchSize ) {
+							return keys; //the batch is full of keys found after the given key
+						}
+					}
 				}
-
-				final boolean isEqual = collectionPersister.getKeyType().isEqual(
+				else if ( collectionPersister.getKeyType().isEqual(
 						id,
 						ce.getLoadedKey(),
 						collectionPersister.getFactory()
-				);
-
-				if ( isEqual ) {
-					end = i;
-					//checkForEnd = false;
+				) ) {
+					found = true;
 				}
-				else if ( !isCached( ce.getLoadedKey(), collectionPersister ) ) {
-					keys[i++] = ce.getLoadedKey();
-					//count++;
+				else {
+					preceding[precedingCount++ % preceding.length] = ce.getLoadedKey();
 				}
-
-				if ( i == batchSize ) {
-					i = 1; //end of array, start filling again from start
-					if ( end != -1 ) {
-						checkForEnd = true;
-					}
+			}
+			i = addUncachedKeys( keys, i, chunk, chunkSize, collectionPersister );
+
+			// we ran out of keys after the given key, so fill the batch with the nearest ones before it
+			int next = precedingCount - 1;
+			final int first = Math.max( 0, precedingCount - preceding.length );
+			while ( i < batchSize && next >= first ) {
+				chunkSize = 0;
+				while ( chunkSize < batchSize - i && next >= first ) {
+					chunk[chunkSize++] = preceding[next-- % preceding.length];
 				}
+				i = addUncachedKeys( keys, i, chunk, chunkSize, collectionPersister );
 			}
 		}
-		return keys; //we ran out of keys to try
+		return keys;
 	}
 
-	private boolean isCached(Object collectionKey, CollectionPersister persister) {
-		SharedSessionContractImplementor session = context.getSession();
+	/**
+	 * Add those of the given collection keys which are not present in the
+	 * second-level cache to the batch, checking the cache in a single operation.
+	 *
+	 * @return the position following the last key added to the batch
+	 */
+	private int addUncachedKeys(
+			Object[] keys,
+			int position,
+			Object[] collectionKeys,
+			int count,
+			CollectionPersister persister) {
+		if ( count == 0 ) {
+			return position;
+		}
+		final SharedSessionContractImplementor session = context.getSession();
+		final Object[] cachedValues;
 		if ( session.getCacheMode().isGetEnabled() && persister.hasCache() ) {
-			CollectionDataAccess cache = persister.getCacheAccessStrategy();
-			Object cacheKey = cache.generateCacheKey(
-					collectionKey,
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
-			);
-			return CacheHelper.fromSharedCache( session, cacheKey, cache ) != null;
+			final CollectionDataAccess cache = persister.getCacheAccessStrategy();
+			final Object[] cacheKeys = new Object[count];
+			for ( int i = 0; i < count; i++ ) {
+				cacheKeys[i] = cache.generateCacheKey(
+						collectionKeys[i],
+						persister,
+						session.getFactory(),
+						session.getTenantIdentifier()
+				);
+			}
+			cachedValues = CacheHelper.fromSharedCache( session, cacheKeys, cache );
 		}
-		return false;
+		else {
+			cachedValues = null;
+		}
+		int next = position;
+		for ( int i = 0; i < count; i++ ) {
+			if ( cachedValues == null || cachedValues[i] == null ) {
+				keys[next++] = collectionKeys[i];
+			}
+		}
+		return next;
 	}
 
 }
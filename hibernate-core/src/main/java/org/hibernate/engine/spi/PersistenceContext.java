@@ -108,6 +108,23 @@ public interface PersistenceContext {
 	 */
 	void setEntryStatus(EntityEntry entry, Status status);
 
+	/**
+	 * Set the status of the entry of an entity which was just loaded to
+	 * {@link Status#READ_ONLY}, possibly replacing the entry with a more
+	 * compact one
+	 *
+	 * @param entity The loaded entity
+	 * @param entry The entry of the entity
+	 *
+	 * @return The entry now associated with the entity
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#COMPACT_READ_ONLY_ENTITY_ENTRIES
+	 */
+	default EntityEntry setLoadedEntryReadOnly(Object entity, EntityEntry entry) {
+		setEntryStatus( entry, Status.READ_ONLY );
+		return entry;
+	}
+
 	/**
 	 * Called after transactions end
 	 */
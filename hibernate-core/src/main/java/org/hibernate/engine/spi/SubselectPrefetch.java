@@ -0,0 +1,40 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.engine.spi;
+
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.results.jdbc.spi.JdbcValues;
+
+/**
+ * The rows of a {@link SubselectFetch} of a collection role, being read ahead
+ * of time on an additional connection, as registered with the
+ * {@link BatchFetchQueue}.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#PARALLEL_SUBSELECT_FETCH_CONNECTIONS
+ *
+ * @since 6.3
+ */
+public interface SubselectPrefetch {
+	/**
+	 * Whether these are the rows of the given subselect fetch of the given
+	 * collection role.
+	 */
+	boolean matches(SubselectFetch subselect, String role);
+
+	/**
+	 * The statement reading the rows.
+	 */
+	JdbcOperationQuerySelect getJdbcSelect();
+
+	/**
+	 * Wait for the rows to be read, and release the additional connection.
+	 *
+	 * @return The rows, or {@code null} if the subselect fetch has to be executed
+	 * on the connection of the session
+	 */
+	JdbcValues awaitJdbcValues(SharedSessionContractImplementor session);
+}
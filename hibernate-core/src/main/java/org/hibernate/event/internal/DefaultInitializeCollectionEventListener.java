@@ -74,6 +74,7 @@ public class DefaultInitializeCollectionEventListener implements InitializeColle
 				}
 				ceLoadedPersister.initialize( ce.getLoadedKey(), source );
 				handlePotentiallyEmptyCollection( collection, source, ce, ceLoadedPersister );
+				source.getEventListenerManager().collectionInitialized( ceLoadedPersister.getRole() );
 				if ( LOG.isTraceEnabled() ) {
 					LOG.trace( "Collection initialized" );
 				}
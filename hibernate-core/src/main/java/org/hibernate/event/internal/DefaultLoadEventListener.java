@@ -592,6 +592,7 @@ public class DefaultLoadEventListener implements LoadEventListener {
 				event.getSession(),
 				event.getReadOnly()
 		);
+		event.getSession().getEventListenerManager().entityLoadedById( persister.getEntityName() );
 
 		// todo (6.0) : this is a change from previous versions
 		//		specifically the load call previously always returned a non-proxy
@@ -27,8 +27,9 @@ public interface Optimizer {
 	/**
 	 * Generate an identifier value accounting for this specific optimization.
 	 *
-	 * All known implementors are synchronized. Consider carefully if a new
-	 * implementation could drop this requirement.
+	 * All known implementors guard their state with a lock, rather than being
+	 * synchronized, since the underlying source may be accessed while it is held.
+	 * Consider carefully if a new implementation could drop this requirement.
 	 *
 	 * @param callback Callback to access the underlying value source.
 	 * @return The generated identifier value.
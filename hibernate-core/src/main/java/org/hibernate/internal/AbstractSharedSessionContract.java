@@ -27,6 +27,7 @@ import org.hibernate.SessionException;
 import org.hibernate.Transaction;
 import org.hibernate.UnknownEntityTypeException;
 import org.hibernate.cache.spi.CacheTransactionSynchronization;
+import org.hibernate.engine.internal.RepeatedLoadDetector;
 import org.hibernate.engine.internal.SessionEventListenerManagerImpl;
 import org.hibernate.engine.jdbc.LobCreator;
 import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
@@ -252,9 +253,18 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 
 	private SessionEventListenerManager createSessionEventsManager(SessionCreationOptions options) {
 		final List<SessionEventListener> customSessionEventListener = options.getCustomSessionEventListener();
-		return customSessionEventListener == null
+		final SessionEventListenerManager manager = customSessionEventListener == null
 				? new SessionEventListenerManagerImpl( fastSessionServices.defaultSessionEventListeners.buildBaseline() )
 				: new SessionEventListenerManagerImpl( customSessionEventListener.toArray( new SessionEventListener[0] ) );
+		addRepeatedLoadDetector( manager );
+		return manager;
+	}
+
+	private void addRepeatedLoadDetector(SessionEventListenerManager manager) {
+		final int threshold = fastSessionServices.nPlusOneThreshold;
+		if ( threshold > 0 ) {
+			manager.addListener( new RepeatedLoadDetector( threshold, manager ) );
+		}
 	}
 
 	/**
@@ -1386,6 +1396,7 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 		factory = SessionFactoryImpl.deserialize( ois );
 		fastSessionServices = factory.getFastSessionServices();
 		sessionEventsManager = new SessionEventListenerManagerImpl( fastSessionServices.defaultSessionEventListeners.buildBaseline() );
+		addRepeatedLoadDetector( sessionEventsManager );
 		jdbcSessionContext = createJdbcSessionContext( (StatementInspector) ois.readObject() );
 		jdbcCoordinator = JdbcCoordinatorImpl.deserialize( ois, this );
 
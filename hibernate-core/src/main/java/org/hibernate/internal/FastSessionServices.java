@@ -166,6 +166,7 @@ public final class FastSessionServices {
 	final BaselineSessionEventsListenerBuilder defaultSessionEventListeners;
 	final LockOptions defaultLockOptions;
 	final int defaultJdbcBatchSize;
+	final int nPlusOneThreshold;
 
 	//Some fields are handy as public - still considered internal.
 	public final EntityCopyObserverFactory entityCopyObserverFactory;
@@ -231,6 +232,7 @@ public final class FastSessionServices {
 		this.preferredSqlTypeCodeForBoolean = sessionFactoryOptions.getPreferredSqlTypeCodeForBoolean();
 		this.defaultTimeZoneStorageStrategy = sessionFactoryOptions.getDefaultTimeZoneStorageStrategy();
 		this.defaultJdbcBatchSize = sessionFactoryOptions.getJdbcBatchSize();
+		this.nPlusOneThreshold = sessionFactoryOptions.getNPlusOneThreshold();
 		this.requiresMultiTenantConnectionProvider = sessionFactory.getSessionFactoryOptions().isMultiTenancyEnabled();
 
 		//Some "hot" services:
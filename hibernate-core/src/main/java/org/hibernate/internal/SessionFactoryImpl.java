@@ -58,6 +58,8 @@ import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.profile.FetchProfile;
+import org.hibernate.engine.offload.internal.OffloadingSessionFactoryImpl;
+import org.hibernate.engine.offload.spi.OffloadingSessionFactory;
 import org.hibernate.engine.spi.FilterDefinition;
 import org.hibernate.engine.spi.SessionBuilderImplementor;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -985,6 +987,10 @@ public class SessionFactoryImpl extends QueryParameterBindingTypeResolverImpl im
 			return type.cast( queryEngine );
 		}
 
+		if ( type == OffloadingSessionFactory.class ) {
+			return type.cast( new OffloadingSessionFactoryImpl( this ) );
+		}
+
 		throw new PersistenceException( "Hibernate cannot unwrap EntityManagerFactory as '" + type.getName() + "'" );
 	}
 
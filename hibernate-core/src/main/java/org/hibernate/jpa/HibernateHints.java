@@ -156,4 +156,22 @@ public interface HibernateHints {
 	 * to a function rather than a call to a procedure.
 	 */
 	String HINT_CALLABLE_FUNCTION = "org.hibernate.callableFunction";
+
+	/**
+	 * Hint to let Hibernate learn which lazy associations of the results
+	 * of a query are usually initialized after it was executed, and fetch
+	 * them along with the results once it has seen enough executions of
+	 * the query.
+	 * <p>
+	 * To-one associations are fetched using a join. A collection is only
+	 * fetched if it is the only one learned, and the query does not limit
+	 * its results.
+	 *
+	 * @implSpec Only valid for HQL queries which select a single entity.
+	 *
+	 * @see org.hibernate.query.spi.LearnedFetchGraphs
+	 *
+	 * @since 6.3
+	 */
+	String HINT_LEARN_FETCH_GRAPH = "org.hibernate.learnFetchGraph";
 }
@@ -32,6 +32,7 @@ import org.hibernate.event.spi.LoadEventListener;
 import org.hibernate.event.spi.PostLoadEvent;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.proxy.HibernateProxy;
@@ -182,19 +183,57 @@ public class CacheEntityLoaderHelper {
 		);
 
 		if ( entity != null ) {
-			//PostLoad is needed for EJB3
-			final PostLoadEvent postLoadEvent = event.getPostLoadEvent()
-					.setEntity( entity )
-					.setId( event.getEntityId() )
-					.setPersister( persister );
-
-			event.getSession().getSessionFactory()
-					.getFastSessionServices()
-					.firePostLoadEvent( postLoadEvent );
+			firePostLoadEvent( event, persister, entity );
 		}
 		return entity;
 	}
 
+	/**
+	 * Resolves the entity from a second-level cache entry previously obtained via
+	 * {@link #getFromSharedCache(EventSource, LockMode, EntityPersister, Object[])}.
+	 *
+	 * @param event The load event
+	 * @param persister The persister for the entity being requested for load
+	 * @param entityKey The entity key
+	 * @param cachedEntry The cache entry for the entity, or null if it was not cached
+	 *
+	 * @return The entity from the second-level cache, or null.
+	 */
+	public Object loadFromSecondLevelCache(
+			final LoadEvent event,
+			final EntityPersister persister,
+			final EntityKey entityKey,
+			final Object cachedEntry) {
+		if ( cachedEntry == null ) {
+			return null;
+		}
+
+		final Object entity = processCachedEntry(
+				event.getInstanceToLoad(),
+				persister,
+				cachedEntry,
+				event.getSession(),
+				entityKey
+		);
+
+		if ( entity != null ) {
+			firePostLoadEvent( event, persister, entity );
+		}
+		return entity;
+	}
+
+	private static void firePostLoadEvent(LoadEvent event, EntityPersister persister, Object entity) {
+		//PostLoad is needed for EJB3
+		final PostLoadEvent postLoadEvent = event.getPostLoadEvent()
+				.setEntity( entity )
+				.setId( event.getEntityId() )
+				.setPersister( persister );
+
+		event.getSession().getSessionFactory()
+				.getFastSessionServices()
+				.firePostLoadEvent( postLoadEvent );
+	}
+
 	/**
 	 * Attempts to load the entity from the second-level cache.
 	 *
@@ -233,6 +272,58 @@ public class CacheEntityLoaderHelper {
 	}
 
 
+	/**
+	 * Attempts to fetch the cached state of several entities from the second-level
+	 * cache at once, so that a remote cache is queried in a single round trip.
+	 *
+	 * @param source The source
+	 * @param lockMode The lock mode
+	 * @param persister The persister for the entities being requested for load
+	 * @param ids The entity identifiers; {@code null} elements are skipped
+	 *
+	 * @return The cache entries, positionally aligned with {@code ids}, or null
+	 * if the second-level cache can't be used
+	 */
+	public Object[] getFromSharedCache(
+			final EventSource source,
+			final LockMode lockMode,
+			final EntityPersister persister,
+			final Object[] ids) {
+		final boolean useCache = persister.canReadFromCache()
+				&& source.getCacheMode().isGetEnabled()
+				&& lockMode.lessThan( LockMode.READ );
+		if ( !useCache ) {
+			return null;
+		}
+
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final SessionFactoryImplementor factory = source.getFactory();
+		final Object[] cacheKeys = new Object[ids.length];
+		for ( int i = 0; i < ids.length; i++ ) {
+			if ( ids[i] != null ) {
+				cacheKeys[i] = cache.generateCacheKey( ids[i], persister, factory, source.getTenantIdentifier() );
+			}
+		}
+
+		final Object[] entries = CacheHelper.fromSharedCache( source, cacheKeys, cache );
+		final StatisticsImplementor statistics = factory.getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			final NavigableRole rootEntityRole = StatsHelper.INSTANCE.getRootEntityRole( persister );
+			final String regionName = cache.getRegion().getName();
+			for ( int i = 0; i < ids.length; i++ ) {
+				if ( ids[i] != null ) {
+					if ( entries[i] == null ) {
+						statistics.entityCacheMiss( rootEntityRole, regionName );
+					}
+					else {
+						statistics.entityCacheHit( rootEntityRole, regionName );
+					}
+				}
+			}
+		}
+		return entries;
+	}
+
 	private Object getFromSharedCache(
 			final Object entityId,
 			final EntityPersister persister,
@@ -9,11 +9,13 @@ package org.hibernate.loader.ast.internal;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.hibernate.LockOptions;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.AdaptiveBatchFetchSize;
 import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
@@ -23,12 +25,15 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.loader.ast.spi.CollectionLoader;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.ast.SqlAstTranslatorFactory;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterImpl;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.results.internal.ResultsHelper;
@@ -47,11 +52,21 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 
 	private final PluralAttributeMapping attributeMapping;
 	private final int batchSize;
+	private final LoadQueryInfluencers influencers;
 
 	private final int keyJdbcCount;
+	/**
+	 * The mapping of the array of keys, if they are bound as a single
+	 * array parameter instead of an in-list
+	 */
+	private final JdbcMapping arrayJdbcMapping;
 
-	private SelectStatement batchSizeSqlAst;
-	private List<JdbcParameter> batchSizeJdbcParameters;
+	/**
+	 * Translated batch selects by number of keys, the slot 0 holding the
+	 * select binding the keys as a single array, which serves any number
+	 * of keys.  Atomic, since the loader may be shared by concurrent sessions.
+	 */
+	private final AtomicReferenceArray<BatchLoadPlan> plans;
 
 	public CollectionLoaderBatchKey(
 			PluralAttributeMapping attributeMapping,
@@ -60,21 +75,19 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 			SessionFactoryImplementor sessionFactory) {
 		this.attributeMapping = attributeMapping;
 		this.batchSize = batchSize;
+		this.influencers = influencers;
 
 		this.keyJdbcCount = attributeMapping.getKeyDescriptor().getJdbcTypeCount();
 
-		this.batchSizeJdbcParameters = new ArrayList<>();
-		this.batchSizeSqlAst = LoaderSelectBuilder.createSelect(
-				attributeMapping,
-				null,
+		this.arrayJdbcMapping = LoaderHelper.resolveArrayJdbcMapping(
 				attributeMapping.getKeyDescriptor(),
-				null,
-				batchSize,
-				influencers,
-				LockOptions.NONE,
-				batchSizeJdbcParameters::add,
 				sessionFactory
 		);
+
+		this.plans = new AtomicReferenceArray<>( batchSize + 1 );
+		// the select for full batches, or for any batch if the keys are bound as an array
+		final BatchLoadPlan plan = createLoadPlan( batchSize, sessionFactory );
+		plans.set( arrayJdbcMapping != null ? 0 : batchSize, plan );
 	}
 
 	@Override
@@ -86,6 +99,8 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 	public PersistentCollection<?> load(
 			Object key,
 			SharedSessionContractImplementor session) {
+		final AdaptiveBatchFetchSize adaptiveBatchSize = getLoadable().getCollectionDescriptor().getAdaptiveBatchFetchSize();
+		final int batchSize = adaptiveBatchSize == null ? this.batchSize : adaptiveBatchSize.getBatchSize();
 		final Object[] batchIds = session.getPersistenceContextInternal()
 				.getBatchFetchQueue()
 				.getCollectionBatch( getLoadable().getCollectionDescriptor(), key, batchSize );
@@ -116,7 +131,17 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 			).load( key, session );
 		}
 		else {
-			batchLoad( batchIds, numberOfIds , session );
+			batchLoad( batchIds, numberOfIds, batchSize, session );
+		}
+
+		if ( adaptiveBatchSize != null ) {
+			session.getPersistenceContextInternal().getBatchFetchQueue().registerCollectionBatchFetch(
+					adaptiveBatchSize,
+					getLoadable().getCollectionDescriptor(),
+					batchIds,
+					numberOfIds,
+					batchSize
+			);
 		}
 
 		final CollectionKey collectionKey = new CollectionKey( attributeMapping.getCollectionDescriptor(), key );
@@ -126,6 +151,7 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 	private void batchLoad(
 			Object[] batchIds,
 			int numberOfIds,
+			int batchSize,
 			SharedSessionContractImplementor session) {
 		if ( log.isDebugEnabled() ) {
 			log.debugf(
@@ -139,62 +165,46 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 		int smallBatchLength = Math.min( numberOfIds, batchSize );
 
 		while ( true ) {
-			final List<JdbcParameter> jdbcParameters;
-			final SelectStatement sqlAst;
-
-			if ( smallBatchLength == batchSize ) {
-				jdbcParameters = this.batchSizeJdbcParameters;
-				sqlAst = this.batchSizeSqlAst;
-			}
-			else {
-				jdbcParameters = new ArrayList<>();
-				sqlAst = LoaderSelectBuilder.createSelect(
-						getLoadable(),
-						// null here means to select everything
-						null,
-						getLoadable().getKeyDescriptor(),
-						null,
-						numberOfIds,
-						session.getLoadQueryInfluencers(),
-						LockOptions.NONE,
-						jdbcParameters::add,
-						session.getFactory()
-				);
-			}
-
-			final SessionFactoryImplementor sessionFactory = session.getFactory();
-			final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
-			final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
-			final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
-
-			final JdbcOperationQuerySelect jdbcSelect = sqlAstTranslatorFactory
-					.buildSelectTranslator( sessionFactory, sqlAst )
-					.translate( null, QueryOptions.NONE );
+			final BatchLoadPlan plan = resolveLoadPlan( smallBatchLength, session.getFactory() );
+			final List<JdbcParameter> jdbcParameters = plan.jdbcParameters;
+			final JdbcOperationQuerySelect jdbcSelect = plan.jdbcSelect;
 
 			final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( keyJdbcCount * smallBatchLength );
 			jdbcSelect.bindFilterJdbcParameters( jdbcParameterBindings );
 
-			int offset = 0;
-
-			for ( int i = smallBatchStart; i < smallBatchStart + smallBatchLength; i++ ) {
-				offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
-						batchIds[i],
-						offset,
-						getLoadable().getKeyDescriptor(),
-						jdbcParameters,
-						session
+			if ( arrayJdbcMapping != null ) {
+				assert jdbcParameters.size() == 1;
+				jdbcParameterBindings.addBinding(
+						jdbcParameters.get( 0 ),
+						new JdbcParameterBindingImpl(
+								arrayJdbcMapping,
+								LoaderHelper.toKeyArray( batchIds, smallBatchStart, smallBatchLength, arrayJdbcMapping )
+						)
 				);
 			}
-			assert offset == jdbcParameters.size();
+			else {
+				int offset = 0;
+
+				for ( int i = smallBatchStart; i < smallBatchStart + smallBatchLength; i++ ) {
+					offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
+							batchIds[i],
+							offset,
+							getLoadable().getKeyDescriptor(),
+							jdbcParameters,
+							session
+					);
+				}
+				assert offset == jdbcParameters.size();
+			}
 
 			final SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler = SubselectFetch.createRegistrationHandler(
 					session.getPersistenceContext().getBatchFetchQueue(),
-					sqlAst,
+					plan.sqlAst,
 					Collections.emptyList(),
 					jdbcParameterBindings
 			);
 
-			jdbcServices.getJdbcSelectExecutor().list(
+			session.getJdbcServices().getJdbcSelectExecutor().list(
 					jdbcSelect,
 					jdbcParameterBindings,
 					new ExecutionContextWithSubselectFetchHandler( session, subSelectFetchableKeysHandler ),
@@ -217,6 +227,66 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 		}
 	}
 
+	private BatchLoadPlan resolveLoadPlan(int numberOfKeys, SessionFactoryImplementor sessionFactory) {
+		final BatchLoadPlan arrayPlan = plans.get( 0 );
+		if ( arrayPlan != null ) {
+			return arrayPlan;
+		}
+		if ( numberOfKeys >= plans.length() ) {
+			return createLoadPlan( numberOfKeys, sessionFactory );
+		}
+		final BatchLoadPlan existing = plans.get( numberOfKeys );
+		if ( existing != null ) {
+			return existing;
+		}
+		// plans are immutable once created, so a racing thread at worst
+		// translates the same statement twice
+		final BatchLoadPlan plan = createLoadPlan( numberOfKeys, sessionFactory );
+		plans.set( numberOfKeys, plan );
+		return plan;
+	}
+
+	private BatchLoadPlan createLoadPlan(int numberOfKeys, SessionFactoryImplementor sessionFactory) {
+		final List<JdbcParameter> jdbcParameters = new ArrayList<>();
+		final SelectStatement sqlAst;
+		if ( arrayJdbcMapping != null ) {
+			// the same statement serves batches of any size
+			sqlAst = LoaderSelectBuilder.createSelectBySingleArrayParameter(
+					attributeMapping,
+					attributeMapping.getKeyDescriptor(),
+					influencers,
+					LockOptions.NONE,
+					new JdbcParameterImpl( arrayJdbcMapping ),
+					jdbcParameters::add,
+					sessionFactory
+			);
+		}
+		else {
+			sqlAst = LoaderSelectBuilder.createSelect(
+					attributeMapping,
+					// null here means to select everything
+					null,
+					attributeMapping.getKeyDescriptor(),
+					null,
+					numberOfKeys,
+					influencers,
+					LockOptions.NONE,
+					jdbcParameters::add,
+					sessionFactory
+			);
+		}
+
+		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
+		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
+		final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
+
+		final JdbcOperationQuerySelect jdbcSelect = sqlAstTranslatorFactory
+				.buildSelectTranslator( sessionFactory, sqlAst )
+				.translate( null, QueryOptions.NONE );
+
+		return new BatchLoadPlan( sqlAst, jdbcParameters, jdbcSelect );
+	}
+
 	private void finishLoadingCollection(Object key, SharedSessionContractImplementor session) {
 		final PersistenceContext persistenceContext = session.getPersistenceContext();
 		final CollectionKey collectionKey = new CollectionKey( attributeMapping.getCollectionDescriptor(), key );
@@ -233,4 +303,19 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 			);
 		}
 	}
+
+	private static class BatchLoadPlan {
+		private final SelectStatement sqlAst;
+		private final List<JdbcParameter> jdbcParameters;
+		private final JdbcOperationQuerySelect jdbcSelect;
+
+		private BatchLoadPlan(
+				SelectStatement sqlAst,
+				List<JdbcParameter> jdbcParameters,
+				JdbcOperationQuerySelect jdbcSelect) {
+			this.sqlAst = sqlAst;
+			this.jdbcParameters = jdbcParameters;
+			this.jdbcSelect = jdbcSelect;
+		}
+	}
 }
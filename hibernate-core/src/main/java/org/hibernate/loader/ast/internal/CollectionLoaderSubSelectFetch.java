@@ -11,7 +11,6 @@ import java.util.List;
 
 import org.hibernate.LockOptions;
 import org.hibernate.collection.spi.PersistentCollection;
-import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.BatchFetchQueue;
 import org.hibernate.engine.spi.CollectionKey;
@@ -21,16 +20,17 @@ import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
+import org.hibernate.engine.spi.SubselectPrefetch;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.loader.ast.spi.CollectionLoader;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.query.spi.QueryOptions;
-import org.hibernate.sql.ast.SqlAstTranslatorFactory;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.results.graph.DomainResult;
 import org.hibernate.sql.results.internal.ResultsHelper;
 import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
+import org.hibernate.sql.results.jdbc.spi.JdbcValues;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
 
 /**
@@ -72,14 +72,20 @@ public class CollectionLoaderSubSelectFetch implements CollectionLoader {
 		return sqlAst;
 	}
 
+	JdbcOperationQuerySelect createJdbcSelect(SessionFactoryImplementor sessionFactory) {
+		return sessionFactory.getJdbcServices()
+				.getJdbcEnvironment()
+				.getSqlAstTranslatorFactory()
+				.buildSelectTranslator( sessionFactory, sqlAst )
+				.translate( this.subselect.getLoadingJdbcParameterBindings(), QueryOptions.NONE );
+	}
+
 	@Override
 	public PersistentCollection<?> load(Object triggerKey, SharedSessionContractImplementor session) {
 		final CollectionKey collectionKey = new CollectionKey( attributeMapping.getCollectionDescriptor(), triggerKey );
 
 		final SessionFactoryImplementor sessionFactory = session.getFactory();
 		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
-		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
-		final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
 		final PersistenceContext persistenceContext = session.getPersistenceContext();
 
 		// try to find a registered SubselectFetch
@@ -116,9 +122,15 @@ public class CollectionLoaderSubSelectFetch implements CollectionLoader {
 			}
 		}
 
-		final JdbcOperationQuerySelect jdbcSelect = sqlAstTranslatorFactory
-				.buildSelectTranslator( sessionFactory, sqlAst )
-				.translate( this.subselect.getLoadingJdbcParameterBindings(), QueryOptions.NONE );
+		// the rows may have been read already, concurrently with other subselect fetches
+		final SubselectPrefetch prefetch = batchFetchQueue.removeSubselectPrefetch(
+				this.subselect,
+				attributeMapping.getCollectionDescriptor().getRole()
+		);
+		final JdbcValues prefetchedJdbcValues = prefetch == null ? null : prefetch.awaitJdbcValues( session );
+		final JdbcOperationQuerySelect jdbcSelect = prefetchedJdbcValues == null
+				? createJdbcSelect( sessionFactory )
+				: prefetch.getJdbcSelect();
 
 		final SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler = SubselectFetch.createRegistrationHandler(
 				batchFetchQueue,
@@ -130,7 +142,7 @@ public class CollectionLoaderSubSelectFetch implements CollectionLoader {
 		jdbcServices.getJdbcSelectExecutor().list(
 				jdbcSelect,
 				this.subselect.getLoadingJdbcParameterBindings(),
-				new ExecutionContextWithSubselectFetchHandler( session, subSelectFetchableKeysHandler ),
+				new ExecutionContextWithSubselectFetchHandler( session, subSelectFetchableKeysHandler, prefetchedJdbcValues ),
 				RowTransformerStandardImpl.instance(),
 				ListResultsConsumer.UniqueSemantic.FILTER
 		);
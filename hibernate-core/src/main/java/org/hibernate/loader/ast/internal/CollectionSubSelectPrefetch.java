@@ -0,0 +1,323 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.offload.spi.BlockingWorkExecutor;
+import org.hibernate.engine.spi.BatchFetchQueue;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.SubselectFetch;
+import org.hibernate.engine.spi.SubselectPrefetch;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.metamodel.mapping.JdbcMappingContainer;
+import org.hibernate.persister.collection.AbstractCollectionPersister;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.sql.ast.spi.SqlSelection;
+import org.hibernate.sql.exec.internal.BaseExecutionContext;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.exec.spi.JdbcParameterBinder;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesCacheHit;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesMappingProducerStandard;
+import org.hibernate.sql.results.jdbc.spi.JdbcValues;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+import org.hibernate.type.JavaObjectType;
+import org.hibernate.type.descriptor.WrapperOptions;
+
+import org.jboss.logging.Logger;
+
+/**
+ * The rows of a {@linkplain CollectionLoaderSubSelectFetch subselect fetch}, read
+ * ahead of time on an additional connection, concurrently with the other subselect
+ * fetches of the non-lazy collections of a load. The statement is prepared and its
+ * parameters bound on the thread of the session, and the rows are only turned into
+ * collection elements on that thread, when the collection is initialized. Reading
+ * the rows uses the {@linkplain SessionFactoryImplementor#getWrapperOptions() options
+ * of the factory}, never the session. If reading the rows failed, the subselect fetch
+ * is simply executed again on the connection of the session.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#PARALLEL_SUBSELECT_FETCH_CONNECTIONS
+ */
+public class CollectionSubSelectPrefetch implements SubselectPrefetch {
+	private static final Logger LOG = CoreLogging.logger( CollectionSubSelectPrefetch.class );
+
+	private final SubselectFetch subselect;
+	private final String role;
+	private final JdbcOperationQuerySelect jdbcSelect;
+	private final Connection connection;
+	private final CompletableFuture<Object[][]> rows;
+	private final JdbcValuesMapping mapping;
+	private boolean released;
+
+	private CollectionSubSelectPrefetch(
+			SubselectFetch subselect,
+			String role,
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcValuesMapping mapping,
+			Connection connection,
+			CompletableFuture<Object[][]> rows) {
+		this.subselect = subselect;
+		this.role = role;
+		this.jdbcSelect = jdbcSelect;
+		this.mapping = mapping;
+		this.connection = connection;
+		this.rows = rows;
+	}
+
+	/**
+	 * Start reading the rows of the distinct subselect fetches of the given non-lazy
+	 * collections on additional connections, if enabled. The subselect fetch of the
+	 * collection initialized first is left to the connection of the session.
+	 */
+	public static void startPrefetches(
+			List<PersistentCollection<?>> nonLazyCollections,
+			SharedSessionContractImplementor session) {
+		final SessionFactoryImplementor factory = session.getFactory();
+		final int maxConnections = factory.getSessionFactoryOptions().getParallelSubselectFetchConnections();
+		if ( maxConnections <= 0
+				|| !session.isDefaultReadOnly()
+				|| session.getTransactionCoordinator().getTransactionCoordinatorBuilder().isJta()
+				// the rows are read with the options of the factory
+				|| !Objects.equals( session.getJdbcTimeZone(), factory.getWrapperOptions().getJdbcTimeZone() ) ) {
+			return;
+		}
+
+		final BatchFetchQueue batchFetchQueue = session.getPersistenceContextInternal().getBatchFetchQueue();
+		SubselectFetch firstSubselect = null;
+		String firstRole = null;
+		int connections = 0;
+		// the collections are initialized starting from the end of the list
+		for ( int i = nonLazyCollections.size() - 1; i >= 0 && connections < maxConnections; i-- ) {
+			final PersistentCollection<?> collection = nonLazyCollections.get( i );
+			if ( collection.wasInitialized() || collection.getRole() == null ) {
+				continue;
+			}
+			final CollectionPersister persister = factory.getMappingMetamodel()
+					.getCollectionDescriptor( collection.getRole() );
+			if ( !( persister instanceof AbstractCollectionPersister ) ) {
+				continue;
+			}
+			final SubselectFetch subselect = ( (AbstractCollectionPersister) persister )
+					.getSubselectFetch( collection.getKey(), session );
+			if ( subselect == null ) {
+				continue;
+			}
+
+			final String role = persister.getRole();
+			if ( firstSubselect == null ) {
+				firstSubselect = subselect;
+				firstRole = role;
+			}
+			else if ( ( firstSubselect != subselect || !firstRole.equals( role ) )
+					&& !batchFetchQueue.hasSubselectPrefetch( subselect, role ) ) {
+				final JdbcOperationQuerySelect jdbcSelect = new CollectionLoaderSubSelectFetch(
+						persister.getAttributeMapping(),
+						null,
+						subselect,
+						session
+				).createJdbcSelect( factory );
+				final JdbcValuesMapping mapping = resolvePrefetchableMapping( jdbcSelect );
+				if ( mapping == null ) {
+					continue;
+				}
+				final CollectionSubSelectPrefetch prefetch = start( role, subselect, jdbcSelect, mapping, session );
+				if ( prefetch == null ) {
+					// no additional connection available
+					return;
+				}
+				batchFetchQueue.addSubselectPrefetch( prefetch );
+				connections++;
+			}
+		}
+	}
+
+	/**
+	 * The mapping of the values selected by the given subselect fetch, if they can
+	 * be read ahead of time: without the metadata of the result set, and without any
+	 * LOB values, which can't outlive the statement.
+	 */
+	private static JdbcValuesMapping resolvePrefetchableMapping(JdbcOperationQuerySelect jdbcSelect) {
+		if ( !( jdbcSelect.getJdbcValuesMappingProducer() instanceof JdbcValuesMappingProducerStandard ) ) {
+			return null;
+		}
+		final JdbcValuesMapping mapping = ( (JdbcValuesMappingProducerStandard) jdbcSelect.getJdbcValuesMappingProducer() )
+				.getResolvedMapping();
+		for ( SqlSelection sqlSelection : mapping.getSqlSelections() ) {
+			final JdbcMappingContainer expressionType = sqlSelection.getExpressionType();
+			if ( expressionType == null
+					|| expressionType instanceof JavaObjectType
+					|| expressionType.getSingleJdbcMapping().getJdbcType().isLob() ) {
+				return null;
+			}
+		}
+		return mapping;
+	}
+
+	private static CollectionSubSelectPrefetch start(
+			String role,
+			SubselectFetch subselect,
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcValuesMapping mapping,
+			SharedSessionContractImplementor session) {
+		final Connection connection;
+		try {
+			connection = session.getJdbcConnectionAccess().obtainConnection();
+		}
+		catch (SQLException | RuntimeException e) {
+			LOG.debugf( e, "Unable to obtain a connection to prefetch subselect fetch of [%s]", role );
+			return null;
+		}
+
+		final String inspectedSql = session.getJdbcSessionContext()
+				.getStatementInspector()
+				.inspect( jdbcSelect.getSqlString() );
+		final String sql = inspectedSql == null ? jdbcSelect.getSqlString() : inspectedSql;
+		session.getJdbcServices().getSqlStatementLogger().logStatement( sql );
+
+		final PreparedStatement statement;
+		try {
+			statement = prepareStatement( connection, sql, jdbcSelect, subselect, session );
+		}
+		catch (SQLException | RuntimeException e) {
+			LOG.debugf( e, "Unable to prepare the prefetch of subselect fetch of [%s]", role );
+			releaseConnection( connection, role, session );
+			return null;
+		}
+
+		final SessionFactoryImplementor factory = session.getFactory();
+		final CompletableFuture<Object[][]> rows = factory.getServiceRegistry()
+				.getService( BlockingWorkExecutor.class )
+				.execute( () -> readRows( connection, statement, sql, mapping, factory ) )
+				.toCompletableFuture();
+		return new CollectionSubSelectPrefetch( subselect, role, jdbcSelect, mapping, connection, rows );
+	}
+
+	/**
+	 * Prepare the statement of the subselect fetch on the additional connection,
+	 * and bind its parameters, on the thread of the session.
+	 */
+	private static PreparedStatement prepareStatement(
+			Connection connection,
+			String sql,
+			JdbcOperationQuerySelect jdbcSelect,
+			SubselectFetch subselect,
+			SharedSessionContractImplementor session) throws SQLException {
+		final PreparedStatement statement = connection.prepareStatement( sql );
+		try {
+			final ExecutionContext executionContext = new BaseExecutionContext( session );
+			int position = 1;
+			for ( JdbcParameterBinder parameterBinder : jdbcSelect.getParameterBinders() ) {
+				parameterBinder.bindParameterValue(
+						statement,
+						position++,
+						subselect.getLoadingJdbcParameterBindings(),
+						executionContext
+				);
+			}
+			return statement;
+		}
+		catch (SQLException | RuntimeException e) {
+			statement.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Read the rows of the subselect fetch, on a thread other than the one of
+	 * the session, without touching the session.
+	 */
+	private static Object[][] readRows(
+			Connection connection,
+			PreparedStatement statement,
+			String sql,
+			JdbcValuesMapping mapping,
+			SessionFactoryImplementor factory) {
+		final WrapperOptions options = factory.getWrapperOptions();
+		try {
+			try ( PreparedStatement preparedStatement = statement;
+					ResultSet resultSet = preparedStatement.executeQuery() ) {
+				final List<SqlSelection> sqlSelections = mapping.getSqlSelections();
+				final List<Object[]> rows = new ArrayList<>();
+				while ( resultSet.next() ) {
+					final Object[] row = new Object[mapping.getRowSize()];
+					for ( SqlSelection sqlSelection : sqlSelections ) {
+						row[sqlSelection.getValuesArrayPosition()] = sqlSelection.getJdbcValueExtractor().extract(
+								resultSet,
+								sqlSelection.getJdbcResultSetIndex(),
+								options
+						);
+					}
+					rows.add( row );
+				}
+				return rows.toArray( new Object[0][] );
+			}
+			finally {
+				if ( !connection.getAutoCommit() ) {
+					connection.rollback();
+				}
+			}
+		}
+		catch (SQLException e) {
+			throw factory.getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					"could not prefetch subselect fetch",
+					sql
+			);
+		}
+	}
+
+	@Override
+	public boolean matches(SubselectFetch subselect, String role) {
+		return this.subselect == subselect && this.role.equals( role );
+	}
+
+	@Override
+	public JdbcOperationQuerySelect getJdbcSelect() {
+		return jdbcSelect;
+	}
+
+	@Override
+	public JdbcValues awaitJdbcValues(SharedSessionContractImplementor session) {
+		try {
+			return new JdbcValuesCacheHit( rows.join(), mapping );
+		}
+		catch (CompletionException e) {
+			LOG.debugf( e.getCause(), "Prefetching subselect fetch of [%s] failed", role );
+			return null;
+		}
+		finally {
+			release( session );
+		}
+	}
+
+	private void release(SharedSessionContractImplementor session) {
+		if ( !released ) {
+			released = true;
+			releaseConnection( connection, role, session );
+		}
+	}
+
+	private static void releaseConnection(Connection connection, String role, SharedSessionContractImplementor session) {
+		try {
+			session.getJdbcConnectionAccess().releaseConnection( connection );
+		}
+		catch (SQLException e) {
+			LOG.debugf( e, "Unable to release connection used to prefetch subselect fetch of [%s]", role );
+		}
+	}
+}
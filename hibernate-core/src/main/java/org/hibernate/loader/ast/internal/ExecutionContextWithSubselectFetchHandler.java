@@ -11,16 +11,26 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.sql.exec.internal.BaseExecutionContext;
 import org.hibernate.sql.results.graph.entity.LoadingEntityEntry;
+import org.hibernate.sql.results.jdbc.spi.JdbcValues;
 
 class ExecutionContextWithSubselectFetchHandler extends BaseExecutionContext {
 
 	private final SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler;
+	private final JdbcValues prefetchedJdbcValues;
 
 	public ExecutionContextWithSubselectFetchHandler(
 			SharedSessionContractImplementor session,
 			SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler) {
+		this( session, subSelectFetchableKeysHandler, null );
+	}
+
+	public ExecutionContextWithSubselectFetchHandler(
+			SharedSessionContractImplementor session,
+			SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler,
+			JdbcValues prefetchedJdbcValues) {
 		super( session );
 		this.subSelectFetchableKeysHandler = subSelectFetchableKeysHandler;
+		this.prefetchedJdbcValues = prefetchedJdbcValues;
 	}
 
 	@Override
@@ -30,4 +40,9 @@ class ExecutionContextWithSubselectFetchHandler extends BaseExecutionContext {
 		}
 	}
 
+	@Override
+	public JdbcValues getPrefetchedJdbcValues() {
+		return prefetchedJdbcValues;
+	}
+
 }
@@ -6,17 +6,24 @@
  */
 package org.hibernate.loader.ast.internal;
 
+import java.lang.reflect.Array;
+
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.ObjectDeletedException;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.Status;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.loader.LoaderLogging;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.metamodel.mapping.ModelPart;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.descriptor.java.ArrayJavaType;
 
 /**
  * @author Steve Ebersole
@@ -80,4 +87,47 @@ public class LoaderHelper {
 
 		}
 	}
+
+	/**
+	 * Determine the mapping of an array of values of the given key, for
+	 * restricting on multiple keys with a single
+	 * {@linkplain org.hibernate.sql.ast.tree.predicate.InArrayPredicate array parameter}.
+	 *
+	 * @return The array mapping, or {@code null} if the key is not a single basic
+	 * 		column, array parameters are not {@linkplain org.hibernate.cfg.AvailableSettings#USE_ARRAY_PARAMETER_FOR_BATCH_LOADING
+	 * 		enabled}, or the Dialect does not {@linkplain org.hibernate.dialect.Dialect#useArrayForMultiValuedParameters() support} them
+	 */
+	public static JdbcMapping resolveArrayJdbcMapping(ModelPart keyPart, SessionFactoryImplementor sessionFactory) {
+		if ( !sessionFactory.getSessionFactoryOptions().isArrayParameterForBatchLoadingEnabled()
+				|| !sessionFactory.getJdbcServices().getDialect().useArrayForMultiValuedParameters()
+				|| keyPart.getJdbcTypeCount() != 1 ) {
+			return null;
+		}
+
+		final JdbcMapping jdbcMapping = keyPart.getSingleJdbcMapping();
+		if ( !( jdbcMapping instanceof BasicType<?> ) || jdbcMapping.getValueConverter() != null ) {
+			return null;
+		}
+
+		//noinspection unchecked
+		final BasicType<Object> elementType = (BasicType<Object>) jdbcMapping;
+		return (JdbcMapping) new ArrayJavaType<>( elementType.getJavaTypeDescriptor() ).resolveType(
+				sessionFactory.getTypeConfiguration(),
+				sessionFactory.getJdbcServices().getDialect(),
+				elementType,
+				null
+		);
+	}
+
+	/**
+	 * Copy a range of the given keys into an array of the element type of the
+	 * given {@linkplain #resolveArrayJdbcMapping array mapping}, so that it can
+	 * be bound as a single parameter.
+	 */
+	public static Object[] toKeyArray(Object[] keys, int start, int length, JdbcMapping arrayJdbcMapping) {
+		final Class<?> elementClass = arrayJdbcMapping.getJavaTypeDescriptor().getJavaTypeClass().getComponentType();
+		final Object[] keyArray = (Object[]) Array.newInstance( elementClass, length );
+		System.arraycopy( keys, start, keyArray, 0, length );
+		return keyArray;
+	}
 }
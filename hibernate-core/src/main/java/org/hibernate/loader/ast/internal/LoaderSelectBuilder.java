@@ -64,6 +64,7 @@ import org.hibernate.sql.ast.tree.from.TableGroupJoin;
 import org.hibernate.sql.ast.tree.from.TableGroupJoinProducer;
 import org.hibernate.sql.ast.tree.from.TableReference;
 import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
 import org.hibernate.sql.ast.tree.predicate.InListPredicate;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.select.QueryPart;
@@ -131,6 +132,49 @@ public class LoaderSelectBuilder {
 				lockOptions,
 				determineGraphTraversalState( loadQueryInfluencers ),
 				true,
+				null,
+				jdbcParameterConsumer
+		);
+
+		return process.generateSelect();
+	}
+
+	/**
+	 * Create an SQL AST select-statement restricting the given part to the
+	 * elements of an array bound to a single parameter.  Unlike the in-list
+	 * produced by {@link #createSelect}, the statement does not depend on
+	 * the number of keys to load.
+	 *
+	 * @param loadable The root Loadable
+	 * @param restrictedPart Part to base the where-clause restriction on, which must map to a single column
+	 * @param loadQueryInfluencers Any influencers (entity graph, fetch profile) to account for
+	 * @param lockOptions Pessimistic lock options to apply
+	 * @param arrayParameter The parameter to which the array of keys is bound
+	 * @param jdbcParameterConsumer Consumer for all JdbcParameter references created
+	 * @param sessionFactory The SessionFactory
+	 *
+	 * @see org.hibernate.dialect.Dialect#useArrayForMultiValuedParameters()
+	 */
+	public static SelectStatement createSelectBySingleArrayParameter(
+			Loadable loadable,
+			ModelPart restrictedPart,
+			LoadQueryInfluencers loadQueryInfluencers,
+			LockOptions lockOptions,
+			JdbcParameter arrayParameter,
+			Consumer<JdbcParameter> jdbcParameterConsumer,
+			SessionFactoryImplementor sessionFactory) {
+		final LoaderSelectBuilder process = new LoaderSelectBuilder(
+				sessionFactory,
+				loadable,
+				null,
+				singletonList( restrictedPart ),
+				null,
+				-1,
+				loadQueryInfluencers,
+				lockOptions != null ? lockOptions : LockOptions.NONE,
+				determineGraphTraversalState( loadQueryInfluencers ),
+				true,
+				arrayParameter,
 				jdbcParameterConsumer
 		);
 
@@ -243,6 +287,7 @@ public class LoaderSelectBuilder {
 	private final DomainResult<?> cachedDomainResult;
 	private final int numberOfKeysToLoad;
 	private final boolean forceIdentifierSelection;
+	private final JdbcParameter arrayParameter;
 	private final LoadQueryInfluencers loadQueryInfluencers;
 	private final LockOptions lockOptions;
 	private final Consumer<JdbcParameter> jdbcParameterConsumer;
@@ -264,6 +309,7 @@ public class LoaderSelectBuilder {
 			LockOptions lockOptions,
 			EntityGraphTraversalState entityGraphTraversalState,
 			boolean forceIdentifierSelection,
+			JdbcParameter arrayParameter,
 			Consumer<JdbcParameter> jdbcParameterConsumer) {
 		this.creationContext = creationContext;
 		this.loadable = loadable;
@@ -275,6 +321,7 @@ public class LoaderSelectBuilder {
 		this.lockOptions = lockOptions;
 		this.entityGraphTraversalState = entityGraphTraversalState;
 		this.forceIdentifierSelection = forceIdentifierSelection;
+		this.arrayParameter = arrayParameter;
 		this.jdbcParameterConsumer = jdbcParameterConsumer;
 	}
 
@@ -299,6 +346,7 @@ public class LoaderSelectBuilder {
 				lockOptions != null ? lockOptions : LockOptions.NONE,
 				determineGraphTraversalState( loadQueryInfluencers ),
 				determineWhetherToForceIdSelection( numberOfKeysToLoad, restrictedParts ),
+				null,
 				jdbcParameterConsumer
 		);
 	}
@@ -514,7 +562,11 @@ public class LoaderSelectBuilder {
 										tableReference,
 										selection
 								);
-						if ( numberOfKeysToLoad == 1 ) {
+						if ( arrayParameter != null ) {
+							jdbcParameterConsumer.accept( arrayParameter );
+							rootQuerySpec.applyPredicate( new InArrayPredicate( columnRef, arrayParameter ) );
+						}
+						else if ( numberOfKeysToLoad == 1 ) {
 							final JdbcParameter jdbcParameter = new JdbcParameterImpl( selection.getJdbcMapping() );
 							jdbcParameterConsumer.accept( jdbcParameter );
 
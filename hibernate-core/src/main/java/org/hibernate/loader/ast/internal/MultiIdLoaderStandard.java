@@ -32,12 +32,15 @@ import org.hibernate.loader.ast.spi.MultiIdEntityLoader;
 import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
 import org.hibernate.mapping.PersistentClass;
 import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.ast.SqlAstTranslatorFactory;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterImpl;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
@@ -103,10 +106,18 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 				? new LockOptions( LockMode.NONE )
 				: loadOptions.getLockOptions();
 
+		final JdbcMapping arrayJdbcMapping = LoaderHelper.resolveArrayJdbcMapping(
+				getLoadable().getIdentifierMapping(),
+				sessionFactory
+		);
 		final int maxBatchSize;
 		if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
 			maxBatchSize = loadOptions.getBatchSize();
 		}
+		else if ( arrayJdbcMapping != null ) {
+			// the number of ids bound to an array parameter is not limited
+			maxBatchSize = ids.length;
+		}
 		else {
 			maxBatchSize = dialect.getDefaultBatchLoadSizingStrategy().determineOptimalBatchLoadSize(
 					idJdbcTypeCount,
@@ -118,15 +129,12 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 		final List<Object> idsInBatch = new ArrayList<>();
 		final List<Integer> elementPositionsLoadedByBatch = new ArrayList<>();
 
-		final boolean coerce = !sessionFactory.getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
-		for ( int i = 0; i < ids.length; i++ ) {
-			final Object id;
-			if ( coerce ) {
-				id = entityDescriptor.getIdentifierMapping().getJavaType().coerce( ids[i], session );
-			}
-			else {
-				id = ids[i];
-			}
+		final Object[] coercedIds = coerceIds( ids, session );
+		final Object[] cachedEntries = loadOptions.isSecondLevelCacheCheckingEnabled()
+				? getFromSharedCache( coercedIds, lockOptions, session )
+				: null;
+		for ( int i = 0; i < coercedIds.length; i++ ) {
+			final Object id = coercedIds[i];
 			final EntityKey entityKey = new EntityKey( id, entityDescriptor );
 
 			if ( loadOptions.isSessionCheckingEnabled() || loadOptions.isSecondLevelCacheCheckingEnabled() ) {
@@ -159,12 +167,13 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 					}
 				}
 
-				if ( managedEntity == null && loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+				if ( managedEntity == null && cachedEntries != null ) {
 					// look for it in the SessionFactory
 					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
 							loadEvent,
 							entityDescriptor,
-							entityKey
+							entityKey,
+							cachedEntries[i]
 					);
 				}
 
@@ -180,7 +189,7 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 
 			if ( idsInBatch.size() >= maxBatchSize ) {
 				// we've hit the allotted max-batch-size, perform an "intermediate load"
-				loadEntitiesById( idsInBatch, lockOptions, session );
+				loadEntitiesById( idsInBatch, arrayJdbcMapping, lockOptions, session );
 				idsInBatch.clear();
 			}
 
@@ -193,7 +202,7 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 		if ( !idsInBatch.isEmpty() ) {
 			// we still have ids to load from the processing above since the last max-batch-size trigger,
 			// perform a load for them
-			loadEntitiesById( idsInBatch, lockOptions, session );
+			loadEntitiesById( idsInBatch, arrayJdbcMapping, lockOptions, session );
 		}
 
 		// todo (6.0) : can't we just walk all elements of the results looking for EntityKey and replacing here?
@@ -219,8 +228,52 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 		return (List<T>) result;
 	}
 
+	private Object[] coerceIds(Object[] ids, EventSource session) {
+		if ( sessionFactory.getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled() ) {
+			return ids;
+		}
+		final Object[] coercedIds = new Object[ids.length];
+		for ( int i = 0; i < ids.length; i++ ) {
+			coercedIds[i] = entityDescriptor.getIdentifierMapping().getJavaType().coerce( ids[i], session );
+		}
+		return coercedIds;
+	}
+
+	private Object[] coerceIds(List<Object> ids, SharedSessionContractImplementor session) {
+		// the array has the exact element type of the identifier
+		final Object[] coercedIds = new Object[ids.size()];
+		for ( int i = 0; i < coercedIds.length; i++ ) {
+			coercedIds[i] = entityDescriptor.getIdentifierMapping().getJavaType().coerce( ids.get( i ), session );
+		}
+		return coercedIds;
+	}
+
+	/**
+	 * Fetch the second-level cache entries for all the given ids which are not
+	 * already associated with the session, in a single cache operation.
+	 *
+	 * @return the cache entries, positionally aligned with {@code ids}, or
+	 * null if the second-level cache can't be used
+	 */
+	private Object[] getFromSharedCache(Object[] ids, LockOptions lockOptions, EventSource session) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final Object[] idsToLookup = new Object[ids.length];
+		for ( int i = 0; i < ids.length; i++ ) {
+			if ( persistenceContext.getEntity( new EntityKey( ids[i], entityDescriptor ) ) == null ) {
+				idsToLookup[i] = ids[i];
+			}
+		}
+		return CacheEntityLoaderHelper.INSTANCE.getFromSharedCache(
+				session,
+				lockOptions.getLockMode(),
+				entityDescriptor,
+				idsToLookup
+		);
+	}
+
 	private List<T> loadEntitiesById(
 			List<Object> idsInBatch,
+			JdbcMapping arrayJdbcMapping,
 			LockOptions lockOptions,
 			SharedSessionContractImplementor session) {
 		assert idsInBatch != null;
@@ -235,42 +288,69 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 			log.tracef( "#loadEntitiesById(`%s`, `%s`, ..)", entityDescriptor.getEntityName(), numberOfIdsInBatch );
 		}
 
-		final List<JdbcParameter> jdbcParameters = new ArrayList<>( numberOfIdsInBatch * idJdbcTypeCount);
+		final List<JdbcParameter> jdbcParameters;
+		final SelectStatement sqlAst;
+		final JdbcParameterBindings jdbcParameterBindings;
+		if ( arrayJdbcMapping != null ) {
+			// all the ids are bound as a single array
+			jdbcParameters = new ArrayList<>( 1 );
+			sqlAst = LoaderSelectBuilder.createSelectBySingleArrayParameter(
+					getLoadable(),
+					getLoadable().getIdentifierMapping(),
+					session.getLoadQueryInfluencers(),
+					lockOptions,
+					new JdbcParameterImpl( arrayJdbcMapping ),
+					jdbcParameters::add,
+					sessionFactory
+			);
 
-		final SelectStatement sqlAst = LoaderSelectBuilder.createSelect(
-				getLoadable(),
-				// null here means to select everything
-				null,
-				getLoadable().getIdentifierMapping(),
-				null,
-				numberOfIdsInBatch,
-				session.getLoadQueryInfluencers(),
-				lockOptions,
-				jdbcParameters::add,
-				sessionFactory
-		);
+			jdbcParameterBindings = new JdbcParameterBindingsImpl( 1 );
+			jdbcParameterBindings.addBinding(
+					jdbcParameters.get( 0 ),
+					new JdbcParameterBindingImpl(
+							arrayJdbcMapping,
+							LoaderHelper.toKeyArray( coerceIds( idsInBatch, session ), 0, numberOfIdsInBatch, arrayJdbcMapping )
+					)
+			);
+		}
+		else {
+			jdbcParameters = new ArrayList<>( numberOfIdsInBatch * idJdbcTypeCount );
+			sqlAst = LoaderSelectBuilder.createSelect(
+					getLoadable(),
+					// null here means to select everything
+					null,
+					getLoadable().getIdentifierMapping(),
+					null,
+					numberOfIdsInBatch,
+					session.getLoadQueryInfluencers(),
+					lockOptions,
+					jdbcParameters::add,
+					sessionFactory
+			);
 
-		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
-		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
-		final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
+			jdbcParameterBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
+			int offset = 0;
 
-		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
-		int offset = 0;
+			for ( int i = 0; i < numberOfIdsInBatch; i++ ) {
+				final Object id = idsInBatch.get( i );
 
-		for ( int i = 0; i < numberOfIdsInBatch; i++ ) {
-			final Object id = idsInBatch.get( i );
+				offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
+						id,
+						offset,
+						entityDescriptor.getIdentifierMapping(),
+						jdbcParameters,
+						session
+				);
+			}
 
-			offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
-					id,
-					offset,
-					entityDescriptor.getIdentifierMapping(),
-					jdbcParameters,
-					session
-			);
+			// we should have used all the JdbcParameter references (created bindings for all)
+			assert offset == jdbcParameters.size();
 		}
 
-		// we should have used all the JdbcParameter references (created bindings for all)
-		assert offset == jdbcParameters.size();
+		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
+		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
+		final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
+
 		final JdbcOperationQuerySelect jdbcSelect = sqlAstTranslatorFactory.buildSelectTranslator( sessionFactory, sqlAst )
 				.translate( jdbcParameterBindings, QueryOptions.NONE );
 
@@ -327,15 +407,12 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 			boolean foundAnyManagedEntities = false;
 			final List<Object> nonManagedIds = new ArrayList<>();
 
-			final boolean coerce = !sessionFactory.getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
-			for ( int i = 0; i < ids.length; i++ ) {
-				final Object id;
-				if ( coerce ) {
-					id = entityDescriptor.getIdentifierMapping().getJavaType().coerce( ids[i], session );
-				}
-				else {
-					id = ids[i];
-				}
+			final Object[] coercedIds = coerceIds( ids, session );
+			final Object[] cachedEntries = loadOptions.isSecondLevelCacheCheckingEnabled()
+					? getFromSharedCache( coercedIds, lockOptions, session )
+					: null;
+			for ( int i = 0; i < coercedIds.length; i++ ) {
+				final Object id = coercedIds[i];
 				final EntityKey entityKey = new EntityKey( id, entityDescriptor );
 
 				LoadEvent loadEvent = new LoadEvent(
@@ -367,11 +444,12 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 					}
 				}
 
-				if ( managedEntity == null && loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+				if ( managedEntity == null && cachedEntries != null ) {
 					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
 							loadEvent,
 							entityDescriptor,
-							entityKey
+							entityKey,
+							cachedEntries[i]
 					);
 				}
 
@@ -404,10 +482,18 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 		}
 
 		int numberOfIdsLeft = ids.length;
+		final JdbcMapping arrayJdbcMapping = LoaderHelper.resolveArrayJdbcMapping(
+				getLoadable().getIdentifierMapping(),
+				sessionFactory
+		);
 		final int maxBatchSize;
 		if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
 			maxBatchSize = loadOptions.getBatchSize();
 		}
+		else if ( arrayJdbcMapping != null ) {
+			// the number of ids bound to an array parameter is not limited
+			maxBatchSize = numberOfIdsLeft;
+		}
 		else {
 			maxBatchSize = session.getJdbcServices().getJdbcEnvironment().getDialect().getDefaultBatchLoadSizingStrategy().determineOptimalBatchLoadSize(
 					entityDescriptor.getIdentifierType().getColumnSpan( session.getFactory() ),
@@ -424,7 +510,7 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 			System.arraycopy( ids, idPosition, idsInBatch, 0, batchSize );
 
 			result.addAll(
-					loadEntitiesById( Arrays.asList( idsInBatch ), lockOptions, session )
+					loadEntitiesById( Arrays.asList( idsInBatch ), arrayJdbcMapping, lockOptions, session )
 			);
 
 			numberOfIdsLeft = numberOfIdsLeft - batchSize;
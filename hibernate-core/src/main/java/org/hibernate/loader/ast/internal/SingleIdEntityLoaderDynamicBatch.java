@@ -8,24 +8,31 @@ package org.hibernate.loader.ast.internal;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
+import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.engine.internal.BatchFetchQueueHelper;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.AdaptiveBatchFetchSize;
 import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryOptionsAdapter;
 import org.hibernate.sql.ast.SqlAstTranslatorFactory;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.sql.exec.internal.BaseExecutionContext;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterImpl;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
@@ -43,6 +50,15 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 
 	private final int maxBatchSize;
 
+	/**
+	 * Translated batch selects, by lock mode and then by number of ids, for
+	 * loads which are not affected by any influencers.  Bounded by the number
+	 * of lock modes times the max batch size.  Atomic arrays, since the plans
+	 * are shared by concurrent sessions.
+	 */
+	private final AtomicReferenceArray<AtomicReferenceArray<BatchLoadPlan>> plansByLockMode =
+			new AtomicReferenceArray<>( LockMode.values().length );
+
 	private SingleIdEntityLoaderStandardImpl<T> singleIdLoader;
 
 	public SingleIdEntityLoaderDynamicBatch(
@@ -65,9 +81,11 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 			LockOptions lockOptions,
 			Boolean readOnly,
 			SharedSessionContractImplementor session) {
+		final AdaptiveBatchFetchSize adaptiveBatchSize = getLoadable().getEntityPersister().getAdaptiveBatchFetchSize();
+		final int batchSize = adaptiveBatchSize == null ? maxBatchSize : adaptiveBatchSize.getBatchSize();
 		final Object[] batchIds = session.getPersistenceContextInternal()
 				.getBatchFetchQueue()
-				.getBatchLoadableEntityIds( getLoadable(), pkValue, maxBatchSize );
+				.getBatchLoadableEntityIds( getLoadable(), pkValue, batchSize );
 
 		final int numberOfIds = ArrayHelper.countNonNull( batchIds );
 		if ( numberOfIds <= 1 ) {
@@ -90,45 +108,39 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 			log.debugf( "Batch loading entity [%s] : %s", getLoadable().getEntityName(), idsToLoad );
 		}
 
-		final List<JdbcParameter> jdbcParameters = new ArrayList<>();
-
-		final SelectStatement sqlAst = LoaderSelectBuilder.createSelect(
-				getLoadable(),
-				// null here means to select everything
-				null,
-				getLoadable().getIdentifierMapping(),
-				null,
-				numberOfIds,
-				session.getLoadQueryInfluencers(),
-				lockOptions,
-				jdbcParameters::add,
-				session.getFactory()
-		);
-
-		final SessionFactoryImplementor sessionFactory = session.getFactory();
-		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
-		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
-		final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
+		final BatchLoadPlan loadPlan = resolveLoadPlan( numberOfIds, lockOptions, session );
+		final SelectStatement sqlAst = loadPlan.sqlAst;
+		final List<JdbcParameter> jdbcParameters = loadPlan.jdbcParameters;
 
 		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl(
 				getLoadable().getIdentifierMapping().getJdbcTypeCount()
 		);
 
-		int offset = 0;
-		for ( int i = 0; i < numberOfIds; i++ ) {
-			offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
-					idsToLoad[i],
-					offset,
-					getLoadable().getIdentifierMapping(),
-					jdbcParameters,
-					session
+		if ( loadPlan.arrayJdbcMapping != null ) {
+			assert jdbcParameters.size() == 1;
+			jdbcParameterBindings.addBinding(
+					jdbcParameters.get( 0 ),
+					new JdbcParameterBindingImpl(
+							loadPlan.arrayJdbcMapping,
+							LoaderHelper.toKeyArray( idsToLoad, 0, numberOfIds, loadPlan.arrayJdbcMapping )
+					)
 			);
 		}
-		assert offset == jdbcParameters.size();
+		else {
+			int offset = 0;
+			for ( int i = 0; i < numberOfIds; i++ ) {
+				offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
+						idsToLoad[i],
+						offset,
+						getLoadable().getIdentifierMapping(),
+						jdbcParameters,
+						session
+				);
+			}
+			assert offset == jdbcParameters.size();
+		}
 
-		final JdbcOperationQuerySelect jdbcSelect = sqlAstTranslatorFactory
-				.buildSelectTranslator( sessionFactory, sqlAst )
-				.translate( jdbcParameterBindings, QueryOptions.NONE );
+		final JdbcOperationQuerySelect jdbcSelect = loadPlan.jdbcSelect;
 
 		final SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler = SubselectFetch.createRegistrationHandler(
 				session.getPersistenceContext().getBatchFetchQueue(),
@@ -159,11 +171,127 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 			BatchFetchQueueHelper.removeBatchLoadableEntityKey( id, getLoadable(), session );
 		}
 
+		if ( adaptiveBatchSize != null ) {
+			session.getPersistenceContextInternal().getBatchFetchQueue().registerEntityBatchFetch(
+					adaptiveBatchSize,
+					getLoadable().getEntityPersister(),
+					idsToLoad,
+					numberOfIds,
+					batchSize
+			);
+		}
+
 		final EntityKey entityKey = session.generateEntityKey( pkValue, getLoadable().getEntityPersister() );
 		//noinspection unchecked
 		return (T) session.getPersistenceContext().getEntity( entityKey );
 	}
 
+	private BatchLoadPlan resolveLoadPlan(
+			int numberOfIds,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		final LoadQueryInfluencers loadQueryInfluencers = session.getLoadQueryInfluencers();
+		if ( !determineIfReusable( lockOptions, loadQueryInfluencers ) ) {
+			return createLoadPlan( numberOfIds, lockOptions, loadQueryInfluencers, session.getFactory() );
+		}
+
+		final int lockModeIndex = lockOptions.getLockMode().ordinal();
+		AtomicReferenceArray<BatchLoadPlan> plans = plansByLockMode.get( lockModeIndex );
+		if ( plans == null ) {
+			plansByLockMode.compareAndSet( lockModeIndex, null, new AtomicReferenceArray<>( maxBatchSize + 1 ) );
+			plans = plansByLockMode.get( lockModeIndex );
+		}
+		else {
+			// slot 0 holds the plan binding all ids as a single array, which
+			// serves every number of ids
+			final BatchLoadPlan arrayPlan = plans.get( 0 );
+			final BatchLoadPlan existing = arrayPlan != null ? arrayPlan : plans.get( numberOfIds );
+			if ( existing != null ) {
+				return existing;
+			}
+		}
+
+		// plans are immutable once created, so a racing thread at worst
+		// translates the same statement twice
+		final BatchLoadPlan plan = createLoadPlan( numberOfIds, lockOptions, loadQueryInfluencers, session.getFactory() );
+		plans.set( plan.arrayJdbcMapping != null ? 0 : numberOfIds, plan );
+		return plan;
+	}
+
+	private boolean determineIfReusable(LockOptions lockOptions, LoadQueryInfluencers loadQueryInfluencers) {
+		if ( getLoadable().isAffectedByEnabledFilters( loadQueryInfluencers ) ) {
+			return false;
+		}
+
+		if ( loadQueryInfluencers.getEnabledCascadingFetchProfile() != null ) {
+			return false;
+		}
+
+		if ( getLoadable().isAffectedByEntityGraph( loadQueryInfluencers ) ) {
+			return false;
+		}
+
+		if ( getLoadable().isAffectedByEnabledFetchProfiles( loadQueryInfluencers ) ) {
+			return false;
+		}
+
+		//noinspection RedundantIfStatement
+		if ( lockOptions.getTimeOut() != LockOptions.WAIT_FOREVER ) {
+			return false;
+		}
+
+		return true;
+	}
+
+	private BatchLoadPlan createLoadPlan(
+			int numberOfIds,
+			LockOptions lockOptions,
+			LoadQueryInfluencers loadQueryInfluencers,
+			SessionFactoryImplementor sessionFactory) {
+		final List<JdbcParameter> jdbcParameters = new ArrayList<>();
+
+		final JdbcMapping arrayJdbcMapping = LoaderHelper.resolveArrayJdbcMapping(
+				getLoadable().getIdentifierMapping(),
+				sessionFactory
+		);
+		final SelectStatement sqlAst;
+		if ( arrayJdbcMapping != null ) {
+			sqlAst = LoaderSelectBuilder.createSelectBySingleArrayParameter(
+					getLoadable(),
+					getLoadable().getIdentifierMapping(),
+					loadQueryInfluencers,
+					lockOptions,
+					new JdbcParameterImpl( arrayJdbcMapping ),
+					jdbcParameters::add,
+					sessionFactory
+			);
+		}
+		else {
+			sqlAst = LoaderSelectBuilder.createSelect(
+					getLoadable(),
+					// null here means to select everything
+					null,
+					getLoadable().getIdentifierMapping(),
+					null,
+					numberOfIds,
+					loadQueryInfluencers,
+					lockOptions,
+					jdbcParameters::add,
+					sessionFactory
+			);
+		}
+
+		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
+		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
+		final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
+
+		final JdbcOperationQuerySelect jdbcSelect = sqlAstTranslatorFactory
+				.buildSelectTranslator( sessionFactory, sqlAst )
+				.translate( null, QueryOptions.NONE );
+
+		return new BatchLoadPlan( sqlAst, jdbcParameters, jdbcSelect, arrayJdbcMapping );
+	}
+
 	private ExecutionContext getExecutionContext(
 			Object entityId,
 			Object entityInstance,
@@ -187,6 +315,28 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 		}
 	}
 
+	private static class BatchLoadPlan {
+		private final SelectStatement sqlAst;
+		private final List<JdbcParameter> jdbcParameters;
+		private final JdbcOperationQuerySelect jdbcSelect;
+		/**
+		 * The mapping of the single array parameter, or {@code null}
+		 * if the ids are bound to an in-list
+		 */
+		private final JdbcMapping arrayJdbcMapping;
+
+		private BatchLoadPlan(
+				SelectStatement sqlAst,
+				List<JdbcParameter> jdbcParameters,
+				JdbcOperationQuerySelect jdbcSelect,
+				JdbcMapping arrayJdbcMapping) {
+			this.sqlAst = sqlAst;
+			this.jdbcParameters = jdbcParameters;
+			this.jdbcSelect = jdbcSelect;
+			this.arrayJdbcMapping = arrayJdbcMapping;
+		}
+	}
+
 	private static class SingleIdExecutionContext extends BaseExecutionContext {
 		private final Object entityInstance;
 		private final Object entityId;
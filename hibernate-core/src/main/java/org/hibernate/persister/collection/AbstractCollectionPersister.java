@@ -17,6 +17,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 
 import org.hibernate.AssertionFailure;
@@ -43,6 +44,7 @@ import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.profile.Fetch;
 import org.hibernate.engine.profile.FetchProfile;
+import org.hibernate.engine.spi.AdaptiveBatchFetchSize;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.ExecuteUpdateResultCheckStyle;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
@@ -214,6 +216,7 @@ public abstract class AbstractCollectionPersister
 	private final boolean isMutable;
 	private final boolean isVersioned;
 	protected final int batchSize;
+	private final AdaptiveBatchFetchSize adaptiveBatchFetchSize;
 	private final FetchMode fetchMode;
 	private final boolean hasOrphanDelete;
 	private final boolean subselectLoadable;
@@ -251,6 +254,7 @@ public abstract class AbstractCollectionPersister
 
 	private CollectionLoader collectionLoader;
 	private volatile CollectionLoader standardCollectionLoader;
+	private final ReentrantLock standardCollectionLoaderLock = new ReentrantLock();
 	private CollectionElementLoaderByIndex collectionElementLoaderByIndex;
 
 	private PluralAttributeMapping attributeMapping;
@@ -334,6 +338,9 @@ public abstract class AbstractCollectionPersister
 			batch = creationContext.getSessionFactoryOptions().getDefaultBatchFetchSize();
 		}
 		batchSize = batch;
+		adaptiveBatchFetchSize = batchSize > 1 && creationContext.getSessionFactoryOptions().isAdaptiveBatchFetchEnabled()
+				? new AdaptiveBatchFetchSize( creationContext.getSessionFactoryOptions().getAdaptiveBatchFetchMinSize(), batchSize )
+				: null;
 
 		isVersioned = collectionBootDescriptor.isOptimisticLocked();
 
@@ -721,7 +728,8 @@ public abstract class AbstractCollectionPersister
 	protected CollectionLoader getStandardCollectionLoader() {
 		CollectionLoader localCopy = standardCollectionLoader;
 		if ( localCopy == null ) {
-			synchronized (this) {
+			standardCollectionLoaderLock.lock();
+			try {
 				localCopy = standardCollectionLoader;
 				if ( localCopy == null ) {
 					if ( queryLoaderName != null ) {
@@ -733,6 +741,9 @@ public abstract class AbstractCollectionPersister
 					standardCollectionLoader  = localCopy;
 				}
 			}
+			finally {
+				standardCollectionLoaderLock.unlock();
+			}
 		}
 		return localCopy;
 	}
@@ -756,26 +767,33 @@ public abstract class AbstractCollectionPersister
 	}
 
 	private CollectionLoader resolveSubSelectLoader(Object key, SharedSessionContractImplementor session) {
-		if ( !isSubselectLoadable() ) {
-			return null;
-		}
-
-		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
-
-		final EntityKey ownerEntityKey = session.generateEntityKey( key, getOwnerEntityPersister() );
-		final SubselectFetch subselect = persistenceContext.getBatchFetchQueue().getSubselect( ownerEntityKey );
+		final SubselectFetch subselect = getSubselectFetch( key, session );
 		if ( subselect == null ) {
 			return null;
 		}
 
 		// Take care of any entities that might have
 		// been evicted!
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
 		subselect.getResultingEntityKeys().removeIf( o -> !persistenceContext.containsEntity( o ) );
 
 		// Run a subquery loader
 		return createSubSelectLoader( subselect, session );
 	}
 
+	/**
+	 * The subselect fetch which would be used to initialize the collection
+	 * with the given key, if any
+	 */
+	public SubselectFetch getSubselectFetch(Object key, SharedSessionContractImplementor session) {
+		if ( queryLoaderName != null || !isSubselectLoadable() ) {
+			return null;
+		}
+
+		final EntityKey ownerEntityKey = session.generateEntityKey( key, getOwnerEntityPersister() );
+		return session.getPersistenceContextInternal().getBatchFetchQueue().getSubselect( ownerEntityKey );
+	}
+
 	protected CollectionLoader createSubSelectLoader(SubselectFetch subselect, SharedSessionContractImplementor session) {
 		//noinspection RedundantCast
 		return new CollectionLoaderSubSelectFetch(
@@ -1544,6 +1562,11 @@ public abstract class AbstractCollectionPersister
 		return batchSize;
 	}
 
+	@Override
+	public AdaptiveBatchFetchSize getAdaptiveBatchFetchSize() {
+		return adaptiveBatchFetchSize;
+	}
+
 	@Override
 	public String getMappedByProperty() {
 		return mappedByProperty;
@@ -19,6 +19,7 @@ import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
 import org.hibernate.collection.spi.CollectionSemantics;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.AdaptiveBatchFetchSize;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -325,6 +326,19 @@ public interface CollectionPersister extends Restrictable {
 	Object getElementByIndex(Object key, Object index, SharedSessionContractImplementor session, Object owner);
 	int getBatchSize();
 
+	/**
+	 * The batch size for batch loading, if it is batch loadable and
+	 * {@linkplain org.hibernate.cfg.AvailableSettings#ADAPTIVE_BATCH_FETCH
+	 * adaptive batch fetching} is enabled
+	 *
+	 * @return the adaptive batch size, or {@code null}
+	 *
+	 * @since 6.3
+	 */
+	default AdaptiveBatchFetchSize getAdaptiveBatchFetchSize() {
+		return null;
+	}
+
 	/**
 	 * @return the name of the property this collection is mapped by
 	 */
@@ -76,6 +76,7 @@ import org.hibernate.engine.internal.MutableEntityEntryFactory;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
 import org.hibernate.engine.jdbc.mutation.spi.MutationExecutorService;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.AdaptiveBatchFetchSize;
 import org.hibernate.engine.spi.CachedNaturalIdValueSource;
 import org.hibernate.engine.spi.CascadeStyle;
 import org.hibernate.engine.spi.CollectionKey;
@@ -353,6 +354,7 @@ public abstract class AbstractEntityPersister
 	private final String versionColumnName;
 	private final boolean hasFormulaProperties;
 	protected final int batchSize;
+	private final AdaptiveBatchFetchSize adaptiveBatchFetchSize;
 	private final boolean hasSubselectLoadableCollections;
 	private final boolean hasPartitionedSelectionMapping;
 	private final boolean hasCollectionNotReferencingPK;
@@ -532,6 +534,9 @@ public abstract class AbstractEntityPersister
 			batch = creationContext.getSessionFactoryOptions().getDefaultBatchFetchSize();
 		}
 		batchSize = batch;
+		adaptiveBatchFetchSize = batchSize > 1 && creationContext.getSessionFactoryOptions().isAdaptiveBatchFetchEnabled()
+				? new AdaptiveBatchFetchSize( creationContext.getSessionFactoryOptions().getAdaptiveBatchFetchMinSize(), batchSize )
+				: null;
 		hasSubselectLoadableCollections = persistentClass.hasSubselectLoadableCollections();
 		hasPartitionedSelectionMapping = persistentClass.hasPartitionedSelectionMapping();
 		hasCollectionNotReferencingPK = persistentClass.hasCollectionNotReferencingPK();
@@ -1621,6 +1626,11 @@ public abstract class AbstractEntityPersister
 		return batchSize > 1;
 	}
 
+	@Override
+	public AdaptiveBatchFetchSize getAdaptiveBatchFetchSize() {
+		return adaptiveBatchFetchSize;
+	}
+
 	@Override
 	public String[] getIdentifierColumnNames() {
 		return rootTableKeyColumnNames;
@@ -21,6 +21,7 @@ import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
+import org.hibernate.engine.spi.AdaptiveBatchFetchSize;
 import org.hibernate.engine.spi.CascadeStyle;
 import org.hibernate.engine.spi.EntityEntryFactory;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -740,6 +741,19 @@ public interface EntityPersister extends EntityMappingType, RootTableGroupProduc
 	 */
 	boolean isBatchLoadable();
 
+	/**
+	 * The batch size for batch loading, if it is batch loadable and
+	 * {@linkplain org.hibernate.cfg.AvailableSettings#ADAPTIVE_BATCH_FETCH
+	 * adaptive batch fetching} is enabled
+	 *
+	 * @return the adaptive batch size, or {@code null}
+	 *
+	 * @since 6.3
+	 */
+	default AdaptiveBatchFetchSize getAdaptiveBatchFetchSize() {
+		return null;
+	}
+
 	/**
 	 * Is select snapshot before update enabled?
 	 */
@@ -7,9 +7,11 @@
 package org.hibernate.persister.entity.mutation;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.AssertionFailure;
@@ -32,6 +34,7 @@ import org.hibernate.generator.Generator;
 import org.hibernate.generator.OnExecutionGenerator;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.metamodel.mapping.EntityRowIdMapping;
@@ -82,6 +85,18 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 
 	private final MutationOperationGroup versionUpdateGroup;
 
+	/**
+	 * The maximum number of distinct dynamic update shapes kept per entity
+	 */
+	private static final int MAX_DYNAMIC_UPDATE_GROUPS = 32;
+
+	/**
+	 * Dynamic update groups, keyed by the {@linkplain #dynamicUpdateShape shape}
+	 * of the update.  {@code null} if the entity is not dynamic-update, or if
+	 * the shape of its updates also depends on the old values of the entity.
+	 */
+	private final Map<BitSet, MutationOperationGroup> dynamicUpdateGroups;
+
 	public UpdateCoordinatorStandard(AbstractEntityPersister entityPersister, SessionFactoryImplementor factory) {
 		super( entityPersister, factory );
 
@@ -89,6 +104,20 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 		// there are cases where we need the full static updates.
 		this.staticUpdateGroup = buildStaticUpdateGroup();
 		this.versionUpdateGroup = buildVersionUpdateGroup();
+		if ( entityPersister.getEntityMetamodel().isDynamicUpdate()
+				&& ( entityPersister.optimisticLockStyle() == OptimisticLockStyle.NONE
+						|| entityPersister.optimisticLockStyle() == OptimisticLockStyle.VERSION ) ) {
+			// with ALL or DIRTY locking the restrictions depend on which of the
+			// (possibly composite) old values are null, so we don't cache those
+			this.dynamicUpdateGroups = new BoundedConcurrentHashMap<>(
+					MAX_DYNAMIC_UPDATE_GROUPS,
+					4,
+					BoundedConcurrentHashMap.Eviction.LRU
+			);
+		}
+		else {
+			this.dynamicUpdateGroups = null;
+		}
 		if ( entityPersister.hasUpdateGeneratedProperties() ) {
 			// disable batching in case of update generated properties
 			this.batchKey = null;
@@ -910,8 +939,8 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 			InclusionChecker dirtinessChecker,
 			UpdateValuesAnalysisImpl valuesAnalysis,
 			SharedSessionContractImplementor session) {
-		// Create the JDBC operation descriptors
-		final MutationOperationGroup dynamicUpdateGroup = generateDynamicUpdateGroup(
+		// Create (or reuse) the JDBC operation descriptors
+		final MutationOperationGroup dynamicUpdateGroup = resolveDynamicUpdateGroup(
 				id,
 				rowId,
 				oldValues,
@@ -973,6 +1002,59 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 				.createExecutor( () -> batchKey, group, session );
 	}
 
+	private MutationOperationGroup resolveDynamicUpdateGroup(
+			Object id,
+			Object rowId,
+			Object[] oldValues,
+			UpdateValuesAnalysisImpl valuesAnalysis,
+			SharedSessionContractImplementor session) {
+		if ( dynamicUpdateGroups == null ) {
+			return generateDynamicUpdateGroup( id, rowId, oldValues, valuesAnalysis, session );
+		}
+
+		final BitSet shape = dynamicUpdateShape( rowId, oldValues, valuesAnalysis );
+		final MutationOperationGroup existing = dynamicUpdateGroups.get( shape );
+		if ( existing != null ) {
+			return existing;
+		}
+
+		final MutationOperationGroup dynamicUpdateGroup = generateDynamicUpdateGroup(
+				id,
+				rowId,
+				oldValues,
+				valuesAnalysis,
+				session
+		);
+		dynamicUpdateGroups.put( shape, dynamicUpdateGroup );
+		return dynamicUpdateGroup;
+	}
+
+	/**
+	 * Everything {@link #generateDynamicUpdateGroup} takes into account when
+	 * building the group: whether the row-id is used, the set, locking and
+	 * dirtiness state of each attribute, whether the old value of each locking
+	 * attribute is null, and the tables needing an update.
+	 */
+	private BitSet dynamicUpdateShape(Object rowId, Object[] oldValues, UpdateValuesAnalysisImpl valuesAnalysis) {
+		final List<AttributeAnalysis> attributeAnalyses = valuesAnalysis.getAttributeAnalyses();
+		final int numberOfAttributes = attributeAnalyses.size();
+		final BitSet shape = new BitSet( 1 + numberOfAttributes * 4 );
+		shape.set( 0, rowId != null );
+		for ( int i = 0; i < numberOfAttributes; i++ ) {
+			final AttributeAnalysis attributeAnalysis = attributeAnalyses.get( i );
+			final int base = 1 + i * 4;
+			shape.set( base, attributeAnalysis.includeInSet() );
+			shape.set( base + 1, attributeAnalysis.includeInLocking() );
+			shape.set( base + 2, attributeAnalysis.getDirtynessStatus().isDirty() );
+			shape.set( base + 3, attributeAnalysis.includeInLocking() && oldValues != null && oldValues[i] == null );
+		}
+		final int tablesBase = 1 + numberOfAttributes * 4;
+		for ( EntityTableMapping tableMapping : valuesAnalysis.tablesNeedingUpdate ) {
+			shape.set( tablesBase + tableMapping.getRelativePosition() );
+		}
+		return shape;
+	}
+
 	protected MutationOperationGroup generateDynamicUpdateGroup(
 			Object id,
 			Object rowId,
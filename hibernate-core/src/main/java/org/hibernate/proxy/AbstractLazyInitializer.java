@@ -37,6 +37,7 @@ public abstract class AbstractLazyInitializer implements LazyInitializer {
 	private boolean initialized;
 	private boolean readOnly;
 	private boolean unwrap;
+	private transient boolean accessed;
 	private transient SharedSessionContractImplementor session;
 	private Boolean readOnlyBeforeAttachedToSession;
 
@@ -311,6 +312,29 @@ public abstract class AbstractLazyInitializer implements LazyInitializer {
 		return target;
 	}
 
+	/**
+	 * Has the application invoked a method of the proxied entity through
+	 * this proxy?  Hibernate itself obtaining the entity from the proxy does
+	 * not count.
+	 *
+	 * @see org.hibernate.engine.spi.AdaptiveBatchFetchSize
+	 */
+	public final boolean wasAccessed() {
+		return accessed;
+	}
+
+	/**
+	 * Record that the application invoked a method of the proxied entity
+	 * through the proxy, unless Hibernate itself is flushing or cascading
+	 * an operation.
+	 */
+	protected final void markAccessed() {
+		if ( !accessed && session != null ) {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			accessed = !persistenceContext.isFlushing() && persistenceContext.getCascadeLevel() == 0;
+		}
+	}
+
 	@Override
 	public final void setImplementation(Object target) {
 		this.target = target;
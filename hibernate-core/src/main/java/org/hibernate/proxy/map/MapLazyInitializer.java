@@ -25,6 +25,7 @@ public class MapLazyInitializer extends AbstractLazyInitializer implements Seria
 
 	@SuppressWarnings("rawtypes")
 	public Map getMap() {
+		markAccessed();
 		return (Map) getImplementation();
 	}
 
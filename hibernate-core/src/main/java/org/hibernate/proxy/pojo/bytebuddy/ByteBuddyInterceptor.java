@@ -41,6 +41,7 @@ public class ByteBuddyInterceptor extends BasicLazyInitializer implements ProxyC
 	public Object intercept(Object proxy, Method thisMethod, Object[] args) throws Throwable {
 		Object result = this.invoke( thisMethod, args, proxy );
 		if ( result == INVOKE_IMPLEMENTATION ) {
+			markAccessed();
 			Object target = getImplementation();
 			final Object returnValue;
 			try {
@@ -70,6 +70,7 @@ import static org.hibernate.jpa.HibernateHints.HINT_COMMENT;
 import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 import static org.hibernate.jpa.HibernateHints.HINT_FLUSH_MODE;
 import static org.hibernate.jpa.HibernateHints.HINT_FOLLOW_ON_LOCKING;
+import static org.hibernate.jpa.HibernateHints.HINT_LEARN_FETCH_GRAPH;
 import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
 import static org.hibernate.jpa.HibernateHints.HINT_TIMEOUT;
 import static org.hibernate.jpa.LegacySpecHints.HINT_JAVAEE_CACHE_RETRIEVE_MODE;
@@ -332,6 +333,9 @@ public abstract class AbstractCommonQueryContract implements CommonQueryContract
 				case HINT_SPEC_LOAD_GRAPH:
 					applyEntityGraphHint( hintName, value );
 					return true;
+				case HINT_LEARN_FETCH_GRAPH:
+					applyLearnFetchGraphHint( getBoolean( value ) );
+					return true;
 				default:
 					// unrecognized hint
 					return false;
@@ -359,6 +363,10 @@ public abstract class AbstractCommonQueryContract implements CommonQueryContract
 		getQueryOptions().setReadOnly( readOnly );
 	}
 
+	protected void applyLearnFetchGraphHint(boolean learnFetchGraph) {
+		QueryLogging.QUERY_LOGGER.debugf( "The %s hint was set for a query which does not support it; ignoring", HINT_LEARN_FETCH_GRAPH );
+	}
+
 	protected void applyEntityGraphHint(String hintName, Object value) {
 		final GraphSemantic graphSemantic = GraphSemantic.fromHintName( hintName );
 		if ( value instanceof RootGraphImplementor ) {
@@ -17,6 +17,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -39,9 +40,12 @@ import org.hibernate.LockOptions;
 import org.hibernate.NonUniqueResultException;
 import org.hibernate.ScrollMode;
 import org.hibernate.TypeMismatchException;
+import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.graph.GraphSemantic;
 import org.hibernate.graph.spi.AppliedGraph;
+import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.jpa.internal.util.LockModeTypeHelper;
 import org.hibernate.metamodel.model.domain.BasicDomainType;
 import org.hibernate.metamodel.model.domain.DomainType;
@@ -402,11 +406,22 @@ public abstract class AbstractSelectionQuery<R>
 			sessionCacheMode = getSession().getCacheMode();
 			getSession().setCacheMode( effectiveCacheMode );
 		}
+
+		getSession().getEventListenerManager().queryExecutionStart( getQueryKind(), getQueryString() );
 	}
 
 	protected abstract void prepareForExecution();
 
+	/**
+	 * The kind of this query reported to the
+	 * {@link org.hibernate.SessionEventListener#queryExecutionStart session event listeners}
+	 */
+	protected String getQueryKind() {
+		return CRITERIA_HQL_STRING.equals( getQueryString() ) ? "criteria" : "hql";
+	}
+
 	protected void afterQuery(boolean success) {
+		getSession().getEventListenerManager().queryExecutionEnd( getQueryString(), success );
 		if ( sessionFlushMode != null ) {
 			getSession().setHibernateFlushMode( sessionFlushMode );
 			sessionFlushMode = null;
@@ -434,7 +449,17 @@ public abstract class AbstractSelectionQuery<R>
 
 	@Override
 	public ScrollableResultsImplementor<R> scroll(ScrollMode scrollMode) {
-		return doScroll( scrollMode );
+		final SessionEventListenerManager eventListenerManager = getSession().getEventListenerManager();
+		eventListenerManager.queryExecutionStart( getQueryKind(), getQueryString() );
+		boolean success = false;
+		try {
+			final ScrollableResultsImplementor<R> results = doScroll( scrollMode );
+			success = true;
+			return results;
+		}
+		finally {
+			eventListenerManager.queryExecutionEnd( getQueryString(), success );
+		}
 	}
 
 	protected abstract ScrollableResultsImplementor<R> doScroll(ScrollMode scrollMode);
@@ -510,6 +535,72 @@ public abstract class AbstractSelectionQuery<R>
 				&& queryOptions.getAppliedGraph().getSemantic() != null;
 	}
 
+	/**
+	 * Execute the given list operation with the fetch graph learned for this
+	 * query applied, or sample its results if no fetch graph was learned yet.
+	 *
+	 * @see org.hibernate.jpa.HibernateHints#HINT_LEARN_FETCH_GRAPH
+	 */
+	protected List<R> listLearningFetchGraph(SqmStatement<?> sqm, Supplier<List<R>> listOperation) {
+		final SqmRoot<?> root = getLearnableRoot( sqm );
+		if ( root == null ) {
+			return listOperation.get();
+		}
+
+		final LearnedFetchGraphs learnedFetchGraphs = getSessionFactory().getQueryEngine().getLearnedFetchGraphs();
+		final RootGraphImplementor<?> fetchGraph = learnedFetchGraphs.resolveFetchGraph(
+				getQueryString(),
+				hasLimit( (SqmSelectStatement<?>) sqm, getQueryOptions() )
+		);
+		if ( fetchGraph == null ) {
+			final List<R> results = listOperation.get();
+			learnedFetchGraphs.observe( getQueryString(), root.getEntityName(), results, getSessionFactory() );
+			return results;
+		}
+
+		return executeWithFetchGraph( fetchGraph, listOperation );
+	}
+
+	/**
+	 * Execute the given scroll operation with the fetch graph learned for this
+	 * query applied, if one was learned. Scrolled results are not sampled, and
+	 * collections are not fetched, just as when the results are limited.
+	 *
+	 * @see org.hibernate.jpa.HibernateHints#HINT_LEARN_FETCH_GRAPH
+	 */
+	protected ScrollableResultsImplementor<R> scrollWithLearnedFetchGraph(
+			SqmStatement<?> sqm,
+			Supplier<ScrollableResultsImplementor<R>> scrollOperation) {
+		if ( getLearnableRoot( sqm ) == null ) {
+			return scrollOperation.get();
+		}
+
+		final RootGraphImplementor<?> fetchGraph = getSessionFactory().getQueryEngine()
+				.getLearnedFetchGraphs()
+				.resolveFetchGraph( getQueryString(), true );
+		return fetchGraph == null ? scrollOperation.get() : executeWithFetchGraph( fetchGraph, scrollOperation );
+	}
+
+	private SqmRoot<?> getLearnableRoot(SqmStatement<?> sqm) {
+		return sqm instanceof SqmSelectStatement<?>
+				&& !CRITERIA_HQL_STRING.equals( getQueryString() )
+				&& !hasAppliedGraph( getQueryOptions() )
+				? LearnedFetchGraphs.getLearnableRoot( (SqmSelectStatement<?>) sqm )
+				: null;
+	}
+
+	private <T> T executeWithFetchGraph(RootGraphImplementor<?> fetchGraph, Supplier<T> operation) {
+		// the learned graph is immutable, and so is part of the key of the cached query plan
+		getQueryOptions().applyGraph( fetchGraph, GraphSemantic.LOAD );
+		try {
+			return operation.get();
+		}
+		finally {
+			// the learned graph is resolved again for every execution
+			getQueryOptions().applyGraph( null, null );
+		}
+	}
+
 
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
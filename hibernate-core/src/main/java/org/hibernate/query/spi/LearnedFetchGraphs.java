@@ -0,0 +1,303 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.spi;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.graph.internal.RootGraphImpl;
+import org.hibernate.graph.spi.RootGraphImplementor;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.metamodel.mapping.internal.ToOneAttributeMapping;
+import org.hibernate.metamodel.model.domain.EntityDomainType;
+import org.hibernate.metamodel.model.domain.JpaMetamodel;
+import org.hibernate.persister.entity.AttributeMappingsList;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.sqm.tree.from.SqmRoot;
+import org.hibernate.query.sqm.tree.select.SqmQueryPart;
+import org.hibernate.query.sqm.tree.select.SqmQuerySpec;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.query.sqm.tree.select.SqmSelection;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Learns, for each query executed with the
+ * {@value org.hibernate.jpa.HibernateHints#HINT_LEARN_FETCH_GRAPH} hint, which
+ * lazy associations of its results are initialized after it was executed, and
+ * from then on fetches them along with the results.
+ * <p>
+ * Every execution of such a query samples up to {@value #SAMPLE_SIZE} of its
+ * results, remembering which of their associations were not initialized yet.
+ * When the query is executed again, the sampled associations which were
+ * initialized in the meantime are counted. Once the configured number of
+ * executions was observed, an association initialized for at least half of the
+ * sampled results is part of the learned fetch graph, which is then applied to
+ * the query as a {@linkplain org.hibernate.graph.GraphSemantic#LOAD load graph}.
+ * The learned graphs never change afterward, and can be
+ * {@linkplain #exportFetchGraphs() exported} to be specified explicitly instead.
+ * <p>
+ * Only the results themselves are sampled, and they are only weakly referenced.
+ * At most the configured number of queries are learned.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_LEARNED_FETCH_GRAPH_WARM_UP
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_LEARNED_FETCH_GRAPH_MAX_QUERIES
+ *
+ * @since 6.3
+ */
+@Incubating
+public class LearnedFetchGraphs {
+	private static final Logger log = Logger.getLogger( LearnedFetchGraphs.class );
+
+	public static final int DEFAULT_WARM_UP_EXECUTIONS = 10;
+	public static final int DEFAULT_MAX_QUERIES = 256;
+
+	private static final int SAMPLE_SIZE = 16;
+
+	private final int warmUpExecutions;
+	private final int maxQueries;
+	private final Map<String, QueryFetchUsage> usages = new ConcurrentHashMap<>();
+
+	public LearnedFetchGraphs(int warmUpExecutions, int maxQueries) {
+		this.warmUpExecutions = Math.max( 1, warmUpExecutions );
+		this.maxQueries = maxQueries;
+	}
+
+	/**
+	 * The root entity of the given statement, if a fetch graph may be learned
+	 * for it, that is, if it only selects its single root.
+	 */
+	public static SqmRoot<?> getLearnableRoot(SqmSelectStatement<?> statement) {
+		final SqmQueryPart<?> queryPart = statement.getQueryPart();
+		if ( !( queryPart instanceof SqmQuerySpec<?> ) ) {
+			return null;
+		}
+		final SqmQuerySpec<?> querySpec = (SqmQuerySpec<?>) queryPart;
+		final List<SqmRoot<?>> roots = querySpec.getFromClause().getRoots();
+		final List<SqmSelection<?>> selections = querySpec.getSelectClause().getSelections();
+		if ( roots.size() != 1 || selections.size() != 1 ) {
+			return null;
+		}
+		final SqmRoot<?> root = roots.get( 0 );
+		return selections.get( 0 ).getSelectableNode() == root ? root : null;
+	}
+
+	/**
+	 * Evaluate the usage of the results of the previous execution of the given
+	 * query, and return the fetch graph to apply to its next execution, if one
+	 * was learned.
+	 *
+	 * @param queryString The query string
+	 * @param limited Whether this execution of the query limits its results
+	 */
+	public RootGraphImplementor<?> resolveFetchGraph(String queryString, boolean limited) {
+		final QueryFetchUsage usage = usages.get( queryString );
+		if ( usage == null ) {
+			return null;
+		}
+		if ( !usage.learned ) {
+			usage.evaluate( warmUpExecutions, queryString );
+		}
+		return limited ? usage.limitedFetchGraph : usage.fetchGraph;
+	}
+
+	/**
+	 * Sample the results of an execution of the given query, unless its fetch
+	 * graph was already learned.
+	 *
+	 * @param queryString The query string
+	 * @param rootEntityName The name of the entity selected by the query
+	 * @param results The results of the execution
+	 * @param sessionFactory The session factory
+	 */
+	public void observe(
+			String queryString,
+			String rootEntityName,
+			List<?> results,
+			SessionFactoryImplementor sessionFactory) {
+		QueryFetchUsage usage = usages.get( queryString );
+		if ( usage == null ) {
+			if ( usages.size() >= maxQueries ) {
+				return;
+			}
+			usage = usages.computeIfAbsent(
+					queryString,
+					s -> new QueryFetchUsage(
+							sessionFactory.getMappingMetamodel().getEntityDescriptor( rootEntityName ),
+							sessionFactory.getRuntimeMetamodels().getJpaMetamodel()
+					)
+			);
+		}
+		if ( !usage.learned ) {
+			usage.sample( results );
+		}
+	}
+
+	/**
+	 * The learned fetch graphs, by query string, in the form accepted by the
+	 * {@value org.hibernate.jpa.SpecHints#HINT_SPEC_LOAD_GRAPH} hint.
+	 */
+	public Map<String, String> exportFetchGraphs() {
+		final Map<String, String> fetchGraphs = new TreeMap<>();
+		usages.forEach(
+				(queryString, usage) -> {
+					if ( usage.fetchGraphText != null ) {
+						fetchGraphs.put( queryString, usage.fetchGraphText );
+					}
+				}
+		);
+		return fetchGraphs;
+	}
+
+	public void clear() {
+		usages.clear();
+	}
+
+	private static class QueryFetchUsage {
+		private final EntityPersister rootPersister;
+		private final JpaMetamodel jpaMetamodel;
+		// the to-one and collection attributes of the root entity
+		private final AttributeMapping[] associations;
+		private final int[] sampledCounts;
+		private final int[] initializedCounts;
+
+		private List<SampledAssociation> pendingSamples;
+		private int observedExecutions;
+
+		private volatile boolean learned;
+		private volatile RootGraphImplementor<?> fetchGraph;
+		private volatile RootGraphImplementor<?> limitedFetchGraph;
+		private volatile String fetchGraphText;
+
+		private QueryFetchUsage(EntityPersister rootPersister, JpaMetamodel jpaMetamodel) {
+			this.rootPersister = rootPersister;
+			this.jpaMetamodel = jpaMetamodel;
+			final List<AttributeMapping> associations = new ArrayList<>();
+			final AttributeMappingsList attributeMappings = rootPersister.getAttributeMappings();
+			for ( int i = 0; i < attributeMappings.size(); i++ ) {
+				final AttributeMapping attributeMapping = attributeMappings.get( i );
+				if ( attributeMapping instanceof ToOneAttributeMapping
+						|| attributeMapping instanceof PluralAttributeMapping ) {
+					associations.add( attributeMapping );
+				}
+			}
+			this.associations = associations.toArray( new AttributeMapping[0] );
+			this.sampledCounts = new int[this.associations.length];
+			this.initializedCounts = new int[this.associations.length];
+		}
+
+		private synchronized void sample(List<?> results) {
+			if ( learned || associations.length == 0 ) {
+				return;
+			}
+			final List<SampledAssociation> samples = new ArrayList<>();
+			final int sampleSize = Math.min( results.size(), SAMPLE_SIZE );
+			for ( int i = 0; i < sampleSize; i++ ) {
+				final Object result = results.get( i );
+				if ( result == null || !Hibernate.isInitialized( result ) || !rootPersister.isInstance( result ) ) {
+					continue;
+				}
+				for ( int j = 0; j < associations.length; j++ ) {
+					final Object value = associations[j].getValue( result );
+					if ( value != null && !Hibernate.isInitialized( value ) ) {
+						samples.add( new SampledAssociation( j, value ) );
+					}
+				}
+			}
+			// only the latest execution of the query is followed
+			pendingSamples = samples;
+		}
+
+		private synchronized void evaluate(int warmUpExecutions, String queryString) {
+			if ( learned || pendingSamples == null ) {
+				return;
+			}
+			boolean evaluated = false;
+			for ( SampledAssociation sample : pendingSamples ) {
+				final Object value = sample.value.get();
+				if ( value != null ) {
+					evaluated = true;
+					sampledCounts[sample.association]++;
+					if ( Hibernate.isInitialized( value ) ) {
+						initializedCounts[sample.association]++;
+					}
+				}
+			}
+			pendingSamples = null;
+
+			// an execution whose results were all garbage collected does not count
+			if ( evaluated && ++observedExecutions >= warmUpExecutions ) {
+				learn( queryString );
+			}
+		}
+
+		private void learn(String queryString) {
+			final EntityDomainType<?> entityType = jpaMetamodel.entity( rootPersister.getEntityName() );
+			final RootGraphImpl<?> graph = new RootGraphImpl<>( null, entityType, jpaMetamodel );
+			final RootGraphImpl<?> limitedGraph = new RootGraphImpl<>( null, entityType, jpaMetamodel );
+			final StringBuilder graphText = new StringBuilder( entityType.getName() ).append( '(' );
+			// fetching several collections would multiply the number of rows
+			String collection = null;
+			int collectionInitializedCount = 0;
+			boolean empty = true;
+			for ( int i = 0; i < associations.length; i++ ) {
+				if ( sampledCounts[i] == 0 || initializedCounts[i] * 2 < sampledCounts[i] ) {
+					continue;
+				}
+				final String attributeName = associations[i].getAttributeName();
+				if ( associations[i] instanceof PluralAttributeMapping ) {
+					if ( initializedCounts[i] > collectionInitializedCount ) {
+						collection = attributeName;
+						collectionInitializedCount = initializedCounts[i];
+					}
+				}
+				else {
+					graph.addAttributeNode( attributeName );
+					limitedGraph.addAttributeNode( attributeName );
+					graphText.append( empty ? "" : ", " ).append( attributeName );
+					empty = false;
+				}
+			}
+			if ( collection != null ) {
+				graph.addAttributeNode( collection );
+				graphText.append( empty ? "" : ", " ).append( collection );
+				empty = false;
+			}
+
+			if ( !empty ) {
+				fetchGraph = graph.makeImmutableCopy( null );
+				if ( collection == null ) {
+					limitedFetchGraph = fetchGraph;
+				}
+				else if ( !limitedGraph.getAttributeNodeList().isEmpty() ) {
+					limitedFetchGraph = limitedGraph.makeImmutableCopy( null );
+				}
+				fetchGraphText = graphText.append( ')' ).toString();
+				log.debugf( "Learned fetch graph `%s` for query [%s]", fetchGraphText, queryString );
+			}
+			learned = true;
+		}
+	}
+
+	private static class SampledAssociation {
+		private final int association;
+		private final WeakReference<Object> value;
+
+		private SampledAssociation(int association, Object value) {
+			this.association = association;
+			this.value = new WeakReference<>( value );
+		}
+	}
+}
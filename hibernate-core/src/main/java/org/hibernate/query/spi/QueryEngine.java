@@ -70,7 +70,8 @@ public class QueryEngine {
 				resolveSqmTranslatorFactory( options, dialect ),
 				createFunctionRegistry( sessionFactory, metadata, options, dialect ),
 				metadata.buildNamedQueryRepository( sessionFactory ),
-				buildInterpretationCache( sessionFactory::getStatistics, sessionFactory.getProperties() )
+				buildInterpretationCache( sessionFactory::getStatistics, sessionFactory.getProperties() ),
+				buildLearnedFetchGraphs( sessionFactory.getProperties() )
 		);
 	}
 
@@ -112,6 +113,7 @@ public class QueryEngine {
 	private final NamedObjectRepository namedObjectRepository;
 	private final NativeQueryInterpreter nativeQueryInterpreter;
 	private final QueryInterpretationCache interpretationCache;
+	private final LearnedFetchGraphs learnedFetchGraphs;
 	private final SqmCriteriaNodeBuilder criteriaBuilder;
 	private final HqlTranslator hqlTranslator;
 	private final SqmTranslatorFactory sqmTranslatorFactory;
@@ -125,13 +127,15 @@ public class QueryEngine {
 			SqmTranslatorFactory sqmTranslatorFactory,
 			SqmFunctionRegistry functionRegistry,
 			NamedObjectRepository namedObjectRepository,
-			QueryInterpretationCache interpretationCache) {
+			QueryInterpretationCache interpretationCache,
+			LearnedFetchGraphs learnedFetchGraphs) {
 		this.typeConfiguration = typeConfiguration;
 		this.sqmFunctionRegistry = functionRegistry;
 		this.sqmTranslatorFactory = sqmTranslatorFactory;
 		this.hqlTranslator = hqlTranslator;
 		this.namedObjectRepository = namedObjectRepository;
 		this.interpretationCache = interpretationCache;
+		this.learnedFetchGraphs = learnedFetchGraphs;
 		this.nativeQueryInterpreter = sessionFactory.getServiceRegistry().getService( NativeQueryInterpreter.class );
 		final SessionFactoryOptions sessionFactoryOptions = sessionFactory.getSessionFactoryOptions();
 		this.criteriaBuilder = new SqmCriteriaNodeBuilder(
@@ -212,6 +216,21 @@ public class QueryEngine {
 		}
 	}
 
+	private static LearnedFetchGraphs buildLearnedFetchGraphs(Map<String,Object> properties) {
+		return new LearnedFetchGraphs(
+				ConfigurationHelper.getInt(
+						AvailableSettings.QUERY_LEARNED_FETCH_GRAPH_WARM_UP,
+						properties,
+						LearnedFetchGraphs.DEFAULT_WARM_UP_EXECUTIONS
+				),
+				ConfigurationHelper.getInt(
+						AvailableSettings.QUERY_LEARNED_FETCH_GRAPH_MAX_QUERIES,
+						properties,
+						LearnedFetchGraphs.DEFAULT_MAX_QUERIES
+				)
+		);
+	}
+
 	public void prepare(SessionFactoryImplementor sessionFactory, Metadata bootMetamodel) {
 		namedObjectRepository.prepare( sessionFactory, bootMetamodel );
 	}
@@ -243,6 +262,13 @@ public class QueryEngine {
 		return interpretationCache;
 	}
 
+	/**
+	 * @since 6.3
+	 */
+	public LearnedFetchGraphs getLearnedFetchGraphs() {
+		return learnedFetchGraphs;
+	}
+
 	public SqmFunctionRegistry getSqmFunctionRegistry() {
 		return sqmFunctionRegistry;
 	}
@@ -268,6 +294,10 @@ public class QueryEngine {
 			interpretationCache.close();
 		}
 
+		if ( learnedFetchGraphs != null ) {
+			learnedFetchGraphs.clear();
+		}
+
 		if ( sqmFunctionRegistry != null ) {
 			sqmFunctionRegistry.close();
 		}
@@ -408,6 +408,11 @@ public class NativeQueryImpl<R>
 		return sqlString;
 	}
 
+	@Override
+	protected String getQueryKind() {
+		return "native";
+	}
+
 	@Override
 	public ParameterMetadataImplementor getParameterMetadata() {
 		return parameterMetadata;
@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.hibernate.ScrollMode;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
@@ -47,6 +48,7 @@ import org.hibernate.sql.ast.SqlAstTranslatorFactory;
 import org.hibernate.sql.ast.spi.FromClauseAccess;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingsIndexedImpl;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
@@ -59,6 +61,7 @@ import org.hibernate.sql.results.internal.RowTransformerTupleTransformerAdapter;
 import org.hibernate.sql.results.internal.TupleMetadata;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
 import org.hibernate.sql.results.spi.RowTransformer;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import static org.hibernate.query.sqm.internal.QuerySqmImpl.CRITERIA_HQL_STRING;
 
@@ -70,13 +73,23 @@ import static org.hibernate.query.sqm.internal.QuerySqmImpl.CRITERIA_HQL_STRING;
  * @author Steve Ebersole
  */
 public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
+	/**
+	 * The maximum number of translations kept for a single plan, for executions
+	 * with differing limits, lock options or parameter-dependent SQL
+	 */
+	private static final int MAX_CACHED_INTERPRETATIONS = 4;
+	private static final CacheableSqmInterpretation[] NO_INTERPRETATIONS = new CacheableSqmInterpretation[0];
+
 	private final SqmSelectStatement<?> sqm;
+	private final String hql;
 	private final DomainParameterXref domainParameterXref;
 	private final RowTransformer<R> rowTransformer;
 	private final SqmInterpreter<List<R>, Void> listInterpreter;
 	private final SqmInterpreter<ScrollableResultsImplementor<R>, ScrollMode> scrollInterpreter;
 
-	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
+	// the most recently built translation comes first, the array is never modified
+	private volatile CacheableSqmInterpretation[] cacheableSqmInterpretations = NO_INTERPRETATIONS;
+	private final ReentrantLock translationLock = new ReentrantLock();
 
 	public ConcreteSqmSelectQueryPlan(
 			SqmSelectStatement<?> sqm,
@@ -86,6 +99,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			TupleMetadata tupleMetadata,
 			QueryOptions queryOptions) {
 		this.sqm = sqm;
+		this.hql = hql;
 		this.domainParameterXref = domainParameterXref;
 
 		this.rowTransformer = determineRowTransformer( sqm, resultType, tupleMetadata, queryOptions );
@@ -275,59 +289,106 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	}
 
 	private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext executionContext, X context, SqmInterpreter<T, X> interpreter) {
-		// NOTE : VERY IMPORTANT - intentional double-lock checking
-		//		The other option would be to leverage `java.util.concurrent.locks.ReadWriteLock`
-		//		to protect access.  However, synchronized is much simpler here.  We will verify
-		// 		during throughput testing whether this is an issue and consider changes then
+		// NOTE : the cached translations are replaced as a whole, so that they can be looked up without locking.
+		//		A translation is only reused if it is compatible with the limit and lock options, and with the
+		//		parameter bindings if it depends on them, so a few of them are kept for executions of the same
+		//		query which alternate between different options
+		final CacheableSqmInterpretation[] interpretations = cacheableSqmInterpretations;
+		for ( CacheableSqmInterpretation interpretation : interpretations ) {
+			final JdbcParameterBindings jdbcParameterBindings = resolveCompatibleParameterBindings( interpretation, executionContext );
+			if ( jdbcParameterBindings != null ) {
+				translationCacheHit( executionContext );
+				return interpreter.interpret( context, executionContext, interpretation, jdbcParameterBindings );
+			}
+		}
 
-		CacheableSqmInterpretation localCopy = cacheableSqmInterpretation;
+		CacheableSqmInterpretation interpretation = null;
 		JdbcParameterBindings jdbcParameterBindings = null;
-
-		if ( localCopy == null ) {
-			synchronized ( this ) {
-				localCopy = cacheableSqmInterpretation;
-				if ( localCopy == null ) {
-					localCopy = buildCacheableSqmInterpretation(
-							sqm,
-							domainParameterXref,
-							executionContext
-					);
-					jdbcParameterBindings = localCopy.firstParameterBindings;
-					localCopy.firstParameterBindings = null;
-					cacheableSqmInterpretation = localCopy;
+		// a lock rather than a monitor, so that virtual threads translating the query do not pin their carrier
+		translationLock.lock();
+		try {
+			// another thread might have built a compatible translation in the meantime
+			final CacheableSqmInterpretation[] currentInterpretations = cacheableSqmInterpretations;
+			for ( CacheableSqmInterpretation currentInterpretation : currentInterpretations ) {
+				if ( !contains( interpretations, currentInterpretation ) ) {
+					jdbcParameterBindings = resolveCompatibleParameterBindings( currentInterpretation, executionContext );
+					if ( jdbcParameterBindings != null ) {
+						interpretation = currentInterpretation;
+						break;
+					}
 				}
 			}
-		}
-		else {
-			// If the translation depends on parameter bindings or it isn't compatible with the current query options,
-			// we have to rebuild the JdbcSelect, which is still better than having to translate from SQM to SQL AST again
-			if ( localCopy.jdbcSelect.dependsOnParameterBindings() ) {
-				jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
+
+			if ( interpretation == null ) {
+				interpretation = buildCacheableSqmInterpretation( sqm, domainParameterXref, executionContext );
+				jdbcParameterBindings = interpretation.firstParameterBindings;
+				interpretation.firstParameterBindings = null;
+
+				final int length = Math.min( currentInterpretations.length + 1, MAX_CACHED_INTERPRETATIONS );
+				final CacheableSqmInterpretation[] newInterpretations = new CacheableSqmInterpretation[length];
+				newInterpretations[0] = interpretation;
+				System.arraycopy( currentInterpretations, 0, newInterpretations, 1, length - 1 );
+				cacheableSqmInterpretations = newInterpretations;
+				translationCacheMiss( executionContext );
 			}
-			// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
-			// We could avoid this by putting the lock options into the cache key
-			if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
-				localCopy = buildCacheableSqmInterpretation(
-						sqm,
-						domainParameterXref,
-						executionContext
-				);
-				jdbcParameterBindings = localCopy.firstParameterBindings;
-				localCopy.firstParameterBindings = null;
-				cacheableSqmInterpretation = localCopy;
+			else {
+				translationCacheHit( executionContext );
+			}
+		}
+		finally {
+			translationLock.unlock();
+		}
+		return interpreter.interpret( context, executionContext, interpretation, jdbcParameterBindings );
+	}
+
+	/**
+	 * The parameter bindings for executing the given translation, or {@code null}
+	 * if it is not compatible with the current execution
+	 */
+	private JdbcParameterBindings resolveCompatibleParameterBindings(
+			CacheableSqmInterpretation interpretation,
+			DomainQueryExecutionContext executionContext) {
+		final JdbcOperationQuerySelect jdbcSelect = interpretation.jdbcSelect;
+		// the limit is checked first, since it does not need the parameter bindings,
+		// which are only built for translations depending on the bound values
+		if ( !jdbcSelect.isCompatibleWithLimit( executionContext.getQueryOptions() ) ) {
+			return null;
+		}
+		final JdbcParameterBindings jdbcParameterBindings = createJdbcParameterBindings( interpretation, executionContext );
+		if ( jdbcSelect.dependsOnParameterValues()
+				&& !jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
+			return null;
+		}
+		return jdbcParameterBindings;
+	}
+
+	private static boolean contains(CacheableSqmInterpretation[] interpretations, CacheableSqmInterpretation interpretation) {
+		for ( CacheableSqmInterpretation candidate : interpretations ) {
+			if ( candidate == interpretation ) {
+				return true;
 			}
 		}
+		return false;
+	}
 
-		if ( jdbcParameterBindings == null ) {
-			jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
+	private void translationCacheHit(DomainQueryExecutionContext executionContext) {
+		final StatisticsImplementor statistics = executionContext.getSession().getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryTranslationCacheHit( hql );
 		}
+	}
 
-		return interpreter.interpret( context, executionContext, localCopy, jdbcParameterBindings );
+	private void translationCacheMiss(DomainQueryExecutionContext executionContext) {
+		final StatisticsImplementor statistics = executionContext.getSession().getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryTranslationCacheMiss( hql );
+		}
 	}
 
 	private JdbcParameterBindings createJdbcParameterBindings(CacheableSqmInterpretation sqmInterpretation, DomainQueryExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
-		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
+		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.populateJdbcParameterBindings(
+				new JdbcParameterBindingsIndexedImpl( sqmInterpretation.getParameterLayout() ),
 				executionContext.getQueryParameterBindings(),
 				domainParameterXref,
 				sqmInterpretation.getJdbcParamsXref(),
@@ -420,6 +481,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		private final FromClauseAccess tableGroupAccess;
 		private final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref;
 		private final Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes;
+		private final JdbcParameterBindingsIndexedImpl.Layout parameterLayout;
 		private transient JdbcParameterBindings firstParameterBindings;
 
 		CacheableSqmInterpretation(
@@ -434,9 +496,23 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			this.tableGroupAccess = tableGroupAccess;
 			this.jdbcParamsXref = jdbcParamsXref;
 			this.sqmParameterMappingModelTypes = sqmParameterMappingModelTypes;
+			this.parameterLayout = JdbcParameterBindingsIndexedImpl.Layout.from( collectJdbcParameters( jdbcParamsXref ), jdbcSelect );
 			this.firstParameterBindings = firstParameterBindings;
 		}
 
+		private static List<JdbcParameter> collectJdbcParameters(
+				Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref) {
+			final List<JdbcParameter> jdbcParameters = new ArrayList<>();
+			for ( Map<SqmParameter<?>, List<List<JdbcParameter>>> jdbcParamsBySqmParam : jdbcParamsXref.values() ) {
+				for ( List<List<JdbcParameter>> jdbcParamsBinds : jdbcParamsBySqmParam.values() ) {
+					for ( List<JdbcParameter> jdbcParams : jdbcParamsBinds ) {
+						jdbcParameters.addAll( jdbcParams );
+					}
+				}
+			}
+			return jdbcParameters;
+		}
+
 		SelectStatement getSelectStatement() {
 			return selectStatement;
 		}
@@ -457,6 +533,10 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			return sqmParameterMappingModelTypes;
 		}
 
+		JdbcParameterBindingsIndexedImpl.Layout getParameterLayout() {
+			return parameterLayout;
+		}
+
 		JdbcParameterBindings getFirstParameterBindings() {
 			return firstParameterBindings;
 		}
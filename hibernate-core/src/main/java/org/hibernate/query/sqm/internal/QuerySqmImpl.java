@@ -143,6 +143,8 @@ public class QuerySqmImpl<R>
 	private final Class<R> resultType;
 	private final TupleMetadata tupleMetadata;
 
+	private boolean learnFetchGraph;
+
 	/**
 	 * Creates a Query instance from a named HQL memento
 	 */
@@ -489,6 +491,11 @@ public class QuerySqmImpl<R>
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// select execution
 
+	@Override
+	protected void applyLearnFetchGraphHint(boolean learnFetchGraph) {
+		this.learnFetchGraph = learnFetchGraph;
+	}
+
 	@Override
 	protected void prepareForExecution() {
 		// Reset the callback before every execution
@@ -506,6 +513,12 @@ public class QuerySqmImpl<R>
 	}
 
 	protected List<R> doList() {
+		return learnFetchGraph
+				? listLearningFetchGraph( getSqmStatement(), this::executeList )
+				: executeList();
+	}
+
+	private List<R> executeList() {
 		verifySelect();
 		getSession().prepareForQueryExecution( requiresTxn( getQueryOptions().getLockOptions().findGreatestLockMode() ) );
 
@@ -624,6 +637,12 @@ public class QuerySqmImpl<R>
 
 	@Override
 	protected ScrollableResultsImplementor doScroll(ScrollMode scrollMode) {
+		return learnFetchGraph
+				? scrollWithLearnedFetchGraph( getSqmStatement(), () -> executeScroll( scrollMode ) )
+				: executeScroll( scrollMode );
+	}
+
+	private ScrollableResultsImplementor<R> executeScroll(ScrollMode scrollMode) {
 		getSession().prepareForQueryExecution( requiresTxn( getQueryOptions().getLockOptions().findGreatestLockMode() ) );
 		return resolveSelectQueryPlan().performScroll( scrollMode, this );
 	}
@@ -10,6 +10,9 @@ import java.util.function.Supplier;
 
 import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.graph.spi.AppliedGraph;
+import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.spi.QueryInterpretationCache;
@@ -37,12 +40,15 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 			return null;
 		}
 
+		final AppliedGraph appliedGraph = keySource.getQueryOptions().getAppliedGraph();
 		return new SqmInterpretationsKey(
 				keySource.getQueryString(),
 				keySource.getResultType(),
 				keySource.getQueryOptions().getLockOptions(),
 				keySource.getQueryOptions().getTupleTransformer(),
-				keySource.getQueryOptions().getResultListTransformer()
+				keySource.getQueryOptions().getResultListTransformer(),
+				appliedGraph.getSemantic() == null ? null : appliedGraph.getGraph(),
+				appliedGraph.getSemantic()
 		);
 	}
 	@SuppressWarnings("RedundantIfStatement")
@@ -61,9 +67,11 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 			return false;
 		}
 
-		if ( keySource.getQueryOptions().getAppliedGraph().getSemantic() != null ) {
-			// At the moment we cannot cache query plan if there is an
-			// EntityGraph enabled.
+		final AppliedGraph appliedGraph = keySource.getQueryOptions().getAppliedGraph();
+		if ( appliedGraph.getSemantic() != null && appliedGraph.getGraph().isMutable() ) {
+			// At the moment we cannot cache query plan if there is a mutable
+			// EntityGraph enabled.  Immutable graphs, such as learned fetch
+			// graphs, are part of the key.
 			return false;
 		}
 
@@ -92,18 +100,24 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 	private final LockOptions lockOptions;
 	private final TupleTransformer<?> tupleTransformer;
 	private final ResultListTransformer resultListTransformer;
+	private final RootGraphImplementor<?> graph;
+	private final GraphSemantic graphSemantic;
 
 	private SqmInterpretationsKey(
 			String query,
 			Class<?> resultType,
 			LockOptions lockOptions,
 			TupleTransformer<?> tupleTransformer,
-			ResultListTransformer resultListTransformer) {
+			ResultListTransformer resultListTransformer,
+			RootGraphImplementor<?> graph,
+			GraphSemantic graphSemantic) {
 		this.query = query;
 		this.resultType = resultType;
 		this.lockOptions = lockOptions;
 		this.tupleTransformer = tupleTransformer;
 		this.resultListTransformer = resultListTransformer;
+		this.graph = graph;
+		this.graphSemantic = graphSemantic;
 	}
 
 	@Override
@@ -114,7 +128,9 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 				// Since lock options are mutable, we need a copy for the cache key
 				lockOptions.makeCopy(),
 				tupleTransformer,
-				resultListTransformer
+				resultListTransformer,
+				graph,
+				graphSemantic
 		);
 	}
 
@@ -137,7 +153,10 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 				&& areEqual( resultType, that.resultType )
 				&& areEqual( lockOptions, that.lockOptions )
 				&& areEqual( tupleTransformer, that.tupleTransformer )
-				&& areEqual( resultListTransformer, that.resultListTransformer );
+				&& areEqual( resultListTransformer, that.resultListTransformer )
+				// immutable graphs are compared by identity
+				&& graph == that.graph
+				&& graphSemantic == that.graphSemantic;
 	}
 
 	private <T> boolean areEqual(T o1, T o2) {
@@ -89,6 +89,8 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 	private final Class<R> resultType;
 	private final TupleMetadata tupleMetadata;
 
+	private boolean learnFetchGraph;
+
 	public SqmSelectionQueryImpl(
 			String hql,
 			HqlInterpretation hqlInterpretation,
@@ -249,6 +251,11 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// execution
 
+	@Override
+	protected void applyLearnFetchGraphHint(boolean learnFetchGraph) {
+		this.learnFetchGraph = learnFetchGraph;
+	}
+
 	@Override
 	protected void prepareForExecution() {
 		// Reset the callback before every execution
@@ -256,6 +263,12 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 	}
 
 	protected List<R> doList() {
+		return learnFetchGraph
+				? listLearningFetchGraph( getSqmStatement(), this::executeList )
+				: executeList();
+	}
+
+	private List<R> executeList() {
 		getSession().prepareForQueryExecution( requiresTxn( getQueryOptions().getLockOptions().findGreatestLockMode() ) );
 
 		final SqmSelectStatement<?> sqmStatement = (SqmSelectStatement<?>) getSqmStatement();
@@ -330,6 +343,12 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 
 	@Override
 	protected ScrollableResultsImplementor<R> doScroll(ScrollMode scrollMode) {
+		return learnFetchGraph
+				? scrollWithLearnedFetchGraph( getSqmStatement(), () -> executeScroll( scrollMode ) )
+				: executeScroll( scrollMode );
+	}
+
+	private ScrollableResultsImplementor<R> executeScroll(ScrollMode scrollMode) {
 		getSession().prepareForQueryExecution( requiresTxn( getQueryOptions().getLockOptions().findGreatestLockMode() ) );
 
 		return resolveQueryPlan().performScroll( scrollMode, this );
@@ -189,10 +189,34 @@ public class SqmUtil {
 			Function<NavigablePath, TableGroup> tableGroupLocator,
 			SqmParameterMappingModelResolutionAccess mappingModelResolutionAccess,
 			SharedSessionContractImplementor session) {
-		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl(
-				domainParameterXref.getSqmParameterCount()
+		return populateJdbcParameterBindings(
+				new JdbcParameterBindingsImpl( domainParameterXref.getSqmParameterCount() ),
+				domainParamBindings,
+				domainParameterXref,
+				jdbcParamXref,
+				domainModel,
+				tableGroupLocator,
+				mappingModelResolutionAccess,
+				session
 		);
+	}
 
+	/**
+	 * Add the bindings of the JDBC parameters of a translated query to the
+	 * given JDBC parameter bindings, which allows reusing a layout of the
+	 * bindings computed once for the translation.
+	 *
+	 * @see org.hibernate.sql.exec.internal.JdbcParameterBindingsIndexedImpl
+	 */
+	public static JdbcParameterBindings populateJdbcParameterBindings(
+			JdbcParameterBindings jdbcParameterBindings,
+			QueryParameterBindings domainParamBindings,
+			DomainParameterXref domainParameterXref,
+			Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamXref,
+			MappingMetamodel domainModel,
+			Function<NavigablePath, TableGroup> tableGroupLocator,
+			SqmParameterMappingModelResolutionAccess mappingModelResolutionAccess,
+			SharedSessionContractImplementor session) {
 		for ( Map.Entry<QueryParameterImplementor<?>, List<SqmParameter<?>>> entry :
 				domainParameterXref.getSqmParamByQueryParam().entrySet() ) {
 			final QueryParameterImplementor<?> queryParam = entry.getKey();
@@ -9,6 +9,7 @@ package org.hibernate.resource.jdbc;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.NClob;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.Statement;
 
@@ -74,4 +75,51 @@ public interface ResourceRegistry {
 
 	void cancelLastQuery();
 
+	/**
+	 * Does this registry keep released prepared statements open for reuse?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 *
+	 * @since 6.3
+	 */
+	default boolean isStatementCacheEnabled() {
+		return false;
+	}
+
+	/**
+	 * Take an idle prepared statement for the given SQL out of the statement cache.
+	 * The statement must then be {@linkplain #registerCacheable registered} again.
+	 *
+	 * @param sql The SQL of the statement
+	 *
+	 * @return The idle statement, or {@code null} if there is none
+	 *
+	 * @since 6.3
+	 */
+	default PreparedStatement takeCachedStatement(String sql) {
+		return null;
+	}
+
+	/**
+	 * Register a JDBC prepared statement which is returned to the statement cache,
+	 * rather than closed, when it is {@linkplain #release(Statement) released}.
+	 *
+	 * @param statement The statement to register.
+	 * @param sql The SQL of the statement.
+	 * @param cancelable See {@link #register(Statement, boolean)}
+	 *
+	 * @since 6.3
+	 */
+	default void registerCacheable(PreparedStatement statement, String sql, boolean cancelable) {
+		register( statement, cancelable );
+	}
+
+	/**
+	 * Close the idle statements of the statement cache, since the connection
+	 * they were prepared on is about to be released.
+	 *
+	 * @since 6.3
+	 */
+	default void releaseCachedStatements() {
+	}
 }
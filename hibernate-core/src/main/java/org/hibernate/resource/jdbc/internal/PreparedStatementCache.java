@@ -0,0 +1,133 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.resource.jdbc.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+
+/**
+ * The prepared statements of a {@link ResourceRegistryStandardImpl} which are kept
+ * open for reuse once released, by SQL. At most one idle statement is kept per SQL,
+ * and the least recently used idle statements beyond the maximum size are closed.
+ * This class is not threadsafe.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+ */
+final class PreparedStatementCache {
+	private static final CoreMessageLogger log = CoreLogging.messageLogger( PreparedStatementCache.class );
+
+	// the cacheable statements which are currently in use
+	private final HashMap<Statement, CachedStatement> inUse = new HashMap<>();
+	private final LinkedHashMap<String, CachedStatement> idle;
+
+	PreparedStatementCache(int maxSize) {
+		this.idle = new LinkedHashMap<>( 16, 0.75f, true ) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+				if ( size() > maxSize ) {
+					log.tracef( "Evicting prepared statement [%s] from the statement cache", eldest.getKey() );
+					ResourceRegistryStandardImpl.close( eldest.getValue().statement );
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	PreparedStatement take(String sql) {
+		final CachedStatement cachedStatement = idle.remove( sql );
+		if ( cachedStatement == null ) {
+			return null;
+		}
+		inUse.put( cachedStatement.statement, cachedStatement );
+		return cachedStatement.statement;
+	}
+
+	void register(PreparedStatement statement, String sql) {
+		if ( !inUse.containsKey( statement ) ) {
+			try {
+				// remember the default fetch size, to restore it before the statement is reused
+				inUse.put( statement, new CachedStatement( sql, statement, statement.getFetchSize() ) );
+			}
+			catch (SQLException e) {
+				log.debugf( "Unable to cache JDBC statement [%s]", e.getMessage() );
+			}
+		}
+	}
+
+	/**
+	 * Return a released statement to the cache.
+	 *
+	 * @return {@code false} if the statement was not kept, and should be closed
+	 */
+	boolean release(Statement statement) {
+		final CachedStatement cachedStatement = inUse.remove( statement );
+		if ( cachedStatement == null
+				|| idle.containsKey( cachedStatement.sql )
+				|| !cachedStatement.reset() ) {
+			return false;
+		}
+		idle.put( cachedStatement.sql, cachedStatement );
+		return true;
+	}
+
+	/**
+	 * Forget the statements in use, which are closed by the registry.
+	 */
+	void releaseInUse() {
+		inUse.clear();
+	}
+
+	void closeIdle() {
+		idle.forEach( (sql, cachedStatement) -> ResourceRegistryStandardImpl.close( cachedStatement.statement ) );
+		idle.clear();
+	}
+
+	private static final class CachedStatement {
+		private final String sql;
+		private final PreparedStatement statement;
+		private final int fetchSize;
+
+		private CachedStatement(String sql, PreparedStatement statement, int fetchSize) {
+			this.sql = sql;
+			this.statement = statement;
+			this.fetchSize = fetchSize;
+		}
+
+		private boolean reset() {
+			try {
+				if ( statement.isClosed() ) {
+					return false;
+				}
+				statement.clearParameters();
+				statement.clearBatch();
+				statement.clearWarnings();
+				if ( statement.getMaxRows() != 0 ) {
+					statement.setMaxRows( 0 );
+				}
+				if ( statement.getQueryTimeout() != 0 ) {
+					statement.setQueryTimeout( 0 );
+				}
+				if ( statement.getFetchSize() != fetchSize ) {
+					statement.setFetchSize( fetchSize );
+				}
+				return true;
+			}
+			catch (SQLException e) {
+				log.debugf( "Unable to reset JDBC statement for reuse [%s]", e.getMessage() );
+				return false;
+			}
+		}
+	}
+}
@@ -9,6 +9,7 @@ package org.hibernate.resource.jdbc.internal;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.NClob;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -50,6 +51,7 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 	private static final HashMap<ResultSet,Object> EMPTY = new HashMap<>( 1, 0.2f );
 
 	private final JdbcObserver jdbcObserver;
+	private final PreparedStatementCache statementCache;
 
 	private final HashMap<Statement, HashMap<ResultSet,Object>> xref = new HashMap<>();
 	private HashMap<ResultSet,Object> unassociatedResultSets;
@@ -65,7 +67,16 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 	}
 
 	public ResourceRegistryStandardImpl(JdbcObserver jdbcObserver) {
+		this( jdbcObserver, 0 );
+	}
+
+	/**
+	 * @param jdbcObserver The observer notified when the resources are released
+	 * @param statementCacheSize The maximum number of idle prepared statements kept open for reuse
+	 */
+	public ResourceRegistryStandardImpl(JdbcObserver jdbcObserver, int statementCacheSize) {
 		this.jdbcObserver = jdbcObserver;
+		this.statementCache = statementCacheSize > 0 ? new PreparedStatementCache( statementCacheSize ) : null;
 	}
 
 	@Override
@@ -105,7 +116,9 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			log.unregisteredStatement();
 		}
 
-		close( statement );
+		if ( statementCache == null || !statementCache.release( statement ) ) {
+			close( statement );
+		}
 
 		if ( lastQuery == statement ) {
 			lastQuery = null;
@@ -324,6 +337,32 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 		}
 	}
 
+	@Override
+	public boolean isStatementCacheEnabled() {
+		return statementCache != null;
+	}
+
+	@Override
+	public PreparedStatement takeCachedStatement(String sql) {
+		return statementCache == null ? null : statementCache.take( sql );
+	}
+
+	@Override
+	public void registerCacheable(PreparedStatement statement, String sql, boolean cancelable) {
+		register( statement, cancelable );
+		if ( statementCache != null ) {
+			statementCache.register( statement, sql );
+		}
+	}
+
+	@Override
+	public void releaseCachedStatements() {
+		if ( statementCache != null ) {
+			log.trace( "Closing cached JDBC statements" );
+			statementCache.closeIdle();
+		}
+	}
+
 	@Override
 	public void releaseResources() {
 		log.trace( "Releasing JDBC resources" );
@@ -334,6 +373,11 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 
 		xref.forEach( ResourceRegistryStandardImpl::releaseXref );
 		xref.clear();
+		if ( statementCache != null ) {
+			// the statements still in use were just closed, the idle ones
+			// are kept until the connection itself is released
+			statementCache.releaseInUse();
+		}
 
 		closeAll( unassociatedResultSets );
 
@@ -54,6 +54,7 @@ import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
 import org.hibernate.sql.ast.tree.predicate.ExistsPredicate;
 import org.hibernate.sql.ast.tree.predicate.FilterPredicate;
 import org.hibernate.sql.ast.tree.predicate.GroupedPredicate;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
 import org.hibernate.sql.ast.tree.predicate.InListPredicate;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.predicate.Junction;
@@ -186,6 +187,8 @@ public interface SqlAstWalker {
 
 	void visitInListPredicate(InListPredicate inListPredicate);
 
+	void visitInArrayPredicate(InArrayPredicate inArrayPredicate);
+
 	void visitInSubQueryPredicate(InSubQueryPredicate inSubQueryPredicate);
 
 	void visitExistsPredicate(ExistsPredicate existsPredicate);
@@ -0,0 +1,43 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.ast.tree.predicate;
+
+import org.hibernate.sql.ast.SqlAstWalker;
+import org.hibernate.sql.ast.tree.expression.Expression;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+
+/**
+ * Tests whether an expression is one of the elements of an array bound
+ * to a single JDBC parameter, for example {@code id = any(?)}.  Unlike
+ * an {@link InListPredicate}, the rendered SQL does not depend on the
+ * number of values.
+ *
+ * @see org.hibernate.dialect.Dialect#useArrayForMultiValuedParameters()
+ */
+public class InArrayPredicate extends AbstractPredicate {
+	private final Expression testExpression;
+	private final JdbcParameter arrayParameter;
+
+	public InArrayPredicate(Expression testExpression, JdbcParameter arrayParameter) {
+		super( null, false );
+		this.testExpression = testExpression;
+		this.arrayParameter = arrayParameter;
+	}
+
+	public Expression getTestExpression() {
+		return testExpression;
+	}
+
+	public JdbcParameter getArrayParameter() {
+		return arrayParameter;
+	}
+
+	@Override
+	public void accept(SqlAstWalker sqlTreeWalker) {
+		sqlTreeWalker.visitInArrayPredicate( this );
+	}
+}
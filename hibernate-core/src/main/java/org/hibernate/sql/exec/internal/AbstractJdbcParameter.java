@@ -35,10 +35,25 @@ public abstract class AbstractJdbcParameter
 
 	private final JdbcMapping jdbcMapping;
 
+	// the position of the parameter in the layout of the bindings of its translation, if any
+	private int bindingPosition = -1;
+
 	public AbstractJdbcParameter(JdbcMapping jdbcMapping) {
 		this.jdbcMapping = jdbcMapping;
 	}
 
+	/**
+	 * The position assigned to this parameter by a
+	 * {@link JdbcParameterBindingsIndexedImpl.Layout}, or {@code -1}.
+	 */
+	int getBindingPosition() {
+		return bindingPosition;
+	}
+
+	void setBindingPosition(int bindingPosition) {
+		this.bindingPosition = bindingPosition;
+	}
+
 	@Override
 	public JdbcParameterBinder getParameterBinder() {
 		return this;
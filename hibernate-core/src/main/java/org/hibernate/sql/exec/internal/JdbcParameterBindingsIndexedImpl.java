@@ -0,0 +1,225 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.exec.internal;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+
+import org.hibernate.internal.FilterJdbcParameter;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.exec.spi.JdbcOperationQuery;
+import org.hibernate.sql.exec.spi.JdbcParameterBinding;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+
+/**
+ * JdbcParameterBindings storing the bindings in an array, according to a
+ * {@link Layout} computed once for a translated query, so that binding the
+ * parameters of an execution of the query only allocates the array.
+ * <p>
+ * The layout assigns its position to each parameter when the query is
+ * translated, so that adding and looking up a binding is an access to the
+ * array. Parameters which are not part of the layout are still accepted,
+ * and kept aside in a map.
+ *
+ * @see org.hibernate.query.sqm.internal.SqmUtil#populateJdbcParameterBindings
+ */
+public class JdbcParameterBindingsIndexedImpl implements JdbcParameterBindings {
+	private final Layout layout;
+	private final JdbcParameterBinding[] bindings;
+	private int bindingCount;
+	private JdbcParameterBindingsImpl additionalBindings;
+	private Collection<JdbcParameterBinding> bindingsView;
+
+	public JdbcParameterBindingsIndexedImpl(Layout layout) {
+		this.layout = layout;
+		this.bindings = new JdbcParameterBinding[layout.parameters.length];
+	}
+
+	@Override
+	public void addBinding(JdbcParameter parameter, JdbcParameterBinding binding) {
+		final int index = layout.indexOf( parameter );
+		if ( index < 0 ) {
+			if ( additionalBindings == null ) {
+				additionalBindings = new JdbcParameterBindingsImpl( 1 );
+			}
+			additionalBindings.addBinding( parameter, binding );
+		}
+		else {
+			if ( bindings[index] == null ) {
+				bindingCount++;
+			}
+			bindings[index] = binding;
+		}
+	}
+
+	@Override
+	public Collection<JdbcParameterBinding> getBindings() {
+		if ( bindingsView == null ) {
+			bindingsView = new BindingsView();
+		}
+		return bindingsView;
+	}
+
+	@Override
+	public JdbcParameterBinding getBinding(JdbcParameter parameter) {
+		final int index = layout.indexOf( parameter );
+		if ( index < 0 ) {
+			return additionalBindings == null ? null : additionalBindings.getBinding( parameter );
+		}
+		return bindings[index];
+	}
+
+	@Override
+	public void visitBindings(BiConsumer<JdbcParameter, JdbcParameterBinding> action) {
+		for ( int i = 0; i < bindings.length; i++ ) {
+			if ( bindings[i] != null ) {
+				action.accept( layout.parameters[i], bindings[i] );
+			}
+		}
+		if ( additionalBindings != null ) {
+			additionalBindings.visitBindings( action );
+		}
+	}
+
+	/**
+	 * A read-only view of the bindings, which does not copy them.
+	 */
+	private class BindingsView extends AbstractCollection<JdbcParameterBinding> {
+		@Override
+		public int size() {
+			return additionalBindings == null
+					? bindingCount
+					: bindingCount + additionalBindings.getBindings().size();
+		}
+
+		@Override
+		public Iterator<JdbcParameterBinding> iterator() {
+			return new Iterator<>() {
+				private int index = nextIndex( 0 );
+				private Iterator<JdbcParameterBinding> additionalIterator;
+
+				private int nextIndex(int start) {
+					int i = start;
+					while ( i < bindings.length && bindings[i] == null ) {
+						i++;
+					}
+					return i;
+				}
+
+				private Iterator<JdbcParameterBinding> additionalIterator() {
+					if ( additionalIterator == null ) {
+						additionalIterator = additionalBindings == null
+								? Collections.emptyIterator()
+								: additionalBindings.getBindings().iterator();
+					}
+					return additionalIterator;
+				}
+
+				@Override
+				public boolean hasNext() {
+					return index < bindings.length || additionalIterator().hasNext();
+				}
+
+				@Override
+				public JdbcParameterBinding next() {
+					if ( index < bindings.length ) {
+						final JdbcParameterBinding binding = bindings[index];
+						index = nextIndex( index + 1 );
+						return binding;
+					}
+					if ( !additionalIterator().hasNext() ) {
+						throw new NoSuchElementException();
+					}
+					return additionalIterator().next();
+				}
+			};
+		}
+	}
+
+	/**
+	 * The positions of the JDBC parameters of a translated query in the array
+	 * of bindings. A layout is immutable, and may be shared by the executions
+	 * of the query on any thread.
+	 * <p>
+	 * The position of each parameter is recorded on the parameter itself when
+	 * the layout is built, so that resolving it needs no lookup. A parameter
+	 * which is part of several layouts only records its position in the first
+	 * one, and the others find it in a map.
+	 */
+	public static class Layout {
+		private final JdbcParameter[] parameters;
+		private final Map<JdbcParameter, Integer> positions;
+		private final int indexedParameterCount;
+
+		private Layout(List<JdbcParameter> parameters) {
+			final List<JdbcParameter> distinctParameters = new ArrayList<>( parameters.size() );
+			this.positions = new IdentityHashMap<>( parameters.size() );
+			int indexedParameterCount = 0;
+			for ( JdbcParameter parameter : parameters ) {
+				final int position = distinctParameters.size();
+				if ( positions.putIfAbsent( parameter, position ) == null ) {
+					distinctParameters.add( parameter );
+					if ( parameter instanceof AbstractJdbcParameter ) {
+						final AbstractJdbcParameter jdbcParameter = (AbstractJdbcParameter) parameter;
+						if ( jdbcParameter.getBindingPosition() < 0 ) {
+							jdbcParameter.setBindingPosition( position );
+							indexedParameterCount++;
+						}
+					}
+				}
+			}
+			this.parameters = distinctParameters.toArray( new JdbcParameter[0] );
+			this.indexedParameterCount = indexedParameterCount;
+		}
+
+		/**
+		 * Lay out the JDBC parameters of the given translation of a query.
+		 *
+		 * @param jdbcParameters The JDBC parameters of the domain parameters of the query
+		 * @param jdbcOperation The translated query, for its filter parameters
+		 */
+		public static Layout from(Collection<JdbcParameter> jdbcParameters, JdbcOperationQuery jdbcOperation) {
+			final List<JdbcParameter> parameters = new ArrayList<>( jdbcParameters );
+			if ( jdbcOperation.getFilterJdbcParameters() != null ) {
+				for ( FilterJdbcParameter filterJdbcParameter : jdbcOperation.getFilterJdbcParameters() ) {
+					parameters.add( filterJdbcParameter.getParameter() );
+				}
+			}
+			return new Layout( parameters );
+		}
+
+		int indexOf(JdbcParameter parameter) {
+			if ( parameter instanceof AbstractJdbcParameter ) {
+				final int position = ( (AbstractJdbcParameter) parameter ).getBindingPosition();
+				if ( position >= 0 && position < parameters.length && parameters[position] == parameter ) {
+					return position;
+				}
+			}
+			final Integer position = positions.get( parameter );
+			return position == null ? -1 : position;
+		}
+
+		public int getParameterCount() {
+			return parameters.length;
+		}
+
+		/**
+		 * The number of parameters whose position is resolved without a lookup.
+		 */
+		public int getIndexedParameterCount() {
+			return indexedParameterCount;
+		}
+	}
+}
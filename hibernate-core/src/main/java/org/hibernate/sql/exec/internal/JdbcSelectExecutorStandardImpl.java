@@ -21,6 +21,7 @@ import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
 import org.hibernate.LockOptions;
 import org.hibernate.ScrollMode;
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.engine.spi.PersistenceContext;
@@ -36,6 +37,7 @@ import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.sql.exec.SqlExecLogger;
+import org.hibernate.sql.exec.spi.AdaptiveFetchSize;
 import org.hibernate.sql.exec.spi.Callback;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
@@ -368,6 +370,21 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				rowReader
 		);
 
+		final SessionFactoryOptions options = session.getFactory().getSessionFactoryOptions();
+		if ( options.isAdaptiveFetchSizeEnabled()
+				&& result instanceof List
+				&& jdbcValues instanceof JdbcValuesResultSetImpl ) {
+			// only results read up to the end tell how many rows the query returns
+			final AdaptiveFetchSize adaptiveFetchSize = jdbcSelect.getAdaptiveFetchSize( options );
+			adaptiveFetchSize.executed( ( (JdbcValuesResultSetImpl) jdbcValues ).getReadRowCount() );
+			if ( stats ) {
+				statistics.queryFetchSizeAdapted(
+						executionContext.getQueryIdentifier( jdbcSelect.getSqlString() ),
+						adaptiveFetchSize.getFetchSize()
+				);
+			}
+		}
+
 		if ( stats ) {
 			final long endTime = System.nanoTime();
 			final long milliseconds = TimeUnit.MILLISECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
@@ -394,6 +411,11 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			boolean canBeCached,
 			ExecutionContext executionContext,
 			ResultSetAccess resultSetAccess) {
+		final JdbcValues prefetchedJdbcValues = executionContext.getPrefetchedJdbcValues();
+		if ( prefetchedJdbcValues != null ) {
+			return prefetchedJdbcValues;
+		}
+
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor factory = session.getFactory();
 		final boolean queryCacheEnabled = factory.getSessionFactoryOptions().isQueryCacheEnabled();
@@ -0,0 +1,61 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.exec.spi;
+
+/**
+ * The JDBC fetch size used to execute a particular {@link JdbcOperationQuerySelect}
+ * when the {@linkplain org.hibernate.cfg.AvailableSettings#ADAPTIVE_FETCH_SIZE
+ * adaptive fetch size} is enabled.
+ * <p>
+ * The fetch size is derived from the number of rows returned by the previous
+ * executions: it is one more than the largest recent result, so that a result
+ * of the same size is read in a single round trip, including the detection of
+ * its end. Past results are forgotten gradually, by decreasing the remembered
+ * size by a quarter with every smaller result. The fetch size always stays
+ * within the configured bounds.
+ * <p>
+ * Concurrent executions may overwrite each other's results, which only delays
+ * the convergence of the fetch size.
+ *
+ * @since 6.3
+ */
+public class AdaptiveFetchSize {
+	private final int minSize;
+	private final int maxSize;
+
+	private volatile int recentRows = -1;
+
+	public AdaptiveFetchSize(int minSize, int maxSize) {
+		this.minSize = Math.max( 1, Math.min( minSize, maxSize ) );
+		this.maxSize = Math.max( 1, maxSize );
+	}
+
+	/**
+	 * The fetch size to use for the next execution, or {@code 0} if the
+	 * operation was never executed
+	 */
+	public int getFetchSize() {
+		final int rows = recentRows;
+		return rows < 0 ? 0 : Math.max( minSize, Math.min( maxSize, rows + 1 ) );
+	}
+
+	public int getMinSize() {
+		return minSize;
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Record the number of rows read by an execution.
+	 */
+	public void executed(int rows) {
+		final int current = recentRows;
+		recentRows = Math.max( rows, current - current / 4 );
+	}
+}
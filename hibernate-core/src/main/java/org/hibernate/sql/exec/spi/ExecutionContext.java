@@ -14,6 +14,7 @@ import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.sql.results.graph.entity.LoadingEntityEntry;
+import org.hibernate.sql.results.jdbc.spi.JdbcValues;
 
 /**
  * A context for execution of SQL statements expressed via
@@ -80,4 +81,12 @@ public interface ExecutionContext {
 		return false;
 	}
 
+	/**
+	 * The rows of the query, if they were already read from another connection,
+	 * in which case the query is not executed again.
+	 */
+	default JdbcValues getPrefetchedJdbcValues() {
+		return null;
+	}
+
 }
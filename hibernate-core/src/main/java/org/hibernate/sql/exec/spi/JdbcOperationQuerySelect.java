@@ -11,6 +11,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.internal.FilterJdbcParameter;
 import org.hibernate.query.spi.Limit;
 import org.hibernate.query.spi.QueryOptions;
@@ -29,6 +30,7 @@ public class JdbcOperationQuerySelect extends AbstractJdbcOperationQuery {
 	private final JdbcParameter offsetParameter;
 	private final JdbcParameter limitParameter;
 	private final JdbcLockStrategy jdbcLockStrategy;
+	private volatile AdaptiveFetchSize adaptiveFetchSize;
 
 	public JdbcOperationQuerySelect(
 			String sql,
@@ -100,6 +102,21 @@ public class JdbcOperationQuerySelect extends AbstractJdbcOperationQuery {
 		return jdbcLockStrategy;
 	}
 
+	/**
+	 * The fetch size of this operation, when the
+	 * {@linkplain org.hibernate.cfg.AvailableSettings#ADAPTIVE_FETCH_SIZE
+	 * adaptive fetch size} is enabled
+	 */
+	public AdaptiveFetchSize getAdaptiveFetchSize(SessionFactoryOptions options) {
+		AdaptiveFetchSize fetchSize = adaptiveFetchSize;
+		if ( fetchSize == null ) {
+			// racing threads may each create one, and lose each other's first execution
+			fetchSize = new AdaptiveFetchSize( options.getAdaptiveFetchSizeMin(), options.getAdaptiveFetchSizeMax() );
+			adaptiveFetchSize = fetchSize;
+		}
+		return fetchSize;
+	}
+
 	@Override
 	public boolean isCompatibleWith(JdbcParameterBindings jdbcParameterBindings, QueryOptions queryOptions) {
 		if ( !appliedParameters.isEmpty() ) {
@@ -108,31 +125,14 @@ public class JdbcOperationQuerySelect extends AbstractJdbcOperationQuery {
 			}
 			for ( Map.Entry<JdbcParameter, JdbcParameterBinding> entry : appliedParameters.entrySet() ) {
 				final JdbcParameter parameter = entry.getKey();
-				final JdbcParameterBinding appliedBinding = entry.getValue();
-				// This is a special case where the rendered SQL depends on the presence of the parameter,
-				// but not specifically on the value. In this case we have to re-generate the SQL if we can't find a binding
-				// The need for this can be tested with the OracleFollowOnLockingTest#testPessimisticLockWithMaxResultsThenNoFollowOnLocking
-				// Since the Limit is not part of the query plan cache key, but this has an effect on follow on locking,
-				// we must treat the absence of Limit parameters, when they were considered for locking, as incompatible
-				if ( appliedBinding == null ) {
-					if ( parameter == offsetParameter ) {
-						if ( queryOptions.getLimit() == null || queryOptions.getLimit().getFirstRowJpa() == 0 ) {
-							return false;
-						}
-					}
-					else if ( parameter == limitParameter ) {
-						if ( queryOptions.getLimit() == null || queryOptions.getLimit().getMaxRowsJpa() == Integer.MAX_VALUE ) {
-							return false;
-						}
-					}
-					else if ( jdbcParameterBindings.getBinding( parameter ) == null ) {
-						return false;
-					}
-				}
-				// We handle limit and offset parameters below
+				// We handle limit and offset parameters in isCompatibleWithLimit
 				if ( parameter != offsetParameter && parameter != limitParameter ) {
+					final JdbcParameterBinding appliedBinding = entry.getValue();
 					final JdbcParameterBinding binding = jdbcParameterBindings.getBinding( parameter );
-					if ( binding == null || !appliedBinding.getBindType()
+					if ( binding == null ) {
+						return false;
+					}
+					if ( appliedBinding != null && !appliedBinding.getBindType()
 							.getJavaTypeDescriptor()
 							.areEqual( binding.getBindValue(), appliedBinding.getBindValue() ) ) {
 						return false;
@@ -140,7 +140,49 @@ public class JdbcOperationQuerySelect extends AbstractJdbcOperationQuery {
 				}
 			}
 		}
+		return isCompatibleWithLimit( queryOptions );
+	}
+
+	/**
+	 * Whether the SQL depends on the values bound to parameters other than the
+	 * limit and offset parameters, whose values are given by the query options.
+	 * If not, {@link #isCompatibleWithLimit} is all there is to check, and the
+	 * parameter bindings need not be built to find out whether this operation
+	 * can be executed.
+	 */
+	public boolean dependsOnParameterValues() {
+		for ( JdbcParameter parameter : appliedParameters.keySet() ) {
+			if ( parameter != offsetParameter && parameter != limitParameter ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Whether the SQL is compatible with the limit of the given query options,
+	 * which is the part of {@link #isCompatibleWith} not needing the parameter
+	 * bindings.
+	 */
+	public boolean isCompatibleWithLimit(QueryOptions queryOptions) {
 		final Limit limit = queryOptions.getLimit();
+		// This is a special case where the rendered SQL depends on the presence of the parameter,
+		// but not specifically on the value. In this case we have to re-generate the SQL if we can't find a binding
+		// The need for this can be tested with the OracleFollowOnLockingTest#testPessimisticLockWithMaxResultsThenNoFollowOnLocking
+		// Since the Limit is not part of the query plan cache key, but this has an effect on follow on locking,
+		// we must treat the absence of Limit parameters, when they were considered for locking, as incompatible
+		if ( offsetParameter != null && appliedParameters.containsKey( offsetParameter )
+				&& appliedParameters.get( offsetParameter ) == null ) {
+			if ( limit == null || limit.getFirstRowJpa() == 0 ) {
+				return false;
+			}
+		}
+		if ( limitParameter != null && appliedParameters.containsKey( limitParameter )
+				&& appliedParameters.get( limitParameter ) == null ) {
+			if ( limit == null || limit.getMaxRowsJpa() == Integer.MAX_VALUE ) {
+				return false;
+			}
+		}
 		if ( offsetParameter == null && limitParameter == null ) {
 			if ( limit != null && !limit.isEmpty() ) {
 				return false;
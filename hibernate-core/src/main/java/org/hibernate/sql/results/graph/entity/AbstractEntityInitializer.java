@@ -795,7 +795,7 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 
 		registerNaturalIdResolution( persistenceContext, entityIdentifier );
 
-		takeSnapshot( rowProcessingState, session, persistenceContext, entityEntry );
+		takeSnapshot( toInitialize, rowProcessingState, session, persistenceContext, entityEntry );
 
 		concreteDescriptor.afterInitialize( toInitialize, session );
 
@@ -839,6 +839,7 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 	}
 
 	private void takeSnapshot(
+			Object toInitialize,
 			RowProcessingState rowProcessingState,
 			SharedSessionContractImplementor session,
 			PersistenceContext persistenceContext,
@@ -848,7 +849,7 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 			//performance optimization, but not really
 			//important, except for entities with huge
 			//mutable property values
-			persistenceContext.setEntryStatus( entityEntry, Status.READ_ONLY );
+			persistenceContext.setLoadedEntryReadOnly( toInitialize, entityEntry );
 		}
 		else {
 			//take a snapshot
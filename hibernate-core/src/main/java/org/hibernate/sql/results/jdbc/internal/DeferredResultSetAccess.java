@@ -14,6 +14,7 @@ import java.util.function.Function;
 
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.dialect.pagination.LimitHandler;
 import org.hibernate.dialect.pagination.NoopLimitHandler;
@@ -191,6 +192,15 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 				preparedStatement.setQueryTimeout( queryOptions.getTimeout() );
 			}
 		}
+		if ( queryOptions == null || queryOptions.getFetchSize() == null ) {
+			final SessionFactoryOptions options = getFactory().getSessionFactoryOptions();
+			if ( options.isAdaptiveFetchSizeEnabled() ) {
+				final int fetchSize = jdbcSelect.getAdaptiveFetchSize( options ).getFetchSize();
+				if ( fetchSize > 0 ) {
+					preparedStatement.setFetchSize( fetchSize );
+				}
+			}
+		}
 
 		// bind parameters
 		// 		todo : validate that all query parameters were bound?
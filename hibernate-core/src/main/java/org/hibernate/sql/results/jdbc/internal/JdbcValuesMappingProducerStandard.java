@@ -35,6 +35,14 @@ public class JdbcValuesMappingProducerStandard implements JdbcValuesMappingProdu
 		this.resolvedMapping = new StandardJdbcValuesMapping( sqlSelections, domainResults );
 	}
 
+	/**
+	 * The mapping, which does not depend on the metadata of the result set as
+	 * long as the types of all selections are known
+	 */
+	public JdbcValuesMapping getResolvedMapping() {
+		return resolvedMapping;
+	}
+
 	@Override
 	public void addAffectedTableNames(Set<String> affectedTableNames, SessionFactoryImplementor sessionFactory) {
 
@@ -38,6 +38,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 
 	private final SqlSelection[] sqlSelections;
 	private final Object[] currentRowJdbcValues;
+	private int readRowCount;
 
 	public JdbcValuesResultSetImpl(
 			ResultSetAccess resultSetAccess,
@@ -81,7 +82,11 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 
 	@Override
 	protected final boolean processNext(RowProcessingState rowProcessingState) {
-		return advance( advanceNext() );
+		final boolean hasRow = advance( advanceNext() );
+		if ( hasRow ) {
+			readRowCount++;
+		}
+		return hasRow;
 	}
 
 	@Override
@@ -290,6 +295,13 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		return currentRowJdbcValues;
 	}
 
+	/**
+	 * The number of rows read by moving to the next row
+	 */
+	public int getReadRowCount() {
+		return readRowCount;
+	}
+
 	@Override
 	public void setFetchSize(int fetchSize) {
 		try {
@@ -44,4 +44,15 @@ public interface CollectionStatistics extends CacheableDataStatistics, Serializa
 	 * has been updated
 	 */
 	long getUpdateCount();
+
+	/**
+	 * The batch size currently used to batch fetch this collection when
+	 * {@linkplain org.hibernate.cfg.AvailableSettings#ADAPTIVE_BATCH_FETCH
+	 * adaptive batch fetching} is enabled, or 0 otherwise
+	 *
+	 * @since 6.3
+	 */
+	default int getBatchFetchSize() {
+		return 0;
+	}
 }
@@ -50,4 +50,15 @@ public interface EntityStatistics extends CacheableDataStatistics, Serializable
 	 * has experienced an optimistic lock failure.
 	 */
 	long getOptimisticFailureCount();
+
+	/**
+	 * The batch size currently used to batch fetch this entity when
+	 * {@linkplain org.hibernate.cfg.AvailableSettings#ADAPTIVE_BATCH_FETCH
+	 * adaptive batch fetching} is enabled, or 0 otherwise
+	 *
+	 * @since 6.3
+	 */
+	default int getBatchFetchSize() {
+		return 0;
+	}
 }
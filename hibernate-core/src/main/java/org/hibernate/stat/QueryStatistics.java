@@ -97,6 +97,39 @@ public interface QueryStatistics extends Serializable {
 		return 0;
 	}
 
+	/**
+	 * The number of executions which reused an SQL translation
+	 * of the cached query plan.
+	 *
+	 * @since 6.3
+	 */
+	default long getTranslationCacheHitCount() {
+		return 0;
+	}
+
+	/**
+	 * The number of executions which had to translate the cached
+	 * query plan to SQL again, because none of its translations
+	 * was compatible with the limit, lock options or parameter
+	 * bindings of the execution.
+	 *
+	 * @since 6.3
+	 */
+	default long getTranslationCacheMissCount() {
+		return 0;
+	}
+
+	/**
+	 * The JDBC fetch size chosen for the next execution of this query
+	 * when the {@linkplain org.hibernate.cfg.AvailableSettings#ADAPTIVE_FETCH_SIZE
+	 * adaptive fetch size} is enabled, or 0 otherwise
+	 *
+	 * @since 6.3
+	 */
+	default int getFetchSize() {
+		return 0;
+	}
+
 	/**
 	 * The overall time spent to compile the plan for this
 	 * particular query.
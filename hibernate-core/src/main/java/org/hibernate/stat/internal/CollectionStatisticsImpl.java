@@ -9,6 +9,7 @@ package org.hibernate.stat.internal;
 import java.io.Serializable;
 import java.util.concurrent.atomic.LongAdder;
 
+import org.hibernate.engine.spi.AdaptiveBatchFetchSize;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.stat.CollectionStatistics;
 
@@ -25,6 +26,7 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 	private final LongAdder updateCount = new LongAdder();
 	private final LongAdder removeCount = new LongAdder();
 	private final LongAdder recreateCount = new LongAdder();
+	private final transient AdaptiveBatchFetchSize adaptiveBatchFetchSize;
 
 	CollectionStatisticsImpl(CollectionPersister persister) {
 		super(
@@ -34,6 +36,12 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 		);
 
 		this.collectionRole = persister.getRole();
+		this.adaptiveBatchFetchSize = persister.getAdaptiveBatchFetchSize();
+	}
+
+	@Override
+	public int getBatchFetchSize() {
+		return adaptiveBatchFetchSize == null ? 0 : adaptiveBatchFetchSize.getBatchSize();
 	}
 
 	public long getLoadCount() {
@@ -84,7 +92,8 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 				.append( ",fetchCount=" ).append( this.fetchCount )
 				.append( ",recreateCount=" ).append( this.recreateCount )
 				.append( ",removeCount=" ).append( this.removeCount )
-				.append( ",updateCount=" ).append( this.updateCount );
+				.append( ",updateCount=" ).append( this.updateCount )
+				.append( ",batchFetchSize=" ).append( getBatchFetchSize() );
 		appendCacheStats( buffer );
 		return buffer.append(']').toString();
 	}
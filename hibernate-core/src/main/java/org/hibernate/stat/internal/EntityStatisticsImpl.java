@@ -9,6 +9,7 @@ package org.hibernate.stat.internal;
 import java.io.Serializable;
 import java.util.concurrent.atomic.LongAdder;
 
+import org.hibernate.engine.spi.AdaptiveBatchFetchSize;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.stat.EntityStatistics;
 
@@ -26,6 +27,7 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 	private final LongAdder deleteCount = new LongAdder();
 	private final LongAdder fetchCount = new LongAdder();
 	private final LongAdder optimisticFailureCount = new LongAdder();
+	private final transient AdaptiveBatchFetchSize adaptiveBatchFetchSize;
 
 	EntityStatisticsImpl(EntityPersister rootEntityDescriptor) {
 		super(
@@ -34,6 +36,7 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 						: null
 		);
 		this.rootEntityName = rootEntityDescriptor.getRootEntityName();
+		this.adaptiveBatchFetchSize = rootEntityDescriptor.getAdaptiveBatchFetchSize();
 	}
 
 	public long getDeleteCount() {
@@ -60,6 +63,11 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 		return optimisticFailureCount.sum();
 	}
 
+	@Override
+	public int getBatchFetchSize() {
+		return adaptiveBatchFetchSize == null ? 0 : adaptiveBatchFetchSize.getBatchSize();
+	}
+
 	void incrementLoadCount() {
 		loadCount.increment();
 	}
@@ -93,7 +101,8 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 				.append( ",insertCount=" ).append( this.insertCount )
 				.append( ",deleteCount=" ).append( this.deleteCount )
 				.append( ",fetchCount=" ).append( this.fetchCount )
-				.append( ",optimisticLockFailureCount=" ).append( this.optimisticFailureCount );
+				.append( ",optimisticLockFailureCount=" ).append( this.optimisticFailureCount )
+				.append( ",batchFetchSize=" ).append( getBatchFetchSize() );
 		appendCacheStats( buffer );
 		return buffer.append( ']' ).toString();
 	}
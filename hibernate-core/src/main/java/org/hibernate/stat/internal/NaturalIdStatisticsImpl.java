@@ -7,10 +7,9 @@
 package org.hibernate.stat.internal;
 
 import java.io.Serializable;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongBinaryOperator;
 
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.stat.NaturalIdStatistics;
@@ -23,13 +22,10 @@ import org.hibernate.stat.NaturalIdStatistics;
 public class NaturalIdStatisticsImpl extends AbstractCacheableDataStatistics implements NaturalIdStatistics, Serializable {
 
 	private final String rootEntityName;
-	private final AtomicLong executionCount = new AtomicLong();
-	private final AtomicLong executionMaxTime = new AtomicLong();
-	private final AtomicLong executionMinTime = new AtomicLong( Long.MAX_VALUE );
-	private final AtomicLong totalExecutionTime = new AtomicLong();
-
-	private final Lock readLock;
-	private final Lock writeLock;
+	private final LongAdder executionCount = new LongAdder();
+	private final LongAccumulator executionMaxTime = new LongAccumulator( (LongBinaryOperator & Serializable) Math::max, 0L );
+	private final LongAccumulator executionMinTime = new LongAccumulator( (LongBinaryOperator & Serializable) Math::min, Long.MAX_VALUE );
+	private final LongAdder totalExecutionTime = new LongAdder();
 
 	NaturalIdStatisticsImpl(EntityPersister rootEntityDescriptor) {
 		super(
@@ -38,9 +34,6 @@ public class NaturalIdStatisticsImpl extends AbstractCacheableDataStatistics imp
 						: null
 		);
 		this.rootEntityName = rootEntityDescriptor.getRootEntityName();
-		final ReadWriteLock lock = new ReentrantReadWriteLock();
-		this.readLock = lock.readLock();
-		this.writeLock = lock.writeLock();
 	}
 
 	/**
@@ -48,7 +41,7 @@ public class NaturalIdStatisticsImpl extends AbstractCacheableDataStatistics imp
 	 */
 	@Override
 	public long getExecutionCount() {
-		return this.executionCount.get();
+		return this.executionCount.sum();
 	}
 
 	/**
@@ -56,20 +49,11 @@ public class NaturalIdStatisticsImpl extends AbstractCacheableDataStatistics imp
 	 */
 	@Override
 	public long getExecutionAvgTime() {
-		// We write lock here to be sure that we always calculate the average time
-		// with all updates from the executed applied: executionCount and totalExecutionTime
-		// both used in the calculation
-		this.writeLock.lock();
-		try {
-			long avgExecutionTime = 0;
-			if ( this.executionCount.get() > 0 ) {
-				avgExecutionTime = this.totalExecutionTime.get() / this.executionCount.get();
-			}
-			return avgExecutionTime;
-		}
-		finally {
-			this.writeLock.unlock();
-		}
+		// read the total time first: queryExecuted(long) increments the count
+		// first, so we never see the time of an execution which is not yet counted
+		final long total = this.totalExecutionTime.sum();
+		final long count = this.executionCount.sum();
+		return count > 0 ? total / count : 0;
 	}
 
 	/**
@@ -89,23 +73,10 @@ public class NaturalIdStatisticsImpl extends AbstractCacheableDataStatistics imp
 	}
 
 	void queryExecuted(long time) {
-		// read lock is enough, concurrent updates are supported by the underlying type AtomicLong
-		// this only guards executed(long, long) to be called, when another thread is executing getExecutionAvgTime()
-		this.readLock.lock();
-		try {
-			// Less chances for a context switch
-			//noinspection StatementWithEmptyBody
-			for ( long old = this.executionMinTime.get(); time < old && !this.executionMinTime.compareAndSet( old, time ); old = this.executionMinTime.get() ) {
-			}
-			//noinspection StatementWithEmptyBody
-			for ( long old = this.executionMaxTime.get(); time > old && !this.executionMaxTime.compareAndSet( old, time ); old = this.executionMaxTime.get() ) {
-			}
-			this.executionCount.getAndIncrement();
-			this.totalExecutionTime.addAndGet( time );
-		}
-		finally {
-			this.readLock.unlock();
-		}
+		this.executionCount.increment();
+		this.totalExecutionTime.add( time );
+		this.executionMinTime.accumulate( time );
+		this.executionMaxTime.accumulate( time );
 	}
 
 	@Override
@@ -6,11 +6,10 @@
  */
 package org.hibernate.stat.internal;
 
-import java.util.concurrent.atomic.AtomicLong;
+import java.io.Serializable;
+import java.util.concurrent.atomic.LongAccumulator;
 import java.util.concurrent.atomic.LongAdder;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongBinaryOperator;
 
 import org.hibernate.query.Query;
 import org.hibernate.stat.QueryStatistics;
@@ -19,6 +18,12 @@ import org.hibernate.stat.QueryStatistics;
  * Query statistics (HQL and SQL)
  * <p>
  * Note that for a cached query, the cache miss is equals to the db count
+ * <p>
+ * All counters are striped, so that recording an execution never blocks and
+ * never spins, even when the same query is executed by many threads at once.
+ * The values are only summed up when read, and the figures returned while
+ * executions are being recorded are therefore not necessarily consistent
+ * with one another.
  *
  * @author Alex Snaps
  */
@@ -30,23 +35,19 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	private final LongAdder cachePutCount = new LongAdder();
 	private final LongAdder executionCount = new LongAdder();
 	private final LongAdder executionRowCount = new LongAdder();
-	private final AtomicLong executionMaxTime = new AtomicLong();
-	private final AtomicLong executionMinTime = new AtomicLong(Long.MAX_VALUE);
-	private final AtomicLong totalExecutionTime = new AtomicLong();
+	private final LongAccumulator executionMaxTime = new LongAccumulator( (LongBinaryOperator & Serializable) Math::max, 0L );
+	private final LongAccumulator executionMinTime = new LongAccumulator( (LongBinaryOperator & Serializable) Math::min, Long.MAX_VALUE );
+	private final LongAdder totalExecutionTime = new LongAdder();
 
 	private final LongAdder planCacheHitCount = new LongAdder();
 	private final LongAdder planCacheMissCount = new LongAdder();
-	private final AtomicLong planCompilationTotalMicroseconds = new AtomicLong();
-
-
-	private final Lock readLock;
-	private final Lock writeLock;
+	private final LongAdder planCompilationTotalMicroseconds = new LongAdder();
+	private final LongAdder translationCacheHitCount = new LongAdder();
+	private final LongAdder translationCacheMissCount = new LongAdder();
+	private volatile int fetchSize;
 
 	public QueryStatisticsImpl(String query) {
 		this.query = query;
-		ReadWriteLock lock = new ReentrantReadWriteLock();
-		this.readLock = lock.readLock();
-		this.writeLock = lock.writeLock();
 	}
 
 	/**
@@ -95,21 +96,11 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	 * average time in ms as double taken by the execution of this query onto the DB
 	 */
 	public double getExecutionAvgTimeAsDouble() {
-		// We write lock here to be sure that we always calculate the average time
-		// with all updates from the executed applied: executionCount and totalExecutionTime
-		// both used in the calculation
-		writeLock.lock();
-		try {
-			double avgExecutionTime = 0;
-			final long ec = executionCount.sum();
-			if ( ec > 0 ) {
-				avgExecutionTime = totalExecutionTime.get() / (double) ec;
-			}
-			return avgExecutionTime;
-		}
-		finally {
-			writeLock.unlock();
-		}
+		// read the total time first: executed(long, long) increments the count
+		// first, so we never see the time of an execution which is not yet counted
+		final long total = totalExecutionTime.sum();
+		final long ec = executionCount.sum();
+		return ec > 0 ? total / (double) ec : 0;
 	}
 
 	/**
@@ -130,7 +121,7 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	 * total time in ms taken by the execution of this query onto the DB
 	 */
 	public long getExecutionTotalTime() {
-		return totalExecutionTime.get();
+		return totalExecutionTime.sum();
 	}
 
 	/**
@@ -151,7 +142,28 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	 * Query plan overall compiled total
 	 */
 	public long getPlanCompilationTotalMicroseconds() {
-		return planCompilationTotalMicroseconds.get();
+		return planCompilationTotalMicroseconds.sum();
+	}
+
+	/**
+	 * SQL translation of the query plan reused
+	 */
+	public long getTranslationCacheHitCount() {
+		return translationCacheHitCount.sum();
+	}
+
+	/**
+	 * SQL translation of the query plan not reused
+	 */
+	public long getTranslationCacheMissCount() {
+		return translationCacheMissCount.sum();
+	}
+
+	/**
+	 * JDBC fetch size adapted to the previous executions
+	 */
+	public int getFetchSize() {
+		return fetchSize;
 	}
 
 	/**
@@ -161,20 +173,11 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	 * @param time time taken
 	 */
 	public void executed(long rows, long time) {
-		// read lock is enough, concurrent updates are supported by the underlying type AtomicLong
-		// this only guards executed(long, long) to be called, when another thread is executing getExecutionAvgTime()
-		readLock.lock();
-		try {
-			// Less chances for a context switch
-			for ( long old = executionMinTime.get(); (time < old) && !executionMinTime.compareAndSet(old, time); old = executionMinTime.get() ) {}
-			for ( long old = executionMaxTime.get(); (time > old) && !executionMaxTime.compareAndSet(old, time); old = executionMaxTime.get() ) {}
-			executionCount.increment();
-			executionRowCount.add( rows );
-			totalExecutionTime.addAndGet( time );
-		}
-		finally {
-			readLock.unlock();
-		}
+		executionCount.increment();
+		executionRowCount.add( rows );
+		totalExecutionTime.add( time );
+		executionMinTime.accumulate( time );
+		executionMaxTime.accumulate( time );
 	}
 
 	/**
@@ -184,7 +187,7 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	 */
 	void compiled(long microseconds) {
 		planCacheMissCount.increment();
-		planCompilationTotalMicroseconds.addAndGet( microseconds );
+		planCompilationTotalMicroseconds.add( microseconds );
 	}
 
 	void incrementCacheHitCount() {
@@ -207,6 +210,18 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		planCacheMissCount.increment();
 	}
 
+	void incrementTranslationCacheHitCount() {
+		translationCacheHitCount.increment();
+	}
+
+	void incrementTranslationCacheMissCount() {
+		translationCacheMissCount.increment();
+	}
+
+	void setFetchSize(int fetchSize) {
+		this.fetchSize = fetchSize;
+	}
+
 	public String toString() {
 		return "QueryStatistics"
 				+ "[query=" + query
@@ -215,6 +230,9 @@ public class QueryStatisticsImpl implements QueryStatistics {
 				+ ",cachePutCount=" + this.cachePutCount
 				+ ",planCacheHitCount=" + this.planCacheHitCount
 				+ ",planCacheMissCount=" + this.planCacheMissCount
+				+ ",translationCacheHitCount=" + this.translationCacheHitCount
+				+ ",translationCacheMissCount=" + this.translationCacheMissCount
+				+ ",fetchSize=" + this.fetchSize
 				+ ",executionCount=" + this.executionCount
 				+ ",executionRowCount=" + this.executionRowCount
 				+ ",executionAvgTime=" + this.getExecutionAvgTime()
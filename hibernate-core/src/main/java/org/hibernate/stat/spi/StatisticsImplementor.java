@@ -46,6 +46,22 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void closeStatement();
 
+	/**
+	 * Callback about a prepared statement being reused from the statement cache.
+	 *
+	 * @since 6.3
+	 */
+	default void preparedStatementCacheHit() {
+	}
+
+	/**
+	 * Callback about a prepared statement not being found in the statement cache.
+	 *
+	 * @since 6.3
+	 */
+	default void preparedStatementCacheMiss() {
+	}
+
 	/**
 	 * Callback about a transaction completing.
 	 *
@@ -265,6 +281,44 @@ public interface StatisticsImplementor extends Statistics, Service {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating that the SQL translation of a cached query plan
+	 * was reused for executing the query.
+	 *
+	 * @param query The query
+	 *
+	 * @since 6.3
+	 */
+	default void queryTranslationCacheHit(String query) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating that a cached query plan had to translate the query
+	 * to SQL again, for differing limits, lock options or parameter bindings.
+	 *
+	 * @param query The query
+	 *
+	 * @since 6.3
+	 */
+	default void queryTranslationCacheMiss(String query) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating the JDBC fetch size chosen for the next execution
+	 * of a query, when the {@linkplain org.hibernate.cfg.AvailableSettings#ADAPTIVE_FETCH_SIZE
+	 * adaptive fetch size} is enabled.
+	 *
+	 * @param query The query
+	 * @param fetchSize The fetch size
+	 *
+	 * @since 6.3
+	 */
+	default void queryFetchSizeAdapted(String query, int fetchSize) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating compilation of a sql/hql query
 	 *
@@ -0,0 +1,84 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "5" ),
+				@Setting( name = AvailableSettings.STATEMENT_BATCH_MULTI_ROW_INSERTS, value = "true" )
+		}
+)
+@DomainModel( annotatedClasses = MultiRowInsertBatchTest.Item.class )
+@SessionFactory( useCollectingStatementInspector = true )
+@RequiresDialect( H2Dialect.class )
+public class MultiRowInsertBatchTest {
+
+	@Test
+	public void testInsert(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( (session) -> {
+			for ( int i = 0; i < 12; i++ ) {
+				session.persist( new Item( i, i % 3 == 0 ? null : "item " + i ) );
+			}
+		} );
+
+		// two full batches of 5 rows, plus the remaining 2 rows on flush
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 3 );
+		assertThat( statementInspector.getSqlQueries().get( 0 ) ).containsPattern( "(?i)values\\s*\\(.*\\),\\(.*\\),\\(.*\\),\\(.*\\),\\(.*\\)" );
+
+		scope.inTransaction( (session) -> {
+			final List<Item> items = session.createQuery( "from Item order by id", Item.class ).list();
+			assertThat( items ).hasSize( 12 );
+			for ( int i = 0; i < 12; i++ ) {
+				assertThat( items.get( i ).id ).isEqualTo( i );
+				assertThat( items.get( i ).name ).isEqualTo( i % 3 == 0 ? null : "item " + i );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete Item" ).executeUpdate() );
+	}
+
+	@Entity( name = "Item" )
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OptimisticLockException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "5" ),
+				@Setting( name = AvailableSettings.STATEMENT_BATCH_PIPELINED, value = "true" )
+		}
+)
+@DomainModel( annotatedClasses = PipelinedBatchTest.Item.class )
+@SessionFactory
+public class PipelinedBatchTest {
+
+	@Test
+	public void testInsertAndUpdate(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 0; i < 23; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+		} );
+
+		scope.inTransaction( (session) -> {
+			final List<Item> items = session.createQuery( "from Item order by id", Item.class ).list();
+			assertThat( items ).hasSize( 23 );
+			for ( Item item : items ) {
+				item.name = "updated " + item.id;
+			}
+			session.flush();
+			assertThat( session.createQuery( "select count(*) from Item where name like 'updated%'", Long.class )
+					.getSingleResult() ).isEqualTo( 23L );
+		} );
+	}
+
+	@Test
+	public void testObserverNotifiedOnSessionThread(SessionFactoryScope scope) {
+		final List<Thread> notifiedThreads = new ArrayList<>();
+		scope.inTransaction( (session) -> {
+			session.addEventListeners( new BaseSessionEventListener() {
+				@Override
+				public void jdbcExecuteBatchStart() {
+					notifiedThreads.add( Thread.currentThread() );
+				}
+
+				@Override
+				public void jdbcExecuteBatchEnd() {
+					notifiedThreads.add( Thread.currentThread() );
+				}
+			} );
+			for ( int i = 0; i < 23; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+		} );
+
+		// 4 full batches and the last, partial one
+		assertThat( notifiedThreads ).hasSize( 10 ).containsOnly( Thread.currentThread() );
+	}
+
+	@Test
+	public void testUnexpectedRowCount(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 0; i < 12; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+		} );
+
+		scope.inSession( (session) -> {
+			session.beginTransaction();
+			try {
+				final List<Item> items = session.createQuery( "from Item order by id", Item.class ).list();
+				scope.inTransaction( (other) -> other.createMutationQuery( "delete Item where id = 1" ).executeUpdate() );
+				for ( Item item : items ) {
+					item.name = "updated " + item.id;
+				}
+				// the first batch fails while the flush goes on
+				assertThatThrownBy( session::flush ).isInstanceOf( OptimisticLockException.class );
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		} );
+
+		scope.inTransaction( (session) -> assertThat(
+				session.createQuery( "select count(*) from Item where name like 'updated%'", Long.class )
+						.getSingleResult()
+		).isEqualTo( 0L ) );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete Item" ).executeUpdate() );
+	}
+
+	@Entity( name = "Item" )
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
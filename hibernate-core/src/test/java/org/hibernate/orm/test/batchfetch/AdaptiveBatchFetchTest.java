@@ -0,0 +1,154 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.EntityStatistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = { AdaptiveBatchFetchTest.Owner.class, AdaptiveBatchFetchTest.Pet.class })
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.ADAPTIVE_BATCH_FETCH, value = "true"),
+				@Setting(name = AvailableSettings.ADAPTIVE_BATCH_FETCH_MIN_SIZE, value = "4")
+		}
+)
+public class AdaptiveBatchFetchTest {
+
+	@BeforeAll
+	public void prepareData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 20; i++ ) {
+				final Owner owner = new Owner( i, "owner " + i );
+				session.persist( owner );
+				session.persist( new Pet( i, "pet " + i, owner ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void cleanupData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete Pet" ).executeUpdate();
+			session.createMutationQuery( "delete Owner" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testBatchSizeAdapts(SessionFactoryScope scope) {
+		final EntityStatistics statistics = scope.getSessionFactory().getStatistics()
+				.getEntityStatistics( Owner.class.getName() );
+		assertThat( statistics.getBatchFetchSize() ).isEqualTo( 16 );
+
+		// only the first owner is used, the 15 others were loaded for nothing
+		accessOwners( scope, 1 );
+		assertThat( statistics.getBatchFetchSize() ).isEqualTo( 8 );
+		accessOwners( scope, 1 );
+		assertThat( statistics.getBatchFetchSize() ).isEqualTo( 4 );
+		accessOwners( scope, 1 );
+		assertThat( statistics.getBatchFetchSize() ).isEqualTo( 4 );
+
+		// every owner is used, which takes several full batches
+		accessOwners( scope, 20 );
+		assertThat( statistics.getBatchFetchSize() ).isEqualTo( 8 );
+		accessOwners( scope, 20 );
+		assertThat( statistics.getBatchFetchSize() ).isEqualTo( 16 );
+		accessOwners( scope, 20 );
+		assertThat( statistics.getBatchFetchSize() ).isEqualTo( 16 );
+	}
+
+	@Test
+	public void testInternalAccessDoesNotCount(SessionFactoryScope scope) {
+		final EntityStatistics statistics = scope.getSessionFactory().getStatistics()
+				.getEntityStatistics( Owner.class.getName() );
+		accessOwners( scope, 20 );
+		accessOwners( scope, 20 );
+		accessOwners( scope, 20 );
+		assertThat( statistics.getBatchFetchSize() ).isEqualTo( 16 );
+
+		// only the first owner is used by the application, the others are only unproxied
+		scope.inTransaction( session -> {
+			final List<Pet> pets = session.createQuery( "from Pet p order by p.id", Pet.class ).list();
+			assertThat( pets.get( 0 ).owner.getName() ).isEqualTo( "owner 1" );
+			for ( int i = 1; i < 16; i++ ) {
+				assertThat( Hibernate.unproxy( pets.get( i ).owner ) ).isInstanceOf( Owner.class );
+			}
+		} );
+		assertThat( statistics.getBatchFetchSize() ).isEqualTo( 8 );
+
+		accessOwners( scope, 20 );
+		accessOwners( scope, 20 );
+		assertThat( statistics.getBatchFetchSize() ).isEqualTo( 16 );
+	}
+
+	private static void accessOwners(SessionFactoryScope scope, int count) {
+		scope.inTransaction( session -> {
+			final List<Pet> pets = session.createQuery( "from Pet p order by p.id", Pet.class ).list();
+			for ( int i = 0; i < count; i++ ) {
+				assertThat( pets.get( i ).owner.getName() ).isEqualTo( "owner " + ( i + 1 ) );
+			}
+		} );
+	}
+
+	@Entity(name = "Owner")
+	@BatchSize(size = 16)
+	public static class Owner {
+		@Id
+		Integer id;
+		String name;
+
+		public Owner() {
+		}
+
+		public Owner(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "Pet")
+	public static class Pet {
+		@Id
+		Integer id;
+		String name;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Owner owner;
+
+		public Pet() {
+		}
+
+		public Pet(Integer id, String name, Owner owner) {
+			this.id = id;
+			this.name = name;
+			this.owner = owner;
+		}
+	}
+}
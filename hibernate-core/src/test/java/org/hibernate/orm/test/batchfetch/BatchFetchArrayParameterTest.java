@@ -0,0 +1,155 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Batch loading with all keys bound as a single array parameter
+ */
+@DomainModel(annotatedClasses = { BatchFetchArrayParameterTest.Owner.class, BatchFetchArrayParameterTest.Pet.class })
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.USE_ARRAY_PARAMETER_FOR_BATCH_LOADING, value = "true"))
+@RequiresDialect(H2Dialect.class)
+@RequiresDialect(PostgreSQLDialect.class)
+public class BatchFetchArrayParameterTest {
+
+	@BeforeAll
+	public void prepareData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				final Owner owner = new Owner( i, "owner " + i );
+				session.persist( owner );
+				session.persist( new Pet( i * 10, "pet " + i, owner ) );
+				session.persist( new Pet( i * 10 + 1, "other pet " + i, owner ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void cleanupData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete Pet" ).executeUpdate();
+			session.createMutationQuery( "delete Owner" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testEntityBatch(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Pet> pets = session.createQuery( "from Pet p where p.id < 30 order by p.id", Pet.class ).list();
+			assertThat( pets ).hasSize( 4 );
+
+			statementInspector.clear();
+			assertThat( pets.get( 0 ).owner.getName() ).isEqualTo( "owner 1" );
+			assertThat( Hibernate.isInitialized( pets.get( 2 ).owner ) ).isTrue();
+			assertThat( pets.get( 2 ).owner.getName() ).isEqualTo( "owner 2" );
+
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+			assertThat( statementInspector.getSqlQueries().get( 0 ) ).containsIgnoringCase( "=any(?)" );
+		} );
+	}
+
+	@Test
+	public void testCollectionBatch(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Owner> owners = session.createQuery( "from Owner o order by o.id", Owner.class ).list();
+			assertThat( owners ).hasSize( 3 );
+
+			statementInspector.clear();
+			assertThat( owners.get( 0 ).pets ).hasSize( 2 );
+			assertThat( Hibernate.isInitialized( owners.get( 2 ).pets ) ).isTrue();
+			assertThat( owners.get( 2 ).pets ).hasSize( 2 );
+
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+			assertThat( statementInspector.getSqlQueries().get( 0 ) ).containsIgnoringCase( "=any(?)" );
+		} );
+	}
+
+	@Test
+	public void testMultiLoad(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			statementInspector.clear();
+			final List<Owner> owners = session.byMultipleIds( Owner.class ).multiLoad( 1, 2, 3 );
+			assertThat( owners ).extracting( Owner::getName ).containsExactly( "owner 1", "owner 2", "owner 3" );
+
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+			assertThat( statementInspector.getSqlQueries().get( 0 ) ).containsIgnoringCase( "=any(?)" );
+		} );
+	}
+
+	@Entity(name = "Owner")
+	@BatchSize(size = 10)
+	public static class Owner {
+		@Id
+		Integer id;
+		String name;
+		@OneToMany(mappedBy = "owner")
+		@BatchSize(size = 10)
+		Set<Pet> pets = new HashSet<>();
+
+		public Owner() {
+		}
+
+		public Owner(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "Pet")
+	public static class Pet {
+		@Id
+		Integer id;
+		String name;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Owner owner;
+
+		public Pet() {
+		}
+
+		public Pet(Integer id, String name, Owner owner) {
+			this.id = id;
+			this.name = name;
+			this.owner = owner;
+		}
+	}
+}
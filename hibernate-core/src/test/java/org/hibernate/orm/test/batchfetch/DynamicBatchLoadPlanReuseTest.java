@@ -0,0 +1,122 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.LockMode;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.loader.ast.internal.SingleIdEntityLoaderDynamicBatch;
+import org.hibernate.loader.ast.spi.SingleIdEntityLoader;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that a dynamic batch loader executes the same batch selects for each
+ * lock mode and number of ids.
+ */
+@DomainModel(annotatedClasses = DynamicBatchLoadPlanReuseTest.Item.class)
+@SessionFactory(useCollectingStatementInspector = true)
+public class DynamicBatchLoadPlanReuseTest {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 10; i++ ) {
+						session.persist( new Item( i, "item " + i ) );
+					}
+				}
+		);
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testPlanReuse(SessionFactoryScope scope) {
+		assertThat( getLoader( scope ) ).isInstanceOf( SingleIdEntityLoaderDynamicBatch.class );
+
+		final List<String> firstLockModeSql = loadBatches( scope, LockMode.NONE );
+		assertThat( firstLockModeSql ).hasSize( 2 );
+
+		// the same batch sizes with the same lock mode use the same selects
+		assertThat( loadBatches( scope, LockMode.NONE ) ).isEqualTo( firstLockModeSql );
+
+		// another lock mode has its own selects
+		final List<String> secondLockModeSql = loadBatches( scope, LockMode.PESSIMISTIC_WRITE );
+		assertThat( secondLockModeSql ).hasSize( 2 );
+		assertThat( secondLockModeSql ).doesNotContainAnyElementsOf( firstLockModeSql );
+
+		assertThat( loadBatches( scope, LockMode.PESSIMISTIC_WRITE ) ).isEqualTo( secondLockModeSql );
+		assertThat( loadBatches( scope, LockMode.NONE ) ).isEqualTo( firstLockModeSql );
+	}
+
+	/**
+	 * @return the SQL executed to load the batches
+	 */
+	private static List<String> loadBatches(SessionFactoryScope scope, LockMode lockMode) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		// batches of 2 and 5 ids
+		loadBatch( scope, lockMode, 1, 2 );
+		loadBatch( scope, lockMode, 3, 5 );
+		return new ArrayList<>( statementInspector.getSqlQueries() );
+	}
+
+	private static void loadBatch(SessionFactoryScope scope, LockMode lockMode, int firstId, int numberOfIds) {
+		scope.inTransaction(
+				session -> {
+					// queue the other ids for batch loading
+					for ( int i = 1; i < numberOfIds; i++ ) {
+						session.getReference( Item.class, firstId + i );
+					}
+					final Item item = session.get( Item.class, firstId, lockMode );
+					assertThat( item.name ).isEqualTo( "item " + firstId );
+				}
+		);
+	}
+
+	private static SingleIdEntityLoader<?> getLoader(SessionFactoryScope scope) {
+		final AbstractEntityPersister entityDescriptor = (AbstractEntityPersister) scope.getSessionFactory()
+				.getRuntimeMetamodels()
+				.getMappingMetamodel()
+				.getEntityDescriptor( Item.class );
+		return entityDescriptor.getSingleIdEntityLoader();
+	}
+
+	@Entity(name = "Item")
+	@BatchSize(size = 10)
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
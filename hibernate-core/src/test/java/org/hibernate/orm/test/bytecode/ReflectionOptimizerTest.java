@@ -9,9 +9,23 @@ package org.hibernate.orm.test.bytecode;
 import static org.hibernate.bytecode.internal.BytecodeProviderInitiator.buildDefaultBytecodeProvider;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.Reader;
+import java.lang.reflect.Field;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.property.access.internal.PropertyAccessStrategyFieldImpl;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.GetterFieldImpl;
+import org.hibernate.property.access.spi.PropertyAccess;
+import org.hibernate.property.access.spi.PropertyAccessStrategy;
+import org.hibernate.property.access.spi.Setter;
+import org.hibernate.property.access.spi.SetterFieldImpl;
 
 import org.hibernate.testing.TestForIssue;
 import org.hibernate.testing.junit4.BaseUnitTestCase;
@@ -77,6 +91,46 @@ public class ReflectionOptimizerTest extends BaseUnitTestCase {
 		assertNotNull( reflectionOptimizer );
 	}
 
+	@Test
+	public void testPrivateMembers() {
+		// private members are accessed from a hidden nestmate class
+		assumeTrue( Runtime.version().feature() >= 15 );
+
+		final Map<String, PropertyAccess> propertyAccessMap = new LinkedHashMap<>();
+		propertyAccessMap.put( "id", PropertyAccessStrategyFieldImpl.INSTANCE.buildPropertyAccess( PrivateMembers.class, "id", true ) );
+		propertyAccessMap.put( "name", PropertyAccessStrategyFieldImpl.INSTANCE.buildPropertyAccess( PrivateMembers.class, "name", true ) );
+		final ReflectionOptimizer optimizer = provider.getReflectionOptimizer( PrivateMembers.class, propertyAccessMap );
+		assertNotNull( optimizer );
+		assertNotNull( optimizer.getInstantiationOptimizer() );
+		assertNotNull( optimizer.getAccessOptimizer() );
+
+		final PrivateMembers instance = (PrivateMembers) optimizer.getInstantiationOptimizer().newInstance();
+		final Object[] values = new Object[] { 1L, "name" };
+		optimizer.getAccessOptimizer().setPropertyValues( instance, values );
+		assertEquals( 1L, instance.id );
+		assertEquals( "name", instance.name );
+		assertEquivalent( optimizer.getAccessOptimizer().getPropertyValues( instance ), values );
+	}
+
+	@Test
+	public void testPrivateMembersOfClosedPackage() throws Exception {
+		// java.io is not open to Hibernate, so no hidden nestmate can be defined for Reader
+		assumeTrue( Runtime.version().feature() >= 15 );
+		final Field field;
+		try {
+			field = Reader.class.getDeclaredField( "skipBuffer" );
+		}
+		catch (NoSuchFieldException e) {
+			assumeTrue( false );
+			return;
+		}
+
+		final Map<String, PropertyAccess> propertyAccessMap = new LinkedHashMap<>();
+		propertyAccessMap.put( "skipBuffer", new FieldPropertyAccess( Reader.class, field ) );
+		// falls back to plain reflection instead of failing
+		assertNull( provider.getReflectionOptimizer( Reader.class, propertyAccessMap ) );
+	}
+
 	private void assertEquivalent(Object[] checkValues, Object[] values) {
 		assertEquals( "Different lengths", checkValues.length, values.length );
 		for ( int i = 0; i < checkValues.length; i++ ) {
@@ -97,6 +151,40 @@ public class ReflectionOptimizerTest extends BaseUnitTestCase {
 		}
 	}
 
+	public static class PrivateMembers {
+
+		private Long id;
+		private String name;
+
+		private PrivateMembers() {
+		}
+	}
+
+	private static class FieldPropertyAccess implements PropertyAccess {
+		private final Getter getter;
+		private final Setter setter;
+
+		FieldPropertyAccess(Class<?> containerClass, Field field) {
+			this.getter = new GetterFieldImpl( containerClass, field.getName(), field );
+			this.setter = new SetterFieldImpl( containerClass, field.getName(), field );
+		}
+
+		@Override
+		public PropertyAccessStrategy getPropertyAccessStrategy() {
+			return PropertyAccessStrategyFieldImpl.INSTANCE;
+		}
+
+		@Override
+		public Getter getGetter() {
+			return getter;
+		}
+
+		@Override
+		public Setter getSetter() {
+			return setter;
+		}
+	}
+
 	public interface Interface {
 
 		String getProperty();
@@ -0,0 +1,149 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.internal.MapStorageAccess;
+import org.hibernate.cache.internal.OffHeapRegionFactory;
+import org.hibernate.cache.internal.OffHeapStorageAccess;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.support.DirectAccessRegionTemplate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = OffHeapRegionFactoryTest.Book.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.CACHE_REGION_FACTORY, value = "org.hibernate.cache.internal.OffHeapRegionFactory")
+		}
+)
+public class OffHeapRegionFactoryTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Book" ).executeUpdate() );
+	}
+
+	@Test
+	public void testEntityRoundTrip(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Book( 1, "Hibernate in Action" ) ) );
+		scope.getSessionFactory().getStatistics().clear();
+
+		scope.inTransaction( session -> {
+			final Book book = session.find( Book.class, 1 );
+			assertThat( book.title ).isEqualTo( "Hibernate in Action" );
+		} );
+
+		final CacheRegionStatistics statistics = scope.getSessionFactory()
+				.getStatistics()
+				.getDomainDataRegionStatistics( "books" );
+		assertThat( statistics.getHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getMissCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testTimestampsAndQueryResultsAreNotEvicted(SessionFactoryScope scope) {
+		// a lost update timestamp would make stale query results look valid
+		final CacheImplementor cache = scope.getSessionFactory().getCache();
+		assertThat( ( (DirectAccessRegionTemplate) cache.getTimestampsCache().getRegion() ).getStorageAccess() )
+				.isInstanceOf( MapStorageAccess.class );
+		assertThat( ( (DirectAccessRegionTemplate) cache.getDefaultQueryResultsCache().getRegion() ).getStorageAccess() )
+				.isInstanceOf( MapStorageAccess.class );
+	}
+
+	@Test
+	public void testLeastRecentlyUsedEviction() {
+		// room for exactly 4 single-block entries
+		final OffHeapStorageAccess storage = new OffHeapStorageAccess( "test", 4 * 256, 256 );
+		for ( int i = 0; i < 4; i++ ) {
+			storage.putIntoCache( i, "value" + i, null );
+		}
+		assertThat( storage.getEntryCount() ).isEqualTo( 4 );
+
+		// touch 0 so that 1 becomes the eldest entry
+		assertThat( storage.getFromCache( 0, null ) ).isEqualTo( "value0" );
+		storage.putIntoCache( 4, "value4", null );
+
+		assertThat( storage.getEntryCount() ).isEqualTo( 4 );
+		assertThat( storage.contains( 0 ) ).isTrue();
+		assertThat( storage.contains( 1 ) ).isFalse();
+		assertThat( storage.getFromCache( 4, null ) ).isEqualTo( "value4" );
+	}
+
+	@Test
+	public void testSeveralSlabs() {
+		// two slabs with room for 2 single-block entries each
+		final OffHeapStorageAccess storage = new OffHeapStorageAccess( "test", 4L * 256, 256, 2 * 256 );
+		assertThat( storage.getSlabCount() ).isEqualTo( 2 );
+		for ( int i = 0; i < 4; i++ ) {
+			storage.putIntoCache( i, "value" + i, null );
+		}
+		assertThat( storage.getEntryCount() ).isEqualTo( 4 );
+		for ( int i = 0; i < 4; i++ ) {
+			assertThat( storage.getFromCache( i, null ) ).isEqualTo( "value" + i );
+		}
+
+		// 0 is now the eldest entry
+		storage.putIntoCache( 4, "value4", null );
+		assertThat( storage.getEntryCount() ).isEqualTo( 4 );
+		assertThat( storage.contains( 0 ) ).isFalse();
+		assertThat( storage.getFromCache( 4, null ) ).isEqualTo( "value4" );
+	}
+
+	@Test
+	public void testValuesSpanningSeveralBlocks() {
+		final OffHeapStorageAccess storage = new OffHeapStorageAccess(
+				"test",
+				OffHeapRegionFactory.DEFAULT_BLOCK_SIZE * 64,
+				OffHeapRegionFactory.DEFAULT_BLOCK_SIZE
+		);
+		final String large = "x".repeat( OffHeapRegionFactory.DEFAULT_BLOCK_SIZE * 10 );
+		storage.putIntoCache( "large", large, null );
+		storage.putIntoCache( "small", "y", null );
+		assertThat( storage.getFromCache( "large", null ) ).isEqualTo( large );
+		assertThat( storage.getFromCache( "small", null ) ).isEqualTo( "y" );
+
+		storage.evictData( "large" );
+		assertThat( storage.contains( "large" ) ).isFalse();
+		assertThat( storage.getFromCache( "small", null ) ).isEqualTo( "y" );
+	}
+
+	@Entity(name = "Book")
+	@Cacheable
+	@Cache(region = "books", usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,275 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.concurrency;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.TableGenerator;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+
+import static jakarta.persistence.GenerationType.TABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs the paths which block while holding a lock on virtual threads, and
+ * checks with the {@code jdk.VirtualThreadPinned} JFR event that none of
+ * them pins the carrier thread:
+ * <ul>
+ *     <li>the growth of the built-in connection pool, with a driver which
+ *     sleeps while connecting,
+ *     <li>the pooled optimizer of a table generator, which obtains a
+ *     connection from that pool for the isolated work,
+ *     <li>the translation of a select query plan, and
+ *     <li>the lazily built standard loader of a collection.
+ * </ul>
+ * Virtual threads exist as of JDK 21, so the test is skipped on older JDKs.
+ */
+@DomainModel(annotatedClasses = {
+		VirtualThreadPinningTest.Owner.class,
+		VirtualThreadPinningTest.Pet.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.DRIVER, value = "org.hibernate.orm.test.concurrency.VirtualThreadPinningTest$SlowDriver"),
+		@Setting(name = AvailableSettings.POOL_SIZE, value = "5"),
+		@Setting(name = DriverManagerConnectionProviderImpl.ACQUISITION_TIMEOUT, value = "30000")
+})
+@SessionFactory
+public class VirtualThreadPinningTest {
+
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+	// each task holds a connection, and at most one more is used for the isolated work of the generator,
+	// so the pool grows from the connections used to set up the test data
+	private static final int TASK_COUNT = 4;
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Owner( 1, "owner" ) ) );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createMutationQuery( "delete Pet" ).executeUpdate();
+					session.createMutationQuery( "delete Owner" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testNoPinning(SessionFactoryScope scope) throws Exception {
+		assumeTrue( Runtime.version().feature() >= 21, "Virtual threads require JDK 21" );
+
+		final Path dump = Files.createTempFile( "virtual-thread-pinning", ".jfr" );
+		try {
+			try ( Recording recording = new Recording() ) {
+				recording.enable( PINNED_EVENT ).withThreshold( Duration.ZERO ).withStackTrace();
+				recording.start();
+				runOnVirtualThreads( scope );
+				recording.stop();
+				recording.dump( dump );
+			}
+
+			final List<String> pinnedStacks = new ArrayList<>();
+			for ( RecordedEvent event : RecordingFile.readAllEvents( dump ) ) {
+				if ( event.getEventType().getName().equals( PINNED_EVENT ) && parkedInHibernate( event ) ) {
+					pinnedStacks.add( toString( event ) );
+				}
+			}
+			assertThat( pinnedStacks ).isEmpty();
+		}
+		finally {
+			Files.deleteIfExists( dump );
+		}
+	}
+
+	private static void runOnVirtualThreads(SessionFactoryScope scope) throws Exception {
+		final CountDownLatch start = new CountDownLatch( 1 );
+		final ExecutorService executor = newVirtualThreadPerTaskExecutor();
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < TASK_COUNT; i++ ) {
+				futures.add( executor.submit( () -> {
+					start.await();
+					scope.inTransaction(
+							session -> {
+								final Owner owner = session.createSelectionQuery(
+												"from Owner o where o.id = :id",
+												Owner.class
+										)
+										.setParameter( "id", 1 )
+										.getSingleResult();
+								Hibernate.initialize( owner.pets );
+								for ( int j = 0; j < 10; j++ ) {
+									session.persist( new Pet( owner ) );
+								}
+							}
+					);
+					return null;
+				} ) );
+			}
+			start.countDown();
+			for ( Future<?> future : futures ) {
+				future.get( 1, TimeUnit.MINUTES );
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	private static ExecutorService newVirtualThreadPerTaskExecutor() throws Exception {
+		// the tests are compiled for the baseline JDK
+		return (ExecutorService) Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" ).invoke( null );
+	}
+
+	/**
+	 * Whether the first frame below the JDK frames which parked the thread
+	 * belongs to Hibernate, rather than for example to the JDBC driver.
+	 */
+	private static boolean parkedInHibernate(RecordedEvent event) {
+		if ( event.getStackTrace() == null ) {
+			return false;
+		}
+		for ( RecordedFrame frame : event.getStackTrace().getFrames() ) {
+			final String className = frame.getMethod().getType().getName();
+			if ( !className.startsWith( "java." ) && !className.startsWith( "jdk." ) && !className.startsWith( "sun." ) ) {
+				return className.startsWith( "org.hibernate." );
+			}
+		}
+		return false;
+	}
+
+	private static String toString(RecordedEvent event) {
+		return event.getStackTrace().getFrames().stream()
+				.map( frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName() )
+				.collect( Collectors.joining( "\n\tat ", "Pinned at ", "" ) );
+	}
+
+	/**
+	 * Delegates to the configured driver after sleeping, which parks a
+	 * virtual thread while the connection pool grows.
+	 */
+	public static class SlowDriver implements Driver {
+		@Override
+		public Connection connect(String url, Properties info) throws SQLException {
+			try {
+				Thread.sleep( 10 );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new SQLException( e );
+			}
+			return DriverManager.getDriver( url ).connect( url, info );
+		}
+
+		@Override
+		public boolean acceptsURL(String url) throws SQLException {
+			return DriverManager.getDriver( url ).acceptsURL( url );
+		}
+
+		@Override
+		public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) throws SQLException {
+			return DriverManager.getDriver( url ).getPropertyInfo( url, info );
+		}
+
+		@Override
+		public int getMajorVersion() {
+			return 1;
+		}
+
+		@Override
+		public int getMinorVersion() {
+			return 0;
+		}
+
+		@Override
+		public boolean jdbcCompliant() {
+			return false;
+		}
+
+		@Override
+		public java.util.logging.Logger getParentLogger() throws SQLFeatureNotSupportedException {
+			throw new SQLFeatureNotSupportedException();
+		}
+	}
+
+	@Entity(name = "Owner")
+	public static class Owner {
+		@Id
+		private Integer id;
+		private String name;
+		@OneToMany(mappedBy = "owner")
+		private List<Pet> pets = new ArrayList<>();
+
+		public Owner() {
+		}
+
+		public Owner(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Pet")
+	public static class Pet {
+		@Id
+		@GeneratedValue(strategy = TABLE, generator = "pet_ids")
+		@TableGenerator(name = "pet_ids", allocationSize = 5)
+		private Long id;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Owner owner;
+
+		public Pet() {
+		}
+
+		public Pet(Owner owner) {
+			this.owner = owner;
+		}
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.connection;
+
+import java.sql.Connection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.HibernateException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Environment;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.internal.util.PropertiesHelper;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DriverManagerConnectionProviderPoolTest {
+	private DriverManagerConnectionProviderImpl connectionProvider;
+
+	@AfterEach
+	public void stopConnectionProvider() {
+		if ( connectionProvider != null ) {
+			connectionProvider.stop();
+		}
+	}
+
+	@Test
+	public void testMostRecentlyReturnedConnectionIsReused() throws Exception {
+		connectionProvider = buildConnectionProvider( 0 );
+		final Connection first = connectionProvider.getConnection();
+		final Connection second = connectionProvider.getConnection();
+		connectionProvider.closeConnection( first );
+		connectionProvider.closeConnection( second );
+
+		final Connection connection = connectionProvider.getConnection();
+		assertThat( connection ).isSameAs( second );
+		connectionProvider.closeConnection( connection );
+	}
+
+	@Test
+	public void testExhaustedPoolFailsImmediately() throws Exception {
+		connectionProvider = buildConnectionProvider( 0 );
+		final Connection first = connectionProvider.getConnection();
+		final Connection second = connectionProvider.getConnection();
+
+		assertThatThrownBy( connectionProvider::getConnection ).isInstanceOf( HibernateException.class );
+		assertThat( connectionProvider.getAcquisitionWaitCount() ).isEqualTo( 0 );
+		assertThat( connectionProvider.getAcquisitionFailureCount() ).isEqualTo( 1 );
+
+		connectionProvider.closeConnection( first );
+		connectionProvider.closeConnection( second );
+	}
+
+	@Test
+	public void testExhaustedPoolTimesOut() throws Exception {
+		connectionProvider = buildConnectionProvider( 200 );
+		final Connection first = connectionProvider.getConnection();
+		final Connection second = connectionProvider.getConnection();
+
+		final long start = System.nanoTime();
+		assertThatThrownBy( connectionProvider::getConnection ).isInstanceOf( HibernateException.class );
+		assertThat( TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start ) ).isGreaterThanOrEqualTo( 190 );
+		assertThat( connectionProvider.getAcquisitionWaitCount() ).isEqualTo( 1 );
+		assertThat( connectionProvider.getAcquisitionFailureCount() ).isEqualTo( 1 );
+
+		connectionProvider.closeConnection( first );
+		connectionProvider.closeConnection( second );
+	}
+
+	@Test
+	public void testReturnedConnectionIsHandedOffToWaitingRequest() throws Exception {
+		connectionProvider = buildConnectionProvider( 10_000 );
+		final Connection first = connectionProvider.getConnection();
+		final Connection second = connectionProvider.getConnection();
+		assertThat( connectionProvider.getOpenConnectionCount() ).isEqualTo( 2 );
+		assertThat( connectionProvider.getIdleConnectionCount() ).isEqualTo( 0 );
+
+		final CompletableFuture<Connection> waiting = CompletableFuture.supplyAsync( () -> {
+			try {
+				return connectionProvider.getConnection();
+			}
+			catch (Exception e) {
+				throw new RuntimeException( e );
+			}
+		} );
+		Thread.sleep( 100 );
+		connectionProvider.closeConnection( first );
+
+		final Connection handedOff = waiting.get( 5, TimeUnit.SECONDS );
+		assertThat( handedOff ).isSameAs( first );
+		assertThat( connectionProvider.getOpenConnectionCount() ).isEqualTo( 2 );
+		assertThat( connectionProvider.getAcquisitionWaitCount() ).isEqualTo( 1 );
+		assertThat( connectionProvider.getAcquisitionFailureCount() ).isEqualTo( 0 );
+
+		connectionProvider.closeConnection( handedOff );
+		connectionProvider.closeConnection( second );
+	}
+
+	@Test
+	public void testWaitingRequestOpensConnectionWhenOneIsDiscarded() throws Exception {
+		connectionProvider = buildConnectionProvider( 10_000 );
+		final Connection first = connectionProvider.getConnection();
+		final Connection second = connectionProvider.getConnection();
+
+		final CompletableFuture<Connection> waiting = CompletableFuture.supplyAsync( () -> {
+			try {
+				return connectionProvider.getConnection();
+			}
+			catch (Exception e) {
+				throw new RuntimeException( e );
+			}
+		} );
+		Thread.sleep( 100 );
+		// a closed connection is discarded by the pool, rather than handed off
+		first.close();
+		connectionProvider.closeConnection( first );
+
+		final Connection opened = waiting.get( 5, TimeUnit.SECONDS );
+		assertThat( opened ).isNotSameAs( first );
+		assertThat( opened.isClosed() ).isFalse();
+		assertThat( connectionProvider.getOpenConnectionCount() ).isEqualTo( 2 );
+		assertThat( connectionProvider.getAcquisitionWaitCount() ).isEqualTo( 1 );
+		assertThat( connectionProvider.getAcquisitionFailureCount() ).isEqualTo( 0 );
+
+		connectionProvider.closeConnection( opened );
+		connectionProvider.closeConnection( second );
+	}
+
+	private static DriverManagerConnectionProviderImpl buildConnectionProvider(long acquisitionTimeout) {
+		final Map<String, Object> settings = PropertiesHelper.map( Environment.getProperties() );
+		settings.put( AvailableSettings.POOL_SIZE, "2" );
+		settings.put( DriverManagerConnectionProviderImpl.INITIAL_SIZE, "0" );
+		settings.put( DriverManagerConnectionProviderImpl.ACQUISITION_TIMEOUT, Long.toString( acquisitionTimeout ) );
+		final DriverManagerConnectionProviderImpl connectionProvider = new DriverManagerConnectionProviderImpl();
+		connectionProvider.configure( settings );
+		return connectionProvider;
+	}
+}
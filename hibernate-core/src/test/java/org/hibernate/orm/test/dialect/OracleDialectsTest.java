@@ -32,6 +32,8 @@ import org.junit.Test;
 import org.hibernate.testing.TestForIssue;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Andrea Boriero
@@ -56,4 +58,16 @@ public class OracleDialectsTest {
 		OracleDialect oracle12cDialect = new OracleDialect( DatabaseVersion.make( 12 ) );
 		assertEquals( "true", oracle12cDialect.getDefaultProperties().getProperty( Environment.BATCH_VERSIONED_DATA ) );
 	}
+
+	@Test
+	public void testMultiRowInsertSupport() {
+		// multi-row values lists in inserts were only introduced in 23c
+		final OracleDialect oracle19cDialect = new OracleDialect( DatabaseVersion.make( 19 ) );
+		assertTrue( oracle19cDialect.supportsValuesListForInsert() );
+		assertFalse( oracle19cDialect.supportsMultiRowInsert() );
+
+		final OracleDialect oracle23cDialect = new OracleDialect( DatabaseVersion.make( 23 ) );
+		assertTrue( oracle23cDialect.supportsValuesListForInsert() );
+		assertTrue( oracle23cDialect.supportsMultiRowInsert() );
+	}
 }
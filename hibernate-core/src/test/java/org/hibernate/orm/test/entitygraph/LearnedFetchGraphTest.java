@@ -0,0 +1,251 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.entitygraph;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.hibernate.Hibernate;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = { LearnedFetchGraphTest.Owner.class, LearnedFetchGraphTest.Pet.class })
+@SessionFactory(useCollectingStatementInspector = true, generateStatistics = true)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.QUERY_LEARNED_FETCH_GRAPH_WARM_UP, value = "2"))
+public class LearnedFetchGraphTest {
+	private static final String PETS_QUERY = "from Pet p order by p.id";
+	private static final String OWNERS_QUERY = "from Owner o order by o.id";
+
+	@BeforeAll
+	public void prepareData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				final Owner owner = new Owner( i, "owner " + i );
+				session.persist( owner );
+				session.persist( new Pet( i, "pet " + i, owner ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void cleanupData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete Pet" ).executeUpdate();
+			session.createMutationQuery( "delete Owner" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testToOneAssociation(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		// the sampled results are only weakly referenced
+		final List<Object> results = new ArrayList<>();
+		// the warm-up executions, every owner is used afterward
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				final List<Pet> pets = session.createQuery( PETS_QUERY, Pet.class )
+						.setHint( HibernateHints.HINT_LEARN_FETCH_GRAPH, true )
+						.list();
+				results.addAll( pets );
+				assertThat( Hibernate.isInitialized( pets.get( 0 ).owner ) ).isFalse();
+				for ( Pet pet : pets ) {
+					assertThat( pet.owner.getName() ).startsWith( "owner" );
+				}
+			} );
+		}
+
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			final List<Pet> pets = session.createQuery( PETS_QUERY, Pet.class )
+					.setHint( HibernateHints.HINT_LEARN_FETCH_GRAPH, true )
+					.list();
+			for ( Pet pet : pets ) {
+				assertThat( Hibernate.isInitialized( pet.owner ) ).isTrue();
+			}
+		} );
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+		assertThat( statementInspector.getSqlQueries().get( 0 ) ).containsIgnoringCase( " join " );
+
+		assertThat( scope.getSessionFactory().getQueryEngine().getLearnedFetchGraphs().exportFetchGraphs() )
+				.containsEntry( PETS_QUERY, "Pet(owner)" );
+	}
+
+	@Test
+	public void testCollection(SessionFactoryScope scope) {
+		final List<Object> results = new ArrayList<>();
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				final List<Owner> owners = session.createQuery( OWNERS_QUERY, Owner.class )
+						.setHint( HibernateHints.HINT_LEARN_FETCH_GRAPH, true )
+						.list();
+				results.addAll( owners );
+				for ( Owner owner : owners ) {
+					assertThat( owner.pets ).hasSize( 1 );
+				}
+			} );
+		}
+
+		scope.inTransaction( session -> {
+			final List<Owner> owners = session.createQuery( OWNERS_QUERY, Owner.class )
+					.setHint( HibernateHints.HINT_LEARN_FETCH_GRAPH, true )
+					.list();
+			assertThat( owners ).hasSize( 3 );
+			for ( Owner owner : owners ) {
+				assertThat( Hibernate.isInitialized( owner.pets ) ).isTrue();
+			}
+		} );
+
+		// collections are not fetched when the results are limited
+		scope.inTransaction( session -> {
+			final List<Owner> owners = session.createQuery( OWNERS_QUERY, Owner.class )
+					.setHint( HibernateHints.HINT_LEARN_FETCH_GRAPH, true )
+					.setMaxResults( 2 )
+					.list();
+			assertThat( owners ).hasSize( 2 );
+			assertThat( Hibernate.isInitialized( owners.get( 0 ).pets ) ).isFalse();
+		} );
+
+		assertThat( scope.getSessionFactory().getQueryEngine().getLearnedFetchGraphs().exportFetchGraphs() )
+				.containsEntry( OWNERS_QUERY, "Owner(pets)" );
+	}
+
+	@Test
+	public void testCachedPlan(SessionFactoryScope scope) {
+		final String query = "select p from Pet p order by p.id";
+		final List<Object> results = new ArrayList<>();
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				final List<Pet> pets = session.createQuery( query, Pet.class )
+						.setHint( HibernateHints.HINT_LEARN_FETCH_GRAPH, true )
+						.list();
+				results.addAll( pets );
+				for ( Pet pet : pets ) {
+					assertThat( pet.owner.getName() ).startsWith( "owner" );
+				}
+			} );
+		}
+		// the first execution with the learned graph caches its plan
+		scope.inTransaction( session -> session.createQuery( query, Pet.class )
+				.setHint( HibernateHints.HINT_LEARN_FETCH_GRAPH, true )
+				.list() );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final List<Pet> pets = session.createQuery( query, Pet.class )
+					.setHint( HibernateHints.HINT_LEARN_FETCH_GRAPH, true )
+					.list();
+			assertThat( Hibernate.isInitialized( pets.get( 0 ).owner ) ).isTrue();
+		} );
+		scope.inTransaction( session -> {
+			final Pet pet = session.createQuery( query, Pet.class )
+					.setHint( HibernateHints.HINT_LEARN_FETCH_GRAPH, true )
+					.setMaxResults( 1 )
+					.uniqueResult();
+			assertThat( Hibernate.isInitialized( pet.owner ) ).isTrue();
+		} );
+		scope.inTransaction( session -> {
+			try ( ScrollableResults<Pet> scrollableResults = session.createQuery( query, Pet.class )
+					.setHint( HibernateHints.HINT_LEARN_FETCH_GRAPH, true )
+					.scroll( ScrollMode.FORWARD_ONLY ) ) {
+				assertThat( scrollableResults.next() ).isTrue();
+				assertThat( Hibernate.isInitialized( scrollableResults.get().owner ) ).isTrue();
+			}
+		} );
+		scope.inTransaction( session -> {
+			try ( Stream<Pet> stream = session.createQuery( query, Pet.class )
+					.setHint( HibernateHints.HINT_LEARN_FETCH_GRAPH, true )
+					.stream() ) {
+				stream.forEach( pet -> assertThat( Hibernate.isInitialized( pet.owner ) ).isTrue() );
+			}
+		} );
+
+		// every execution reused the cached plan of the query with its learned graph
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isZero();
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isGreaterThanOrEqualTo( 4 );
+	}
+
+	@Test
+	public void testWithoutHint(SessionFactoryScope scope) {
+		final String query = "from Pet p where p.id > 0";
+		for ( int i = 0; i < 3; i++ ) {
+			scope.inTransaction( session -> {
+				final List<Pet> pets = session.createQuery( query, Pet.class ).list();
+				assertThat( Hibernate.isInitialized( pets.get( 0 ).owner ) ).isFalse();
+				for ( Pet pet : pets ) {
+					assertThat( pet.owner.getName() ).startsWith( "owner" );
+				}
+			} );
+		}
+
+		assertThat( scope.getSessionFactory().getQueryEngine().getLearnedFetchGraphs().exportFetchGraphs() )
+				.doesNotContainKey( query );
+	}
+
+	@Entity(name = "Owner")
+	public static class Owner {
+		@Id
+		Integer id;
+		String name;
+		@OneToMany(mappedBy = "owner")
+		Set<Pet> pets = new HashSet<>();
+
+		public Owner() {
+		}
+
+		public Owner(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "Pet")
+	public static class Pet {
+		@Id
+		Integer id;
+		String name;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Owner owner;
+
+		public Pet() {
+		}
+
+		public Pet(Integer id, String name, Owner owner) {
+			this.id = id;
+			this.name = name;
+			this.owner = owner;
+		}
+	}
+}
@@ -0,0 +1,152 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.event;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = { RepeatedLoadDetectionTest.Owner.class, RepeatedLoadDetectionTest.Pet.class })
+@SessionFactory
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.N_PLUS_ONE_THRESHOLD, value = "3"))
+public class RepeatedLoadDetectionTest {
+
+	@BeforeAll
+	public void prepareData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 4; i++ ) {
+				final Owner owner = new Owner( i, "owner " + i );
+				session.persist( owner );
+				session.persist( new Pet( i, "pet " + i, owner ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void cleanupData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete Pet" ).executeUpdate();
+			session.createMutationQuery( "delete Owner" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testRepeatedEntityLoads(SessionFactoryScope scope) {
+		final ReportCollector collector = new ReportCollector();
+		try ( Session session = scope.getSessionFactory().withOptions().eventListeners( collector ).openSession() ) {
+			final List<Pet> pets = session.createQuery( "from Pet p order by p.id", Pet.class ).list();
+			for ( Pet pet : pets ) {
+				assertThat( pet.owner.getName() ).startsWith( "owner" );
+			}
+			// reported once the next query starts
+			assertThat( collector.reports ).isEmpty();
+			session.createQuery( "from Pet", Pet.class ).list();
+		}
+
+		assertThat( collector.reports ).containsExactly(
+				Owner.class.getName() + ":4:from Pet p order by p.id"
+		);
+	}
+
+	@Test
+	public void testRepeatedCollectionLoads(SessionFactoryScope scope) {
+		final ReportCollector collector = new ReportCollector();
+		try ( Session session = scope.getSessionFactory().withOptions().eventListeners( collector ).openSession() ) {
+			final List<Owner> owners = session.createQuery( "from Owner o order by o.id", Owner.class ).list();
+			for ( Owner owner : owners ) {
+				assertThat( owner.pets ).hasSize( 1 );
+			}
+		}
+
+		// reported when the session ends
+		assertThat( collector.reports ).containsExactly(
+				Owner.class.getName() + ".pets:4:from Owner o order by o.id"
+		);
+	}
+
+	@Test
+	public void testLoadsBelowThreshold(SessionFactoryScope scope) {
+		final ReportCollector collector = new ReportCollector();
+		try ( Session session = scope.getSessionFactory().withOptions().eventListeners( collector ).openSession() ) {
+			final List<Pet> pets = session.createQuery( "from Pet p order by p.id", Pet.class ).list();
+			assertThat( pets.get( 0 ).owner.getName() ).isEqualTo( "owner 1" );
+			assertThat( pets.get( 1 ).owner.getName() ).isEqualTo( "owner 2" );
+		}
+
+		assertThat( collector.reports ).isEmpty();
+	}
+
+	private static class ReportCollector extends BaseSessionEventListener {
+		private final List<String> reports = new ArrayList<>();
+
+		@Override
+		public void repeatedLoadsDetected(String role, int count, String queryString) {
+			reports.add( role + ":" + count + ":" + queryString );
+		}
+	}
+
+	@Entity(name = "Owner")
+	public static class Owner {
+		@Id
+		Integer id;
+		String name;
+		@OneToMany(mappedBy = "owner")
+		Set<Pet> pets = new HashSet<>();
+
+		public Owner() {
+		}
+
+		public Owner(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "Pet")
+	public static class Pet {
+		@Id
+		Integer id;
+		String name;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Owner owner;
+
+		public Pet() {
+		}
+
+		public Pet(Integer id, String name, Owner owner) {
+			this.id = id;
+			this.name = name;
+			this.owner = owner;
+		}
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.jdbc;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = PreparedStatementCacheTest.Item.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.STATEMENT_CACHE_SIZE, value = "2"))
+public class PreparedStatementCacheTest {
+
+	@BeforeAll
+	public void prepareData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void cleanupData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete Item" ).executeUpdate() );
+	}
+
+	@BeforeEach
+	public void clearStatistics(SessionFactoryScope scope) {
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testStatementReuse(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				final Item item = session.createQuery( "from Item where id = :id", Item.class )
+						.setParameter( "id", i )
+						.getSingleResult();
+				assertThat( item.name ).isEqualTo( "item " + i );
+			}
+		} );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		assertThat( statistics.getPreparedStatementCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getPreparedStatementCacheHitCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testLeastRecentlyUsedStatementEviction(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			assertThat( session.createQuery( "from Item where id = 1", Item.class ).list() ).hasSize( 1 );
+			assertThat( session.createQuery( "from Item where id = 2", Item.class ).list() ).hasSize( 1 );
+			assertThat( session.createQuery( "from Item where id = 1", Item.class ).list() ).hasSize( 1 );
+			// evicts the statement of the second query
+			assertThat( session.createQuery( "from Item where id = 3", Item.class ).list() ).hasSize( 1 );
+			assertThat( session.createQuery( "from Item where id = 2", Item.class ).list() ).hasSize( 1 );
+		} );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( statistics.getPreparedStatementCacheMissCount() ).isEqualTo( 4 );
+		assertThat( statistics.getPreparedStatementCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testStatementsAreNotReusedAcrossConnections(SessionFactoryScope scope) {
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session ->
+					assertThat( session.createQuery( "from Item", Item.class ).list() ).hasSize( 3 )
+			);
+		}
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( statistics.getPreparedStatementCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getPreparedStatementCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		Integer id;
+		String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
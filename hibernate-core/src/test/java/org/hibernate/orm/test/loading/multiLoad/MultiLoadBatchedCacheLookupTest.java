@@ -0,0 +1,200 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.loading.multiLoad;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.internal.DefaultCacheKeysFactory;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.support.DomainDataRegionImpl;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.testing.cache.MapStorageAccessImpl;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that multi-load resolves entities from the second-level cache
+ * using a single bulk lookup rather than one lookup per id, and that batch
+ * fetching only looks up the candidates it needs to fill a batch.
+ */
+@DomainModel(annotatedClasses = {
+		MultiLoadBatchedCacheLookupTest.Event.class,
+		MultiLoadBatchedCacheLookupTest.Ticket.class
+})
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(
+		settings = @Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		settingProviders = @SettingProvider(
+				settingName = AvailableSettings.CACHE_REGION_FACTORY,
+				provider = MultiLoadBatchedCacheLookupTest.RegionFactoryProvider.class
+		)
+)
+public class MultiLoadBatchedCacheLookupTest {
+	private static final AtomicInteger singleGets = new AtomicInteger();
+	private static final AtomicInteger bulkGets = new AtomicInteger();
+	private static final AtomicInteger bulkGetKeys = new AtomicInteger();
+
+	@BeforeEach
+	public void prepareData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Event( i, "text" + i ) );
+				session.persist( new Ticket( i ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void cleanupData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete Event" ).executeUpdate();
+			session.createMutationQuery( "delete Ticket" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testSingleCacheRoundTrip(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		singleGets.set( 0 );
+		bulkGets.set( 0 );
+
+		scope.inSession( session -> {
+			final List<Event> events = session.byMultipleIds( Event.class )
+					.with( CacheMode.NORMAL )
+					.multiLoad( 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 );
+			assertThat( events ).doesNotContainNull().hasSize( 10 );
+		} );
+
+		assertThat( bulkGets.get() ).isOne();
+		assertThat( singleGets.get() ).isZero();
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 10 );
+		assertThat( statistics.getEntityLoadCount() ).isZero();
+	}
+
+	@Test
+	public void testBatchFetchLooksUpNearbyCandidatesOnly(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evictEntityData( Ticket.class );
+
+		scope.inSession( session -> {
+			final Ticket first = session.getReference( Ticket.class, 1 );
+			for ( int i = 2; i <= 10; i++ ) {
+				session.getReference( Ticket.class, i );
+			}
+			bulkGets.set( 0 );
+			bulkGetKeys.set( 0 );
+
+			Hibernate.initialize( first );
+
+			// only the 4 candidates following the requested id are needed to fill the batch of 5,
+			// and none of them is cached, so they are looked up once
+			assertThat( bulkGets.get() ).isOne();
+			assertThat( bulkGetKeys.get() ).isEqualTo( 4 );
+			for ( int i = 2; i <= 5; i++ ) {
+				assertThat( Hibernate.isInitialized( session.getReference( Ticket.class, i ) ) ).isTrue();
+			}
+			assertThat( Hibernate.isInitialized( session.getReference( Ticket.class, 6 ) ) ).isFalse();
+		} );
+	}
+
+	@Entity(name = "Event")
+	@Cacheable
+	public static class Event {
+		@Id
+		private Integer id;
+		private String text;
+
+		public Event() {
+		}
+
+		public Event(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+	}
+
+	@Entity(name = "Ticket")
+	@Cacheable
+	@BatchSize(size = 5)
+	public static class Ticket {
+		@Id
+		private Integer id;
+
+		public Ticket() {
+		}
+
+		public Ticket(Integer id) {
+			this.id = id;
+		}
+	}
+
+	public static class RegionFactoryProvider implements SettingProvider.Provider<CountingRegionFactory> {
+		@Override
+		public CountingRegionFactory getSetting() {
+			return new CountingRegionFactory();
+		}
+	}
+
+	public static class CountingRegionFactory extends CachingRegionFactory {
+		@Override
+		public DomainDataRegion buildDomainDataRegion(
+				DomainDataRegionConfig regionConfig,
+				DomainDataRegionBuildingContext buildingContext) {
+			return new DomainDataRegionImpl(
+					regionConfig,
+					this,
+					new CountingStorageAccess(),
+					DefaultCacheKeysFactory.INSTANCE,
+					buildingContext
+			);
+		}
+	}
+
+	public static class CountingStorageAccess extends MapStorageAccessImpl {
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			singleGets.incrementAndGet();
+			return super.getFromCache( key, session );
+		}
+
+		@Override
+		public Object[] getAllFromCache(Object[] keys, SharedSessionContractImplementor session) {
+			bulkGets.incrementAndGet();
+			bulkGetKeys.addAndGet( keys.length );
+			final Object[] values = new Object[keys.length];
+			for ( int i = 0; i < keys.length; i++ ) {
+				if ( keys[i] != null ) {
+					values[i] = super.getFromCache( keys[i], session );
+				}
+			}
+			return values;
+		}
+	}
+}
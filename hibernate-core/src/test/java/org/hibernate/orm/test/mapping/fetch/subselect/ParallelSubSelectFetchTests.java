@@ -0,0 +1,240 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.mapping.fetch.subselect;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests sub-select fetching of multiple collections for the same owner
+ * executed concurrently on additional connections.
+ */
+@ServiceRegistry(
+		settings = @Setting( name = AvailableSettings.PARALLEL_SUBSELECT_FETCH_CONNECTIONS, value = "2" )
+)
+@DomainModel(annotatedClasses = {
+		ParallelSubSelectFetchTests.Owner.class,
+		ParallelSubSelectFetchTests.Thing.class,
+		ParallelSubSelectFetchTests.Gadget.class,
+		ParallelSubSelectFetchTests.Trinket.class,
+})
+@SessionFactory( useCollectingStatementInspector = true )
+public class ParallelSubSelectFetchTests {
+
+	@Test
+	public void testReadOnlySession(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		final AtomicInteger connectionAcquisitions = new AtomicInteger();
+		final AtomicInteger statementExecutions = new AtomicInteger();
+		scope.inTransaction( (session) -> {
+			session.addEventListeners( new BaseSessionEventListener() {
+				@Override
+				public void jdbcConnectionAcquisitionEnd() {
+					connectionAcquisitions.incrementAndGet();
+				}
+
+				@Override
+				public void jdbcExecuteStatementEnd() {
+					statementExecutions.incrementAndGet();
+				}
+			} );
+			session.setDefaultReadOnly( true );
+			final List<Owner> owners = session.createQuery( "from Owner o order by o.id", Owner.class ).list();
+			assertThat( owners ).hasSize( 3 );
+
+			for ( Owner owner : owners ) {
+				assertThat( Hibernate.isInitialized( owner.things ) ).isTrue();
+				assertThat( Hibernate.isInitialized( owner.gadgets ) ).isTrue();
+				assertThat( Hibernate.isInitialized( owner.trinkets ) ).isTrue();
+			}
+			assertSizes( owners );
+
+			// the initial query + the 3 "subselect" selects
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 4 );
+			// the connection of the session, acquired when the transaction began, executed
+			// the initial query and one "subselect" select, the 2 others were prefetched
+			// on additional connections
+			assertThat( connectionAcquisitions ).hasValue( 2 );
+			assertThat( statementExecutions ).hasValue( 2 );
+		} );
+	}
+
+	@Test
+	public void testSession(SessionFactoryScope scope) {
+		// sessions which may modify the loaded entities never use additional connections
+		final AtomicInteger connectionAcquisitions = new AtomicInteger();
+		scope.inTransaction( (session) -> {
+			session.addEventListeners( new BaseSessionEventListener() {
+				@Override
+				public void jdbcConnectionAcquisitionEnd() {
+					connectionAcquisitions.incrementAndGet();
+				}
+			} );
+			final List<Owner> owners = session.createQuery( "from Owner o order by o.id", Owner.class ).list();
+			assertThat( owners ).hasSize( 3 );
+			assertSizes( owners );
+			assertThat( connectionAcquisitions ).hasValue( 0 );
+		} );
+	}
+
+	private static void assertSizes(List<Owner> owners) {
+		assertThat( owners.get( 0 ).things ).hasSize( 2 );
+		assertThat( owners.get( 0 ).gadgets ).hasSize( 1 );
+		assertThat( owners.get( 0 ).trinkets ).isEmpty();
+		assertThat( owners.get( 1 ).things ).isEmpty();
+		assertThat( owners.get( 1 ).gadgets ).hasSize( 2 );
+		assertThat( owners.get( 1 ).trinkets ).hasSize( 1 );
+		assertThat( owners.get( 2 ).things ).hasSize( 1 );
+		assertThat( owners.get( 2 ).gadgets ).isEmpty();
+		assertThat( owners.get( 2 ).trinkets ).hasSize( 2 );
+	}
+
+	@BeforeEach
+	public void prepareTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final Owner o1 = new Owner( 1, "Owner 1" );
+			final Owner o2 = new Owner( 2, "Owner 2" );
+			final Owner o3 = new Owner( 3, "Owner 3" );
+			session.persist( o1 );
+			session.persist( o2 );
+			session.persist( o3 );
+
+			session.persist( new Thing( 1, o1 ) );
+			session.persist( new Thing( 2, o1 ) );
+			session.persist( new Thing( 3, o3 ) );
+
+			session.persist( new Gadget( 1, o1 ) );
+			session.persist( new Gadget( 2, o2 ) );
+			session.persist( new Gadget( 3, o2 ) );
+
+			session.persist( new Trinket( 1, o2 ) );
+			session.persist( new Trinket( 2, o3 ) );
+			session.persist( new Trinket( 3, o3 ) );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete Thing" ).executeUpdate();
+			session.createMutationQuery( "delete Gadget" ).executeUpdate();
+			session.createMutationQuery( "delete Trinket" ).executeUpdate();
+			session.createMutationQuery( "delete Owner" ).executeUpdate();
+		} );
+	}
+
+	@Entity(name = "Owner")
+	@Table(name = "t_par_sub_fetch_owner")
+	public static class Owner {
+		@Id
+		private Integer id;
+		private String name;
+
+		@OneToMany(mappedBy = "owner", fetch = FetchType.EAGER)
+		@Fetch(FetchMode.SUBSELECT)
+		private Set<Thing> things = new HashSet<>();
+
+		@OneToMany(mappedBy = "owner", fetch = FetchType.EAGER)
+		@Fetch(FetchMode.SUBSELECT)
+		private Set<Gadget> gadgets = new HashSet<>();
+
+		@OneToMany(mappedBy = "owner", fetch = FetchType.EAGER)
+		@Fetch(FetchMode.SUBSELECT)
+		private Set<Trinket> trinkets = new HashSet<>();
+
+		private Owner() {
+		}
+
+		public Owner(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Thing")
+	@Table(name = "t_par_sub_fetch_thing")
+	public static class Thing {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Owner owner;
+
+		private Thing() {
+		}
+
+		public Thing(Integer id, Owner owner) {
+			this.id = id;
+			this.owner = owner;
+		}
+	}
+
+	@Entity(name = "Gadget")
+	@Table(name = "t_par_sub_fetch_gadget")
+	public static class Gadget {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Owner owner;
+
+		private Gadget() {
+		}
+
+		public Gadget(Integer id, Owner owner) {
+			this.id = id;
+			this.owner = owner;
+		}
+	}
+
+	@Entity(name = "Trinket")
+	@Table(name = "t_par_sub_fetch_trinket")
+	public static class Trinket {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Owner owner;
+
+		private Trinket() {
+		}
+
+		public Trinket(Integer id, Owner owner) {
+			this.id = id;
+			this.owner = owner;
+		}
+	}
+}
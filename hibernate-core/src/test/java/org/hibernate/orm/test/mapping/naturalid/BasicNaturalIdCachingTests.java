@@ -9,6 +9,7 @@ import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.SerializationHelper;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.stat.NaturalIdStatistics;
 import org.hibernate.stat.spi.StatisticsImplementor;
@@ -68,6 +69,10 @@ public class BasicNaturalIdCachingTests {
 		assertThat( cachedStats.getCacheMissCount(), is( 0L ) );
 		assertThat( cachedStats.getCachePutCount(), is( 1L ) );
 
+		final NaturalIdStatistics serializedStats = (NaturalIdStatistics) SerializationHelper.clone( cachedStats );
+		assertThat( serializedStats.getCachePutCount(), is( 1L ) );
+		assertThat( serializedStats.getExecutionMaxTime(), is( cachedStats.getExecutionMaxTime() ) );
+
 		scope.inTransaction(
 				(session) -> {
 					final EntityPersister entityPersister = sessionFactory.getMappingMetamodel().getEntityDescriptor( CachedEntity.class );
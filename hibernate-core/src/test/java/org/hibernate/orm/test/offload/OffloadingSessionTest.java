@@ -0,0 +1,114 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.offload;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.offload.spi.OffloadingSessionFactory;
+import org.hibernate.exception.ConstraintViolationException;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DomainModel(annotatedClasses = OffloadingSessionTest.Item.class)
+@SessionFactory
+public class OffloadingSessionTest {
+
+	@AfterEach
+	public void cleanupData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testSession(SessionFactoryScope scope) throws Exception {
+		final OffloadingSessionFactory factory = scope.getSessionFactory().unwrap( OffloadingSessionFactory.class );
+
+		factory.withTransaction( session -> session.persist( new Item( 1, "item 1" ) )
+				.thenCompose( v -> session.persist( new Item( 2, "item 2" ) ) )
+		).toCompletableFuture().get( 10, TimeUnit.SECONDS );
+
+		final Item item = factory.withTransaction( session -> session.find( Item.class, 1 )
+				.thenCompose( found -> {
+					found.name = "updated";
+					return session.flush().thenApply( v -> found );
+				} )
+		).toCompletableFuture().get( 10, TimeUnit.SECONDS );
+		assertThat( item.name ).isEqualTo( "updated" );
+
+		final List<String> names = factory.withTransaction( session -> session.execute(
+				s -> s.createQuery( "select name from Item order by id", String.class ).list()
+		) ).toCompletableFuture().get( 10, TimeUnit.SECONDS );
+		assertThat( names ).containsExactly( "updated", "item 2" );
+	}
+
+	@Test
+	public void testStatelessSession(SessionFactoryScope scope) throws Exception {
+		final OffloadingSessionFactory factory = scope.getSessionFactory().unwrap( OffloadingSessionFactory.class );
+
+		// operations called without waiting are still performed in order
+		factory.withStatelessTransaction( session -> {
+			final CompletableFuture<?>[] inserts = new CompletableFuture<?>[10];
+			for ( int i = 0; i < inserts.length; i++ ) {
+				inserts[i] = session.insert( new Item( i, "item " + i ) ).toCompletableFuture();
+			}
+			return CompletableFuture.allOf( inserts );
+		} ).toCompletableFuture().get( 10, TimeUnit.SECONDS );
+
+		final Item item = factory.withStatelessTransaction( session -> session.get( Item.class, 3 ) )
+				.toCompletableFuture().get( 10, TimeUnit.SECONDS );
+		assertThat( item.name ).isEqualTo( "item 3" );
+
+		final Long count = scope.fromTransaction( session ->
+				session.createQuery( "select count(*) from Item", Long.class ).getSingleResult()
+		);
+		assertThat( count ).isEqualTo( 10L );
+	}
+
+	@Test
+	public void testRollbackOnFailure(SessionFactoryScope scope) {
+		final OffloadingSessionFactory factory = scope.getSessionFactory().unwrap( OffloadingSessionFactory.class );
+
+		final CompletableFuture<Void> failed = factory.withStatelessTransaction( session ->
+				session.insert( new Item( 1, "item 1" ) )
+						// duplicate key
+						.thenCompose( v -> session.insert( new Item( 1, "item 1" ) ) )
+		).toCompletableFuture();
+		assertThatThrownBy( () -> failed.get( 10, TimeUnit.SECONDS ) )
+				.hasStackTraceContaining( ConstraintViolationException.class.getName() );
+
+		final Long count = scope.fromTransaction( session ->
+				session.createQuery( "select count(*) from Item", Long.class ).getSingleResult()
+		);
+		assertThat( count ).isEqualTo( 0L );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		Integer id;
+		String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,180 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.readonly;
+
+import java.util.List;
+
+import org.hibernate.LockMode;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.internal.ReadOnlyEntityEntry;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Entities loaded as read-only are tracked by compact entries, which are
+ * replaced by regular entries when the entities are made modifiable
+ */
+@ServiceRegistry(
+		settings = @Setting( name = AvailableSettings.COMPACT_READ_ONLY_ENTITY_ENTRIES, value = "true" )
+)
+@DomainModel(annotatedClasses = {
+		CompactReadOnlyEntityEntryTest.Item.class,
+		CompactReadOnlyEntityEntryTest.Category.class
+})
+@SessionFactory
+public class CompactReadOnlyEntityEntryTest {
+
+	@BeforeEach
+	public void prepareData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+			session.persist( new Category( 1, "category" ) );
+		} );
+	}
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete Item" ).executeUpdate();
+			session.createMutationQuery( "delete Category" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testReadOnlySession(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.setDefaultReadOnly( true );
+			final List<Item> items = session.createQuery( "from Item i order by i.id", Item.class ).list();
+			assertThat( items ).hasSize( 10 );
+			for ( Item item : items ) {
+				final EntityEntry entry = getEntry( session, item );
+				assertThat( entry ).isInstanceOf( ReadOnlyEntityEntry.class );
+				assertThat( entry.isReadOnly() ).isTrue();
+				assertThat( entry.getLoadedState() ).isNull();
+				assertThat( entry.getLockMode() ).isEqualTo( LockMode.READ );
+				assertThat( session.contains( item ) ).isTrue();
+			}
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isEqualTo( 10 );
+
+			// changes to read-only entities are ignored
+			items.get( 0 ).name = "changed";
+			session.flush();
+
+			session.evict( items.get( 1 ) );
+			assertThat( session.contains( items.get( 1 ) ) ).isFalse();
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isEqualTo( 9 );
+		} );
+
+		scope.inTransaction( session -> assertThat( session.find( Item.class, 1 ).name ).isEqualTo( "item 1" ) );
+	}
+
+	@Test
+	public void testReadOnlyQuery(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Item readOnly = session.createQuery( "from Item i where i.id = 1", Item.class )
+					.setReadOnly( true )
+					.getSingleResult();
+			final Item modifiable = session.find( Item.class, 2 );
+			assertThat( getEntry( session, readOnly ) ).isInstanceOf( ReadOnlyEntityEntry.class );
+			assertThat( getEntry( session, modifiable ) ).isNotInstanceOf( ReadOnlyEntityEntry.class );
+		} );
+	}
+
+	@Test
+	public void testMakeModifiable(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.setDefaultReadOnly( true );
+			final List<Item> items = session.createQuery( "from Item i order by i.id", Item.class ).list();
+			final Item item = items.get( 4 );
+			session.setReadOnly( item, false );
+
+			final EntityEntry entry = getEntry( session, item );
+			assertThat( entry ).isNotInstanceOf( ReadOnlyEntityEntry.class );
+			assertThat( entry.isReadOnly() ).isFalse();
+			assertThat( entry.getLoadedState() ).isNotNull();
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isEqualTo( 10 );
+
+			item.name = "changed";
+		} );
+
+		scope.inTransaction( session -> assertThat( session.find( Item.class, 5 ).name ).isEqualTo( "changed" ) );
+	}
+
+	@Test
+	public void testDelete(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.setDefaultReadOnly( true );
+			final Item item = session.find( Item.class, 3 );
+			assertThat( getEntry( session, item ) ).isInstanceOf( ReadOnlyEntityEntry.class );
+			session.remove( item );
+		} );
+
+		scope.inTransaction( session -> assertThat( session.find( Item.class, 3 ) ).isNull() );
+	}
+
+	@Test
+	public void testImmutableEntity(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Category category = session.find( Category.class, 1 );
+			final EntityEntry entry = getEntry( session, category );
+			assertThat( entry ).isInstanceOf( ReadOnlyEntityEntry.class );
+			assertThat( entry.isModifiableEntity() ).isFalse();
+		} );
+	}
+
+	private static EntityEntry getEntry(SessionImplementor session, Object entity) {
+		return session.getPersistenceContextInternal().getEntry( entity );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		Integer id;
+		String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Category")
+	@Immutable
+	public static class Category {
+		@Id
+		Integer id;
+		String name;
+
+		public Category() {
+		}
+
+		public Category(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
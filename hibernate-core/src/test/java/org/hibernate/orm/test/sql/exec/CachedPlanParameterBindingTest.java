@@ -0,0 +1,132 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.sql.exec;
+
+import java.util.List;
+
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
+import org.hibernate.stat.QueryStatistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Repeated executions of cached query plans bind the parameters laid out
+ * once for their translation
+ */
+@DomainModel(annotatedClasses = CachedPlanParameterBindingTest.Item.class)
+@SessionFactory(generateStatistics = true)
+public class CachedPlanParameterBindingTest {
+
+	@BeforeAll
+	public void prepareData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Item( i, "item " + i, i % 2 == 0 ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testRepeatedExecutions(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i < 10; i++ ) {
+				final List<Item> items = session.createQuery(
+								"from Item i where i.id >= :min and i.id <= :max and i.name <> :name order by i.id",
+								Item.class
+						)
+						.setParameter( "min", i )
+						.setParameter( "max", i + 1 )
+						.setParameter( "name", "item " + i )
+						.list();
+				assertThat( items ).extracting( item -> item.id ).containsExactly( i + 1 );
+			}
+		} );
+	}
+
+	@Test
+	public void testReusedTranslation(SessionFactoryScope scope) {
+		final String hql = "from Item i where i.id >= :min and i.name <> :name order by i.id";
+		final QueryStatistics statistics = scope.getSessionFactory().getStatistics().getQueryStatistics( hql );
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				final List<Item> items = session.createQuery( hql, Item.class )
+						.setParameter( "min", 10 - i )
+						.setParameter( "name", "item 10" )
+						.list();
+				assertThat( items ).extracting( item -> item.id ).containsExactlyElementsOf(
+						List.of( 7, 8, 9 ).subList( 3 - i, 3 )
+				);
+			}
+		} );
+		// the first execution translated the query, the others reused the translation
+		assertThat( statistics.getTranslationCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getTranslationCacheHitCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testMultiValuedParameter(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 4; i++ ) {
+				final List<Integer> ids = List.of( 1, 2, 3, 4 ).subList( 0, i );
+				final List<Item> items = session.createQuery( "from Item i where i.id in :ids order by i.id", Item.class )
+						.setParameterList( "ids", ids )
+						.list();
+				assertThat( items ).extracting( item -> item.id ).containsExactlyElementsOf( ids );
+			}
+		} );
+	}
+
+	@Test
+	public void testFilterParameter(SessionFactoryScope scope) {
+		for ( boolean even : new boolean[] { true, false, true } ) {
+			scope.inTransaction( session -> {
+				session.enableFilter( "even" ).setParameter( "even", even );
+				final List<Item> items = session.createQuery( "from Item i where i.id <= :max order by i.id", Item.class )
+						.setParameter( "max", 4 )
+						.list();
+				assertThat( items ).extracting( item -> item.id )
+						.containsExactly( even ? new Integer[] { 2, 4 } : new Integer[] { 1, 3 } );
+			} );
+		}
+	}
+
+	@Entity(name = "Item")
+	@FilterDef(name = "even", parameters = @ParamDef(name = "even", type = Boolean.class))
+	@Filter(name = "even", condition = "even = :even")
+	public static class Item {
+		@Id
+		Integer id;
+		String name;
+		boolean even;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name, boolean even) {
+			this.id = id;
+			this.name = name;
+			this.even = even;
+		}
+	}
+}
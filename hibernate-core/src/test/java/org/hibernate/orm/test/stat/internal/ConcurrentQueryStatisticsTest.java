@@ -6,6 +6,13 @@
  */
 package org.hibernate.orm.test.stat.internal;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.internal.util.SerializationHelper;
 import org.hibernate.stat.internal.QueryStatisticsImpl;
 
 import org.hibernate.testing.junit4.BaseUnitTestCase;
@@ -42,4 +49,51 @@ public class ConcurrentQueryStatisticsTest extends BaseUnitTestCase {
 		assertEquals( 11, stats.getExecutionAvgTime() );
 		assertEquals( 11.5, stats.getExecutionAvgTimeAsDouble(), 0.1 );
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testSerialization() {
+		stats.executed( 10, 5 );
+		stats.executed( 20, 7 );
+
+		final QueryStatisticsImpl copy = (QueryStatisticsImpl) SerializationHelper.clone( stats );
+		assertEquals( 2, copy.getExecutionCount() );
+		assertEquals( 30, copy.getExecutionRowCount() );
+		assertEquals( 5, copy.getExecutionMinTime() );
+		assertEquals( 7, copy.getExecutionMaxTime() );
+
+		// the accumulators keep working after deserialization
+		copy.executed( 1, 3 );
+		assertEquals( 3, copy.getExecutionMinTime() );
+	}
+
+	@Test
+	public void testConcurrentExecutions() throws Exception {
+		final int threads = 8;
+		final int executionsPerThread = 10_000;
+		final ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int t = 0; t < threads; t++ ) {
+				futures.add( executor.submit( () -> {
+					for ( int i = 1; i <= executionsPerThread; i++ ) {
+						stats.executed( 1, i );
+					}
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+
+		final long executions = (long) threads * executionsPerThread;
+		assertEquals( executions, stats.getExecutionCount() );
+		assertEquals( executions, stats.getExecutionRowCount() );
+		assertEquals( threads * ( executionsPerThread * ( executionsPerThread + 1L ) / 2 ), stats.getExecutionTotalTime() );
+		assertEquals( 1, stats.getExecutionMinTime() );
+		assertEquals( executionsPerThread, stats.getExecutionMaxTime() );
+		assertEquals( ( executionsPerThread + 1 ) / 2.0, stats.getExecutionAvgTimeAsDouble(), 0.01 );
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stats;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProvider;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * A configured {@value AvailableSettings#STATEMENT_FETCH_SIZE} takes precedence
+ * over the adaptive fetch size
+ */
+public class AdaptiveFetchSizePrecedenceTest extends BaseNonConfigCoreFunctionalTestCase {
+	private static final String QUERY = "from Item i order by i.id";
+
+	private final PreparedStatementSpyConnectionProvider connectionProvider = new PreparedStatementSpyConnectionProvider();
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Item.class };
+	}
+
+	@Override
+	protected void addSettings(Map<String,Object> settings) {
+		settings.put( AvailableSettings.STATEMENT_FETCH_SIZE, 50 );
+		settings.put( AvailableSettings.ADAPTIVE_FETCH_SIZE, true );
+		settings.put( AvailableSettings.ADAPTIVE_FETCH_SIZE_MIN, 5 );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, true );
+		connectionProvider.setConnectionProvider( (ConnectionProvider) settings.get( AvailableSettings.CONNECTION_PROVIDER ) );
+		settings.put( AvailableSettings.CONNECTION_PROVIDER, connectionProvider );
+	}
+
+	@Override
+	protected void releaseResources() {
+		super.releaseResources();
+		connectionProvider.stop();
+	}
+
+	@Test
+	public void testConfiguredFetchSizeTakesPrecedence() throws Throwable {
+		assertFalse( sessionFactory().getSessionFactoryOptions().isAdaptiveFetchSizeEnabled() );
+
+		inTransaction( session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				session.persist( new Item( i ) );
+			}
+		} );
+
+		connectionProvider.clear();
+		for ( int i = 0; i < 2; i++ ) {
+			inTransaction( session -> assertEquals( 3, session.createQuery( QUERY, Item.class ).list().size() ) );
+		}
+
+		final List<Object> fetchSizes = new ArrayList<>();
+		for ( PreparedStatement statement : connectionProvider.getPreparedStatements() ) {
+			for ( Object[] arguments : connectionProvider.spyContext.getCalls(
+					PreparedStatement.class.getMethod( "setFetchSize", int.class ),
+					statement
+			) ) {
+				fetchSizes.add( arguments[0] );
+			}
+		}
+		// the adaptive fetch size would have been 5 for the second execution
+		assertEquals( List.of( 50, 50 ), fetchSizes );
+		assertEquals( 0, sessionFactory().getStatistics().getQueryStatistics( QUERY ).getFetchSize() );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		Integer id;
+
+		public Item() {
+		}
+
+		public Item(Integer id) {
+			this.id = id;
+		}
+	}
+}
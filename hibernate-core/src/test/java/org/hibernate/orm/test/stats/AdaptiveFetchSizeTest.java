@@ -0,0 +1,88 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stats;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.QueryStatistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The fetch size chosen for each query according to the size of its results
+ * is exposed by the query statistics
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.ADAPTIVE_FETCH_SIZE, value = "true" ),
+				@Setting( name = AvailableSettings.ADAPTIVE_FETCH_SIZE_MIN, value = "5" ),
+				@Setting( name = AvailableSettings.ADAPTIVE_FETCH_SIZE_MAX, value = "20" )
+		}
+)
+@DomainModel(annotatedClasses = AdaptiveFetchSizeTest.Item.class)
+@SessionFactory(generateStatistics = true)
+public class AdaptiveFetchSizeTest {
+	private static final String LARGE_QUERY = "from Item i order by i.id";
+	private static final String MEDIUM_QUERY = "from Item i where i.id <= 12 order by i.id";
+	private static final String SMALL_QUERY = "from Item i where i.id <= 2 order by i.id";
+
+	@BeforeAll
+	public void prepareData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 30; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testFetchSizes(SessionFactoryScope scope) {
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				assertThat( session.createQuery( LARGE_QUERY, Item.class ).list() ).hasSize( 30 );
+				assertThat( session.createQuery( MEDIUM_QUERY, Item.class ).list() ).hasSize( 12 );
+				assertThat( session.createQuery( SMALL_QUERY, Item.class ).list() ).hasSize( 2 );
+			} );
+		}
+
+		// bounded by the maximum
+		assertThat( getStatistics( scope, LARGE_QUERY ).getFetchSize() ).isEqualTo( 20 );
+		// room for the detection of the end of the results
+		assertThat( getStatistics( scope, MEDIUM_QUERY ).getFetchSize() ).isEqualTo( 13 );
+		// bounded by the minimum
+		assertThat( getStatistics( scope, SMALL_QUERY ).getFetchSize() ).isEqualTo( 5 );
+	}
+
+	private static QueryStatistics getStatistics(SessionFactoryScope scope, String query) {
+		return scope.getSessionFactory().getStatistics().getQueryStatistics( query );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		Integer id;
+		String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
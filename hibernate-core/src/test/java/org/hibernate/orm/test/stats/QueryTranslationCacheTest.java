@@ -0,0 +1,68 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stats;
+
+import org.hibernate.stat.QueryStatistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Executions of a query alternating between different limits reuse the SQL
+ * translations of its cached plan
+ */
+@DomainModel(annotatedClasses = QueryTranslationCacheTest.Item.class)
+@SessionFactory(generateStatistics = true)
+public class QueryTranslationCacheTest {
+	private static final String QUERY = "from Item i order by i.id";
+
+	@BeforeAll
+	public void prepareData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testAlternatingLimits(SessionFactoryScope scope) {
+		for ( int i = 0; i < 3; i++ ) {
+			scope.inTransaction( session -> {
+				assertThat( session.createQuery( QUERY, Item.class ).list() ).hasSize( 3 );
+				assertThat( session.createQuery( QUERY, Item.class ).setMaxResults( 2 ).list() ).hasSize( 2 );
+			} );
+		}
+
+		final QueryStatistics statistics = scope.getSessionFactory().getStatistics().getQueryStatistics( QUERY );
+		assertThat( statistics.getTranslationCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getTranslationCacheHitCount() ).isEqualTo( 4 );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		Integer id;
+		String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -92,6 +92,46 @@ public class DynamicUpdateTests {
 		assertThat( StringHelper.count( statementInspector.getSqlQueries().get( 0 ), "version" ) ).isEqualTo( 2 );
 	}
 
+	@Test
+	public void testRepeatedUpdateShapes(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.persist( new VersionedJob( 1, "job", "controller-1" ) );
+			session.persist( new VersionedJob( 2, "job", "controller-1" ) );
+		} );
+
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+
+		scope.inTransaction( (session) -> {
+			final VersionedJob job1 = session.get( VersionedJob.class, 1 );
+			final VersionedJob job2 = session.get( VersionedJob.class, 2 );
+
+			statementInspector.clear();
+
+			job1.setCode( "job-1" );
+			job2.setCode( "job-2" );
+		} );
+
+		scope.inTransaction( (session) -> {
+			final VersionedJob job1 = session.get( VersionedJob.class, 1 );
+
+			statementInspector.clear();
+
+			job1.setController( "controller-2" );
+		} );
+
+		// the second shape must not pick up the group generated for the first
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+		assertThat( StringHelper.count( statementInspector.getSqlQueries().get( 0 ), "code" ) ).isEqualTo( 0 );
+		assertThat( StringHelper.count( statementInspector.getSqlQueries().get( 0 ), "controller" ) ).isEqualTo( 1 );
+
+		scope.inTransaction( (session) -> {
+			assertThat( session.get( VersionedJob.class, 1 ).getCode() ).isEqualTo( "job-1" );
+			assertThat( session.get( VersionedJob.class, 1 ).getController() ).isEqualTo( "controller-2" );
+			assertThat( session.get( VersionedJob.class, 2 ).getCode() ).isEqualTo( "job-2" );
+			assertThat( session.get( VersionedJob.class, 2 ).getController() ).isEqualTo( "controller-1" );
+		} );
+	}
+
 	@Test
 	public void testDirtyLocking(SessionFactoryScope scope) {
 		scope.inTransaction( (session) -> {
@@ -44,4 +44,25 @@ public interface ConfigSettings {
 	 * @see javax.cache.spi.CachingProvider#getCacheManager(URI, ClassLoader)
 	 */
 	String CONFIG_URI = PROP_PREFIX + "uri";
+
+	/**
+	 * The maximum number of entries held in the on-heap near cache kept in front of
+	 * each domain data region. A region-specific value may be given by appending the
+	 * unqualified region name to this setting name, for example
+	 * {@code hibernate.javax.cache.near_cache.max_entries.com.acme.Country}.
+	 * <p>
+	 * Default value is {@code 0}, meaning that no near cache is used.
+	 *
+	 * @see org.hibernate.cache.jcache.internal.NearCacheAccessImpl
+	 */
+	String NEAR_CACHE_MAX_ENTRIES = PROP_PREFIX + "near_cache.max_entries";
+
+	/**
+	 * The maximum time, in milliseconds, for which an entry is served from the near
+	 * cache before being re-read from the underlying cache.
+	 * <p>
+	 * Default value is {@code 0}, meaning that near cache entries are only evicted
+	 * when the underlying cache reports a change, or to make room for other entries.
+	 */
+	String NEAR_CACHE_TIME_TO_LIVE = PROP_PREFIX + "near_cache.time_to_live";
 }
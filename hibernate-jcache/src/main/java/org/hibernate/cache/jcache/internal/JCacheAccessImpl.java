@@ -6,6 +6,9 @@
  */
 package org.hibernate.cache.jcache.internal;
 
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 import javax.cache.Cache;
 
 import org.hibernate.cache.spi.support.DomainDataStorageAccess;
@@ -38,6 +41,24 @@ public class JCacheAccessImpl implements DomainDataStorageAccess {
 		return underlyingCache.get( key );
 	}
 
+	@Override
+	public Object[] getAllFromCache(Object[] keys, SharedSessionContractImplementor session) {
+		final Set<Object> keySet = new HashSet<>( keys.length );
+		for ( Object key : keys ) {
+			if ( key != null ) {
+				keySet.add( key );
+			}
+		}
+		final Map<Object, Object> entries = underlyingCache.getAll( keySet );
+		final Object[] values = new Object[keys.length];
+		for ( int i = 0; i < keys.length; i++ ) {
+			if ( keys[i] != null ) {
+				values[i] = entries.get( keys[i] );
+			}
+		}
+		return values;
+	}
+
 	@Override
 	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
 		underlyingCache.put( key, value );
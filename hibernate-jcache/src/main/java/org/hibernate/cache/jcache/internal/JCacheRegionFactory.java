@@ -36,6 +36,8 @@ import org.hibernate.cache.spi.support.StorageAccess;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getLong;
 
 /**
  * @author Alex Snaps
@@ -45,6 +47,7 @@ public class JCacheRegionFactory extends RegionFactoryTemplate {
 
 	private volatile CacheManager cacheManager;
 	private volatile MissingCacheStrategy missingCacheStrategy;
+	private volatile Map<String,Object> configValues;
 
 	@SuppressWarnings("unused")
 	public JCacheRegionFactory() {
@@ -81,9 +84,23 @@ public class JCacheRegionFactory extends RegionFactoryTemplate {
 	protected DomainDataStorageAccess createDomainDataStorageAccess(
 			DomainDataRegionConfig regionConfig,
 			DomainDataRegionBuildingContext buildingContext) {
-		return new JCacheAccessImpl(
-				getOrCreateCache( regionConfig.getRegionName(), buildingContext.getSessionFactory() )
+		final Cache<Object, Object> cache = getOrCreateCache(
+				regionConfig.getRegionName(),
+				buildingContext.getSessionFactory()
+		);
+		final int nearCacheMaxEntries = getInt(
+				ConfigSettings.NEAR_CACHE_MAX_ENTRIES + '.' + regionConfig.getRegionName(),
+				configValues,
+				getInt( ConfigSettings.NEAR_CACHE_MAX_ENTRIES, configValues, 0 )
 		);
+		if ( nearCacheMaxEntries > 0 ) {
+			return new NearCacheAccessImpl(
+					cache,
+					nearCacheMaxEntries,
+					getLong( ConfigSettings.NEAR_CACHE_TIME_TO_LIVE, configValues, 0 )
+			);
+		}
+		return new JCacheAccessImpl( cache );
 	}
 
 	protected Cache<Object, Object> getOrCreateCache(String unqualifiedRegionName, SessionFactoryImplementor sessionFactory) {
@@ -186,6 +203,7 @@ public class JCacheRegionFactory extends RegionFactoryTemplate {
 
 	@Override
 	protected void prepareForUse(SessionFactoryOptions settings, Map<String,Object> configValues) {
+		this.configValues = configValues;
 		this.cacheManager = resolveCacheManager( settings, configValues );
 		if ( this.cacheManager == null ) {
 			throw new CacheException( "Could not locate/create CacheManager" );
@@ -289,6 +307,7 @@ public class JCacheRegionFactory extends RegionFactoryTemplate {
 		}
 		finally {
 			cacheManager = null;
+			configValues = null;
 		}
 	}
 }
@@ -0,0 +1,338 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.jcache.internal;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.cache.Cache;
+import javax.cache.configuration.CacheEntryListenerConfiguration;
+import javax.cache.configuration.Factory;
+import javax.cache.configuration.MutableCacheEntryListenerConfiguration;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryExpiredListener;
+import javax.cache.event.CacheEntryListener;
+import javax.cache.event.CacheEntryRemovedListener;
+import javax.cache.event.CacheEntryUpdatedListener;
+
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * {@link JCacheAccessImpl} which keeps a small, bounded, on-heap "near cache"
+ * in front of the underlying JCache {@link Cache}, which is typically remote
+ * or clustered.
+ * <p>
+ * The near cache is only populated by reads of the underlying cache. Writes
+ * and removals made through this storage access are applied to the underlying
+ * cache, and then invalidate the near cache entry. Changes made elsewhere (by
+ * other nodes) are picked up through a JCache entry listener registered with
+ * the underlying cache, which invalidates the affected near cache entries by
+ * key. Near cache entries may additionally be given a time-to-live, limiting
+ * staleness with providers which deliver events late, or not at all.
+ * <p>
+ * Every near cache entry carries a stamp, taken from a counter incremented
+ * with each change. An invalidation leaves a tombstone with a new stamp in
+ * place of the entry, and a read only populates the near cache if the stamp
+ * of the entry for its key, or of any entry which has since been dropped from
+ * the near cache, is older than the stamp taken before reading the underlying
+ * cache. So a read racing with a write can not re-populate the near cache with
+ * the value preceding the write.
+ * <p>
+ * The near cache hands out the very instances it holds, so it only keeps
+ * values which are never modified once they have been put into the cache.
+ * That excludes the {@linkplain SoftLock soft locks} of read-write regions,
+ * which are updated in place while being locked and unlocked, and which are
+ * always read from the underlying cache.
+ *
+ * @see org.hibernate.cache.jcache.ConfigSettings#NEAR_CACHE_MAX_ENTRIES
+ * @see org.hibernate.cache.jcache.ConfigSettings#NEAR_CACHE_TIME_TO_LIVE
+ */
+@SuppressWarnings("unchecked")
+public class NearCacheAccessImpl extends JCacheAccessImpl {
+	private final int maxEntries;
+	private final long timeToLiveNanos;
+
+	private final LinkedHashMap<Object, NearEntry> nearCache = new LinkedHashMap<>( 16, 0.75f, true );
+	private final ReentrantLock lock = new ReentrantLock();
+
+	// guarded by lock
+	private long stamp;
+	// the most recent stamp of the entries dropped from the near cache, guarded by lock
+	private long droppedStamp;
+	private int valueCount;
+
+	private final CacheEntryListenerConfiguration<Object, Object> listenerConfiguration;
+
+	public NearCacheAccessImpl(Cache underlyingCache, int maxEntries, long timeToLiveMillis) {
+		super( underlyingCache );
+		this.maxEntries = maxEntries;
+		this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos( timeToLiveMillis );
+
+		final InvalidationListener listener = new InvalidationListener();
+		this.listenerConfiguration = new MutableCacheEntryListenerConfiguration<>(
+				(Factory<CacheEntryListener<? super Object, ? super Object>>) () -> listener,
+				null,
+				false,
+				false
+		);
+		underlyingCache.registerCacheEntryListener( listenerConfiguration );
+	}
+
+	/**
+	 * The number of values currently held in the near cache
+	 */
+	public int getNearCacheSize() {
+		lock.lock();
+		try {
+			return valueCount;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return getNear( key ) != null || super.contains( key );
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final Object nearValue = getNear( key );
+		if ( nearValue != null ) {
+			return nearValue;
+		}
+		final long readStamp = currentStamp();
+		final Object value = super.getFromCache( key, session );
+		if ( isNearCacheable( value ) ) {
+			putNear( key, value, readStamp );
+		}
+		return value;
+	}
+
+	@Override
+	public Object[] getAllFromCache(Object[] keys, SharedSessionContractImplementor session) {
+		final Object[] values = new Object[keys.length];
+		final Object[] remoteKeys = new Object[keys.length];
+		boolean anyRemote = false;
+		for ( int i = 0; i < keys.length; i++ ) {
+			if ( keys[i] != null ) {
+				values[i] = getNear( keys[i] );
+				if ( values[i] == null ) {
+					remoteKeys[i] = keys[i];
+					anyRemote = true;
+				}
+			}
+		}
+		if ( anyRemote ) {
+			final long readStamp = currentStamp();
+			final Object[] remoteValues = super.getAllFromCache( remoteKeys, session );
+			for ( int i = 0; i < keys.length; i++ ) {
+				if ( remoteValues[i] != null ) {
+					values[i] = remoteValues[i];
+					if ( isNearCacheable( remoteValues[i] ) ) {
+						putNear( keys[i], remoteValues[i], readStamp );
+					}
+				}
+			}
+		}
+		return values;
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		// invalidate only once the underlying cache holds the new value: reads which
+		// started before then have an older stamp than the tombstone, and are ignored,
+		// while reads which start later see the new value
+		super.putIntoCache( key, value, session );
+		evictNear( key );
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		super.removeFromCache( key, session );
+		evictNear( key );
+	}
+
+	@Override
+	public void evictData(Object key) {
+		super.evictData( key );
+		evictNear( key );
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		super.clearCache( session );
+		clearNear();
+	}
+
+	@Override
+	public void evictData() {
+		super.evictData();
+		clearNear();
+	}
+
+	@Override
+	public void release() {
+		clearNear();
+		try {
+			getUnderlyingCache().deregisterCacheEntryListener( listenerConfiguration );
+		}
+		finally {
+			super.release();
+		}
+	}
+
+	private static boolean isNearCacheable(Object value) {
+		return value != null && !( value instanceof SoftLock );
+	}
+
+	private long currentStamp() {
+		lock.lock();
+		try {
+			return stamp;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private Object getNear(Object key) {
+		lock.lock();
+		try {
+			final NearEntry entry = nearCache.get( key );
+			if ( entry == null || entry.value == null ) {
+				return null;
+			}
+			if ( entry.isExpired( System.nanoTime() ) ) {
+				nearCache.remove( key );
+				dropped( entry );
+				return null;
+			}
+			return entry.value;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Populate the near cache with a value read from the underlying cache,
+	 * unless the key was invalidated since the read started
+	 */
+	private void putNear(Object key, Object value, long readStamp) {
+		final long expiry = timeToLiveNanos > 0 ? System.nanoTime() + timeToLiveNanos : 0L;
+		lock.lock();
+		try {
+			final NearEntry current = nearCache.get( key );
+			final long lastChange = current == null ? droppedStamp : current.stamp;
+			if ( lastChange <= readStamp ) {
+				replace( key, new NearEntry( value, expiry, ++stamp ) );
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private void evictNear(Object key) {
+		lock.lock();
+		try {
+			if ( nearCache.containsKey( key ) ) {
+				replace( key, new NearEntry( null, 0L, ++stamp ) );
+			}
+			else {
+				// no need to take a slot for a tombstone: reads of absent keys check the dropped stamp
+				droppedStamp = ++stamp;
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private void clearNear() {
+		lock.lock();
+		try {
+			nearCache.clear();
+			valueCount = 0;
+			droppedStamp = ++stamp;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	// requires lock
+	private void replace(Object key, NearEntry entry) {
+		final NearEntry previous = nearCache.put( key, entry );
+		if ( previous != null && previous.value != null ) {
+			valueCount--;
+		}
+		if ( entry.value != null ) {
+			valueCount++;
+		}
+		if ( nearCache.size() > maxEntries ) {
+			final Iterator<NearEntry> lru = nearCache.values().iterator();
+			dropped( lru.next() );
+			lru.remove();
+		}
+	}
+
+	// requires lock
+	private void dropped(NearEntry entry) {
+		if ( entry.value != null ) {
+			valueCount--;
+		}
+		droppedStamp = Math.max( droppedStamp, entry.stamp );
+	}
+
+	private static final class NearEntry {
+		// null for a tombstone
+		private final Object value;
+		private final long expiry;
+		private final long stamp;
+
+		private NearEntry(Object value, long expiry, long stamp) {
+			this.value = value;
+			this.expiry = expiry;
+			this.stamp = stamp;
+		}
+
+		private boolean isExpired(long now) {
+			return expiry != 0L && now - expiry > 0;
+		}
+	}
+
+	private class InvalidationListener implements CacheEntryUpdatedListener<Object, Object>,
+			CacheEntryRemovedListener<Object, Object>, CacheEntryExpiredListener<Object, Object> {
+		@Override
+		public void onUpdated(Iterable<CacheEntryEvent<? extends Object, ? extends Object>> events) {
+			invalidate( events );
+		}
+
+		@Override
+		public void onRemoved(Iterable<CacheEntryEvent<? extends Object, ? extends Object>> events) {
+			invalidate( events );
+		}
+
+		@Override
+		public void onExpired(Iterable<CacheEntryEvent<? extends Object, ? extends Object>> events) {
+			invalidate( events );
+		}
+
+		private void invalidate(Iterable<CacheEntryEvent<? extends Object, ? extends Object>> events) {
+			// invalidate by key, whoever made the change: the near cache is never populated
+			// by writes, so the events for our own writes at most cost a later read
+			for ( CacheEntryEvent<?, ?> event : events ) {
+				evictNear( event.getKey() );
+			}
+		}
+	}
+}
@@ -6,9 +6,18 @@
  */
 package org.hibernate.orm.test.jcache;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
 import javax.cache.Cache;
 
+import org.hibernate.cache.jcache.ConfigSettings;
 import org.hibernate.cache.jcache.internal.JCacheAccessImpl;
+import org.hibernate.cache.jcache.internal.NearCacheAccessImpl;
 import org.hibernate.cache.spi.Region;
 import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -18,6 +27,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hibernate.testing.transaction.TransactionUtil2.inSession;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -65,6 +75,166 @@ public class StorageAccessTest {
 		}
 	}
 
+	@Test
+	public void testNearCacheStorageAccessUse() {
+		TestHelper.preBuildAllCaches();
+		try (final SessionFactoryImplementor sessionFactory = TestHelper.buildStandardSessionFactory(
+				ssrb -> ssrb.applySetting( ConfigSettings.NEAR_CACHE_MAX_ENTRIES, "2" )
+		) ) {
+			final Region region = sessionFactory.getCache().getRegion( TestHelper.entityRegionNames[0] );
+
+			final NearCacheAccessImpl access = (NearCacheAccessImpl) ( (DomainDataRegionTemplate) region ).getCacheStorageAccess();
+			final Cache jcache = access.getUnderlyingCache();
+
+			inSession(
+					sessionFactory,
+					s -> {
+						access.putIntoCache( "key", "value", s );
+						assertThat( jcache.get( "key" ), equalTo( "value" ) );
+						// writes do not populate the near cache, reads do
+						assertThat( access.getNearCacheSize(), equalTo( 0 ) );
+						assertThat( access.getFromCache( "key", s ), equalTo( "value" ) );
+						assertThat( access.getFromCache( "key", s ), equalTo( "value" ) );
+
+						// the near cache is bounded
+						access.putIntoCache( "key2", "value2", s );
+						access.putIntoCache( "key3", "value3", s );
+						access.getFromCache( "key2", s );
+						access.getFromCache( "key3", s );
+						assertThat( access.getNearCacheSize(), equalTo( 2 ) );
+						assertThat( access.getFromCache( "key", s ), equalTo( "value" ) );
+
+						// a write replaces the value held by the near cache
+						access.putIntoCache( "key", "value4", s );
+						assertThat( access.getFromCache( "key", s ), equalTo( "value4" ) );
+
+						access.removeFromCache( "key", s );
+						assertThat( jcache.get( "key" ), nullValue() );
+						assertThat( access.getFromCache( "key", s ), nullValue() );
+					}
+			);
+		}
+	}
+
+	@Test
+	public void testNearCacheHit() {
+		final AtomicInteger underlyingGets = new AtomicInteger();
+		final NearCacheAccessImpl access = new NearCacheAccessImpl(
+				interceptGets( createNearCacheTestCache(), (key, cache) -> {
+					underlyingGets.incrementAndGet();
+					return cache.get( key );
+				} ),
+				10,
+				0L
+		);
+		try {
+			access.putIntoCache( "key", "value", null );
+
+			final Object first = access.getFromCache( "key", null );
+			final Object second = access.getFromCache( "key", null );
+			assertThat( second, equalTo( "value" ) );
+			// the second read is served by the near cache, without going to the underlying cache
+			assertThat( underlyingGets.get(), equalTo( 1 ) );
+			assertThat( second, sameInstance( first ) );
+			assertThat( access.getNearCacheSize(), equalTo( 1 ) );
+		}
+		finally {
+			access.release();
+		}
+	}
+
+	@Test
+	public void testNearCacheInvalidatedByDirectWrite() throws InterruptedException {
+		final Cache jcache = createNearCacheTestCache();
+		final NearCacheAccessImpl access = new NearCacheAccessImpl( jcache, 10, 0L );
+		try {
+			access.putIntoCache( "key", "value", null );
+			assertThat( access.getFromCache( "key", null ), equalTo( "value" ) );
+			assertThat( access.getNearCacheSize(), equalTo( 1 ) );
+
+			// a write by another node, which only the entry listener tells us about
+			jcache.put( "key", "value2" );
+
+			// listener events may be delivered asynchronously
+			final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 10 );
+			while ( !"value2".equals( access.getFromCache( "key", null ) ) ) {
+				if ( System.nanoTime() - deadline > 0 ) {
+					fail( "Near cache entry was not invalidated by the write to the underlying cache" );
+				}
+				Thread.sleep( 10 );
+			}
+		}
+		finally {
+			access.release();
+		}
+	}
+
+	@Test
+	public void testNearCacheReadRacingWithWrite() {
+		final AtomicReference<NearCacheAccessImpl> accessRef = new AtomicReference<>();
+		final AtomicBoolean race = new AtomicBoolean();
+		final NearCacheAccessImpl access = new NearCacheAccessImpl(
+				interceptGets( createNearCacheTestCache(), (key, cache) -> {
+					final Object value = cache.get( key );
+					if ( race.compareAndSet( true, false ) ) {
+						// the write completes after the read obtained the old value,
+						// but before the read populates the near cache
+						accessRef.get().putIntoCache( key, "value2", null );
+					}
+					return value;
+				} ),
+				10,
+				0L
+		);
+		accessRef.set( access );
+		try {
+			access.putIntoCache( "key", "value", null );
+			// populate the near cache, so that the next write leaves a tombstone
+			assertThat( access.getFromCache( "key", null ), equalTo( "value" ) );
+			access.putIntoCache( "key", "value", null );
+
+			race.set( true );
+			assertThat( access.getFromCache( "key", null ), equalTo( "value" ) );
+			// the read which raced with the write must not have populated the near cache
+			assertThat( access.getFromCache( "key", null ), equalTo( "value2" ) );
+
+			// same for a key which never was in the near cache
+			access.putIntoCache( "other", "value", null );
+			race.set( true );
+			assertThat( access.getFromCache( "other", null ), equalTo( "value" ) );
+			assertThat( access.getFromCache( "other", null ), equalTo( "value2" ) );
+		}
+		finally {
+			access.release();
+		}
+	}
+
+	private static Cache createNearCacheTestCache() {
+		TestHelper.createCache( "near-cache-test" );
+		return TestHelper.getCache( "near-cache-test" );
+	}
+
+	/**
+	 * Wrap the given cache, handing the calls of {@link Cache#get} to the given function
+	 */
+	private static Cache interceptGets(Cache cache, BiFunction<Object, Cache, Object> get) {
+		return (Cache) Proxy.newProxyInstance(
+				StorageAccessTest.class.getClassLoader(),
+				new Class<?>[] { Cache.class },
+				(proxy, method, args) -> {
+					if ( method.getName().equals( "get" ) ) {
+						return get.apply( args[0], cache );
+					}
+					try {
+						return method.invoke( cache, args );
+					}
+					catch (InvocationTargetException e) {
+						throw e.getCause();
+					}
+				}
+		);
+	}
+
 	@Test
 	@SuppressWarnings({"EmptyTryBlock", "unused"})
 	public void testCachesReleasedOnSessionFactoryClose() {
@@ -147,6 +147,12 @@ public class HibernateMetrics implements MeterBinder {
 		counter(registry, "hibernate.statements", "The number of prepared statements that were released",
 				Statistics::getCloseStatementCount, "status", "closed"
 		);
+		counter(registry, "hibernate.statements.cache", "The number of prepared statements reused from the statement cache",
+				Statistics::getPreparedStatementCacheHitCount, "result", "hit"
+		);
+		counter(registry, "hibernate.statements.cache", "The number of prepared statements not found in the statement cache",
+				Statistics::getPreparedStatementCacheMissCount, "result", "miss"
+		);
 
 		// Second Level Caching
 		// AWKWARD: getSecondLevelCacheRegionNames is the only way to retrieve a list of names
@@ -0,0 +1,183 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import io.micrometer.core.lang.NonNullApi;
+import io.micrometer.core.lang.Nullable;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * A {@link SessionEventListener} which reports the work done by a session as
+ * Micrometer {@link Observation}s, so that the time spent in Hibernate shows up
+ * in traces. The following observations are created:
+ * <ul>
+ *     <li>{@value #QUERY_OBSERVATION} for each query execution, including the
+ *     execution opening a {@link org.hibernate.ScrollableResults} or a stream,
+ *     with the kind of query ({@code hql}, {@code criteria} or {@code native}) as
+ *     the low-cardinality {@value #QUERY_KIND_KEY} key, and the HQL or native SQL
+ *     query string as the high-cardinality {@value #QUERY_KEY} key,</li>
+ *     <li>{@value #FLUSH_OBSERVATION} for each flush, including partial (auto) flushes,</li>
+ *     <li>{@value #BATCH_OBSERVATION} for each JDBC batch execution, and</li>
+ *     <li>{@value #CACHE_GET_OBSERVATION} and {@value #CACHE_PUT_OBSERVATION}
+ *     for second-level cache access.</li>
+ * </ul>
+ * Observations started while a query or flush observation is open become its
+ * children; otherwise the {@linkplain ObservationRegistry#getCurrentObservation()
+ * current observation} of the registry, if any, is used as the parent.
+ * <p>
+ * The listener may be registered for a single session using
+ * {@link org.hibernate.SessionBuilder#eventListeners}, or for all sessions by
+ * naming this class in {@value org.hibernate.cfg.AvailableSettings#AUTO_SESSION_EVENTS_LISTENER},
+ * in which case the registry given to {@link #setDefaultObservationRegistry} is used.
+ */
+@NonNullApi
+public class HibernateObservationListener implements SessionEventListener {
+	public static final String QUERY_OBSERVATION = "hibernate.query";
+	public static final String FLUSH_OBSERVATION = "hibernate.flush";
+	public static final String BATCH_OBSERVATION = "hibernate.jdbc.batch";
+	public static final String CACHE_GET_OBSERVATION = "hibernate.cache.get";
+	public static final String CACHE_PUT_OBSERVATION = "hibernate.cache.put";
+
+	public static final String QUERY_KIND_KEY = "query.kind";
+	public static final String QUERY_KEY = "query";
+	public static final String OUTCOME_KEY = "outcome";
+	public static final String PARTIAL_KEY = "partial";
+	public static final String HIT_KEY = "hit";
+
+	private static volatile ObservationRegistry defaultObservationRegistry = ObservationRegistry.NOOP;
+
+	/**
+	 * Set the registry used by instances created through the no-arg constructor,
+	 * that is, when this listener is registered using
+	 * {@value org.hibernate.cfg.AvailableSettings#AUTO_SESSION_EVENTS_LISTENER}
+	 */
+	public static void setDefaultObservationRegistry(ObservationRegistry registry) {
+		defaultObservationRegistry = registry;
+	}
+
+	private final transient ObservationRegistry registry;
+
+	// queries may be nested, for example when executed from an entity listener
+	private final transient Deque<Observation> queries = new ArrayDeque<>();
+	private transient Observation flush;
+	private transient Observation batch;
+	private transient Observation cacheGet;
+	private transient Observation cachePut;
+
+	public HibernateObservationListener() {
+		this( defaultObservationRegistry );
+	}
+
+	public HibernateObservationListener(ObservationRegistry registry) {
+		this.registry = registry;
+	}
+
+	@Override
+	public void queryExecutionStart(String queryKind, String queryString) {
+		queries.push(
+				create( QUERY_OBSERVATION )
+						.lowCardinalityKeyValue( QUERY_KIND_KEY, queryKind )
+						.highCardinalityKeyValue( QUERY_KEY, queryString )
+						.start()
+		);
+	}
+
+	@Override
+	public void queryExecutionEnd(String queryString, boolean success) {
+		final Observation observation = queries.poll();
+		if ( observation != null ) {
+			observation.lowCardinalityKeyValue( OUTCOME_KEY, success ? "success" : "failure" ).stop();
+		}
+	}
+
+	@Override
+	public void flushStart() {
+		flush = create( FLUSH_OBSERVATION ).lowCardinalityKeyValue( PARTIAL_KEY, "false" ).start();
+	}
+
+	@Override
+	public void flushEnd(int numberOfEntities, int numberOfCollections) {
+		stopFlush( numberOfEntities, numberOfCollections );
+	}
+
+	@Override
+	public void partialFlushStart() {
+		flush = create( FLUSH_OBSERVATION ).lowCardinalityKeyValue( PARTIAL_KEY, "true" ).start();
+	}
+
+	@Override
+	public void partialFlushEnd(int numberOfEntities, int numberOfCollections) {
+		stopFlush( numberOfEntities, numberOfCollections );
+	}
+
+	private void stopFlush(int numberOfEntities, int numberOfCollections) {
+		if ( flush != null ) {
+			flush.highCardinalityKeyValue( "entities", Integer.toString( numberOfEntities ) )
+					.highCardinalityKeyValue( "collections", Integer.toString( numberOfCollections ) )
+					.stop();
+			flush = null;
+		}
+	}
+
+	@Override
+	public void jdbcExecuteBatchStart() {
+		batch = create( BATCH_OBSERVATION ).start();
+	}
+
+	@Override
+	public void jdbcExecuteBatchEnd() {
+		if ( batch != null ) {
+			batch.stop();
+			batch = null;
+		}
+	}
+
+	@Override
+	public void cacheGetStart() {
+		cacheGet = create( CACHE_GET_OBSERVATION ).start();
+	}
+
+	@Override
+	public void cacheGetEnd(boolean hit) {
+		if ( cacheGet != null ) {
+			cacheGet.lowCardinalityKeyValue( HIT_KEY, Boolean.toString( hit ) ).stop();
+			cacheGet = null;
+		}
+	}
+
+	@Override
+	public void cachePutStart() {
+		cachePut = create( CACHE_PUT_OBSERVATION ).start();
+	}
+
+	@Override
+	public void cachePutEnd() {
+		if ( cachePut != null ) {
+			cachePut.stop();
+			cachePut = null;
+		}
+	}
+
+	private Observation create(String name) {
+		return Observation.createNotStarted( name, registry ).parentObservation( currentParent() );
+	}
+
+	@Nullable
+	private Observation currentParent() {
+		if ( flush != null ) {
+			return flush;
+		}
+		final Observation query = queries.peek();
+		return query != null ? query : registry.getCurrentObservation();
+	}
+}
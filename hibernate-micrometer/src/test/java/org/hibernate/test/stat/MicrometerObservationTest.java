@@ -0,0 +1,116 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stat;
+
+import java.util.stream.Stream;
+
+import org.hibernate.Session;
+import org.hibernate.stat.HibernateObservationListener;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MicrometerObservationTest extends BaseCoreFunctionalTestCase {
+
+	private static final String QUERY = "from Account";
+
+	private SimpleMeterRegistry meterRegistry;
+	private ObservationRegistry observationRegistry;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Account.class, AccountId.class };
+	}
+
+	@Before
+	public void setUpObservations() {
+		meterRegistry = new SimpleMeterRegistry();
+		observationRegistry = ObservationRegistry.create();
+		observationRegistry.observationConfig().observationHandler( new DefaultMeterObservationHandler( meterRegistry ) );
+	}
+
+	@Test
+	public void testQueryAndFlushObservations() {
+		Session session = sessionFactory().withOptions()
+				.eventListeners( new HibernateObservationListener( observationRegistry ) )
+				.openSession();
+		try {
+			session.beginTransaction();
+			session.persist( new Account( new AccountId( 1 ), "testAcct" ) );
+			session.flush();
+			session.createQuery( QUERY, Account.class ).list();
+			session.getTransaction().commit();
+		}
+		finally {
+			session.close();
+		}
+
+		assertEquals(
+				1,
+				meterRegistry.get( HibernateObservationListener.QUERY_OBSERVATION )
+						.tags( HibernateObservationListener.QUERY_KIND_KEY, "hql" )
+						.timer()
+						.count()
+		);
+		// the explicit flush, plus the flush on commit
+		assertTrue(
+				meterRegistry.get( HibernateObservationListener.FLUSH_OBSERVATION )
+						.tags( HibernateObservationListener.PARTIAL_KEY, "false" )
+						.timer()
+						.count() >= 1
+		);
+	}
+
+	@Test
+	public void testScrollAndStreamObservations() {
+		Session session = sessionFactory().withOptions()
+				.eventListeners( new HibernateObservationListener( observationRegistry ) )
+				.openSession();
+		try {
+			session.beginTransaction();
+			session.createQuery( QUERY, Account.class ).scroll().close();
+			try ( Stream<Account> stream = session.createQuery( QUERY, Account.class ).stream() ) {
+				stream.count();
+			}
+			session.createNativeQuery( "select 1" ).getResultList();
+			session.getTransaction().commit();
+		}
+		finally {
+			session.close();
+		}
+
+		assertEquals(
+				2,
+				meterRegistry.get( HibernateObservationListener.QUERY_OBSERVATION )
+						.tags( HibernateObservationListener.QUERY_KIND_KEY, "hql" )
+						.timer()
+						.count()
+		);
+		assertEquals(
+				1,
+				meterRegistry.get( HibernateObservationListener.QUERY_OBSERVATION )
+						.tags( HibernateObservationListener.QUERY_KIND_KEY, "native" )
+						.timer()
+						.count()
+		);
+		// the query string is high-cardinality, so it must not become a meter tag
+		assertTrue(
+				meterRegistry.find( HibernateObservationListener.QUERY_OBSERVATION )
+						.tagKeys( HibernateObservationListener.QUERY_KEY )
+						.timers()
+						.isEmpty()
+		);
+	}
+}